@@ -9,6 +9,7 @@ package io.camunda.commons.actor;
 
 import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.VisibleForTesting;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -39,6 +40,9 @@ public final class ActorSchedulerConfiguration {
     final var metricsEnabled = schedulerConfiguration.metricsEnabled();
     final var prefix = schedulerConfiguration.prefix();
     final var nodeId = schedulerConfiguration.nodeId();
+    final var partitionAffinityEnabled = schedulerConfiguration.partitionAffinityEnabled();
+    final var stealThreshold = schedulerConfiguration.partitionAffinityStealThreshold();
+    final var virtualIoThreadsEnabled = schedulerConfiguration.virtualIoThreadsEnabled();
 
     final var scheduler =
         ActorScheduler.newActorScheduler()
@@ -46,6 +50,9 @@ public final class ActorSchedulerConfiguration {
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
             .setMetricsEnabled(metricsEnabled)
+            .setPartitionAffinityEnabled(partitionAffinityEnabled)
+            .setPartitionAffinityStealThreshold(stealThreshold)
+            .setIoBoundVirtualThreadsEnabled(virtualIoThreadsEnabled)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
             .build();
@@ -55,5 +62,30 @@ public final class ActorSchedulerConfiguration {
   }
 
   public record SchedulerConfiguration(
-      int cpuThreads, int ioThreads, boolean metricsEnabled, String prefix, String nodeId) {}
+      int cpuThreads,
+      int ioThreads,
+      boolean metricsEnabled,
+      String prefix,
+      String nodeId,
+      boolean partitionAffinityEnabled,
+      int partitionAffinityStealThreshold,
+      boolean virtualIoThreadsEnabled) {
+
+    public SchedulerConfiguration(
+        final int cpuThreads,
+        final int ioThreads,
+        final boolean metricsEnabled,
+        final String prefix,
+        final String nodeId) {
+      this(
+          cpuThreads,
+          ioThreads,
+          metricsEnabled,
+          prefix,
+          nodeId,
+          false,
+          ActorSchedulerBuilder.DEFAULT_PARTITION_AFFINITY_STEAL_THRESHOLD,
+          false);
+    }
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorStatistics;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * An actuator endpoint which lists the actors which consumed the most CPU time, together with the
+ * state of their mailbox. This is mostly used to find out which partition or component keeps a node
+ * busy, or which actor is starved, without attaching a profiler.
+ *
+ * <p>NOTE: the CPU time is sampled, and is therefore an estimate; it's only meaningful when
+ * comparing actors with each other.
+ */
+@Component
+@WebEndpoint(id = "actors")
+public final class ActorsEndpoint {
+  static final int DEFAULT_LIMIT = 10;
+
+  private final ActorScheduler scheduler;
+
+  @Autowired
+  public ActorsEndpoint(final ActorScheduler scheduler) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify an actor scheduler");
+  }
+
+  /**
+   * Returns the top actors by CPU time, in descending order. If the limit is not positive, returns
+   * a 400 with a singleton map containing an error field with an appropriate message.
+   *
+   * @param limit the maximum number of actors to return; defaults to {@value #DEFAULT_LIMIT}
+   */
+  @ReadOperation
+  public WebEndpointResponse<?> list(final @Nullable Integer limit) {
+    final int maxActors = limit == null ? DEFAULT_LIMIT : limit;
+    if (maxActors <= 0) {
+      return new WebEndpointResponse<>(
+          Map.of("error", "Expected limit to be positive, but was %d".formatted(maxActors)),
+          400,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    final var actors =
+        scheduler.getActorStatistics().stream()
+            .sorted(Comparator.comparing(ActorStatistics::cpuTime).reversed())
+            .limit(maxActors)
+            .map(this::transform)
+            .toList();
+    return new WebEndpointResponse<>(actors, 200, MimeTypeUtils.APPLICATION_JSON);
+  }
+
+  private ActorView transform(final ActorStatistics statistics) {
+    return new ActorView(
+        statistics.name(),
+        statistics.context(),
+        statistics.cpuTime().toMillis(),
+        statistics.mailboxLength(),
+        statistics.oldestJobAge().toMillis());
+  }
+
+  /**
+   * View model of a single actor for JSON serialization. The mailbox contains the jobs which were
+   * submitted to the actor from the outside, but which it did not pick up yet.
+   */
+  public record ActorView(
+      String name,
+      Map<String, String> context,
+      long cpuTimeMillis,
+      int mailboxLength,
+      long oldestJobAgeMillis) {}
+}
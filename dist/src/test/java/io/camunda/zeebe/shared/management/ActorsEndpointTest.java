@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorStatistics;
+import io.camunda.zeebe.shared.management.ActorsEndpoint.ActorView;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+final class ActorsEndpointTest {
+
+  @Test
+  void shouldListActorsByCpuTime() {
+    // given
+    final var scheduler = mock(ActorScheduler.class);
+    final var endpoint = new ActorsEndpoint(scheduler);
+    when(scheduler.getActorStatistics())
+        .thenReturn(
+            List.of(
+                statistics("idle", Duration.ofMillis(1)),
+                statistics("busy", Duration.ofMillis(100)),
+                statistics("moderate", Duration.ofMillis(10))));
+
+    // when
+    final var response = endpoint.list(2);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getBody())
+        .asInstanceOf(InstanceOfAssertFactories.LIST)
+        .extracting(view -> ((ActorView) view).name())
+        .containsExactly("busy", "moderate");
+  }
+
+  @Test
+  void shouldRejectNonPositiveLimit() {
+    // given
+    final var endpoint = new ActorsEndpoint(mock(ActorScheduler.class));
+
+    // when
+    final var response = endpoint.list(0);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(400);
+  }
+
+  private ActorStatistics statistics(final String name, final Duration cpuTime) {
+    return new ActorStatistics(name, Map.of(), cpuTime, 0, Duration.ZERO);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.v8_5.processors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.camunda.operate.entities.VariableEntity;
+import io.camunda.operate.exceptions.PersistenceException;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.schema.templates.VariableTemplate;
+import io.camunda.operate.store.BatchRequest;
+import io.camunda.operate.store.ImportStore;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.protocol.record.value.ImmutableVariableRecordValue;
+import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VariableZeebeRecordProcessorTest {
+
+  private static final long SCOPE_KEY = 1L;
+
+  @Mock private VariableTemplate variableTemplate;
+  @Mock private ImportStore importStore;
+  @Spy private OperateProperties operateProperties = new OperateProperties();
+  @Mock private BatchRequest batchRequest;
+
+  @InjectMocks private VariableZeebeRecordProcessor variableZeebeRecordProcessor;
+
+  @Test
+  void shouldNotImportCollectedOutputElements() throws PersistenceException {
+    // given
+    final var collected = variableRecord(VariableIntent.OUTPUT_ELEMENT_COLLECTED, "items", "1");
+
+    // when
+    variableZeebeRecordProcessor.processVariableRecords(
+        Map.of(SCOPE_KEY, List.of(collected)), batchRequest);
+
+    // then
+    verifyNoInteractions(batchRequest);
+  }
+
+  @Test
+  void shouldImportVariableNextToCollectedOutputElements() throws PersistenceException {
+    // given
+    final var created = variableRecord(VariableIntent.CREATED, "items", "[]");
+    final var collected = variableRecord(VariableIntent.OUTPUT_ELEMENT_COLLECTED, "items", "1");
+
+    // when
+    variableZeebeRecordProcessor.processVariableRecords(
+        Map.of(SCOPE_KEY, List.of(created, collected)), batchRequest);
+
+    // then
+    final var entity = ArgumentCaptor.forClass(VariableEntity.class);
+    verify(batchRequest).upsert(any(), anyString(), entity.capture(), anyMap());
+    assertThat(entity.getValue().getValue()).isEqualTo("[]");
+  }
+
+  private static Record<VariableRecordValue> variableRecord(
+      final VariableIntent intent, final String name, final String value) {
+    return ImmutableRecord.<VariableRecordValue>builder()
+        .withValueType(ValueType.VARIABLE)
+        .withIntent(intent)
+        .withValue(
+            ImmutableVariableRecordValue.builder()
+                .withScopeKey(SCOPE_KEY)
+                .withName(name)
+                .withValue(value)
+                .build())
+        .build();
+  }
+}
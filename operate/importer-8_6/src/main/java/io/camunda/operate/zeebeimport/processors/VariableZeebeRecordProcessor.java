@@ -54,6 +54,11 @@ public class VariableZeebeRecordProcessor {
 
       for (final var scopedVariable : scopedVariables) {
         final var intent = scopedVariable.getIntent();
+        if (intent == VariableIntent.OUTPUT_ELEMENT_COLLECTED) {
+          // collected output elements are not variables on their own, the output collection is
+          // updated with them when the multi-instance body completes
+          continue;
+        }
         final var variableValue = scopedVariable.getValue();
         final var variableName = variableValue.getName();
         final var cachedVariable =
@@ -40,10 +40,16 @@ public class VariableZeebeRecordProcessorOpenSearch {
       throws PersistenceException {
     final VariableRecordValueImpl recordValue = (VariableRecordValueImpl) record.getValue();
 
-    // update variable
-    if (record.getIntent().name() != Intent.MIGRATED.name()) {
-      operations.add(persistVariable(record, recordValue));
+    final String intent = record.getIntent().name();
+    // collected output elements are not variables on their own, the output collection is updated
+    // with them when the multi-instance body completes
+    if (intent.equals(Intent.MIGRATED.name())
+        || intent.equals(Intent.OUTPUT_ELEMENT_COLLECTED.name())) {
+      return;
     }
+
+    // update variable
+    operations.add(persistVariable(record, recordValue));
   }
 
   private BulkOperation persistVariable(Record record, VariableRecordValueImpl recordValue)
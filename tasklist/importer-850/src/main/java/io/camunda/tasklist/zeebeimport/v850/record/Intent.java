@@ -41,6 +41,7 @@ public enum Intent implements io.camunda.zeebe.protocol.record.intent.Intent {
 
   // VARIABLE
   UPDATED,
+  OUTPUT_ELEMENT_COLLECTED,
 
   // FORM, PROCESS
   DELETED,
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.zeebeimport.v850.processors.es;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.tasklist.exceptions.PersistenceException;
+import io.camunda.tasklist.property.TasklistProperties;
+import io.camunda.tasklist.schema.indices.VariableIndex;
+import io.camunda.tasklist.zeebeimport.v850.record.Intent;
+import io.camunda.tasklist.zeebeimport.v850.record.RecordImpl;
+import io.camunda.tasklist.zeebeimport.v850.record.value.VariableRecordValueImpl;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VariableZeebeRecordProcessorElasticSearchTest {
+
+  @Spy private ObjectMapper objectMapper = new ObjectMapper();
+  @Spy private TasklistProperties tasklistProperties = new TasklistProperties();
+  @Mock private VariableIndex variableIndex;
+
+  @InjectMocks private VariableZeebeRecordProcessorElasticSearch variableProcessor;
+
+  @Test
+  void shouldNotImportCollectedOutputElement() throws PersistenceException {
+    // given
+    final var bulkRequest = new BulkRequest();
+
+    // when
+    variableProcessor.processVariableRecord(
+        variableRecord(Intent.OUTPUT_ELEMENT_COLLECTED), bulkRequest);
+
+    // then
+    assertThat(bulkRequest.numberOfActions()).isZero();
+  }
+
+  @Test
+  void shouldImportUpdatedVariable() throws PersistenceException {
+    // given
+    final var bulkRequest = new BulkRequest();
+    when(variableIndex.getFullQualifiedName()).thenReturn("tasklist-variable");
+
+    // when
+    variableProcessor.processVariableRecord(variableRecord(Intent.UPDATED), bulkRequest);
+
+    // then
+    assertThat(bulkRequest.numberOfActions()).isOne();
+  }
+
+  private static RecordImpl<VariableRecordValueImpl> variableRecord(final Intent intent) {
+    final var value = new VariableRecordValueImpl();
+    value.setScopeKey(1L);
+    value.setProcessInstanceKey(1L);
+    value.setName("items");
+    value.setValue("[]");
+
+    final var record = new RecordImpl<VariableRecordValueImpl>();
+    record.setIntent(intent);
+    record.setValue(value);
+    return record;
+  }
+}
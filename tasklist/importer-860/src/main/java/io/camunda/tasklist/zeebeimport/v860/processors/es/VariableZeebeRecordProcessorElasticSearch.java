@@ -47,10 +47,16 @@ public class VariableZeebeRecordProcessorElasticSearch {
       throws PersistenceException {
     final VariableRecordValueImpl recordValue = (VariableRecordValueImpl) record.getValue();
 
-    // update variable
-    if (record.getIntent().name() != Intent.MIGRATED.name()) {
-      bulkRequest.add(persistVariable(record, recordValue));
+    final String intent = record.getIntent().name();
+    // collected output elements are not variables on their own, the output collection is updated
+    // with them when the multi-instance body completes
+    if (intent.equals(Intent.MIGRATED.name())
+        || intent.equals(Intent.OUTPUT_ELEMENT_COLLECTED.name())) {
+      return;
     }
+
+    // update variable
+    bulkRequest.add(persistVariable(record, recordValue));
   }
 
   private UpdateRequest persistVariable(
@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging;
+
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/** A payload which wraps an array, e.g. of a message encoded by a serializer. */
+final class ArrayMessagePayload implements MessagePayload {
+  private final byte[] bytes;
+
+  ArrayMessagePayload(final byte[] bytes) {
+    this.bytes = Objects.requireNonNull(bytes, "payload bytes must not be null");
+  }
+
+  @Override
+  public DirectBuffer buffer() {
+    return new UnsafeBuffer(bytes);
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    return bytes;
+  }
+
+  @Override
+  public int getLength() {
+    return bytes.length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    buffer.putBytes(offset, bytes);
+  }
+}
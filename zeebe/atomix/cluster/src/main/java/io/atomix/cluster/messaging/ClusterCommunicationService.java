@@ -99,6 +99,20 @@ public interface ClusterCommunicationService {
   <M> void unicast(
       String subject, M message, Function<M, byte[]> encoder, MemberId memberId, boolean reliable);
 
+  /**
+   * Sends a message to a member reliably (TCP). Unlike {@link #unicast(String, Object, Function,
+   * MemberId, boolean)}, the payload is written directly into the buffer of the encoded message,
+   * instead of being encoded into an array first.
+   *
+   * @param subject message subject
+   * @param payload message payload
+   * @param memberId recipient node identifier
+   */
+  default void unicast(
+      final String subject, final MessagePayload payload, final MemberId memberId) {
+    unicast(subject, payload, MessagePayload::toByteArray, memberId, true);
+  }
+
   /**
    * Sends a message and expects a reply.
    *
@@ -129,6 +143,26 @@ public interface ClusterCommunicationService {
       MemberId toMemberId,
       Duration timeout);
 
+  /**
+   * Sends a message and expects a reply. Unlike {@link #send(String, Object, Function, Function,
+   * MemberId, Duration)}, the payload is written directly into the buffer of the encoded message,
+   * instead of being encoded into an array first.
+   *
+   * @param subject message subject
+   * @param payload message payload
+   * @param toMemberId recipient node identifier
+   * @param timeout response timeout
+   * @return reply future
+   */
+  default CompletableFuture<byte[]> send(
+      final String subject,
+      final MessagePayload payload,
+      final MemberId toMemberId,
+      final Duration timeout) {
+    return send(
+        subject, payload, MessagePayload::toByteArray, Function.identity(), toMemberId, timeout);
+  }
+
   /**
    * Adds a new subscriber for the specified message subject, which must return a reply.
    *
@@ -175,6 +209,23 @@ public interface ClusterCommunicationService {
       BiConsumer<MemberId, M> handler,
       Executor executor);
 
+  /**
+   * Adds a new subscriber for the specified message subject which does not return any reply. Unlike
+   * {@link #consume(String, Function, BiConsumer, Executor)}, the handler receives the payload as a
+   * view of the buffer the message was received in, which is released after the handler returned.
+   * If the sender is not a known member, the handler is not called.
+   *
+   * @param subject message subject
+   * @param handler handler for handling message, receiving the sender's member ID and the payload
+   * @param executor executor to run this handler on
+   */
+  default void consume(
+      final String subject,
+      final BiConsumer<MemberId, MessagePayload> handler,
+      final Executor executor) {
+    consume(subject, MessagePayload::of, handler, executor);
+  }
+
   /**
    * Adds a new subscriber for the specified message subject which must return a reply. If the
    * sender is not a known member, the handler is not called, and a {@link
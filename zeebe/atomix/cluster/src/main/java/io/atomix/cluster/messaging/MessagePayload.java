@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging;
+
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+
+/**
+ * The payload of a message, which can be passed to and from the {@link MessagingService} without
+ * copying it into a {@code byte[]} first.
+ *
+ * <p>Outbound payloads are written directly into the pooled buffer of the encoded message, e.g.
+ * from the buffer of a {@link BufferWriter}. Inbound payloads are views of the pooled buffer the
+ * message was received in, which are only valid until the payload is released. A handler which
+ * receives a payload must not use it after it returned; if it needs the payload afterward, it has
+ * to copy it, e.g. with {@link #toByteArray()}.
+ */
+public interface MessagePayload extends BufferWriter {
+
+  /**
+   * Returns a view of the payload. The view is only valid as long as the payload is, and must not
+   * be modified.
+   *
+   * @return a view of the payload
+   */
+  DirectBuffer buffer();
+
+  /**
+   * Returns the payload as an array. A payload which wraps an array returns it as is, any other
+   * payload is copied into a new array.
+   *
+   * @return the payload as an array
+   */
+  default byte[] toByteArray() {
+    final var bytes = new byte[getLength()];
+    buffer().getBytes(0, bytes);
+    return bytes;
+  }
+
+  /**
+   * Releases the buffer the payload is backed by, if it is pooled. Afterward, the payload and its
+   * views must not be used anymore.
+   */
+  default void release() {}
+
+  /**
+   * @param bytes the bytes of the payload
+   * @return a payload which wraps the given bytes, without copying them
+   */
+  static MessagePayload of(final byte[] bytes) {
+    return new ArrayMessagePayload(bytes);
+  }
+
+  /**
+   * @param writer the writer of the payload
+   * @return a payload which is written by the given writer when the message is encoded; the writer
+   *     must not be modified until the message was sent
+   */
+  static MessagePayload of(final BufferWriter writer) {
+    return new WriterMessagePayload(writer);
+  }
+}
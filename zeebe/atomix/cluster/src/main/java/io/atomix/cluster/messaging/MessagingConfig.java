@@ -33,6 +33,7 @@ public class MessagingConfig implements Config {
   private File certificateChain;
   private File privateKey;
   private CompressionAlgorithm compressionAlgorithm = CompressionAlgorithm.NONE;
+  private Transport transport = Transport.EPOLL;
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -147,6 +148,28 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * Returns the preferred network transport.
+   *
+   * @return the preferred network transport
+   */
+  public Transport getTransport() {
+    return transport;
+  }
+
+  /**
+   * Sets the preferred network transport. If the transport is not available on this host, the next
+   * best transport is used instead, i.e. {@link Transport#IO_URING} falls back to {@link
+   * Transport#EPOLL}, which falls back to {@link Transport#NIO}.
+   *
+   * @param transport the preferred network transport
+   * @return this config for chaining
+   */
+  public MessagingConfig setTransport(final Transport transport) {
+    this.transport = transport;
+    return this;
+  }
+
   /**
    * The certificate chain to use for inter-cluster communication. This certificate is used for both
    * the server and the client.
@@ -230,4 +253,10 @@ public class MessagingConfig implements Config {
     NONE,
     SNAPPY
   }
+
+  public enum Transport {
+    NIO,
+    EPOLL,
+    IO_URING
+  }
 }
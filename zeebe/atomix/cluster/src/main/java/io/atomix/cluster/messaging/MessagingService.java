@@ -303,6 +303,46 @@ public interface MessagingService {
       Duration timeout,
       Executor executor);
 
+  /**
+   * Sends a message asynchronously to the specified communication address. Unlike {@link
+   * #sendAsync(Address, String, byte[], boolean)}, the payload is written directly into the buffer
+   * of the encoded message, instead of being copied into an array first.
+   *
+   * @param address address to send the message to.
+   * @param type type of message.
+   * @param payload message payload.
+   * @param keepAlive whether to keep the connection alive after usage
+   * @return future that is completed when the message is sent
+   */
+  default CompletableFuture<Void> sendAsync(
+      final Address address,
+      final String type,
+      final MessagePayload payload,
+      final boolean keepAlive) {
+    return sendAsync(address, type, payload.toByteArray(), keepAlive);
+  }
+
+  /**
+   * Sends a message asynchronously and expects a response. Unlike {@link #sendAndReceive(Address,
+   * String, byte[], boolean, Duration)}, the payload is written directly into the buffer of the
+   * encoded message, instead of being copied into an array first.
+   *
+   * @param address address to send the message to.
+   * @param type type of message.
+   * @param payload message payload.
+   * @param keepAlive whether to keep the connection alive after usage
+   * @param timeout response timeout
+   * @return a response future
+   */
+  default CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final MessagePayload payload,
+      final boolean keepAlive,
+      final Duration timeout) {
+    return sendAndReceive(address, type, payload.toByteArray(), keepAlive, timeout);
+  }
+
   /**
    * Registers a new message handler for message type.
    *
@@ -312,6 +352,24 @@ public interface MessagingService {
    */
   void registerHandler(String type, BiConsumer<Address, byte[]> handler, Executor executor);
 
+  /**
+   * Registers a new message handler for message type, which receives the payload as a view of the
+   * buffer the message was received in, instead of a copy. The payload is released after the
+   * handler returned, so the handler has to copy whatever it needs afterward.
+   *
+   * @param type message type.
+   * @param handler message handler
+   * @param executor executor to use for running message handler logic.
+   */
+  default void registerPayloadHandler(
+      final String type,
+      final BiConsumer<Address, MessagePayload> handler,
+      final Executor executor) {
+    final BiConsumer<Address, byte[]> arrayHandler =
+        (address, payload) -> handler.accept(address, MessagePayload.of(payload));
+    registerHandler(type, arrayHandler, executor);
+  }
+
   /**
    * Registers a new message handler for message type.
    *
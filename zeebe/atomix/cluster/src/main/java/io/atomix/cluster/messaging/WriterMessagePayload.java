@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging;
+
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A payload which is written by a {@link BufferWriter} directly into the buffer of the encoded
+ * message. It is only copied into an array if it is not sent to a remote member, e.g. if it is
+ * sent to the local member or through a transport which only supports arrays.
+ */
+final class WriterMessagePayload implements MessagePayload {
+  private final BufferWriter writer;
+
+  WriterMessagePayload(final BufferWriter writer) {
+    this.writer = Objects.requireNonNull(writer, "payload writer must not be null");
+  }
+
+  @Override
+  public DirectBuffer buffer() {
+    return new UnsafeBuffer(toByteArray());
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    final var bytes = new byte[writer.getLength()];
+    writer.write(new UnsafeBuffer(bytes), 0);
+    return bytes;
+  }
+
+  @Override
+  public int getLength() {
+    return writer.getLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    writer.write(buffer, offset);
+  }
+}
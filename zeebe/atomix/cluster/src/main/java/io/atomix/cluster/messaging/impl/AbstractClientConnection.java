@@ -17,6 +17,7 @@
 package io.atomix.cluster.messaging.impl;
 
 import com.google.common.collect.Maps;
+import io.atomix.cluster.messaging.MessagePayload;
 import io.atomix.cluster.messaging.MessagingException;
 import io.camunda.zeebe.util.StringUtil;
 import java.util.Map;
@@ -29,6 +30,7 @@ import org.slf4j.LoggerFactory;
 abstract class AbstractClientConnection implements ClientConnection {
   private final Logger log = LoggerFactory.getLogger(getClass());
   private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final MessagingCodecMetrics codecMetrics = new MessagingCodecMetrics();
 
   // since all messages go through the same entry point, we keep a map of message IDs -> response
   // futures to allow dynamic dispatch of messages to the right response future
@@ -36,15 +38,21 @@ abstract class AbstractClientConnection implements ClientConnection {
 
   @Override
   public void dispatch(final ProtocolReply message) {
+    // replies are passed on as arrays, so the payload is copied and released right away
+    final MessagePayload replyPayload = message.payload();
+    final byte[] payload = replyPayload.toByteArray();
+    replyPayload.release();
+    codecMetrics.observeInboundPayload(payload.length, true);
+
     final CompletableFuture<byte[]> responseFuture = responseFutures.remove(message.id());
     if (responseFuture != null) {
       if (message.status() == ProtocolReply.Status.OK) {
-        responseFuture.complete(message.payload());
+        responseFuture.complete(payload);
       } else if (message.status() == ProtocolReply.Status.ERROR_NO_HANDLER) {
-        final String subject = extractMessage(message);
+        final String subject = extractMessage(payload);
         responseFuture.completeExceptionally(new MessagingException.NoRemoteHandler(subject));
       } else if (message.status() == ProtocolReply.Status.ERROR_HANDLER_EXCEPTION) {
-        final String exceptionMessage = extractMessage(message);
+        final String exceptionMessage = extractMessage(payload);
         responseFuture.completeExceptionally(
             new MessagingException.RemoteHandlerFailure(exceptionMessage));
       } else if (message.status() == ProtocolReply.Status.PROTOCOL_EXCEPTION) {
@@ -57,8 +65,7 @@ abstract class AbstractClientConnection implements ClientConnection {
     }
   }
 
-  private String extractMessage(final ProtocolReply message) {
-    final byte[] payload = message.payload();
+  private String extractMessage(final byte[] payload) {
     String exceptionMessage = null;
 
     if (payload != null && payload.length > 0) {
@@ -16,6 +16,7 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.cluster.messaging.MessagePayload;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
@@ -26,9 +27,11 @@ import org.slf4j.LoggerFactory;
 /** Decoder for inbound messages. */
 abstract class AbstractMessageDecoder extends ByteToMessageDecoder {
 
-  static final byte[] EMPTY_PAYLOAD = new byte[0];
+  static final MessagePayload EMPTY_PAYLOAD = MessagePayload.of(new byte[0]);
   private static final Escape ESCAPE = new Escape();
   private final Logger log = LoggerFactory.getLogger(getClass());
+  private final MessagingCodecMetrics metrics = new MessagingCodecMetrics();
+  private MessagePayload content;
 
   static int readInt(final ByteBuf buffer) {
     if (buffer.readableBytes() < 5) {
@@ -243,6 +246,49 @@ abstract class AbstractMessageDecoder extends ByteToMessageDecoder {
     }
   }
 
+  /**
+   * Reads the content of a message once it was received completely, as a retained slice of the
+   * buffer it was received in. This way, the content is not copied into an array, but passed on as
+   * it is, and the buffer is only released once the message was handled.
+   *
+   * @param buffer the buffer to read from
+   * @param contentLength the total length of the content
+   * @return true if the content was read, see {@link #takeContent()}, or false if more bytes are
+   *     required
+   */
+  boolean readContent(final ByteBuf buffer, final int contentLength) {
+    if (contentLength == 0) {
+      content = EMPTY_PAYLOAD;
+      return true;
+    }
+
+    if (buffer.readableBytes() < contentLength) {
+      return false;
+    }
+
+    content = new ByteBufMessagePayload(buffer.readRetainedSlice(contentLength));
+    metrics.observeDecodedContent(contentLength);
+    return true;
+  }
+
+  /**
+   * @return the content which was read last, which is then owned by the decoded message
+   */
+  MessagePayload takeContent() {
+    final var readContent = content;
+    content = null;
+    return readContent;
+  }
+
+  @Override
+  protected void handlerRemoved0(final ChannelHandlerContext context) {
+    // the content of a message which was not decoded completely is not owned by any message yet
+    if (content != null) {
+      content.release();
+      content = null;
+    }
+  }
+
   @Override
   public void exceptionCaught(final ChannelHandlerContext context, final Throwable cause) {
     try {
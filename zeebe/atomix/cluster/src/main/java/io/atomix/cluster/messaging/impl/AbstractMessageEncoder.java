@@ -16,12 +16,14 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.cluster.messaging.MessagePayload;
 import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 import java.io.IOException;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,13 +32,25 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   // Effectively MessageToByteEncoder<InternalMessage>,
   // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  // message type, message id and content length, see MessageEncoderV1#encodeMessage
+  private static final int MESSAGE_HEADER_MAX_LENGTH = Byte.BYTES + 10 + 5;
+  // the V1 address is the length prefixed IPv4 or IPv6 address, and the port
+  private static final int IP_ADDRESS_MAX_LENGTH = Byte.BYTES + 16 + Integer.BYTES;
+
   protected final Address address;
   private final Logger log = LoggerFactory.getLogger(getClass());
+  private final MessagingCodecMetrics metrics = new MessagingCodecMetrics();
+  private final int addressMaxLength;
+  private final UnsafeBuffer payloadView = new UnsafeBuffer();
   private boolean addressWritten;
 
   AbstractMessageEncoder(final Address address) {
     super();
     this.address = address;
+    addressMaxLength =
+        Math.max(
+            IP_ADDRESS_MAX_LENGTH,
+            Short.BYTES + ByteBufUtil.utf8MaxBytes(address.host()) + Integer.BYTES);
   }
 
   protected abstract void encodeAddress(ProtocolMessage message, ByteBuf buffer);
@@ -48,14 +62,33 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   protected abstract void encodeReply(ProtocolReply reply, ByteBuf out);
 
   static void writeString(final ByteBuf buffer, final String value) {
-    final ByteBuf buf = buffer.alloc().buffer(ByteBufUtil.utf8MaxBytes(value));
-    try {
-      final int length = ByteBufUtil.writeUtf8(buf, value);
-      buffer.writeShort(length);
-      buffer.writeBytes(buf);
-    } finally {
-      buf.release();
+    // write the string in place and fill in its length afterwards, to avoid a temporary buffer
+    final int lengthIndex = buffer.writerIndex();
+    buffer.writeShort(0);
+    final int length = ByteBufUtil.writeUtf8(buffer, value);
+    buffer.setShort(lengthIndex, length);
+  }
+
+  /**
+   * Writes the payload directly into the buffer of the encoded message, through a view of the
+   * buffer's memory, so that it does not have to be copied into an array first.
+   */
+  void writePayload(final ByteBuf buffer, final MessagePayload payload) {
+    final int length = payload.getLength();
+    buffer.ensureWritable(length);
+
+    final int index = buffer.writerIndex();
+    if (buffer.hasMemoryAddress()) {
+      payloadView.wrap(buffer.memoryAddress() + index, length);
+    } else if (buffer.hasArray()) {
+      payloadView.wrap(buffer.array(), buffer.arrayOffset() + index, length);
+    } else {
+      final var nioBuffer = buffer.nioBuffer(index, length);
+      payloadView.wrap(nioBuffer, nioBuffer.position(), length);
     }
+
+    payload.write(payloadView, 0);
+    buffer.writerIndex(index + length);
   }
 
   static void writeInt(final ByteBuf buf, final int value) {
@@ -159,6 +192,31 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     return msg instanceof ProtocolMessage;
   }
 
+  /**
+   * Allocates a buffer which fits the whole encoded message. The default implementation starts with
+   * a small buffer, which then has to be grown and copied repeatedly for large messages.
+   */
+  @Override
+  protected ByteBuf allocateBuffer(
+      final ChannelHandlerContext context, final Object rawMessage, final boolean preferDirect) {
+    final int length = estimateLength((ProtocolMessage) rawMessage);
+    return preferDirect ? context.alloc().ioBuffer(length) : context.alloc().heapBuffer(length);
+  }
+
+  private int estimateLength(final ProtocolMessage message) {
+    int length = MESSAGE_HEADER_MAX_LENGTH + message.payload().getLength();
+    if (!addressWritten) {
+      length += addressMaxLength;
+    }
+
+    if (message instanceof final ProtocolRequest request) {
+      length += Short.BYTES + ByteBufUtil.utf8MaxBytes(request.subject());
+    } else {
+      length += Byte.BYTES;
+    }
+    return length;
+  }
+
   @Override
   protected void encode(
       final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
@@ -174,5 +232,7 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     } else if (rawMessage instanceof ProtocolReply) {
       encodeReply((ProtocolReply) rawMessage, out);
     }
+
+    metrics.observeEncoded(out.capacity(), out.readableBytes());
   }
 }
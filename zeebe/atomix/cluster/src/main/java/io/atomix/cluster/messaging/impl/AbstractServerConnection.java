@@ -40,6 +40,7 @@ abstract class AbstractServerConnection implements ServerConnection {
       handler.accept(message, this);
     } else {
       log.debug("No handler for message type {} from {}", subject, message.sender());
+      message.payload().release();
 
       byte[] subjectBytes = null;
       if (subject != null) {
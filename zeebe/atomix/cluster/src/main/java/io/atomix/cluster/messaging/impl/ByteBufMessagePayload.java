@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.MessagePayload;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The payload of an inbound message, which is a retained slice of the pooled buffer the message was
+ * received in. The slice is exposed as a {@link DirectBuffer} view, so that the payload is not
+ * copied unless it is converted into an array, and must be released by whoever handles the message.
+ */
+final class ByteBufMessagePayload implements MessagePayload {
+  private final ByteBuf content;
+  private final UnsafeBuffer view = new UnsafeBuffer();
+
+  ByteBufMessagePayload(final ByteBuf content) {
+    this.content = content;
+
+    final int length = content.readableBytes();
+    if (content.hasMemoryAddress()) {
+      view.wrap(content.memoryAddress() + content.readerIndex(), length);
+    } else if (content.hasArray()) {
+      view.wrap(content.array(), content.arrayOffset() + content.readerIndex(), length);
+    } else {
+      final var nioBuffer = content.nioBuffer();
+      view.wrap(nioBuffer, nioBuffer.position(), length);
+    }
+  }
+
+  @Override
+  public DirectBuffer buffer() {
+    return view;
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    return ByteBufUtil.getBytes(content);
+  }
+
+  @Override
+  public void release() {
+    content.release();
+  }
+
+  @Override
+  public int getLength() {
+    return view.capacity();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    buffer.putBytes(offset, view, 0, view.capacity());
+  }
+}
@@ -25,6 +25,7 @@ import io.atomix.cluster.Member;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.cluster.messaging.ManagedClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagePayload;
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingException.NoSuchMemberException;
 import io.atomix.cluster.messaging.MessagingService;
@@ -102,6 +103,16 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
     doUnicast(subject, payload, memberId, reliable);
   }
 
+  @Override
+  public void unicast(final String subject, final MessagePayload payload, final MemberId memberId) {
+    final Member member = membershipService.getMember(memberId);
+    if (member == null) {
+      return;
+    }
+
+    messagingService.sendAsync(member.address(), subject, payload, true);
+  }
+
   @Override
   public <M, R> CompletableFuture<R> send(
       final String subject,
@@ -118,6 +129,20 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
     }
   }
 
+  @Override
+  public CompletableFuture<byte[]> send(
+      final String subject,
+      final MessagePayload payload,
+      final MemberId toMemberId,
+      final Duration timeout) {
+    final Member member = membershipService.getMember(toMemberId);
+    if (member == null) {
+      return failOnMemberNotKnown(subject, toMemberId);
+    }
+
+    return messagingService.sendAndReceive(member.address(), subject, payload, true, timeout);
+  }
+
   @Override
   public <M, R> void replyTo(
       final String subject,
@@ -156,6 +181,20 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
     unicastService.addListener(subject, unicastConsumer, executor);
   }
 
+  @Override
+  public void consume(
+      final String subject,
+      final BiConsumer<MemberId, MessagePayload> handler,
+      final Executor executor) {
+    messagingService.registerPayloadHandler(
+        subject, new InternalPayloadConsumer(handler), executor);
+    // messages which are not sent reliably are received as arrays by the unicast service
+    final BiConsumer<Address, byte[]> unicastConsumer =
+        new InternalMessageBiConsumer<MessagePayload>(MessagePayload::of, handler);
+    unicastConsumers.put(subject, unicastConsumer);
+    unicastService.addListener(subject, unicastConsumer, executor);
+  }
+
   @Override
   public <M, R> void replyTo(
       final String subject,
@@ -330,6 +369,23 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
     }
   }
 
+  private final class InternalPayloadConsumer implements BiConsumer<Address, MessagePayload> {
+
+    private final BiConsumer<MemberId, MessagePayload> consumer;
+
+    InternalPayloadConsumer(final BiConsumer<MemberId, MessagePayload> consumer) {
+      this.consumer = consumer;
+    }
+
+    @Override
+    public void accept(final Address sender, final MessagePayload payload) {
+      final Member member = membershipService.getMember(sender);
+      if (member != null) {
+        consumer.accept(member.id(), payload);
+      }
+    }
+  }
+
   private final class InternalMessageBiResponder<M, R>
       implements BiFunction<Address, byte[], CompletableFuture<byte[]>> {
     private final Function<byte[], M> decoder;
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.socket.DatagramChannel;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Provides Netty's io_uring transport, which is shipped separately from Netty as
+ * netty-incubator-transport-native-io_uring. The transport is looked up reflectively, so that it
+ * only has to be on the class path when it is actually used. It is only available on Linux with a
+ * kernel version of at least 5.9.
+ */
+final class IoUringTransport {
+  private static final String PACKAGE = "io.netty.incubator.channel.uring.";
+  private static final Throwable UNAVAILABILITY_CAUSE = checkAvailability();
+
+  private IoUringTransport() {}
+
+  static boolean isAvailable() {
+    return UNAVAILABILITY_CAUSE == null;
+  }
+
+  static Throwable unavailabilityCause() {
+    return UNAVAILABILITY_CAUSE;
+  }
+
+  static EventLoopGroup newEventLoopGroup(final ThreadFactory threadFactory) {
+    try {
+      return (EventLoopGroup)
+          loadClass("IOUringEventLoopGroup")
+              .getConstructor(int.class, ThreadFactory.class)
+              .newInstance(0, threadFactory);
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create io_uring event loop group", e);
+    }
+  }
+
+  static Class<? extends ServerChannel> serverChannelClass() {
+    return loadClass("IOUringServerSocketChannel").asSubclass(ServerChannel.class);
+  }
+
+  static Class<? extends Channel> channelClass() {
+    return loadClass("IOUringSocketChannel").asSubclass(Channel.class);
+  }
+
+  static Class<? extends DatagramChannel> datagramChannelClass() {
+    return loadClass("IOUringDatagramChannel").asSubclass(DatagramChannel.class);
+  }
+
+  private static Class<?> loadClass(final String name) {
+    try {
+      return Class.forName(PACKAGE + name, true, IoUringTransport.class.getClassLoader());
+    } catch (final ClassNotFoundException e) {
+      throw new IllegalStateException("Expected io_uring transport to be available", e);
+    }
+  }
+
+  private static Throwable checkAvailability() {
+    try {
+      final var ioUring = Class.forName(PACKAGE + "IOUring");
+      if ((boolean) ioUring.getMethod("isAvailable").invoke(null)) {
+        return null;
+      }
+      return (Throwable) ioUring.getMethod("unavailabilityCause").invoke(null);
+    } catch (final ReflectiveOperationException | LinkageError e) {
+      return e;
+    }
+  }
+}
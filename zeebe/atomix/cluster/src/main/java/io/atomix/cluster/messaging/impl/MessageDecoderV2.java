@@ -34,7 +34,6 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
   private ProtocolMessage.Type type;
   private long messageId;
   private int contentLength;
-  private byte[] content;
   private int subjectLength;
 
   @Override
@@ -84,16 +83,9 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         }
         currentState = DecoderState.READ_CONTENT;
       case READ_CONTENT:
-        if (buffer.readableBytes() < contentLength) {
+        if (!readContent(buffer, contentLength)) {
           return;
         }
-        if (contentLength > 0) {
-          // TODO: Perform a sanity check on the size before allocating
-          content = new byte[contentLength];
-          buffer.readBytes(content);
-        } else {
-          content = EMPTY_PAYLOAD;
-        }
 
         switch (type) {
           case REQUEST:
@@ -125,7 +117,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
             }
             final String subject = readString(buffer, subjectLength);
             final ProtocolRequest message =
-                new ProtocolRequest(messageId, senderAddress, subject, content);
+                new ProtocolRequest(messageId, senderAddress, subject, takeContent());
             out.add(message);
             currentState = DecoderState.READ_TYPE;
             break;
@@ -140,7 +132,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
               return;
             }
             final ProtocolReply.Status status = ProtocolReply.Status.forId(buffer.readByte());
-            final ProtocolReply message = new ProtocolReply(messageId, content, status);
+            final ProtocolReply message = new ProtocolReply(messageId, takeContent(), status);
             out.add(message);
             currentState = DecoderState.READ_TYPE;
             break;
@@ -16,6 +16,7 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.cluster.messaging.MessagePayload;
 import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
 import java.net.InetAddress;
@@ -40,9 +41,9 @@ class MessageEncoderV1 extends AbstractMessageEncoder {
     buffer.writeByte(message.type().id());
     writeLong(buffer, message.id());
 
-    final byte[] payload = message.payload();
-    writeInt(buffer, payload.length);
-    buffer.writeBytes(payload);
+    final MessagePayload payload = message.payload();
+    writeInt(buffer, payload.getLength());
+    writePayload(buffer, payload);
   }
 
   @Override
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.prometheus.client.Counter;
+
+/**
+ * Tracks how many bytes the message encoders allocate, compared to how many bytes of messages are
+ * actually encoded and decoded, and how many bytes of payloads are passed to and from the messaging
+ * service as heap arrays instead of buffers.
+ */
+final class MessagingCodecMetrics {
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_DIRECTION = "direction";
+  private static final String DIRECTION_OUTBOUND = "outbound";
+  private static final String DIRECTION_INBOUND = "inbound";
+  private static final String LABEL_TYPE = "type";
+  private static final String TYPE_ARRAY = "array";
+  private static final String TYPE_BUFFER = "buffer";
+
+  private static final Counter ALLOCATED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("messaging_codec_allocated_bytes")
+          .help("Number of bytes allocated to encode outbound messages")
+          .labelNames(LABEL_DIRECTION)
+          .register();
+  private static final Counter MESSAGE_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("messaging_codec_message_bytes")
+          .help("Number of bytes of encoded outbound or decoded inbound messages")
+          .labelNames(LABEL_DIRECTION)
+          .register();
+  private static final Counter PAYLOAD_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("messaging_payload_bytes")
+          .help(
+              "Number of bytes of outbound or inbound message payloads, by whether they were passed"
+                  + " as a heap array, which has to be allocated for every message, or as a buffer")
+          .labelNames(LABEL_DIRECTION, LABEL_TYPE)
+          .register();
+
+  private final Counter.Child outboundAllocatedBytes = ALLOCATED_BYTES.labels(DIRECTION_OUTBOUND);
+  private final Counter.Child outboundMessageBytes = MESSAGE_BYTES.labels(DIRECTION_OUTBOUND);
+  private final Counter.Child inboundMessageBytes = MESSAGE_BYTES.labels(DIRECTION_INBOUND);
+  private final Counter.Child outboundArrayPayloadBytes =
+      PAYLOAD_BYTES.labels(DIRECTION_OUTBOUND, TYPE_ARRAY);
+  private final Counter.Child outboundBufferPayloadBytes =
+      PAYLOAD_BYTES.labels(DIRECTION_OUTBOUND, TYPE_BUFFER);
+  private final Counter.Child inboundArrayPayloadBytes =
+      PAYLOAD_BYTES.labels(DIRECTION_INBOUND, TYPE_ARRAY);
+  private final Counter.Child inboundBufferPayloadBytes =
+      PAYLOAD_BYTES.labels(DIRECTION_INBOUND, TYPE_BUFFER);
+
+  void observeEncoded(final int allocatedBytes, final int messageBytes) {
+    outboundAllocatedBytes.inc(allocatedBytes);
+    outboundMessageBytes.inc(messageBytes);
+  }
+
+  void observeDecodedContent(final int contentBytes) {
+    // the content is a slice of the pooled buffer the message was received in, so nothing is
+    // allocated; it is only copied if it is passed on as an array, see observeInboundPayload
+    inboundMessageBytes.inc(contentBytes);
+  }
+
+  void observeOutboundPayload(final int payloadBytes, final boolean isArray) {
+    if (isArray) {
+      outboundArrayPayloadBytes.inc(payloadBytes);
+    } else {
+      outboundBufferPayloadBytes.inc(payloadBytes);
+    }
+  }
+
+  void observeInboundPayload(final int payloadBytes, final boolean isArray) {
+    if (isArray) {
+      inboundArrayPayloadBytes.inc(payloadBytes);
+    } else {
+      inboundBufferPayloadBytes.inc(payloadBytes);
+    }
+  }
+}
@@ -23,7 +23,9 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.atomix.cluster.messaging.ManagedMessagingService;
+import io.atomix.cluster.messaging.MessagePayload;
 import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.Transport;
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
 import io.atomix.utils.concurrent.OrderedFuture;
@@ -129,6 +131,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
   private SslContext clientSslContext;
   private DnsAddressResolverGroup dnsResolverGroup;
   private final MessagingMetrics messagingMetrics = new MessagingMetricsImpl();
+  private final MessagingCodecMetrics codecMetrics = new MessagingCodecMetrics();
 
   public NettyMessagingService(
       final String cluster, final Address advertisedAddress, final MessagingConfig config) {
@@ -193,6 +196,22 @@ public final class NettyMessagingService implements ManagedMessagingService {
   @Override
   public CompletableFuture<Void> sendAsync(
       final Address address, final String type, final byte[] payload, final boolean keepAlive) {
+    codecMetrics.observeOutboundPayload(payload.length, true);
+    return sendAsync(address, type, MessagePayload.of(payload));
+  }
+
+  @Override
+  public CompletableFuture<Void> sendAsync(
+      final Address address,
+      final String type,
+      final MessagePayload payload,
+      final boolean keepAlive) {
+    codecMetrics.observeOutboundPayload(payload.getLength(), false);
+    return sendAsync(address, type, payload);
+  }
+
+  private CompletableFuture<Void> sendAsync(
+      final Address address, final String type, final MessagePayload payload) {
     final long messageId = messageIdGenerator.incrementAndGet();
     final ProtocolRequest message =
         new ProtocolRequest(messageId, advertisedAddress, type, payload);
@@ -236,6 +255,29 @@ public final class NettyMessagingService implements ManagedMessagingService {
       final boolean keepAlive,
       final Duration timeout,
       final Executor executor) {
+    codecMetrics.observeOutboundPayload(payload.length, true);
+    return sendAndReceive(address, type, MessagePayload.of(payload), keepAlive, timeout, executor);
+  }
+
+  @Override
+  public CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final MessagePayload payload,
+      final boolean keepAlive,
+      final Duration timeout) {
+    codecMetrics.observeOutboundPayload(payload.getLength(), false);
+    return sendAndReceive(
+        address, type, payload, keepAlive, timeout, MoreExecutors.directExecutor());
+  }
+
+  private CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final MessagePayload payload,
+      final boolean keepAlive,
+      final Duration timeout,
+      final Executor executor) {
     if (!started.get()) {
       return CompletableFuture.failedFuture(
           new IllegalStateException("MessagingService is closed."));
@@ -273,39 +315,69 @@ public final class NettyMessagingService implements ManagedMessagingService {
       final String type, final BiConsumer<Address, byte[]> handler, final Executor executor) {
     handlers.register(
         type,
-        (message, connection) ->
-            executor.execute(() -> handler.accept(message.sender(), message.payload())));
+        (message, connection) -> {
+          final byte[] payload = copyPayload(message);
+          executor.execute(() -> handler.accept(message.sender(), payload));
+        });
   }
 
   @Override
-  public void registerHandler(
+  public void registerPayloadHandler(
       final String type,
-      final BiFunction<Address, byte[], byte[]> handler,
+      final BiConsumer<Address, MessagePayload> handler,
       final Executor executor) {
     handlers.register(
         type,
-        (message, connection) ->
+        (message, connection) -> {
+          final MessagePayload payload = message.payload();
+          codecMetrics.observeInboundPayload(payload.getLength(), false);
+          try {
             executor.execute(
                 () -> {
-                  byte[] responsePayload = null;
-                  ProtocolReply.Status status = ProtocolReply.Status.OK;
                   try {
-                    responsePayload = handler.apply(message.sender(), message.payload());
-                  } catch (final Exception e) {
-                    log.warn(
-                        "Unexpected error while handling message {} from {}",
-                        message.subject(),
-                        message.sender(),
-                        e);
-
-                    status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
-                    final String exceptionMessage = e.getMessage();
-                    if (exceptionMessage != null) {
-                      responsePayload = StringUtil.getBytes(exceptionMessage);
-                    }
+                    handler.accept(message.sender(), payload);
+                  } finally {
+                    payload.release();
                   }
-                  connection.reply(message.id(), status, Optional.ofNullable(responsePayload));
-                }));
+                });
+          } catch (final RuntimeException e) {
+            payload.release();
+            throw e;
+          }
+        });
+  }
+
+  @Override
+  public void registerHandler(
+      final String type,
+      final BiFunction<Address, byte[], byte[]> handler,
+      final Executor executor) {
+    handlers.register(
+        type,
+        (message, connection) -> {
+          final byte[] payload = copyPayload(message);
+          executor.execute(
+              () -> {
+                byte[] responsePayload = null;
+                ProtocolReply.Status status = ProtocolReply.Status.OK;
+                try {
+                  responsePayload = handler.apply(message.sender(), payload);
+                } catch (final Exception e) {
+                  log.warn(
+                      "Unexpected error while handling message {} from {}",
+                      message.subject(),
+                      message.sender(),
+                      e);
+
+                  status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
+                  final String exceptionMessage = e.getMessage();
+                  if (exceptionMessage != null) {
+                    responsePayload = StringUtil.getBytes(exceptionMessage);
+                  }
+                }
+                connection.reply(message.id(), status, Optional.ofNullable(responsePayload));
+              });
+        });
   }
 
   @Override
@@ -320,7 +392,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
           final var id = message.id();
           final var subject = message.subject();
           final var sender = message.sender();
-          final var payload = message.payload();
+          final var payload = copyPayload(message);
           handler
               .apply(sender, payload)
               .whenComplete(
@@ -349,6 +421,18 @@ public final class NettyMessagingService implements ManagedMessagingService {
         });
   }
 
+  /**
+   * Copies the payload of the message for a handler which expects an array, and releases the
+   * payload right away.
+   */
+  private byte[] copyPayload(final ProtocolRequest message) {
+    final MessagePayload payload = message.payload();
+    final byte[] bytes = payload.toByteArray();
+    payload.release();
+    codecMetrics.observeInboundPayload(bytes.length, true);
+    return bytes;
+  }
+
   @Override
   public void unregisterHandler(final String type) {
     handlers.unregister(type);
@@ -501,13 +585,37 @@ public final class NettyMessagingService implements ManagedMessagingService {
   }
 
   private void initTransport() {
-    if (Epoll.isAvailable()) {
+    final var transport = config.getTransport();
+    if (transport == Transport.IO_URING) {
+      if (IoUringTransport.isAvailable()) {
+        initIoUringTransport();
+        return;
+      }
+
+      log.warn(
+          "Expected to use the io_uring transport, but it is not available; falling back to epoll",
+          IoUringTransport.unavailabilityCause());
+    }
+
+    if (transport != Transport.NIO && Epoll.isAvailable()) {
       initEpollTransport();
     } else {
       initNioTransport();
     }
   }
 
+  private void initIoUringTransport() {
+    clientGroup =
+        IoUringTransport.newEventLoopGroup(
+            namedThreads("netty-messaging-event-io-uring-client-%d", log));
+    serverGroup =
+        IoUringTransport.newEventLoopGroup(
+            namedThreads("netty-messaging-event-io-uring-server-%d", log));
+    serverChannelClass = IoUringTransport.serverChannelClass();
+    clientChannelClass = IoUringTransport.channelClass();
+    clientDataGramChannelClass = IoUringTransport.datagramChannelClass();
+  }
+
   private void initEpollTransport() {
     clientGroup =
         new EpollEventLoopGroup(0, namedThreads("netty-messaging-event-epoll-client-%d", log));
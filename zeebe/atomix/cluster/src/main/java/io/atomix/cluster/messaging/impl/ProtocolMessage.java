@@ -16,13 +16,15 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.cluster.messaging.MessagePayload;
+
 /** Base class for internal messages. */
 public abstract class ProtocolMessage {
 
   private final long id;
-  private final byte[] payload;
+  private final MessagePayload payload;
 
-  protected ProtocolMessage(final long id, final byte[] payload) {
+  protected ProtocolMessage(final long id, final MessagePayload payload) {
     this.id = id;
     this.payload = payload;
   }
@@ -41,7 +43,7 @@ public abstract class ProtocolMessage {
     return id;
   }
 
-  public byte[] payload() {
+  public MessagePayload payload() {
     return payload;
   }
 
@@ -17,7 +17,7 @@
 package io.atomix.cluster.messaging.impl;
 
 import com.google.common.base.MoreObjects;
-import io.atomix.utils.misc.ArraySizeHashPrinter;
+import io.atomix.cluster.messaging.MessagePayload;
 
 /** Internal reply message. */
 public final class ProtocolReply extends ProtocolMessage {
@@ -25,6 +25,10 @@ public final class ProtocolReply extends ProtocolMessage {
   private final Status status;
 
   public ProtocolReply(final long id, final byte[] payload, final Status status) {
+    this(id, MessagePayload.of(payload), status);
+  }
+
+  public ProtocolReply(final long id, final MessagePayload payload, final Status status) {
     super(id, payload);
     this.status = status;
   }
@@ -43,7 +47,7 @@ public final class ProtocolReply extends ProtocolMessage {
     return MoreObjects.toStringHelper(this)
         .add("id", id())
         .add("status", status())
-        .add("payload", ArraySizeHashPrinter.of(payload()))
+        .add("payloadLength", payload().getLength())
         .toString();
   }
 
@@ -0,0 +1,225 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many append requests may be in flight to a single follower, and how large each of them
+ * may be.
+ *
+ * <p>A fixed window always allows the configured values. An adaptive window starts with the
+ * configured values and adjusts them per follower, similar to a congestion window: it tracks the
+ * smallest and the smoothed round trip time (rtt) of the appends to the follower, and
+ *
+ * <ul>
+ *   <li>as long as the rtt stays close to the smallest observed rtt, it additively increases the
+ *       number of in-flight appends (by roughly one per window of acknowledged appends), and grows
+ *       the batch size whenever a full batch was acknowledged.
+ *   <li>when the rtt inflates, or an append fails, it multiplicatively decreases both, at most once
+ *       per rtt to not overreact to a single burst of slow responses.
+ * </ul>
+ *
+ * Since the window grows as long as the rtt of a follower does not increase, followers with a high
+ * but stable rtt, e.g. in another availability zone, get a deeper pipeline, while followers which
+ * cannot keep up are throttled without slowing down the others.
+ *
+ * <p>The window additionally measures the acknowledged throughput, i.e. the bytes acknowledged by
+ * the follower per second, for observability.
+ *
+ * <p>The window is not thread safe, and must only be accessed from the raft thread.
+ */
+public final class AppendWindow {
+
+  private static final double RTT_TOLERANCE = 2.0;
+  private static final long MIN_RTT_SLACK = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final double BACKOFF_RATIO = 0.75;
+  private static final double BATCH_SIZE_GROWTH_RATIO = 1.25;
+  private static final int MIN_RTT_RESET_SAMPLES = 1024;
+  private static final double SMOOTHING_FACTOR = 0.125;
+  private static final int MIN_BATCH_SIZE = 4 * 1024;
+
+  private final boolean adaptive;
+  private final int initialInFlight;
+  private final int initialBatchSize;
+  private final int minBatchSize;
+  private final int maxInFlight;
+  private final int maxBatchSize;
+
+  private double inFlightLimit;
+  private int batchSize;
+  private long minRtt = Long.MAX_VALUE;
+  private double smoothedRtt;
+  private double ackThroughput;
+  private long lastDecrease;
+  private long lastAck;
+  private int samples;
+
+  private AppendWindow(
+      final boolean adaptive,
+      final int initialInFlight,
+      final int initialBatchSize,
+      final int maxInFlight,
+      final int maxBatchSize) {
+    this.adaptive = adaptive;
+    this.initialInFlight = initialInFlight;
+    this.initialBatchSize = initialBatchSize;
+    this.maxInFlight = Math.max(initialInFlight, maxInFlight);
+    this.maxBatchSize = Math.max(initialBatchSize, maxBatchSize);
+    minBatchSize = Math.min(MIN_BATCH_SIZE, initialBatchSize);
+    inFlightLimit = initialInFlight;
+    batchSize = initialBatchSize;
+  }
+
+  /** Returns a window which always allows the given number of appends and batch size. */
+  public static AppendWindow fixed(final int maxInFlight, final int maxBatchSize) {
+    return new AppendWindow(false, maxInFlight, maxBatchSize, maxInFlight, maxBatchSize);
+  }
+
+  /**
+   * Returns a window which starts with the given initial values, and adapts them within {@code [1,
+   * maxInFlight]} and {@code [min(4KB, initialBatchSize), maxBatchSize]} respectively.
+   */
+  public static AppendWindow adaptive(
+      final int initialInFlight,
+      final int initialBatchSize,
+      final int maxInFlight,
+      final int maxBatchSize) {
+    return new AppendWindow(true, initialInFlight, initialBatchSize, maxInFlight, maxBatchSize);
+  }
+
+  /**
+   * Called when an append request with entries was acknowledged by the follower.
+   *
+   * @param rtt the time between sending the request and receiving the response, in nanoseconds
+   * @param bytes the approximate size of the acknowledged entries
+   * @param now the current time as given by {@link System#nanoTime()}
+   */
+  public void onAppendCompleted(final long rtt, final int bytes, final long now) {
+    if (!adaptive) {
+      return;
+    }
+
+    updateRtt(rtt);
+    updateAckThroughput(bytes, now);
+
+    if (rtt > Math.max(minRtt * RTT_TOLERANCE, minRtt + MIN_RTT_SLACK)) {
+      decrease(now);
+      return;
+    }
+
+    inFlightLimit = Math.min(maxInFlight, inFlightLimit + 1 / inFlightLimit);
+    if (bytes >= batchSize) {
+      batchSize = (int) Math.min(maxBatchSize, Math.ceil(batchSize * BATCH_SIZE_GROWTH_RATIO));
+    }
+  }
+
+  /**
+   * Called when an append request with entries failed, e.g. because it timed out.
+   *
+   * @param now the current time as given by {@link System#nanoTime()}
+   */
+  public void onAppendFailed(final long now) {
+    if (adaptive) {
+      decrease(now);
+    }
+  }
+
+  /** Resets the measurements and the window to its initial state, e.g. after a new leader. */
+  public void reset() {
+    inFlightLimit = initialInFlight;
+    batchSize = initialBatchSize;
+    minRtt = Long.MAX_VALUE;
+    smoothedRtt = 0;
+    ackThroughput = 0;
+    lastDecrease = 0;
+    lastAck = 0;
+    samples = 0;
+  }
+
+  /**
+   * @return the maximum number of append requests which may be in flight to the follower
+   */
+  public int getMaxInFlight() {
+    return (int) inFlightLimit;
+  }
+
+  /**
+   * @return the maximum size in bytes of the entries of a single append request
+   */
+  public int getMaxBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * @return the smoothed round trip time of the appends in nanoseconds, or 0 if not measured yet
+   */
+  public long getSmoothedRtt() {
+    return (long) smoothedRtt;
+  }
+
+  /**
+   * @return the smoothed number of bytes acknowledged by the follower per second
+   */
+  public long getAckThroughput() {
+    return (long) ackThroughput;
+  }
+
+  public boolean isAdaptive() {
+    return adaptive;
+  }
+
+  private void updateRtt(final long rtt) {
+    // the minimum is reset regularly, so the window recovers if the network path changed
+    if (++samples % MIN_RTT_RESET_SAMPLES == 0) {
+      minRtt = rtt;
+    } else {
+      minRtt = Math.min(minRtt, rtt);
+    }
+
+    smoothedRtt = smoothedRtt == 0 ? rtt : smooth(smoothedRtt, rtt);
+  }
+
+  private void updateAckThroughput(final int bytes, final long now) {
+    final long elapsed = now - lastAck;
+    if (lastAck != 0 && elapsed > 0) {
+      final double throughput = (double) bytes * TimeUnit.SECONDS.toNanos(1) / elapsed;
+      ackThroughput = ackThroughput == 0 ? throughput : smooth(ackThroughput, throughput);
+    }
+
+    lastAck = now;
+  }
+
+  private void decrease(final long now) {
+    if (lastDecrease != 0 && now - lastDecrease < smoothedRtt) {
+      return;
+    }
+
+    lastDecrease = now;
+    inFlightLimit = Math.max(1, inFlightLimit * BACKOFF_RATIO);
+    batchSize = (int) Math.max(minBatchSize, batchSize * BACKOFF_RATIO);
+  }
+
+  private static double smooth(final double current, final double sample) {
+    return current + SMOOTHING_FACTOR * (sample - current);
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("adaptive", adaptive)
+        .add("maxInFlight", getMaxInFlight())
+        .add("maxBatchSize", batchSize)
+        .add("smoothedRtt", getSmoothedRtt())
+        .add("minRtt", minRtt)
+        .add("ackThroughput", getAckThroughput())
+        .toString();
+  }
+}
@@ -375,7 +375,8 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
                 new RaftMemberContext(
                     new DefaultRaftMember(memberId, member.getType(), time),
                     this,
-                    raft.getMaxAppendsPerFollower()));
+                    newAppendWindow(),
+                    raft.getMaxInFlightSnapshotChunks()));
 
     // If the member type has changed, update the member type and reset its state.
     if (context.getMember().getType() != member.getType()) {
@@ -395,6 +396,18 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
     }
   }
 
+  private AppendWindow newAppendWindow() {
+    if (raft.isAdaptiveAppendWindowEnabled()) {
+      return AppendWindow.adaptive(
+          raft.getMaxAppendsPerFollower(),
+          raft.getMaxAppendBatchSize(),
+          raft.getMaxAdaptiveAppendsPerFollower(),
+          raft.getMaxAdaptiveAppendBatchSize());
+    }
+
+    return AppendWindow.fixed(raft.getMaxAppendsPerFollower(), raft.getMaxAppendBatchSize());
+  }
+
   /** Commit the current configuration to disk. */
   public void commitCurrentConfiguration() {
     // If the local stored configuration is older than the committed configuration, overwrite it.
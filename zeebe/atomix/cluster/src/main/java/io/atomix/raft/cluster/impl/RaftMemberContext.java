@@ -25,6 +25,9 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -34,13 +37,16 @@ public final class RaftMemberContext {
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
-  private final int maxAppendsPerMember;
+  private final AppendWindow appendWindow;
+  private final int maxInFlightSnapshotChunks;
+  private final Deque<ByteBuffer> inFlightSnapshotChunks = new ArrayDeque<>();
   private boolean open = true;
   private long term;
   private long configIndex;
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private Map<String, Long> reusedSnapshotChunks = Map.of();
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
@@ -48,7 +54,8 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private boolean installPipelined;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +65,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final AppendWindow appendWindow,
+      final int maxInFlightSnapshotChunks) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
-    this.maxAppendsPerMember = maxAppendsPerMember;
+    this.appendWindow = checkNotNull(appendWindow, "appendWindow cannot be null");
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
   }
 
   /** Resets the member state. */
@@ -68,13 +77,17 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    reusedSnapshotChunks = Map.of();
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
     timeStats.clear();
+    appendWindow.reset();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    inFlightSnapshotChunks.clear();
+    installPipelined = false;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -149,12 +162,21 @@ public final class RaftMemberContext {
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
+    final int maxAppends = appendWindow.getMaxInFlight();
     return open
         && (inFlightAppendCount == 0
             || (appendSucceeded
-                && inFlightAppendCount < maxAppendsPerMember
-                && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
-                    >= appendTime));
+                && inFlightAppendCount < maxAppends
+                && System.currentTimeMillis() - (timeStats.getMean() / maxAppends) >= appendTime));
+  }
+
+  /**
+   * Returns the window which limits the appends to the member.
+   *
+   * @return the append window of the member
+   */
+  public AppendWindow getAppendWindow() {
+    return appendWindow;
   }
 
   /**
@@ -226,22 +248,80 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an install request can be sent to the member.
+   * Returns a boolean indicating whether an install request can be sent to the member. Chunks which
+   * are sent exclusively, i.e. the first and the last chunk of a snapshot, are only sent when no
+   * other install request is in flight, and no other chunk is sent until they are acknowledged. All
+   * other chunks are pipelined up to the maximum number of in-flight snapshot chunks.
    *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open
+        && (inFlightInstallCount == 0
+            || (installPipelined && inFlightInstallCount < maxInFlightSnapshotChunks));
+  }
+
+  /**
+   * Returns whether any install request to the member is still in flight.
+   *
+   * @return Indicates whether an install request is in flight.
+   */
+  public boolean isInstalling() {
+    return inFlightInstallCount > 0;
+  }
+
+  /**
+   * Starts an install request to the member.
+   *
+   * @param chunkId the ID of the sent chunk, or null if it is the first chunk of the snapshot
+   * @param exclusive whether no other chunk may be sent until this one is acknowledged
+   */
+  public void startInstall(final ByteBuffer chunkId, final boolean exclusive) {
+    inFlightInstallCount++;
+    if (chunkId != null) {
+      inFlightSnapshotChunks.addLast(chunkId);
+    }
+    if (exclusive) {
+      installPipelined = false;
+    }
+  }
+
+  /**
+   * Completes an install request to the member.
+   *
+   * @param chunkId the ID of the sent chunk, or null if it is the first chunk of the snapshot
+   * @param acknowledged whether the member acknowledged the chunk
+   */
+  public void completeInstall(final ByteBuffer chunkId, final boolean acknowledged) {
+    inFlightInstallCount--;
+
+    // chunks which were not acknowledged are kept until the transfer is rewound or reset, and
+    // acknowledgements of chunks which were sent before that are ignored
+    if (acknowledged && (chunkId == null || inFlightSnapshotChunks.remove(chunkId))) {
+      installPipelined = true;
+    }
   }
 
-  /** Starts an install request to the member. */
-  public void startInstall() {
-    installing = true;
+  /**
+   * Rewinds the snapshot transfer to the oldest chunk which was not acknowledged yet, e.g. after an
+   * install request timed out. The rewound chunk is sent exclusively.
+   *
+   * @return the ID of the oldest chunk which was not acknowledged, or null if it is the first chunk
+   */
+  public ByteBuffer rewindInstall() {
+    final var oldestChunkId = inFlightSnapshotChunks.peekFirst();
+    inFlightSnapshotChunks.clear();
+    installPipelined = false;
+    return oldestChunkId;
   }
 
-  /** Completes an install request to the member. */
-  public void completeInstall() {
-    installing = false;
+  /** Resets the snapshot transfer, such that the next install request starts from scratch. */
+  public void resetInstall() {
+    nextSnapshotIndex = 0;
+    nextSnapshotChunk = null;
+    reusedSnapshotChunks = Map.of();
+    inFlightSnapshotChunks.clear();
+    installPipelined = false;
   }
 
   /**
@@ -276,8 +356,9 @@ public final class RaftMemberContext {
         .add("appending", inFlightAppendCount)
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
+        .add("appendWindow", appendWindow)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -401,23 +482,41 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns the member's next expected snapshot chunk ID.
+   * Returns the ID of the next snapshot chunk to send to the member.
    *
-   * @return The member's next expected chunk ID.
+   * @return The ID of the next chunk, or null if the next chunk is the first one.
    */
   public ByteBuffer getNextSnapshotChunk() {
     return nextSnapshotChunk;
   }
 
   /**
-   * Sets the member's next expected snapshot chunk ID.
+   * Sets the ID of the next snapshot chunk to send to the member.
    *
-   * @param nextSnapshotChunk The member's next expected snapshot chunk ID.
+   * @param nextSnapshotChunk The ID of the next chunk, or null if the next chunk is the first one.
    */
   public void setNextSnapshotChunk(final ByteBuffer nextSnapshotChunk) {
     this.nextSnapshotChunk = nextSnapshotChunk;
   }
 
+  /**
+   * Returns the chunks of the snapshot being sent, which the member reuses from its own snapshot.
+   *
+   * @return The checksums of the reused chunks, keyed by chunk name.
+   */
+  public Map<String, Long> getReusedSnapshotChunks() {
+    return reusedSnapshotChunks;
+  }
+
+  /**
+   * Sets the chunks of the snapshot being sent, which the member reuses from its own snapshot.
+   *
+   * @param reusedSnapshotChunks The checksums of the reused chunks, keyed by chunk name.
+   */
+  public void setReusedSnapshotChunks(final Map<String, Long> reusedSnapshotChunks) {
+    this.reusedSnapshotChunks = reusedSnapshotChunks;
+  }
+
   /**
    * Returns the member response time.
    *
@@ -399,6 +399,22 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public boolean isAdaptiveAppendWindowEnabled() {
+    return partitionConfig.isAdaptiveAppendWindowEnabled();
+  }
+
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return partitionConfig.getMaxAdaptiveAppendsPerFollower();
+  }
+
+  public int getMaxAdaptiveAppendBatchSize() {
+    return partitionConfig.getMaxAdaptiveAppendBatchSize();
+  }
+
+  public int getMaxInFlightSnapshotChunks() {
+    return partitionConfig.getMaxInFlightSnapshotChunks();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
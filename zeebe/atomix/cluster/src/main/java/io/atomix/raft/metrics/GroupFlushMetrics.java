@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Histogram;
+import io.prometheus.client.Histogram.Timer;
+
+/** Metrics of the flushes coordinated across all partitions of a broker. */
+public final class GroupFlushMetrics {
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace(RaftMetrics.NAMESPACE)
+          .name("group_flush_batch_size")
+          .help("Number of journals which were flushed together in a single group flush")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .register();
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(RaftMetrics.NAMESPACE)
+          .name("group_flush_latency")
+          .help("Time it takes to flush a single journal as part of a group flush")
+          .buckets(.0001, .0005, .001, .0025, .005, .01, .025, .05, .1, .25, .5, 1)
+          .register();
+
+  public void observeBatchSize(final int batchSize) {
+    BATCH_SIZE.observe(batchSize);
+  }
+
+  public Timer startFlushTimer() {
+    return FLUSH_LATENCY.startTimer();
+  }
+}
@@ -54,6 +54,20 @@ public class LeaderMetrics extends RaftMetrics {
           .help("The number of non-replicated entries for a given followers")
           .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
+  private static final Gauge APPEND_WINDOW_IN_FLIGHT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_window_in_flight_limit")
+          .help("The maximum number of append requests which may be in flight to a follower")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+  private static final Gauge APPEND_WINDOW_BATCH_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_window_batch_size_bytes")
+          .help("The maximum size of the entries of a single append request to a follower")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
   private static final Counter COMMIT_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -88,6 +102,12 @@ public class LeaderMetrics extends RaftMetrics {
     APPEND_DATA_RATE.labels(memberId, partitionGroupName, partition).inc(appendedBytes / 1024f);
   }
 
+  public void observeAppendWindow(
+      final String memberId, final int maxInFlight, final int maxBatchSize) {
+    APPEND_WINDOW_IN_FLIGHT.labels(memberId, partitionGroupName, partition).set(maxInFlight);
+    APPEND_WINDOW_BATCH_SIZE.labels(memberId, partitionGroupName, partition).set(maxBatchSize);
+  }
+
   public void observeCommit() {
     commitRate.inc();
   }
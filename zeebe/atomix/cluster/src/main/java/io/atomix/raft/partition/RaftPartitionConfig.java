@@ -30,11 +30,18 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER = 16;
+  private static final int DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE = 1024 * 1024;
+  private static final int DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 1;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private boolean adaptiveAppendWindowEnabled;
+  private int maxAdaptiveAppendsPerFollower = DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER;
+  private int maxAdaptiveAppendBatchSize = DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE;
+  private int maxInFlightSnapshotChunks = DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -101,6 +108,61 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public boolean isAdaptiveAppendWindowEnabled() {
+    return adaptiveAppendWindowEnabled;
+  }
+
+  /**
+   * Enables adapting the number of in-flight appends and the batch size per follower to its
+   * observed round trip time. When enabled, {@link #getMaxAppendsPerFollower()} and {@link
+   * #getMaxAppendBatchSize()} are only the initial values of the window.
+   *
+   * @param adaptiveAppendWindowEnabled whether the append window is adaptive
+   */
+  public void setAdaptiveAppendWindowEnabled(final boolean adaptiveAppendWindowEnabled) {
+    this.adaptiveAppendWindowEnabled = adaptiveAppendWindowEnabled;
+  }
+
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return maxAdaptiveAppendsPerFollower;
+  }
+
+  /**
+   * Sets the upper bound of in-flight appends per follower when the append window is adaptive.
+   *
+   * @param maxAdaptiveAppendsPerFollower the maximum number of in-flight appends
+   */
+  public void setMaxAdaptiveAppendsPerFollower(final int maxAdaptiveAppendsPerFollower) {
+    this.maxAdaptiveAppendsPerFollower = maxAdaptiveAppendsPerFollower;
+  }
+
+  public int getMaxAdaptiveAppendBatchSize() {
+    return maxAdaptiveAppendBatchSize;
+  }
+
+  /**
+   * Sets the upper bound of the batch size per append when the append window is adaptive.
+   *
+   * @param maxAdaptiveAppendBatchSize the maximum batch size in bytes
+   */
+  public void setMaxAdaptiveAppendBatchSize(final int maxAdaptiveAppendBatchSize) {
+    this.maxAdaptiveAppendBatchSize = maxAdaptiveAppendBatchSize;
+  }
+
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  /**
+   * Sets how many snapshot chunks a leader may send to a follower without waiting for their
+   * acknowledgement. The first and the last chunk of a snapshot are always sent on their own.
+   *
+   * @param maxInFlightSnapshotChunks the maximum number of in-flight snapshot chunks per follower
+   */
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -211,6 +273,14 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", adaptiveAppendWindowEnabled="
+        + adaptiveAppendWindowEnabled
+        + ", maxAdaptiveAppendsPerFollower="
+        + maxAdaptiveAppendsPerFollower
+        + ", maxAdaptiveAppendBatchSize="
+        + maxAdaptiveAppendBatchSize
+        + ", maxInFlightSnapshotChunks="
+        + maxInFlightSnapshotChunks
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
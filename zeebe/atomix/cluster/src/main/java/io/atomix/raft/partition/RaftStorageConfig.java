@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.record.RecordCompression;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -30,12 +31,17 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+  private static final int DEFAULT_READ_AHEAD_SIZE = 0;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+  private RecordCompression compression = RecordCompression.NONE;
+  private int readAheadSize = DEFAULT_READ_AHEAD_SIZE;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +131,59 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return the number of segments which are created and allocated ahead of time
+   */
+  public int getPreparedSegmentCount() {
+    return preparedSegmentCount;
+  }
+
+  /**
+   * Sets how many segments are created and allocated ahead of time in the background, such that
+   * rolling over to a new segment does not need to create a file on the append path.
+   *
+   * @param preparedSegmentCount the number of segments to prepare ahead of time
+   */
+  public void setPreparedSegmentCount(final int preparedSegmentCount) {
+    this.preparedSegmentCount = preparedSegmentCount;
+  }
+
+  /**
+   * @return the compression applied to the data of newly appended entries
+   */
+  public RecordCompression getCompression() {
+    return compression;
+  }
+
+  /**
+   * Sets the compression applied to the data of newly appended entries. Compressed entries can only
+   * be read by brokers which support compression, so this must only be enabled once all members of
+   * the cluster have been updated.
+   *
+   * @param compression the compression to apply to new entries
+   */
+  public void setCompression(final RecordCompression compression) {
+    this.compression = compression;
+  }
+
+  /**
+   * @return the size of the read-ahead window of log readers, in bytes
+   */
+  public int getReadAheadSize() {
+    return readAheadSize;
+  }
+
+  /**
+   * Sets how many bytes of a segment readers load ahead of the entry they read, which lets the OS
+   * read the log in few large I/O operations, e.g. when replaying or exporting after a restart. If
+   * 0, readers rely on the OS's default read-ahead.
+   *
+   * @param readAheadSize the size of the read-ahead window in bytes
+   */
+  public void setReadAheadSize(final int readAheadSize) {
+    this.readAheadSize = readAheadSize;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +197,12 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", preparedSegmentCount="
+        + preparedSegmentCount
+        + ", compression="
+        + compression
+        + ", readAheadSize="
+        + readAheadSize
         + '}';
   }
 }
@@ -304,6 +304,9 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withPreparedSegmentCount(storageConfig.getPreparedSegmentCount())
+        .withCompression(storageConfig.getCompression())
+        .withReadAheadSize(storageConfig.getReadAheadSize())
         .build();
   }
 
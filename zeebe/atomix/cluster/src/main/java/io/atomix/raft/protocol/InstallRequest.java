@@ -23,6 +23,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -57,6 +59,9 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the checksums of the chunks the follower reuses from its own snapshot, keyed by chunk name;
+  // only set on the last chunk, and null when sent by an older leader
+  private final HashMap<String, Long> reusedChunks;
 
   public InstallRequest(
       final long currentTerm,
@@ -68,7 +73,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final HashMap<String, Long> reusedChunks) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -79,6 +85,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.reusedChunks = reusedChunks;
   }
 
   /**
@@ -169,10 +176,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the chunks which the follower should reuse from its latest snapshot instead of
+   * receiving them, together with their expected checksums.
+   *
+   * @return the checksums of the reused chunks, keyed by chunk name
+   */
+  public Map<String, Long> reusedChunks() {
+    return reusedChunks == null ? Map.of() : reusedChunks;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reusedChunks());
   }
 
   @Override
@@ -193,7 +220,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(reusedChunks(), that.reusedChunks());
   }
 
   @Override
@@ -209,6 +237,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reusedChunks", reusedChunks().size())
         .toString();
   }
 
@@ -230,6 +259,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private HashMap<String, Long> reusedChunks = new HashMap<>();
 
     /**
      * Sets the request current term.
@@ -343,6 +373,17 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the chunks which the follower should reuse from its latest snapshot.
+     *
+     * @param reusedChunks the checksums of the reused chunks, keyed by chunk name
+     * @return the request builder
+     */
+    public Builder withReusedChunks(final Map<String, Long> reusedChunks) {
+      this.reusedChunks = new HashMap<>(checkNotNull(reusedChunks, "reusedChunks cannot be null"));
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -350,7 +391,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          reusedChunks);
     }
 
     @Override
@@ -19,28 +19,48 @@ package io.atomix.raft.protocol;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response to the
+ * first chunk of a snapshot lists the chunks of the follower's latest snapshot, which the leader
+ * can then skip if its snapshot contains the same chunks.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   public static final int DEFAULT_CHUNK_SIZE = Integer.MAX_VALUE;
   protected int preferredChunkSize;
+  // null when sent by an older follower
+  protected HashMap<String, Long> reusableChunks;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashMap<String, Long> reusableChunks) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusableChunks = reusableChunks;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the chunks of the follower's latest snapshot, which it can reuse for the snapshot it is
+   * receiving.
+   *
+   * @return the checksums of the reusable chunks, keyed by chunk name
+   */
+  public Map<String, Long> reusableChunks() {
+    return reusableChunks == null ? Map.of() : reusableChunks;
+  }
+
   /**
    * Returns a new install response builder.
    *
@@ -53,17 +73,23 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize = DEFAULT_CHUNK_SIZE;
+    protected HashMap<String, Long> reusableChunks = new HashMap<>();
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, reusableChunks);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusableChunks(final Map<String, Long> reusableChunks) {
+      this.reusableChunks = new HashMap<>(reusableChunks);
+      return this;
+    }
   }
 }
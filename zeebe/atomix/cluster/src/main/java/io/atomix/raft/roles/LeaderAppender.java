@@ -47,6 +47,7 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NavigableMap;
@@ -64,7 +65,6 @@ final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
 
-  private final int maxBatchSizePerAppend;
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
@@ -85,7 +85,6 @@ final class LeaderAppender {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
-    maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -179,6 +178,7 @@ final class LeaderAppender {
     // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
     // entry will be sent in a batch of size one
     int size = 0;
+    final int maxBatchSize = member.getAppendWindow().getMaxBatchSize();
 
     // Iterate through the log until the last index or the end of the log is reached.
     while (hasMoreEntries(member)) {
@@ -187,7 +187,7 @@ final class LeaderAppender {
       final var replicatableRecord = entry.getReplicatableJournalRecord();
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex || size >= maxBatchSize) {
         break;
       }
     }
@@ -208,6 +208,7 @@ final class LeaderAppender {
     member.startAppend();
 
     final long timestamp = System.currentTimeMillis();
+    final long startTime = System.nanoTime();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -220,6 +221,7 @@ final class LeaderAppender {
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
                 if (!request.entries().isEmpty()) {
                   member.completeAppend(appendLatency);
+                  updateAppendWindow(member, request, response, error, startTime);
                 } else {
                   member.completeAppend();
                 }
@@ -239,6 +241,31 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * Feeds the outcome of an append with entries to the append window of the member. Appends which
+   * were rejected due to a log mismatch are ignored, as they don't tell anything about the
+   * connection to the member.
+   */
+  private void updateAppendWindow(
+      final RaftMemberContext member,
+      final VersionedAppendRequest request,
+      final AppendResponse response,
+      final Throwable error,
+      final long startTime) {
+    final var window = member.getAppendWindow();
+    final long now = System.nanoTime();
+    if (error != null) {
+      window.onAppendFailed(now);
+    } else if (response.status() == RaftResponse.Status.OK && response.succeeded()) {
+      final int size =
+          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum();
+      window.onAppendCompleted(now - startTime, size, now);
+    }
+
+    metrics.observeAppendWindow(
+        member.getMember().memberId().id(), window.getMaxInFlight(), window.getMaxBatchSize());
+  }
+
   /** Succeeds an attempt to contact a member. */
   private void succeedAttempt(final RaftMemberContext member) {
     // Reset the member failure count and time.
@@ -393,8 +420,8 @@ final class LeaderAppender {
             e);
         return Optional.empty();
       }
+      member.resetInstall();
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
-      member.setNextSnapshotChunk(null);
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -414,6 +441,11 @@ final class LeaderAppender {
         return Optional.empty();
       }
       final SnapshotChunk chunk = reader.next();
+      if (!reader.hasNext() && member.isInstalling()) {
+        // the last chunk completes the snapshot on the follower, so it is only sent once all
+        // previous chunks were acknowledged
+        return Optional.empty();
+      }
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -431,6 +463,8 @@ final class LeaderAppender {
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withReusedChunks(
+                  reader.hasNext() ? Collections.emptyMap() : member.getReusedSnapshotChunks())
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -440,16 +474,19 @@ final class LeaderAppender {
           member.getMember().memberId(),
           e);
       // If snapshot was deleted, a new reader should be created with the new snapshot
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunk(null);
+      member.resetInstall();
       return Optional.empty();
     }
   }
 
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
-    // Start the install to the member.
-    member.startInstall();
+    // Start the install to the member. The first and the last chunk are never pipelined, such that
+    // the follower has started receiving the snapshot before, and received all chunks of the
+    // snapshot when, it is persisted.
+    final ByteBuffer chunkId = member.getNextSnapshotChunk();
+    member.startInstall(chunkId, request.isInitial() || request.complete());
+    member.setNextSnapshotChunk(request.nextChunkId());
 
     final long timestamp = System.currentTimeMillis();
 
@@ -460,7 +497,8 @@ final class LeaderAppender {
             (response, error) -> {
               if (open) {
                 // Complete the install to the member.
-                member.completeInstall();
+                member.completeInstall(
+                    chunkId, error == null && response.status() == RaftResponse.Status.OK);
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
@@ -483,9 +521,11 @@ final class LeaderAppender {
         error instanceof TimeoutException
             || (error != null && error.getCause() instanceof TimeoutException);
 
-    if (!isTimeout) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunk(null);
+    if (isTimeout) {
+      // resend the oldest chunk which was not acknowledged yet
+      member.setNextSnapshotChunk(member.rewindInstall());
+    } else {
+      member.resetInstall();
     }
 
     // Log the failed attempt to contact the member.
@@ -504,23 +544,67 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+
+    if (request.isInitial() && !request.complete()) {
+      skipReusableChunks(member, request, response);
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunk(null);
+      member.resetInstall();
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
-      member.setNextSnapshotChunk(request.nextChunkId());
-    }
 
     // Recursively append entries to the member.
     appendEntries(member);
   }
 
+  /**
+   * Skips the chunks of the snapshot which the member already has in its own latest snapshot, e.g.
+   * SST files which did not change between two snapshots. The member reuses them when it receives
+   * the last chunk.
+   */
+  private void skipReusableChunks(
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
+    final var persistedSnapshot = raft.getCurrentSnapshot();
+    if (response.reusableChunks().isEmpty()
+        || persistedSnapshot == null
+        || persistedSnapshot.getIndex() != request.index()
+        || member.getNextSnapshotIndex() != request.index()) {
+      return;
+    }
+
+    final var reusedChunks = new HashMap<String, Long>();
+    try {
+      persistedSnapshot
+          .getFileChecksums()
+          .forEach(
+              (chunkName, checksum) -> {
+                if (checksum.equals(response.reusableChunks().get(chunkName))) {
+                  reusedChunks.put(chunkName, checksum);
+                }
+              });
+    } catch (final UncheckedIOException e) {
+      log.warn(
+          "Failed to read the checksums of snapshot {}, will send all chunks to {}",
+          persistedSnapshot.getId(),
+          member.getMember().memberId(),
+          e);
+      return;
+    }
+
+    log.debug(
+        "Skipping {} chunks of snapshot {} which {} already has",
+        reusedChunks.size(),
+        persistedSnapshot.getId(),
+        member.getMember().memberId());
+    member.getSnapshotChunkReader().exclude(reusedChunks.keySet());
+    member.setReusedSnapshotChunks(reusedChunks);
+  }
+
   /** Handles an ERROR install response. */
   @SuppressWarnings("unused")
   private void handleInstallResponseError(
@@ -533,8 +617,7 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
-    member.setNextSnapshotIndex(0);
-    member.setNextSnapshotChunk(null);
+    member.resetInstall();
   }
 
   /**
@@ -907,8 +990,13 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    while (member.canInstall()) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        break;
+      }
+      sendInstallRequest(member, installRequest.get());
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
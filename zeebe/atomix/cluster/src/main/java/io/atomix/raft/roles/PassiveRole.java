@@ -53,9 +53,11 @@ import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -226,6 +228,9 @@ public class PassiveRole extends InactiveRole {
     }
 
     try {
+      if (!request.reusedChunks().isEmpty()) {
+        pendingSnapshot.reuse(request.reusedChunks()).join();
+      }
       pendingSnapshot.apply(snapshotChunk).join();
     } catch (final Exception e) {
       log.warn(
@@ -279,8 +284,29 @@ public class PassiveRole extends InactiveRole {
       setNextExpected(request.nextChunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    final var response = InstallResponse.builder().withStatus(RaftResponse.Status.OK);
+    if (request.isInitial() && !request.complete()) {
+      // lets the leader skip the chunks we already have
+      response.withReusableChunks(getReusableSnapshotChunks());
+    }
+    return CompletableFuture.completedFuture(logResponse(response.build()));
+  }
+
+  private Map<String, Long> getReusableSnapshotChunks() {
+    final var currentSnapshot = raft.getCurrentSnapshot();
+    if (currentSnapshot == null) {
+      return Map.of();
+    }
+
+    try {
+      return currentSnapshot.getFileChecksums();
+    } catch (final UncheckedIOException e) {
+      log.debug(
+          "Failed to read the checksums of snapshot {}, will receive all chunks",
+          currentSnapshot.getId(),
+          e);
+      return Map.of();
+    }
   }
 
   @Override
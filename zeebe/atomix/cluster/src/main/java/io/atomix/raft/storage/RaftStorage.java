@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import io.camunda.zeebe.util.FileUtil;
@@ -63,6 +64,9 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final int preparedSegmentCount;
+  private final RecordCompression compression;
+  private final int readAheadSize;
   private final RaftLogFlusher.Factory flusherFactory;
 
   private RaftStorage(
@@ -74,7 +78,10 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
-      final boolean preallocateSegmentFiles) {
+      final boolean preallocateSegmentFiles,
+      final int preparedSegmentCount,
+      final RecordCompression compression,
+      final int readAheadSize) {
     this.prefix = prefix;
     this.partitionId = partitionId;
     this.directory = directory;
@@ -84,6 +91,9 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.preparedSegmentCount = preparedSegmentCount;
+    this.compression = compression;
+    this.readAheadSize = readAheadSize;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -192,6 +202,9 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withPreparedSegmentCount(preparedSegmentCount)
+        .withCompression(compression)
+        .withReadAheadSize(readAheadSize)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -248,6 +261,8 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+    private static final int DEFAULT_READ_AHEAD_SIZE = 0;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -260,6 +275,9 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+    private RecordCompression compression = RecordCompression.NONE;
+    private int readAheadSize = DEFAULT_READ_AHEAD_SIZE;
     private int partitionId = DEFAULT_PARTITION_ID;
 
     private Builder() {}
@@ -364,6 +382,44 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets how many segments are created and allocated ahead of time in the background, such that
+     * rolling over to a new segment does not need to create a file on the append path.
+     *
+     * @param preparedSegmentCount the number of segments to prepare ahead of time
+     * @return this builder for chaining
+     */
+    public Builder withPreparedSegmentCount(final int preparedSegmentCount) {
+      this.preparedSegmentCount = preparedSegmentCount;
+      return this;
+    }
+
+    /**
+     * Sets the compression applied to the data of newly appended entries. Compressed entries can
+     * only be read by brokers which support compression, so this must only be enabled once all
+     * members of the cluster have been updated.
+     *
+     * @param compression the compression to apply to new entries
+     * @return this builder for chaining
+     */
+    public Builder withCompression(final RecordCompression compression) {
+      this.compression = compression;
+      return this;
+    }
+
+    /**
+     * Sets how many bytes of a segment readers load ahead of the entry they read, which lets the OS
+     * read the log in few large I/O operations, e.g. when replaying or exporting after a restart.
+     * If 0, readers rely on the OS's default read-ahead.
+     *
+     * @param readAheadSize the size of the read-ahead window in bytes
+     * @return this builder for chaining
+     */
+    public Builder withReadAheadSize(final int readAheadSize) {
+      this.readAheadSize = readAheadSize;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -391,7 +447,10 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
-          preallocateSegmentFiles);
+          preallocateSegmentFiles,
+          preparedSegmentCount,
+          compression,
+          readAheadSize);
     }
   }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.GroupFlushMetrics;
+import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RaftLogFlusher.Factory} which coordinates the flushes of all journals it created
+ * flushers for, e.g. all partitions of a broker. Instead of every partition flushing its journal
+ * independently, which leads to many concurrent flushes contending for the same disk, flush
+ * requests are collected by a single flush thread and flushed in batches.
+ *
+ * <p>The flush thread takes all pending requests, waits up to the configured window for more
+ * requests to arrive, and then issues the flushes of the batch concurrently, such that the device
+ * can serve them together instead of one sync after the other. The window ends early once every
+ * flusher has a pending request. Requests which arrive while a batch is being flushed are part of
+ * the next batch, so even with a window of zero, flushes are grouped under load.
+ *
+ * <p>The created flushers are direct: a call to {@link RaftLogFlusher#flush(Journal)} blocks until
+ * the batch containing the request was flushed, and thus offer the same guarantees as {@link
+ * RaftLogFlusher.DirectFlusher}.
+ *
+ * <p>The flush thread and the threads issuing the flushes are started when the first flusher is
+ * created, and stopped once all created flushers are closed.
+ */
+public final class GroupFlusher implements RaftLogFlusher.Factory {
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupFlusher.class);
+  private static final Duration IDLE_POLL_INTERVAL = Duration.ofMillis(100);
+
+  private final BlockingQueue<FlushRequest> requests = new LinkedBlockingQueue<>();
+  private final GroupFlushMetrics metrics = new GroupFlushMetrics();
+  private final Duration window;
+
+  private final Object lifecycleMonitor = new Object();
+  private volatile int openFlushers;
+  private volatile Thread flushThread;
+  private ExecutorService flushExecutor;
+
+  /**
+   * @param window how long to wait for further requests after the first request of a batch
+   */
+  public GroupFlusher(final Duration window) {
+    this.window = Objects.requireNonNull(window, "must specify a flush window");
+    if (window.isNegative()) {
+      throw new IllegalArgumentException(
+          "Expected flush window to be non-negative, but was %s".formatted(window));
+    }
+  }
+
+  @Override
+  public RaftLogFlusher createFlusher(final ThreadContextFactory ignoredThreadFactory) {
+    synchronized (lifecycleMonitor) {
+      if (openFlushers++ == 0) {
+        // the flushes block on I/O, so each one is issued by its own platform thread; there are at
+        // most as many as there are flushers
+        final var executor =
+            Executors.newCachedThreadPool(
+                Thread.ofPlatform().name("raft-group-flusher-io-", 0).daemon().factory());
+        flushExecutor = executor;
+        flushThread =
+            Thread.ofPlatform().name("raft-group-flusher").daemon().start(() -> run(executor));
+      }
+    }
+
+    return new MemberFlusher();
+  }
+
+  private void onFlusherClosed() {
+    synchronized (lifecycleMonitor) {
+      if (--openFlushers > 0) {
+        return;
+      }
+
+      // the thread is not interrupted, as interrupting a flush may close the underlying channel
+      final var stoppedThread = flushThread;
+      flushThread = null;
+      try {
+        stoppedThread.join();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        flushExecutor.shutdown();
+        flushExecutor = null;
+      }
+    }
+  }
+
+  private CompletableFuture<Void> submit(final Journal journal) {
+    final var request = new FlushRequest(journal, new CompletableFuture<>());
+    synchronized (lifecycleMonitor) {
+      if (flushThread == null) {
+        return CompletableFuture.failedFuture(
+            new IllegalStateException("Expected to flush journal, but group flusher is stopped"));
+      }
+      requests.add(request);
+    }
+    return request.future();
+  }
+
+  private void run(final ExecutorService executor) {
+    final List<FlushRequest> batch = new ArrayList<>();
+    try {
+      while (flushThread == Thread.currentThread()) {
+        collectBatch(batch);
+        if (!batch.isEmpty()) {
+          flushBatch(executor, batch);
+          batch.clear();
+        }
+      }
+    } catch (final InterruptedException e) {
+      LOGGER.debug("Group flusher was interrupted, stopping");
+      Thread.currentThread().interrupt();
+    } finally {
+      final var stopped = new IllegalStateException("Group flusher was stopped");
+      batch.forEach(request -> request.future().completeExceptionally(stopped));
+      requests.forEach(request -> request.future().completeExceptionally(stopped));
+      requests.clear();
+    }
+  }
+
+  private void collectBatch(final List<FlushRequest> batch) throws InterruptedException {
+    final var first = requests.poll(IDLE_POLL_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+    if (first == null) {
+      return;
+    }
+
+    batch.add(first);
+    final long deadline = System.nanoTime() + window.toNanos();
+    while (true) {
+      requests.drainTo(batch);
+      final long remaining = deadline - System.nanoTime();
+      // every flusher blocks until its request is flushed, so there can't be more requests
+      if (batch.size() >= openFlushers || remaining <= 0) {
+        return;
+      }
+
+      final var next = requests.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  private void flushBatch(final ExecutorService executor, final List<FlushRequest> batch) {
+    metrics.observeBatchSize(batch.size());
+    final var flushes = new CompletableFuture<?>[batch.size()];
+    for (int i = 1; i < batch.size(); i++) {
+      final var request = batch.get(i);
+      flushes[i] = CompletableFuture.runAsync(() -> flush(request), executor);
+    }
+
+    // the flush thread issues one of the flushes itself instead of idling until all are done
+    flush(batch.getFirst());
+    flushes[0] = batch.getFirst().future();
+
+    // wait for the whole batch, so that the requests arriving meanwhile form the next batch
+    CompletableFuture.allOf(flushes).exceptionally(error -> null).join();
+  }
+
+  private void flush(final FlushRequest request) {
+    try (final var ignored = metrics.startFlushTimer()) {
+      request.journal().flush();
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to flush journal {}", request.journal(), e);
+      request.future().completeExceptionally(e);
+      return;
+    }
+    request.future().complete(null);
+  }
+
+  @Override
+  public String toString() {
+    return "GroupFlusher{" + "window=" + window + ", openFlushers=" + openFlushers + '}';
+  }
+
+  private record FlushRequest(Journal journal, CompletableFuture<Void> future) {}
+
+  private final class MemberFlusher implements RaftLogFlusher {
+    private boolean closed;
+
+    @Override
+    public void flush(final Journal journal) {
+      try {
+        submit(journal).get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JournalException(e);
+      } catch (final ExecutionException e) {
+        if (e.getCause() instanceof final RuntimeException cause) {
+          throw cause;
+        }
+        throw new JournalException(e.getCause());
+      }
+    }
+
+    @Override
+    public boolean isDirect() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        onFlusherClosed();
+      }
+    }
+  }
+}
@@ -21,6 +21,7 @@ import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.io.File;
 
 public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
@@ -126,6 +127,44 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets how many segments are created and allocated ahead of time in the background, such that
+   * rolling over to a new segment does not need to create a file on the append path.
+   *
+   * @param preparedSegmentCount the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPreparedSegmentCount(final int preparedSegmentCount) {
+    journalBuilder.withPreparedSegmentCount(preparedSegmentCount);
+    return this;
+  }
+
+  /**
+   * Sets the compression applied to the data of newly appended entries. Compressed entries can only
+   * be read by brokers which support compression, so this must only be enabled once all members of
+   * the cluster have been updated.
+   *
+   * @param compression the compression to apply to new entries
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withCompression(final RecordCompression compression) {
+    journalBuilder.withCompression(compression);
+    return this;
+  }
+
+  /**
+   * Sets how many bytes of a segment readers load ahead of the entry they read, which lets the OS
+   * read the log in few large I/O operations, e.g. when replaying or exporting after a restart. If
+   * 0, readers rely on the OS's default read-ahead.
+   *
+   * @param readAheadSize the size of the read-ahead window in bytes
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withReadAheadSize(final int readAheadSize) {
+    journalBuilder.withReadAheadSize(readAheadSize);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -27,6 +27,10 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupFlusher} offers the same guarantees as {@link DirectFlusher}, but groups the
+ * flushes of all journals it was created for, e.g. all partitions of a broker, into batches which
+ * are flushed by a single thread. You should pick this when many partitions share the same disk.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.MessagePayload;
+import io.atomix.cluster.messaging.impl.ProtocolReply.Status;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.ThreadLocalRandom;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class MessageDecoderV2Test {
+  private static final Address ADDRESS = Address.from("localhost", 26502);
+
+  private final EmbeddedChannel encoder = new EmbeddedChannel(new MessageEncoderV2(ADDRESS));
+  private final EmbeddedChannel decoder = new EmbeddedChannel(new MessageDecoderV2());
+
+  @AfterEach
+  void afterEach() {
+    encoder.finishAndReleaseAll();
+    decoder.finishAndReleaseAll();
+  }
+
+  @Test
+  void shouldDecodeEncodedMessages() {
+    // given
+    final var payload = randomPayload(1024);
+    final var request = new ProtocolRequest(1, ADDRESS, "subject", payload);
+    final var reply = new ProtocolReply(1, new byte[0], Status.OK);
+
+    // when
+    decoder.writeInbound(encode(request), encode(reply));
+
+    // then
+    final ProtocolRequest decodedRequest = decoder.readInbound();
+    assertThat(decodedRequest.id()).isEqualTo(1);
+    assertThat(decodedRequest.subject()).isEqualTo("subject");
+    assertThat(decodedRequest.sender()).isEqualTo(ADDRESS);
+    assertThat(decodedRequest.payload().toByteArray()).isEqualTo(payload);
+    decodedRequest.payload().release();
+    final ProtocolReply decodedReply = decoder.readInbound();
+    assertThat(decodedReply.status()).isEqualTo(Status.OK);
+    assertThat(decodedReply.payload().toByteArray()).isEmpty();
+  }
+
+  @Test
+  void shouldDecodeContentReceivedInFragments() {
+    // given
+    final var payload = randomPayload(64 * 1024);
+    final var encoded = encode(new ProtocolRequest(1, ADDRESS, "subject", payload));
+
+    // when
+    while (encoded.isReadable()) {
+      decoder.writeInbound(encoded.readRetainedSlice(Math.min(1000, encoded.readableBytes())));
+    }
+    encoded.release();
+
+    // then
+    final ProtocolRequest decodedRequest = decoder.readInbound();
+    assertThat(decodedRequest.subject()).isEqualTo("subject");
+    assertThat(decodedRequest.payload().toByteArray()).isEqualTo(payload);
+    decodedRequest.payload().release();
+  }
+
+  @Test
+  void shouldDecodePayloadWithoutCopyingIt() {
+    // given
+    final var encoded = encode(new ProtocolRequest(1, ADDRESS, "subject", randomPayload(1024)));
+
+    // when
+    decoder.writeInbound(encoded.retain());
+
+    // then - the payload is a view of the received buffer, which is retained until it's released
+    final ProtocolRequest decodedRequest = decoder.readInbound();
+    try {
+      assertThat(encoded.refCnt()).isEqualTo(2);
+      decodedRequest.payload().release();
+      assertThat(encoded.refCnt()).isEqualTo(1);
+    } finally {
+      encoded.release();
+    }
+  }
+
+  @Test
+  void shouldEncodeWrittenPayload() {
+    // given
+    final var payload = randomPayload(1024);
+    final var writer = new DirectBufferWriter().wrap(new UnsafeBuffer(payload));
+
+    // when
+    decoder.writeInbound(
+        encode(new ProtocolRequest(1, ADDRESS, "subject", MessagePayload.of(writer))));
+
+    // then
+    final ProtocolRequest decodedRequest = decoder.readInbound();
+    assertThat(decodedRequest.payload().toByteArray()).isEqualTo(payload);
+    decodedRequest.payload().release();
+  }
+
+  @Test
+  void shouldAllocateEncodedMessageOnce() {
+    // given
+    final var payload = randomPayload(1024 * 1024);
+
+    // when
+    final var encoded = encode(new ProtocolRequest(1, ADDRESS, "subject", payload));
+
+    // then
+    try {
+      assertThat(encoded.readableBytes()).isGreaterThan(payload.length);
+      assertThat(encoded.capacity()).isLessThan(payload.length + 128);
+    } finally {
+      encoded.release();
+    }
+  }
+
+  private ByteBuf encode(final ProtocolMessage message) {
+    encoder.writeOutbound(message);
+    return encoder.readOutbound();
+  }
+
+  private static byte[] randomPayload(final int length) {
+    final var payload = new byte[length];
+    ThreadLocalRandom.current().nextBytes(payload);
+    return payload;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.ManagedMessagingService;
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.Transport;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class NettyMessagingServiceTransportTest {
+
+  @ParameterizedTest
+  @EnumSource(Transport.class)
+  void shouldSendAndReceiveMessagesWithTransport(final Transport transport) {
+    // given
+    var nextAddress = SocketUtil.getNextAddress();
+    final var senderAddress = Address.from(nextAddress.getHostName(), nextAddress.getPort());
+    final var config =
+        new MessagingConfig().setShutdownQuietPeriod(Duration.ofMillis(50)).setTransport(transport);
+
+    final var senderNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", senderAddress, config).start().join();
+
+    nextAddress = SocketUtil.getNextAddress();
+    final var receiverAddress = Address.from(nextAddress.getHostName(), nextAddress.getPort());
+    final var receiverNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", receiverAddress, config).start().join();
+
+    final String subject = "subject";
+    final String requestString = "message";
+    final String responseString = "success";
+    receiverNetty.registerHandler(
+        subject,
+        (m, payload) -> {
+          final String message = new String(payload);
+          assertThat(message).isEqualTo(requestString);
+          return CompletableFuture.completedFuture(responseString.getBytes());
+        });
+
+    // when
+    final CompletableFuture<byte[]> response =
+        senderNetty.sendAndReceive(receiverAddress, subject, requestString.getBytes());
+
+    // then
+    final var result = response.join();
+    assertThat(new String(result)).isEqualTo(responseString);
+
+    // teardown
+    senderNetty.stop();
+    receiverNetty.stop();
+  }
+}
@@ -17,7 +17,13 @@ package io.atomix.raft;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.atomix.cluster.MemberId;
 import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.awaitility.Awaitility;
 import org.junit.Rule;
@@ -36,7 +42,8 @@ public class RaftReplicationTest {
     return new Object[][] {
       new Object[] {RaftRule.withBootstrappedNodes(3)},
       new Object[] {RaftRule.withBootstrappedNodes(4)},
-      new Object[] {RaftRule.withBootstrappedNodes(5)}
+      new Object[] {RaftRule.withBootstrappedNodes(5)},
+      new Object[] {RaftRule.withBootstrappedNodes(3, new PipelinedSnapshotReplication())}
     };
   }
 
@@ -86,6 +93,56 @@ public class RaftReplicationTest {
         .isEqualTo(200);
   }
 
+  @Test
+  public void shouldReplicateSnapshotWithManyChunks() throws Exception {
+    // given
+    final var leader = raftRule.getLeader().orElseThrow();
+    final var follower = raftRule.getFollower().orElseThrow();
+
+    raftRule.appendEntries(50);
+
+    // when
+    raftRule.partition(follower);
+    final var lastCommitIndex = raftRule.appendEntries(200);
+    raftRule.takeCompactingSnapshot(leader, 200, 20);
+    raftRule.reconnect(follower);
+
+    // then - follower received all chunks of the snapshot
+    raftRule.awaitSameLogSizeOnAllNodes(lastCommitIndex);
+    assertThat(follower.getContext().getPersistedSnapshotStore().getCurrentSnapshotIndex())
+        .isEqualTo(200);
+  }
+
+  @Test
+  public void shouldOnlyReplicateSnapshotChunksMissingOnFollower() throws Exception {
+    // given - the follower has an older snapshot, which shares most chunks with the new one
+    final var leader = raftRule.getLeader().orElseThrow();
+    final var follower = raftRule.getFollower().orElseThrow();
+    final var sentChunks = ConcurrentHashMap.<String>newKeySet();
+    ((TestRaftServerProtocol) leader.getContext().getProtocol())
+        .interceptRequest(
+            InstallRequest.class,
+            (Consumer<InstallRequest>)
+                request ->
+                    sentChunks.add(
+                        StandardCharsets.UTF_8.decode(request.chunkId().duplicate()).toString()));
+
+    final var followerSnapshotIndex = raftRule.appendEntries(50);
+    raftRule.takeSnapshot(follower, followerSnapshotIndex, 10);
+
+    // when
+    raftRule.partition(follower);
+    final var lastCommitIndex = raftRule.appendEntries(200);
+    raftRule.takeCompactingSnapshot(leader, 200, 10);
+    raftRule.reconnect(follower);
+
+    // then - only the first and the last chunk were sent, the others were reused
+    raftRule.awaitSameLogSizeOnAllNodes(lastCommitIndex);
+    assertThat(follower.getContext().getPersistedSnapshotStore().getCurrentSnapshotIndex())
+        .isEqualTo(200);
+    assertThat(sentChunks).containsExactlyInAnyOrder("chunk-0", "chunk-9");
+  }
+
   @Test
   public void shouldReplicateSnapshotIfMemberLagAboveThreshold() throws Exception {
     // given
@@ -161,4 +218,16 @@ public class RaftReplicationTest {
                         .size()
                     == 1);
   }
+
+  private static final class PipelinedSnapshotReplication implements RaftRule.Configurator {
+    @Override
+    public void configure(final MemberId id, final RaftServer.Builder builder) {
+      builder.partitionConfig.setMaxInFlightSnapshotChunks(4);
+    }
+
+    @Override
+    public String toString() {
+      return "PipelinedSnapshotReplication";
+    }
+  }
 }
@@ -425,7 +425,9 @@ public class RaftTest extends ConcurrentTestCase {
     appendEntry(leader);
 
     final Optional<File> optLog =
-        Arrays.stream(directory.listFiles()).filter(f -> f.getName().endsWith(".log")).findFirst();
+        Arrays.stream(directory.listFiles())
+            .filter(f -> f.getName().endsWith("-1.log"))
+            .findFirst();
     assertThat(optLog).isPresent();
     final File log = optLog.get();
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+final class AppendWindowTest {
+
+  private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final int BATCH_SIZE = 32 * 1024;
+
+  private long now = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  void shouldNotAdaptFixedWindow() {
+    // given
+    final var window = AppendWindow.fixed(2, BATCH_SIZE);
+
+    // when
+    acknowledge(window, 100, RTT, BATCH_SIZE);
+    window.onAppendFailed(now);
+
+    // then
+    assertThat(window.getMaxInFlight()).isEqualTo(2);
+    assertThat(window.getMaxBatchSize()).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldGrowWindowWhileRttIsStable() {
+    // given
+    final var window = AppendWindow.adaptive(2, BATCH_SIZE, 16, 1024 * 1024);
+
+    // when
+    acknowledge(window, 1000, RTT, Integer.MAX_VALUE);
+
+    // then
+    assertThat(window.getMaxInFlight()).isEqualTo(16);
+    assertThat(window.getMaxBatchSize()).isEqualTo(1024 * 1024);
+    assertThat(window.getSmoothedRtt()).isEqualTo(RTT);
+    assertThat(window.getAckThroughput()).isPositive();
+  }
+
+  @Test
+  void shouldNotGrowBatchSizeIfBatchesAreNotFull() {
+    // given
+    final var window = AppendWindow.adaptive(2, BATCH_SIZE, 16, 1024 * 1024);
+
+    // when
+    acknowledge(window, 100, RTT, BATCH_SIZE / 2);
+
+    // then
+    assertThat(window.getMaxInFlight()).isGreaterThan(2);
+    assertThat(window.getMaxBatchSize()).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldShrinkWindowWhenRttInflates() {
+    // given
+    final var window = AppendWindow.adaptive(8, BATCH_SIZE, 16, 1024 * 1024);
+    acknowledge(window, 1, RTT, 0);
+
+    // when
+    acknowledge(window, 1, RTT * 3, 0);
+
+    // then
+    assertThat(window.getMaxInFlight()).isEqualTo(6);
+    assertThat(window.getMaxBatchSize()).isEqualTo(BATCH_SIZE * 3 / 4);
+  }
+
+  @Test
+  void shouldShrinkWindowAtMostOncePerRtt() {
+    // given
+    final var window = AppendWindow.adaptive(8, BATCH_SIZE, 16, 1024 * 1024);
+    acknowledge(window, 1, RTT, 0);
+
+    // when
+    window.onAppendFailed(now);
+    window.onAppendFailed(now + 1);
+    window.onAppendFailed(now + 2);
+
+    // then
+    assertThat(window.getMaxInFlight()).isEqualTo(6);
+  }
+
+  @Test
+  void shouldNotShrinkWindowBelowMinimum() {
+    // given
+    final var window = AppendWindow.adaptive(2, BATCH_SIZE, 16, 1024 * 1024);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      now += RTT;
+      window.onAppendFailed(now);
+    }
+
+    // then
+    assertThat(window.getMaxInFlight()).isOne();
+    assertThat(window.getMaxBatchSize()).isEqualTo(4 * 1024);
+  }
+
+  @Test
+  void shouldResetToInitialWindow() {
+    // given
+    final var window = AppendWindow.adaptive(2, BATCH_SIZE, 16, 1024 * 1024);
+    acknowledge(window, 1000, RTT, Integer.MAX_VALUE);
+
+    // when
+    window.reset();
+
+    // then
+    assertThat(window.getMaxInFlight()).isEqualTo(2);
+    assertThat(window.getMaxBatchSize()).isEqualTo(BATCH_SIZE);
+    assertThat(window.getSmoothedRtt()).isZero();
+  }
+
+  private void acknowledge(
+      final AppendWindow window, final int count, final long rtt, final int bytes) {
+    for (int i = 0; i < count; i++) {
+      now += rtt;
+      window.onAppendCompleted(rtt, bytes, now);
+    }
+  }
+}
@@ -28,9 +28,11 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.zip.CRC32C;
@@ -97,17 +99,18 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
   @Override
   public SnapshotChunkReader newChunkReader() {
     return new SnapshotChunkReader() {
-      private NavigableMap<String, String> iterator = chunks;
+      private final NavigableMap<String, String> readableChunks = new TreeMap<>(chunks);
+      private NavigableMap<String, String> iterator = readableChunks;
 
       @Override
       public void reset() {
-        iterator = chunks;
+        iterator = readableChunks;
       }
 
       @Override
       public void seek(final ByteBuffer id) {
         final var chunkId = BufferUtil.bufferAsString(new UnsafeBuffer(id));
-        iterator = chunks.tailMap(chunkId, true);
+        iterator = readableChunks.tailMap(chunkId, true);
       }
 
       @Override
@@ -121,6 +124,19 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public void setMaximumChunkSize(final int maximumChunkSize) {}
 
+      @Override
+      public void exclude(final Set<String> chunkNames) {
+        if (readableChunks.isEmpty()) {
+          return;
+        }
+
+        final var firstChunk = readableChunks.firstKey();
+        final var lastChunk = readableChunks.lastKey();
+        chunkNames.stream()
+            .filter(chunkName -> !chunkName.equals(firstChunk) && !chunkName.equals(lastChunk))
+            .forEach(readableChunks::remove);
+      }
+
       @Override
       public void close() {
         iterator = null;
@@ -134,7 +150,7 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public SnapshotChunk next() {
         final var nextEntry = iterator.firstEntry();
-        iterator = chunks.tailMap(nextEntry.getKey(), false);
+        iterator = readableChunks.tailMap(nextEntry.getKey(), false);
         return new TestSnapshotChunkImpl(
             id, nextEntry.getKey(), StringUtil.getBytes(nextEntry.getValue()), chunks.size());
       }
@@ -166,6 +182,18 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return checksum;
   }
 
+  @Override
+  public SortedMap<String, Long> getFileChecksums() {
+    final var checksums = new TreeMap<String, Long>();
+    chunks.forEach(
+        (chunkName, content) -> {
+          final var chunkChecksum = new CRC32C();
+          chunkChecksum.update(StringUtil.getBytes(content));
+          checksums.put(chunkName, chunkChecksum.getValue());
+        });
+    return checksums;
+  }
+
   @Override
   public SnapshotMetadata getMetadata() {
     return null;
@@ -201,6 +229,25 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Void> reuse(final Map<String, Long> chunkChecksums) {
+    final var latestSnapshot = testSnapshotStore.currentPersistedSnapshot.get();
+    if (latestSnapshot == null) {
+      return CompletableActorFuture.completedExceptionally(
+          new IllegalStateException("Expected to reuse chunks, but there is no snapshot"));
+    }
+
+    final var availableChecksums = latestSnapshot.getFileChecksums();
+    for (final var chunk : chunkChecksums.entrySet()) {
+      if (!chunk.getValue().equals(availableChecksums.get(chunk.getKey()))) {
+        return CompletableActorFuture.completedExceptionally(
+            new IllegalStateException("Expected to reuse chunk " + chunk.getKey()));
+      }
+      chunks.put(chunk.getKey(), latestSnapshot.chunks.get(chunk.getKey()));
+    }
+    return CompletableActorFuture.completed(null);
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
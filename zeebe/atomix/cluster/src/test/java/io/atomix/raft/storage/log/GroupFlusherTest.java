@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupFlusherTest {
+  private RaftLogFlusher firstFlusher;
+  private RaftLogFlusher secondFlusher;
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietCloseAll(firstFlusher, secondFlusher);
+  }
+
+  @Test
+  void shouldFlushBeforeReturning() {
+    // given
+    final var groupFlusher = new GroupFlusher(Duration.ZERO);
+    firstFlusher = groupFlusher.createFlusher(null);
+    final var journal = Mockito.mock(Journal.class);
+
+    // when
+    firstFlusher.flush(journal);
+
+    // then
+    assertThat(firstFlusher.isDirect()).isTrue();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldFlushTogetherOnceAllFlushersRequested() {
+    // given -- a window much longer than the test timeout
+    final var groupFlusher = new GroupFlusher(Duration.ofMinutes(5));
+    firstFlusher = groupFlusher.createFlusher(null);
+    secondFlusher = groupFlusher.createFlusher(null);
+    final var firstJournal = Mockito.mock(Journal.class);
+    final var secondJournal = Mockito.mock(Journal.class);
+
+    // when
+    final var firstFlush = CompletableFuture.runAsync(() -> firstFlusher.flush(firstJournal));
+    final var secondFlush = CompletableFuture.runAsync(() -> secondFlusher.flush(secondJournal));
+
+    // then
+    assertThat(CompletableFuture.allOf(firstFlush, secondFlush))
+        .succeedsWithin(Duration.ofSeconds(10));
+    Mockito.verify(firstJournal, Mockito.times(1)).flush();
+    Mockito.verify(secondJournal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldIssueFlushesOfBatchConcurrently() {
+    // given -- each flush only completes once both flushes were issued
+    final var groupFlusher = new GroupFlusher(Duration.ofMinutes(5));
+    firstFlusher = groupFlusher.createFlusher(null);
+    secondFlusher = groupFlusher.createFlusher(null);
+    final var issuedFlushes = new CountDownLatch(2);
+    final var firstJournal = Mockito.mock(Journal.class);
+    final var secondJournal = Mockito.mock(Journal.class);
+    Mockito.doAnswer(invocation -> awaitFlushes(issuedFlushes)).when(firstJournal).flush();
+    Mockito.doAnswer(invocation -> awaitFlushes(issuedFlushes)).when(secondJournal).flush();
+
+    // when
+    final var firstFlush = CompletableFuture.runAsync(() -> firstFlusher.flush(firstJournal));
+    final var secondFlush = CompletableFuture.runAsync(() -> secondFlusher.flush(secondJournal));
+
+    // then
+    assertThat(CompletableFuture.allOf(firstFlush, secondFlush))
+        .succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void shouldOnlyFailFlushOfFailingJournal() {
+    // given
+    final var groupFlusher = new GroupFlusher(Duration.ofMinutes(5));
+    firstFlusher = groupFlusher.createFlusher(null);
+    secondFlusher = groupFlusher.createFlusher(null);
+    final var failingJournal = Mockito.mock(Journal.class);
+    final var journal = Mockito.mock(Journal.class);
+    Mockito.doThrow(new JournalException("expected")).when(failingJournal).flush();
+
+    // when
+    final var failingFlush = CompletableFuture.runAsync(() -> firstFlusher.flush(failingJournal));
+    final var flush = CompletableFuture.runAsync(() -> secondFlusher.flush(journal));
+
+    // then
+    assertThat(flush).succeedsWithin(Duration.ofSeconds(10));
+    assertThat(failingFlush)
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Exception.class)
+        .withRootCauseInstanceOf(JournalException.class);
+  }
+
+  @Test
+  void shouldRejectFlushOnceAllFlushersAreClosed() {
+    // given
+    final var groupFlusher = new GroupFlusher(Duration.ZERO);
+    final var flusher = groupFlusher.createFlusher(null);
+    flusher.close();
+
+    // when - then
+    assertThatThrownBy(() -> flusher.flush(Mockito.mock(Journal.class)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static Void awaitFlushes(final CountDownLatch issuedFlushes) throws InterruptedException {
+    issuedFlushes.countDown();
+    if (!issuedFlushes.await(5, TimeUnit.SECONDS)) {
+      throw new JournalException("Expected flushes to be issued concurrently");
+    }
+    return null;
+  }
+}
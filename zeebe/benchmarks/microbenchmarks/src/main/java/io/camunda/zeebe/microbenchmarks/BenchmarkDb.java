@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+
+/**
+ * A RocksDB backed {@link ZeebeDb} in a temporary directory, configured like the broker's default
+ * configuration, i.e. without consistency checks or access metrics. The directory is deleted again
+ * on close.
+ */
+public final class BenchmarkDb<ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+    implements AutoCloseable {
+
+  /** The amount of writes per transaction when loading the initial state. */
+  private static final int LOAD_BATCH_SIZE = 10_000;
+
+  private final Path directory;
+  private final ZeebeDb<ColumnFamilyNames> db;
+
+  private BenchmarkDb(final Path directory, final ZeebeDb<ColumnFamilyNames> db) {
+    this.directory = directory;
+    this.db = db;
+  }
+
+  public static <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+      BenchmarkDb<ColumnFamilyNames> open() throws IOException {
+    final var directory = Files.createTempDirectory("zeebe-microbenchmarks");
+    final var db =
+        new ZeebeRocksDbFactory<ColumnFamilyNames>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    return new BenchmarkDb<>(directory, db);
+  }
+
+  public ZeebeDb<ColumnFamilyNames> db() {
+    return db;
+  }
+
+  /**
+   * Calls the given loader for each index from 0 (inclusive) to {@code count} (exclusive), grouping
+   * the writes in large transactions to load the initial state quickly.
+   */
+  public void load(final TransactionContext context, final long count, final LongConsumer loader) {
+    for (long batchStart = 0; batchStart < count; batchStart += LOAD_BATCH_SIZE) {
+      final long batchEnd = Math.min(count, batchStart + LOAD_BATCH_SIZE);
+      final long start = batchStart;
+      context.runInTransaction(
+          () -> {
+            for (long i = start; i < batchEnd; i++) {
+              loader.accept(i);
+            }
+          });
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+}
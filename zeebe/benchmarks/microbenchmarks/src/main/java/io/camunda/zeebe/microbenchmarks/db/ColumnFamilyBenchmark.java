@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.db;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.microbenchmarks.BenchmarkDb;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the basic operations of a column family on a pre-filled state. Keys are composed of a
+ * prefix and a suffix, with {@value #ENTRIES_PER_PREFIX} keys per prefix, similar to most column
+ * families of the engine.
+ *
+ * <p>Every operation runs in its own transaction, as it would when called outside of the stream
+ * processor, so write operations include the cost of committing.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ColumnFamilyBenchmark {
+
+  private static final int ENTRIES_PER_PREFIX = 10;
+
+  @Param({"100000", "1000000"})
+  private long keyCount;
+
+  private BenchmarkDb<DefaultColumnFamily> benchmarkDb;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private DbLong prefix;
+  private DbLong suffix;
+  private DbCompositeKey<DbLong, DbLong> key;
+  private DbLong value;
+  private long nextKey;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    benchmarkDb = BenchmarkDb.open();
+    final TransactionContext context = benchmarkDb.db().createContext();
+
+    prefix = new DbLong();
+    suffix = new DbLong();
+    key = new DbCompositeKey<>(prefix, suffix);
+    value = new DbLong();
+    columnFamily =
+        benchmarkDb.db().createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+    benchmarkDb.load(
+        context,
+        keyCount,
+        i -> {
+          wrapKey(i);
+          value.wrapLong(i);
+          columnFamily.insert(key, value);
+        });
+    nextKey = keyCount;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    benchmarkDb.close();
+  }
+
+  @Benchmark
+  public long get() {
+    wrapKey(randomExistingKey());
+    return columnFamily.get(key).getValue();
+  }
+
+  @Benchmark
+  public void insert() {
+    wrapKey(nextKey);
+    value.wrapLong(nextKey++);
+    columnFamily.insert(key, value);
+  }
+
+  @Benchmark
+  public void update() {
+    final long existingKey = randomExistingKey();
+    wrapKey(existingKey);
+    value.wrapLong(existingKey);
+    columnFamily.update(key, value);
+  }
+
+  @Benchmark
+  public void deleteAndInsert() {
+    final long existingKey = randomExistingKey();
+    wrapKey(existingKey);
+    columnFamily.deleteExisting(key);
+    value.wrapLong(existingKey);
+    columnFamily.insert(key, value);
+  }
+
+  @Benchmark
+  public void iteratePrefix(final Blackhole blackhole) {
+    prefix.wrapLong(randomExistingKey() / ENTRIES_PER_PREFIX);
+    columnFamily.whileEqualPrefix(
+        prefix,
+        (k, v) -> {
+          blackhole.consume(v.getValue());
+          return true;
+        });
+  }
+
+  private long randomExistingKey() {
+    return ThreadLocalRandom.current().nextLong(keyCount);
+  }
+
+  private void wrapKey(final long index) {
+    prefix.wrapLong(index / ENTRIES_PER_PREFIX);
+    suffix.wrapLong(index % ENTRIES_PER_PREFIX);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.db;
+
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures writing and reading a nested composite key, shaped like the keys of the variables column
+ * family, i.e. a scope key and a variable name, followed by a long.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class DbCompositeKeyBenchmark {
+
+  private final MutableDirectBuffer buffer = new ExpandableArrayBuffer();
+  private final DirectBuffer name = BufferUtil.wrapString("orderItems");
+  private final DbLong scopeKey = new DbLong();
+  private final DbString variableName = new DbString();
+  private final DbLong suffix = new DbLong();
+  private final DbCompositeKey<DbCompositeKey<DbLong, DbString>, DbLong> key =
+      new DbCompositeKey<>(new DbCompositeKey<>(scopeKey, variableName), suffix);
+  private int serializedLength;
+  private long counter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    scopeKey.wrapLong(2251799813685249L);
+    variableName.wrapBuffer(name);
+    suffix.wrapLong(42);
+    key.write(buffer, 0);
+    serializedLength = key.getLength();
+  }
+
+  @Benchmark
+  public int write() {
+    scopeKey.wrapLong(counter++);
+    variableName.wrapBuffer(name);
+    suffix.wrapLong(counter);
+    key.write(buffer, 0);
+    return key.getLength();
+  }
+
+  @Benchmark
+  public void read(final Blackhole blackhole) {
+    key.wrap(buffer, 0, serializedLength);
+    blackhole.consume(key.first().first().getValue());
+    blackhole.consume(key.first().second().getBuffer());
+    blackhole.consume(key.second().getValue());
+  }
+}
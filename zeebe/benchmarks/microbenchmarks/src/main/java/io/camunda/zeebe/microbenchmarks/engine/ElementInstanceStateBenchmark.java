@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.engine.state.instance.DbElementInstanceState;
+import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
+import io.camunda.zeebe.microbenchmarks.BenchmarkDb;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the element instance state on a pre-filled state of {@link #instanceCount} element
+ * instances, where every process instance has {@value #CHILDREN_PER_PROCESS_INSTANCE} active
+ * service tasks.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ElementInstanceStateBenchmark {
+
+  private static final int CHILDREN_PER_PROCESS_INSTANCE = 9;
+  private static final int INSTANCES_PER_PROCESS_INSTANCE = CHILDREN_PER_PROCESS_INSTANCE + 1;
+  private static final long PROCESS_DEFINITION_KEY = 1;
+
+  @Param({"100000", "1000000"})
+  private long instanceCount;
+
+  private BenchmarkDb<ZbColumnFamilies> benchmarkDb;
+  private DbElementInstanceState elementInstanceState;
+  private long nextKey;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    benchmarkDb = BenchmarkDb.open();
+    final TransactionContext context = benchmarkDb.db().createContext();
+    final var variableState = new DbVariableState(benchmarkDb.db(), context);
+    elementInstanceState = new DbElementInstanceState(benchmarkDb.db(), context, variableState);
+
+    final var processInstance = new ElementInstance[1];
+    benchmarkDb.load(
+        context,
+        instanceCount,
+        i -> {
+          final long key = i + 1;
+          if (i % INSTANCES_PER_PROCESS_INSTANCE == 0) {
+            processInstance[0] =
+                elementInstanceState.newInstance(
+                    key,
+                    newRecord(key, key, BpmnElementType.PROCESS),
+                    ProcessInstanceIntent.ELEMENT_ACTIVATED);
+          } else {
+            final long processInstanceKey = processInstance[0].getKey();
+            elementInstanceState.newInstance(
+                processInstance[0],
+                key,
+                newRecord(processInstanceKey, key, BpmnElementType.SERVICE_TASK),
+                ProcessInstanceIntent.ELEMENT_ACTIVATED);
+          }
+        });
+    nextKey = instanceCount + 1;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    benchmarkDb.close();
+  }
+
+  @Benchmark
+  public ElementInstance getInstance() {
+    return elementInstanceState.getInstance(randomExistingKey());
+  }
+
+  @Benchmark
+  public List<ElementInstance> getChildren() {
+    return elementInstanceState.getChildren(randomProcessInstanceKey());
+  }
+
+  @Benchmark
+  public void createAndRemoveChild() {
+    final var processInstance = elementInstanceState.getInstance(randomProcessInstanceKey());
+    final long key = nextKey++;
+    elementInstanceState.newInstance(
+        processInstance,
+        key,
+        newRecord(processInstance.getKey(), key, BpmnElementType.SERVICE_TASK),
+        ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.removeInstance(key);
+  }
+
+  private long randomExistingKey() {
+    return ThreadLocalRandom.current().nextLong(instanceCount) + 1;
+  }
+
+  private long randomProcessInstanceKey() {
+    final long processInstanceCount = Math.max(1, instanceCount / INSTANCES_PER_PROCESS_INSTANCE);
+    return ThreadLocalRandom.current().nextLong(processInstanceCount)
+            * INSTANCES_PER_PROCESS_INSTANCE
+        + 1;
+  }
+
+  private static ProcessInstanceRecord newRecord(
+      final long processInstanceKey, final long key, final BpmnElementType elementType) {
+    final var isProcess = elementType == BpmnElementType.PROCESS;
+    return new ProcessInstanceRecord()
+        .setBpmnProcessId("benchmark-process")
+        .setVersion(1)
+        .setProcessDefinitionKey(PROCESS_DEFINITION_KEY)
+        .setProcessInstanceKey(processInstanceKey)
+        .setElementId(isProcess ? "benchmark-process" : "task-" + key % 10)
+        .setBpmnElementType(elementType)
+        .setFlowScopeKey(isProcess ? -1 : processInstanceKey);
+  }
+}
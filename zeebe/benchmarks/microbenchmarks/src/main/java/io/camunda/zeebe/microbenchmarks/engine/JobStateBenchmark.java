@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
+import io.camunda.zeebe.microbenchmarks.BenchmarkDb;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the job state on a pre-filled state of {@link #jobCount} activatable jobs of the same
+ * type, e.g. when workers cannot keep up.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JobStateBenchmark {
+
+  private static final DirectBuffer JOB_TYPE = BufferUtil.wrapString("benchmark-job");
+  private static final List<String> TENANT_IDS = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  private static final int ACTIVATION_BATCH_SIZE = 32;
+
+  @Param({"100000", "1000000"})
+  private long jobCount;
+
+  private BenchmarkDb<ZbColumnFamilies> benchmarkDb;
+  private DbJobState jobState;
+  private JobRecord job;
+  private long nextKey;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    benchmarkDb = BenchmarkDb.open();
+    final TransactionContext context = benchmarkDb.db().createContext();
+    jobState = new DbJobState(benchmarkDb.db(), context);
+
+    job =
+        new JobRecord()
+            .setType(JOB_TYPE)
+            .setRetries(3)
+            .setBpmnProcessId("benchmark-process")
+            .setProcessDefinitionKey(1)
+            .setProcessDefinitionVersion(1)
+            .setElementId("task")
+            .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    benchmarkDb.load(
+        context,
+        jobCount,
+        i -> {
+          final long key = i + 1;
+          jobState.create(key, job.setProcessInstanceKey(key).setElementInstanceKey(key));
+        });
+    nextKey = jobCount + 1;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    benchmarkDb.close();
+  }
+
+  @Benchmark
+  public JobRecord getJob() {
+    return jobState.getJob(ThreadLocalRandom.current().nextLong(jobCount) + 1);
+  }
+
+  @Benchmark
+  public void createActivateAndComplete() {
+    final long key = nextKey++;
+    job.setProcessInstanceKey(key).setElementInstanceKey(key).setDeadline(key).setWorker("");
+    jobState.create(key, job);
+    job.setWorker("benchmark-worker");
+    jobState.activate(key, job);
+    jobState.complete(key, job);
+  }
+
+  @Benchmark
+  public int collectActivatableJobs() {
+    final var collected = new MutableInteger();
+    jobState.forEachActivatableJobs(
+        JOB_TYPE,
+        TENANT_IDS,
+        ACTIVATION_BATCH_SIZE,
+        (key, record) -> {
+          collected.increment();
+          return collected.get() < ACTIVATION_BATCH_SIZE;
+        });
+    return collected.get();
+  }
+}
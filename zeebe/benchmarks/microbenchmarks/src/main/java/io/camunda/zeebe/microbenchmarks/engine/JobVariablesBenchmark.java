@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
+import io.camunda.zeebe.microbenchmarks.BenchmarkDb;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures collecting the variables of a job whose element instance is nested in a sub-process,
+ * with {@link #variableCount} variables in the process instance scope, once directly from the
+ * state and once through the cache of collected documents, as when the same job is activated
+ * again or different workers request the same variables.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JobVariablesBenchmark {
+
+  private static final long PROCESS_INSTANCE_KEY = 1;
+  private static final long SUB_PROCESS_KEY = 2;
+  private static final long ELEMENT_INSTANCE_KEY = 3;
+  private static final List<DirectBuffer> REQUESTED_VARIABLES =
+      List.of(wrapString("var-1"), wrapString("var-5"), wrapString("var-9"));
+
+  @Param({"10", "100"})
+  private int variableCount;
+
+  private BenchmarkDb<ZbColumnFamilies> benchmarkDb;
+  private DbVariableState variableState;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    benchmarkDb = BenchmarkDb.open();
+    variableState = new DbVariableState(benchmarkDb.db(), benchmarkDb.db().createContext());
+
+    variableState.createScope(PROCESS_INSTANCE_KEY, VariableState.NO_PARENT);
+    variableState.createScope(SUB_PROCESS_KEY, PROCESS_INSTANCE_KEY);
+    variableState.createScope(ELEMENT_INSTANCE_KEY, SUB_PROCESS_KEY);
+
+    final var writer = new MsgPackWriter();
+    final var valueBuffer = new ExpandableArrayBuffer();
+    writer.wrap(valueBuffer, 0);
+    writer.writeString(wrapString("a variable value of a typical size for a job worker"));
+    final var value = new ExpandableArrayBuffer();
+    value.putBytes(0, valueBuffer, 0, writer.getOffset());
+
+    for (int i = 0; i < variableCount; i++) {
+      final var name = wrapString("var-" + i);
+      variableState.setVariableLocal(
+          i, PROCESS_INSTANCE_KEY, 1, name, 0, name.capacity(), value, 0, writer.getOffset());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    benchmarkDb.close();
+  }
+
+  @Benchmark
+  public DirectBuffer collectAllVariables() {
+    return variableState.getVariablesAsDocument(ELEMENT_INSTANCE_KEY);
+  }
+
+  @Benchmark
+  public DirectBuffer collectAllVariablesCached() {
+    return variableState.getCachedVariablesAsDocument(ELEMENT_INSTANCE_KEY, List.of());
+  }
+
+  @Benchmark
+  public DirectBuffer collectVariablesByName() {
+    return variableState.getVariablesAsDocument(ELEMENT_INSTANCE_KEY, REQUESTED_VARIABLES);
+  }
+
+  @Benchmark
+  public DirectBuffer collectVariablesByNameCached() {
+    return variableState.getCachedVariablesAsDocument(ELEMENT_INSTANCE_KEY, REQUESTED_VARIABLES);
+  }
+}
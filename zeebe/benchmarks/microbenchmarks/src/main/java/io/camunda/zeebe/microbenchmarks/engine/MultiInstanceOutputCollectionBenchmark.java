@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
+import io.camunda.zeebe.microbenchmarks.BenchmarkDb;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures collecting the output elements of {@link #collectionSize} multi-instance child instances
+ * into an output collection, once by rewriting the whole output collection variable for every
+ * child instance, and once by storing each output element separately and writing the output
+ * collection only once at the end.
+ */
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MultiInstanceOutputCollectionBenchmark {
+
+  private static final DirectBuffer OUTPUT_COLLECTION = wrapString("results");
+
+  @Param({"1000", "10000", "50000"})
+  private int collectionSize;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer collectionBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer currentCollectionBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer currentCollectionView = new UnsafeBuffer(0, 0);
+  private final DirectBuffer outputElement = new UnsafeBuffer(0, 0);
+
+  private BenchmarkDb<ZbColumnFamilies> benchmarkDb;
+  private DbVariableState variableState;
+  private long nextScopeKey = 1;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    benchmarkDb = BenchmarkDb.open();
+    variableState = new DbVariableState(benchmarkDb.db(), benchmarkDb.db().createContext());
+
+    final var elementBuffer = new ExpandableArrayBuffer();
+    writer.wrap(elementBuffer, 0);
+    writer.writeString(wrapString("output-element-of-a-child-instance"));
+    outputElement.wrap(elementBuffer, 0, writer.getOffset());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    benchmarkDb.close();
+  }
+
+  @Benchmark
+  public DirectBuffer rewriteCollectionPerElement() {
+    final long scopeKey = initializeCollection();
+
+    for (int index = 1; index <= collectionSize; index++) {
+      final var current = variableState.getVariableLocal(scopeKey, OUTPUT_COLLECTION);
+      reader.wrap(current, 0, current.capacity());
+      reader.readToken();
+      reader.skipValues(index - 1L);
+      final int offsetBefore = reader.getOffset();
+      reader.skipValue();
+      final int offsetAfter = reader.getOffset();
+
+      writer.wrap(collectionBuffer, 0);
+      writer.writeRaw(current, 0, offsetBefore);
+      writer.writeRaw(outputElement);
+      writer.writeRaw(current, offsetAfter, current.capacity() - offsetAfter);
+      setOutputCollection(scopeKey);
+    }
+
+    return variableState.getVariableLocal(scopeKey, OUTPUT_COLLECTION);
+  }
+
+  @Benchmark
+  public DirectBuffer collectElementsAndCompleteOnce() {
+    final long scopeKey = initializeCollection();
+
+    for (int index = 1; index <= collectionSize; index++) {
+      variableState.setOutputElement(scopeKey + index, scopeKey, index, outputElement);
+    }
+
+    final var current = variableState.getVariableLocal(scopeKey, OUTPUT_COLLECTION);
+    currentCollectionBuffer.putBytes(0, current, 0, current.capacity());
+    currentCollectionView.wrap(currentCollectionBuffer, 0, current.capacity());
+    reader.wrap(currentCollectionView, 0, currentCollectionView.capacity());
+    reader.readToken();
+
+    writer.wrap(collectionBuffer, 0);
+    writer.writeArrayHeader(collectionSize);
+    variableState.visitOutputElements(
+        scopeKey,
+        (element, index) -> {
+          reader.skipValue();
+          writer.writeRaw(element);
+        });
+    setOutputCollection(scopeKey);
+    variableState.removeOutputElements(scopeKey);
+
+    return variableState.getVariableLocal(scopeKey, OUTPUT_COLLECTION);
+  }
+
+  private long initializeCollection() {
+    // leave enough room for the keys of the child instances
+    final long scopeKey = nextScopeKey;
+    nextScopeKey += collectionSize + 1;
+
+    writer.wrap(collectionBuffer, 0);
+    writer.writeArrayHeader(collectionSize);
+    for (int i = 0; i < collectionSize; i++) {
+      writer.writeNil();
+    }
+    setOutputCollection(scopeKey);
+    return scopeKey;
+  }
+
+  private void setOutputCollection(final long scopeKey) {
+    variableState.setVariableLocal(
+        scopeKey,
+        scopeKey,
+        scopeKey,
+        OUTPUT_COLLECTION,
+        0,
+        OUTPUT_COLLECTION.capacity(),
+        collectionBuffer,
+        0,
+        writer.getOffset());
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.feel;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.camunda.feel.FeelEngineClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the evaluation of FEEL expressions against a single {@code order} variable of the size
+ * given by {@link #documentSize}, i.e. the conversion of MessagePack documents into FEEL values and
+ * of the result back into MessagePack.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class FeelEvaluationBenchmark {
+
+  private static final String ITEM_DESCRIPTION = "x".repeat(200);
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  private DocumentSize documentSize;
+
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage(new SystemFeelEngineClock());
+
+  private Expression nestedPropertyExpression;
+  private Expression listExpression;
+  private Expression documentExpression;
+  private EvaluationContext context;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    nestedPropertyExpression = expressionLanguage.parseExpression("=order.customer.id");
+    listExpression = expressionLanguage.parseExpression("=count(order.items[price > 50])");
+    documentExpression = expressionLanguage.parseExpression("=order");
+
+    final var order = createOrder(documentSize.items);
+    // the variable state reuses the buffers of returned variables, so do the same here
+    final var variableView = new UnsafeBuffer(0, 0);
+    context =
+        name -> {
+          if (!"order".equals(name)) {
+            return null;
+          }
+          variableView.wrap(order);
+          return variableView;
+        };
+  }
+
+  @Benchmark
+  public EvaluationResult readNestedProperty() {
+    return expressionLanguage.evaluateExpression(nestedPropertyExpression, context);
+  }
+
+  @Benchmark
+  public EvaluationResult filterList() {
+    return expressionLanguage.evaluateExpression(listExpression, context);
+  }
+
+  @Benchmark
+  public DirectBuffer readAndWriteDocument() {
+    return expressionLanguage.evaluateExpression(documentExpression, context).toBuffer();
+  }
+
+  private static DirectBuffer createOrder(final int items) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+
+    writer.writeMapHeader(3);
+    writer.writeString(wrapString("customer"));
+    writer.writeMapHeader(2);
+    writer.writeString(wrapString("id"));
+    writer.writeString(wrapString("customer-1"));
+    writer.writeString(wrapString("name"));
+    writer.writeString(wrapString("Jane Doe"));
+
+    writer.writeString(wrapString("status"));
+    writer.writeString(wrapString("OPEN"));
+
+    writer.writeString(wrapString("items"));
+    writer.writeArrayHeader(items);
+    for (int i = 0; i < items; i++) {
+      writer.writeMapHeader(3);
+      writer.writeString(wrapString("sku"));
+      writer.writeString(wrapString("sku-" + i));
+      writer.writeString(wrapString("price"));
+      writer.writeInteger(i % 100);
+      writer.writeString(wrapString("description"));
+      writer.writeString(wrapString(ITEM_DESCRIPTION));
+    }
+
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  /** The size of the order document, with items of roughly 240 bytes each. */
+  public enum DocumentSize {
+    /** About 1 KB. */
+    SMALL(4),
+    /** About 64 KB. */
+    MEDIUM(270),
+    /** About 1 MB. */
+    LARGE(4_300);
+
+    private final int items;
+
+    DocumentSize(final int items) {
+      this.items = items;
+    }
+  }
+
+  private static final class SystemFeelEngineClock implements FeelEngineClock {
+    @Override
+    public ZonedDateTime getCurrentTime() {
+      return ZonedDateTime.now();
+    }
+  }
+}
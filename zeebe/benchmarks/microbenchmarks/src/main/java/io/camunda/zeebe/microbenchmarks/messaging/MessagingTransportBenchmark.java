@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.messaging;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.Transport;
+import io.atomix.cluster.messaging.impl.NettyMessagingService;
+import io.atomix.utils.net.Address;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures request-response round trips between two messaging services over loopback, using the
+ * given Netty {@link #transport}. Run in sample time mode to compare the latency percentiles, e.g.
+ * the p99, of the transports.
+ *
+ * <p>Note that the {@code IO_URING} transport silently falls back to epoll if the io_uring
+ * transport is not on the class path, or not supported by the kernel; see the README.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class MessagingTransportBenchmark {
+
+  private static final String CLUSTER = "benchmark";
+  private static final String SUBJECT = "benchmark-subject";
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @Param({"NIO", "EPOLL", "IO_URING"})
+  private Transport transport;
+
+  @Param({"128", "4096"})
+  private int payloadSize;
+
+  private NettyMessagingService sender;
+  private NettyMessagingService receiver;
+  private Address receiverAddress;
+  private byte[] payload;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    payload = new byte[payloadSize];
+    ThreadLocalRandom.current().nextBytes(payload);
+
+    sender = startService(freeAddress());
+    receiverAddress = freeAddress();
+    receiver = startService(receiverAddress);
+    receiver.registerHandler(SUBJECT, (address, request) -> request, Runnable::run);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sender.stop().join();
+    receiver.stop().join();
+  }
+
+  @Benchmark
+  public byte[] sendAndReceive() {
+    return sender.sendAndReceive(receiverAddress, SUBJECT, payload, true, TIMEOUT).join();
+  }
+
+  private NettyMessagingService startService(final Address address) {
+    final var config =
+        new MessagingConfig()
+            .setInterfaces(List.of(address.host()))
+            .setPort(address.port())
+            .setTransport(transport);
+    final var service = new NettyMessagingService(CLUSTER, address, config);
+    service.start().join();
+    return service;
+  }
+
+  private static Address freeAddress() {
+    try (final var socket = new ServerSocket()) {
+      socket.bind(new InetSocketAddress("localhost", 0));
+      return Address.from("localhost", socket.getLocalPort());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.raft;
+
+import io.atomix.raft.storage.log.GroupFlusher;
+import io.atomix.raft.storage.log.RaftLogFlusher;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending a record to a journal and flushing it, as a leader does before committing,
+ * with one journal per benchmark thread to simulate the partitions of a broker sharing one disk.
+ * Compares flushing each journal directly on its own thread with coordinating the flushes of all
+ * journals through a {@link GroupFlusher} with the given {@link #groupFlushWindowMicros}.
+ *
+ * <p>The results depend entirely on the disk, so run it on the storage the brokers use, and
+ * compare the throughput together with the latency percentiles.
+ */
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RaftLogFlushBenchmark {
+
+  @Param({"DIRECT", "GROUP"})
+  private FlushMode flushMode;
+
+  @Param({"0", "200"})
+  private long groupFlushWindowMicros;
+
+  @Param({"1024"})
+  private int recordSize;
+
+  private RaftLogFlusher.Factory flusherFactory;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    flusherFactory =
+        switch (flushMode) {
+          case DIRECT -> RaftLogFlusher.Factory::direct;
+          case GROUP -> new GroupFlusher(Duration.ofNanos(groupFlushWindowMicros * 1000));
+        };
+  }
+
+  @Benchmark
+  public void appendAndFlush(final PartitionJournal partition) {
+    partition.journal.append(partition.record);
+    partition.flusher.flush(partition.journal);
+  }
+
+  public enum FlushMode {
+    DIRECT,
+    GROUP
+  }
+
+  /** The journal of a single partition, which is only appended to and flushed by one thread. */
+  @State(Scope.Thread)
+  public static class PartitionJournal {
+    private Path directory;
+    private Journal journal;
+    private RaftLogFlusher flusher;
+    private DirectBufferWriter record;
+
+    @Setup(Level.Trial)
+    public void setup(final RaftLogFlushBenchmark benchmark) throws Exception {
+      directory = Files.createTempDirectory("raft-log-flush");
+      journal =
+          SegmentedJournal.builder()
+              .withDirectory(directory.toFile())
+              .withMetaStore(new JournalMetaStore.InMemory())
+              .build();
+      flusher = benchmark.flusherFactory.createFlusher(null);
+
+      final var data = new byte[benchmark.recordSize];
+      ThreadLocalRandom.current().nextBytes(data);
+      record = new DirectBufferWriter().wrap(new UnsafeBuffer(data));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+      flusher.close();
+      journal.close();
+      FileUtil.deleteFolder(directory);
+    }
+  }
+}
@@ -40,6 +40,7 @@ public class ApiMessagingServiceStep extends AbstractBrokerStartupStep {
     }
 
     messagingConfig.setCompressionAlgorithm(brokerCfg.getCluster().getMessageCompression());
+    messagingConfig.setTransport(brokerCfg.getCluster().getMessagingTransport());
 
     final var messagingService =
         new NettyMessagingService(
@@ -78,6 +78,7 @@ public final class ClusterConfigFactory {
     final var messaging =
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setTransport(cluster.getMessagingTransport())
             .setInterfaces(Collections.singletonList(network.getInternalApi().getHost()))
             .setPort(network.getInternalApi().getPort());
 
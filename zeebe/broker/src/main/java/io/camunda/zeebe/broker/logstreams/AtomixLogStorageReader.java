@@ -28,12 +28,11 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <p>Note that due to the look-ahead, calling {@link #hasNext()} may result in doing some I/O and
  * mutating the state of the reader.
  *
- * <p>The reader currently simply returns the block as is without copying it - this is safe at the
- * moment because the serialization in the underlying {@link io.atomix.raft.storage.log.RaftLog}
- * already copies the data from disk. When switching to zero-copy, however, because of the
- * look-ahead, this reader will have to copy the block. At that point, we may want to look into
- * doing more than a single-step look-ahead (either here or in the {@link
- * io.camunda.zeebe.logstreams.log.LogStreamReader}).
+ * <p>The reader returns the block as is without copying it. Blocks are views over the memory mapped
+ * journal segment (or over a freshly allocated buffer for compressed entries), which remain valid
+ * while the segment is open, so the look-ahead does not invalidate the previously returned block.
+ * Reading ahead from disk is done by the journal's segment readers, see {@link
+ * io.atomix.raft.storage.log.RaftLogBuilder#withReadAheadSize(int)}.
  */
 public final class AtomixLogStorageReader implements LogStorageReader {
 
@@ -12,6 +12,7 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
@@ -29,6 +30,8 @@ public final class RaftPartitionFactory {
   public static final String GROUP_NAME = "raft-partition";
 
   private final BrokerCfg brokerCfg;
+  // shared by all partitions, so that their flushes are coordinated
+  private GroupFlusher groupFlusher;
 
   public RaftPartitionFactory(final BrokerCfg brokerCfg) {
     this.brokerCfg = brokerCfg;
@@ -71,6 +74,11 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setPreparedSegmentCount(
+        brokerCfg.getExperimental().getRaft().getPreparedSegmentCount());
+    storageConfig.setCompression(brokerCfg.getExperimental().getRaft().getCompression());
+    storageConfig.setReadAheadSize(
+        (int) brokerCfg.getExperimental().getRaft().getReadAheadSize().toBytes());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -78,6 +86,12 @@ public final class RaftPartitionFactory {
         (int) brokerCfg.getExperimental().getMaxAppendBatchSizeInBytes());
     partitionConfig.setMaxAppendsPerFollower(
         brokerCfg.getExperimental().getMaxAppendsPerFollower());
+    partitionConfig.setAdaptiveAppendWindowEnabled(
+        brokerCfg.getExperimental().isAdaptiveAppendWindowEnabled());
+    partitionConfig.setMaxAdaptiveAppendsPerFollower(
+        brokerCfg.getExperimental().getMaxAdaptiveAppendsPerFollower());
+    partitionConfig.setMaxAdaptiveAppendBatchSize(
+        (int) brokerCfg.getExperimental().getMaxAdaptiveAppendBatchSizeInBytes());
     partitionConfig.setPriorityElectionEnabled(
         brokerCfg.getCluster().getRaft().isEnablePriorityElection());
     partitionConfig.setElectionTimeout(brokerCfg.getCluster().getElectionTimeout());
@@ -93,6 +107,8 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setMaxInFlightSnapshotChunks(
+        brokerCfg.getExperimental().getRaft().getMaxInFlightSnapshotChunks());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
@@ -111,7 +127,7 @@ public final class RaftPartitionFactory {
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
       if (delayTime.isZero()) {
-        return RaftLogFlusher.Factory::direct;
+        return createDirectFlusherFactory();
       }
 
       return threadFactory -> new DelayedFlusher(threadFactory.createContext(), delayTime);
@@ -125,4 +141,16 @@ public final class RaftPartitionFactory {
 
     return RaftLogFlusher.Factory::noop;
   }
+
+  private synchronized RaftLogFlusher.Factory createDirectFlusherFactory() {
+    final var raftCfg = brokerCfg.getExperimental().getRaft();
+    if (!raftCfg.isGroupFlushEnabled()) {
+      return RaftLogFlusher.Factory::direct;
+    }
+
+    if (groupFlusher == null) {
+      groupFlusher = new GroupFlusher(raftCfg.getGroupFlushWindow());
+    }
+    return groupFlusher;
+  }
 }
@@ -12,6 +12,7 @@ import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
 import static io.camunda.zeebe.util.StringUtil.LIST_SANITIZER;
 
 import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.atomix.cluster.messaging.MessagingConfig.Transport;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
@@ -54,6 +55,7 @@ public final class ClusterCfg implements ConfigurationEntry {
   private MembershipCfg membership = new MembershipCfg();
   private RaftCfg raft = new RaftCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private Transport messagingTransport = Transport.EPOLL;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -191,6 +193,14 @@ public final class ClusterCfg implements ConfigurationEntry {
     this.messageCompression = messageCompression;
   }
 
+  public Transport getMessagingTransport() {
+    return messagingTransport;
+  }
+
+  public void setMessagingTransport(final Transport messagingTransport) {
+    this.messagingTransport = messagingTransport;
+  }
+
   @Override
   public String toString() {
     return "ClusterCfg{"
@@ -219,6 +229,8 @@ public final class ClusterCfg implements ConfigurationEntry {
         + raft
         + ", messageCompression="
         + messageCompression
+        + ", messagingTransport="
+        + messagingTransport
         + '}';
   }
 }
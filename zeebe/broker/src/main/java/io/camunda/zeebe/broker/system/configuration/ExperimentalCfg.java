@@ -22,9 +22,15 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
+  public static final boolean DEFAULT_ADAPTIVE_APPEND_WINDOW_ENABLED = false;
+  public static final int DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER = 16;
+  public static final DataSize DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE = DataSize.ofMegabytes(1);
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
+  private boolean adaptiveAppendWindowEnabled = DEFAULT_ADAPTIVE_APPEND_WINDOW_ENABLED;
+  private int maxAdaptiveAppendsPerFollower = DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER;
+  private DataSize maxAdaptiveAppendBatchSize = DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
@@ -62,6 +68,36 @@ public class ExperimentalCfg implements ConfigurationEntry {
     return Optional.ofNullable(maxAppendBatchSize).orElse(DEFAULT_MAX_APPEND_BATCH_SIZE).toBytes();
   }
 
+  public boolean isAdaptiveAppendWindowEnabled() {
+    return adaptiveAppendWindowEnabled;
+  }
+
+  public void setAdaptiveAppendWindowEnabled(final boolean adaptiveAppendWindowEnabled) {
+    this.adaptiveAppendWindowEnabled = adaptiveAppendWindowEnabled;
+  }
+
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return maxAdaptiveAppendsPerFollower;
+  }
+
+  public void setMaxAdaptiveAppendsPerFollower(final int maxAdaptiveAppendsPerFollower) {
+    this.maxAdaptiveAppendsPerFollower = maxAdaptiveAppendsPerFollower;
+  }
+
+  public DataSize getMaxAdaptiveAppendBatchSize() {
+    return maxAdaptiveAppendBatchSize;
+  }
+
+  public void setMaxAdaptiveAppendBatchSize(final DataSize maxAdaptiveAppendBatchSize) {
+    this.maxAdaptiveAppendBatchSize = maxAdaptiveAppendBatchSize;
+  }
+
+  public long getMaxAdaptiveAppendBatchSizeInBytes() {
+    return Optional.ofNullable(maxAdaptiveAppendBatchSize)
+        .orElse(DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE)
+        .toBytes();
+  }
+
   /**
    * @deprecated Deprecated in favor of {@link RaftCfg#getFlush()}. The equivalent is a null
    *     configuration, e.g. {@link new FlushConfig(null)}. Will be removed in 8.3.0.
@@ -144,6 +180,12 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", adaptiveAppendWindowEnabled="
+        + adaptiveAppendWindowEnabled
+        + ", maxAdaptiveAppendsPerFollower="
+        + maxAdaptiveAppendsPerFollower
+        + ", maxAdaptiveAppendBatchSize="
+        + maxAdaptiveAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
         + ", rocksdb="
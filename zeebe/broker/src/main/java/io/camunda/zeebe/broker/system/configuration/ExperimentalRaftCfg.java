@@ -9,7 +9,9 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static io.camunda.zeebe.broker.system.configuration.ClusterCfg.DEFAULT_ELECTION_TIMEOUT;
 
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class ExperimentalRaftCfg implements ConfigurationEntry {
 
@@ -23,6 +25,11 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+  private static final DataSize DEFAULT_READ_AHEAD_SIZE = DataSize.ofBytes(0);
+  private static final int DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 1;
+  private static final boolean DEFAULT_GROUP_FLUSH_ENABLED = false;
+  private static final Duration DEFAULT_GROUP_FLUSH_WINDOW = Duration.ZERO;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private Duration configurationChangeTimeout = DEFAULT_CONFIGURATION_CHANGE_TIMEOUT;
@@ -31,6 +38,12 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+  private RecordCompression compression = RecordCompression.NONE;
+  private DataSize readAheadSize = DEFAULT_READ_AHEAD_SIZE;
+  private int maxInFlightSnapshotChunks = DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS;
+  private boolean groupFlushEnabled = DEFAULT_GROUP_FLUSH_ENABLED;
+  private Duration groupFlushWindow = DEFAULT_GROUP_FLUSH_WINDOW;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -87,4 +100,52 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public int getPreparedSegmentCount() {
+    return preparedSegmentCount;
+  }
+
+  public void setPreparedSegmentCount(final int preparedSegmentCount) {
+    this.preparedSegmentCount = preparedSegmentCount;
+  }
+
+  public RecordCompression getCompression() {
+    return compression;
+  }
+
+  public void setCompression(final RecordCompression compression) {
+    this.compression = compression;
+  }
+
+  public DataSize getReadAheadSize() {
+    return readAheadSize;
+  }
+
+  public void setReadAheadSize(final DataSize readAheadSize) {
+    this.readAheadSize = readAheadSize;
+  }
+
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public boolean isGroupFlushEnabled() {
+    return groupFlushEnabled;
+  }
+
+  public void setGroupFlushEnabled(final boolean groupFlushEnabled) {
+    this.groupFlushEnabled = groupFlushEnabled;
+  }
+
+  public Duration getGroupFlushWindow() {
+    return groupFlushWindow;
+  }
+
+  public void setGroupFlushWindow(final Duration groupFlushWindow) {
+    this.groupFlushWindow = groupFlushWindow;
+  }
 }
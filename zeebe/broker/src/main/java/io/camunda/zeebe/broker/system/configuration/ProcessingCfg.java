@@ -7,12 +7,17 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import java.time.Duration;
 import java.util.Set;
 
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_GROUP_COMMIT_LIMIT = 1;
+  private static final Duration DEFAULT_GROUP_COMMIT_MAX_DELAY = Duration.ofMillis(5);
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private Integer maxCommandsInGroupCommit = DEFAULT_GROUP_COMMIT_LIMIT;
+  private Duration groupCommitMaxDelay = DEFAULT_GROUP_COMMIT_MAX_DELAY;
   private boolean enableAsyncScheduledTasks = true;
   private Set<Long> skipPositions;
 
@@ -22,6 +27,14 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxCommandsInGroupCommit < 1) {
+      throw new IllegalArgumentException(
+          "maxCommandsInGroupCommit must be >= 1 but was %s".formatted(maxCommandsInGroupCommit));
+    }
+    if (groupCommitMaxDelay.isNegative()) {
+      throw new IllegalArgumentException(
+          "groupCommitMaxDelay must not be negative but was %s".formatted(groupCommitMaxDelay));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -32,6 +45,22 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getMaxCommandsInGroupCommit() {
+    return maxCommandsInGroupCommit;
+  }
+
+  public void setMaxCommandsInGroupCommit(final int maxCommandsInGroupCommit) {
+    this.maxCommandsInGroupCommit = maxCommandsInGroupCommit;
+  }
+
+  public Duration getGroupCommitMaxDelay() {
+    return groupCommitMaxDelay;
+  }
+
+  public void setGroupCommitMaxDelay(final Duration groupCommitMaxDelay) {
+    this.groupCommitMaxDelay = groupCommitMaxDelay;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -53,6 +82,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", maxCommandsInGroupCommit="
+        + maxCommandsInGroupCommit
+        + ", groupCommitMaxDelay="
+        + groupCommitMaxDelay
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
         + '}';
@@ -9,6 +9,9 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +31,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private Map<String, Integer> columnFamilyCacheSizes = new HashMap<>();
+  private int bloomFilterBitsPerKey = RocksDbConfiguration.DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+  private double memtablePrefixBloomSizeRatio =
+      RocksDbConfiguration.DEFAULT_MEMTABLE_PREFIX_BLOOM_SIZE_RATIO;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -39,6 +46,21 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    columnFamilyCacheSizes = initColumnFamilyCacheSizes(columnFamilyCacheSizes);
+  }
+
+  /**
+   * Column family names provided via environment variables arrive in lower case and with dots
+   * instead of underscores, e.g. {@code element.instance.key}, so they are normalized to the enum
+   * names.
+   */
+  private static Map<String, Integer> initColumnFamilyCacheSizes(
+      final Map<String, Integer> original) {
+    final var result = new HashMap<String, Integer>();
+    original.forEach(
+        (name, size) -> result.put(name.replace('.', '_').toUpperCase(Locale.ROOT), size));
+    return result;
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -121,6 +143,30 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public Map<String, Integer> getColumnFamilyCacheSizes() {
+    return columnFamilyCacheSizes;
+  }
+
+  public void setColumnFamilyCacheSizes(final Map<String, Integer> columnFamilyCacheSizes) {
+    this.columnFamilyCacheSizes = columnFamilyCacheSizes;
+  }
+
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public void setBloomFilterBitsPerKey(final int bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+  }
+
+  public double getMemtablePrefixBloomSizeRatio() {
+    return memtablePrefixBloomSizeRatio;
+  }
+
+  public void setMemtablePrefixBloomSizeRatio(final double memtablePrefixBloomSizeRatio) {
+    this.memtablePrefixBloomSizeRatio = memtablePrefixBloomSizeRatio;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +185,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setColumnFamilyCacheSizes(columnFamilyCacheSizes)
+        .setBloomFilterBitsPerKey(bloomFilterBitsPerKey)
+        .setMemtablePrefixBloomSizeRatio(memtablePrefixBloomSizeRatio);
   }
 
   @Override
@@ -165,6 +214,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", columnFamilyCacheSizes="
+        + columnFamilyCacheSizes
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", memtablePrefixBloomSizeRatio="
+        + memtablePrefixBloomSizeRatio
         + '}';
   }
 
@@ -10,6 +10,9 @@ package io.camunda.zeebe.broker.system.configuration;
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private boolean partitionAffinityEnabled = false;
+  private int partitionAffinityStealThreshold = 2;
+  private boolean virtualIoThreadsEnabled = false;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +30,30 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public boolean isPartitionAffinityEnabled() {
+    return partitionAffinityEnabled;
+  }
+
+  public void setPartitionAffinityEnabled(final boolean partitionAffinityEnabled) {
+    this.partitionAffinityEnabled = partitionAffinityEnabled;
+  }
+
+  public int getPartitionAffinityStealThreshold() {
+    return partitionAffinityStealThreshold;
+  }
+
+  public void setPartitionAffinityStealThreshold(final int partitionAffinityStealThreshold) {
+    this.partitionAffinityStealThreshold = partitionAffinityStealThreshold;
+  }
+
+  public boolean isVirtualIoThreadsEnabled() {
+    return virtualIoThreadsEnabled;
+  }
+
+  public void setVirtualIoThreadsEnabled(final boolean virtualIoThreadsEnabled) {
+    this.virtualIoThreadsEnabled = virtualIoThreadsEnabled;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +61,12 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", partitionAffinityEnabled="
+        + partitionAffinityEnabled
+        + ", partitionAffinityStealThreshold="
+        + partitionAffinityStealThreshold
+        + ", virtualIoThreadsEnabled="
+        + virtualIoThreadsEnabled
         + '}';
   }
 }
@@ -14,6 +14,7 @@ import com.netflix.concurrency.limits.limit.GradientLimit;
 import com.netflix.concurrency.limits.limit.VegasLimit;
 import com.netflix.concurrency.limits.limit.WindowedLimit;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.LatencySloLimit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.StabilizingAIMDLimit;
 import java.util.concurrent.TimeUnit;
 
@@ -28,6 +29,7 @@ public final class LimitCfg implements ConfigurationEntry {
   private final GradientCfg gradient = new GradientCfg();
   private final Gradient2Cfg gradient2 = new Gradient2Cfg();
   private final LegacyVegasCfg legacyVegas = new LegacyVegasCfg();
+  private final LatencySloCfg latencySlo = new LatencySloCfg();
 
   public boolean isEnabled() {
     return enabled;
@@ -82,6 +84,10 @@ public final class LimitCfg implements ConfigurationEntry {
     return legacyVegas;
   }
 
+  public LatencySloCfg getLatencySlo() {
+    return latencySlo;
+  }
+
   @Override
   public String toString() {
     return "LimitCfg{"
@@ -104,6 +110,8 @@ public final class LimitCfg implements ConfigurationEntry {
         + gradient2
         + ", legacyVegas="
         + legacyVegas
+        + ", latencySlo="
+        + latencySlo
         + '}';
   }
 
@@ -122,8 +130,10 @@ public final class LimitCfg implements ConfigurationEntry {
           case GRADIENT2 -> getGradient2Limit(getGradient2());
           case VEGAS -> getVegasLimit(getVegas());
           case LEGACY_VEGAS -> getLegacyVegasLimit(getLegacyVegas());
+          case LATENCY_SLO -> getLatencySloLimit(getLatencySlo());
         };
-    if (useWindowed) {
+    // the latency SLO limit aggregates its samples itself, averaging them would hide the tail
+    if (useWindowed && getAlgorithm() != LimitAlgorithm.LATENCY_SLO) {
       return WindowedLimit.newBuilder().build(baseLimit);
     } else {
       return baseLimit;
@@ -177,6 +187,18 @@ public final class LimitCfg implements ConfigurationEntry {
         .build();
   }
 
+  private static LatencySloLimit getLatencySloLimit(final LatencySloCfg latencySloCfg) {
+    return LatencySloLimit.newBuilder()
+        .initialLimit(latencySloCfg.getInitialLimit())
+        .minLimit(latencySloCfg.getMinLimit())
+        .maxLimit(latencySloCfg.getMaxLimit())
+        .targetRtt(latencySloCfg.getTargetLatency().toMillis(), TimeUnit.MILLISECONDS)
+        .percentile(latencySloCfg.getPercentile())
+        .windowSize(latencySloCfg.getWindowSize())
+        .backoffRatio(latencySloCfg.getBackoffRatio())
+        .build();
+  }
+
   public enum LimitAlgorithm {
     VEGAS,
     GRADIENT,
@@ -184,5 +206,6 @@ public final class LimitCfg implements ConfigurationEntry {
     FIXED,
     AIMD,
     LEGACY_VEGAS,
+    LATENCY_SLO,
   }
 }
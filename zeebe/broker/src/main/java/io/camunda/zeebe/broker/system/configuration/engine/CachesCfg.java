@@ -14,6 +14,7 @@ public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private int jobVariablesCacheCapacity = EngineConfiguration.DEFAULT_JOB_VARIABLES_CACHE_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -39,6 +40,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public int getJobVariablesCacheCapacity() {
+    return jobVariablesCacheCapacity;
+  }
+
+  public void setJobVariablesCacheCapacity(final int jobVariablesCacheCapacity) {
+    this.jobVariablesCacheCapacity = jobVariablesCacheCapacity;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -48,6 +57,8 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", jobVariablesCacheCapacity="
+        + jobVariablesCacheCapacity
         + '}';
   }
 }
@@ -158,6 +158,9 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxCommandsInGroupCommit(
+            context.getBrokerCfg().getProcessing().getMaxCommandsInGroupCommit())
+        .groupCommitMaxDelay(context.getBrokerCfg().getProcessing().getGroupCommitMaxDelay())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .processingFilter(processingFilter)
@@ -11,7 +11,7 @@ import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionComma
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
-import io.atomix.utils.serializer.serializers.DefaultSerializers;
+import io.atomix.cluster.messaging.MessagePayload;
 import io.camunda.zeebe.backup.api.CheckpointListener;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
@@ -58,11 +58,7 @@ public final class InterPartitionCommandReceiverActor extends Actor
 
   @Override
   protected void onActorStarting() {
-    communicationService.consume(
-        TOPIC_PREFIX + partitionId,
-        DefaultSerializers.BASIC::decode,
-        this::tryHandleMessage,
-        actor::run);
+    communicationService.consume(TOPIC_PREFIX + partitionId, this::tryHandleMessage, actor::run);
   }
 
   @Override
@@ -85,9 +81,10 @@ public final class InterPartitionCommandReceiverActor extends Actor
     actor.run(() -> receiver.setCheckpointId(checkpointId));
   }
 
-  private void tryHandleMessage(final MemberId memberId, final byte[] message) {
+  private void tryHandleMessage(final MemberId memberId, final MessagePayload message) {
     try {
-      receiver.handleMessage(memberId, message);
+      // the message is only valid until this returns, the command is written to the log before
+      receiver.handleMessage(memberId, message.buffer());
     } catch (final RuntimeException e) {
       LOG.error("Error while handling message", e);
     }
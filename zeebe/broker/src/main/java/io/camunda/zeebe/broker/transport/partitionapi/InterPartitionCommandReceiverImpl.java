@@ -27,7 +27,7 @@ import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.ReflectUtil;
 import java.util.Optional;
-import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
 final class InterPartitionCommandReceiverImpl {
@@ -41,7 +41,7 @@ final class InterPartitionCommandReceiverImpl {
     this.logStreamWriter = logStreamWriter;
   }
 
-  void handleMessage(final MemberId memberId, final byte[] message) {
+  void handleMessage(final MemberId memberId, final DirectBuffer message) {
     LOG.trace("Received message from {}", memberId);
 
     final var decoded = decoder.decodeMessage(message);
@@ -138,12 +138,11 @@ final class InterPartitionCommandReceiverImpl {
     private final InterPartitionMessageDecoder messageDecoder = new InterPartitionMessageDecoder();
     private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
-    DecodedMessage decodeMessage(final byte[] message) {
-      final var messageBuffer = new UnsafeBuffer();
+    DecodedMessage decodeMessage(final DirectBuffer message) {
       final var recordMetadata = new RecordMetadata();
 
-      messageBuffer.wrap(message);
-      messageDecoder.wrapAndApplyHeader(messageBuffer, 0, headerDecoder);
+      final var messageOffset = SerializedArrayFraming.readHeader(message);
+      messageDecoder.wrapAndApplyHeader(message, messageOffset, headerDecoder);
 
       final var checkpointId = messageDecoder.checkpointId();
       Optional<Long> recordKey = Optional.empty();
@@ -171,7 +170,7 @@ final class InterPartitionCommandReceiverImpl {
       }
       final var value = ReflectUtil.newInstance(valueClass);
 
-      value.wrap(messageBuffer, commandOffset, commandLength);
+      value.wrap(message, commandOffset, commandLength);
       return new DecodedMessage(checkpointId, recordKey, recordMetadata, value);
     }
   }
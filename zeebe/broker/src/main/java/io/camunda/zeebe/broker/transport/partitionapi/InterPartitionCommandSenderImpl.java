@@ -7,21 +7,24 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.protocol.InterPartitionMessageEncoder.commandHeaderLength;
+
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
-import io.atomix.utils.serializer.serializers.DefaultSerializers;
+import io.atomix.cluster.messaging.MessagePayload;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageEncoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderEncoder;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Objects;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
-import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 final class InterPartitionCommandSenderImpl implements InterPartitionCommandSender {
@@ -72,14 +75,12 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
         partitionLeader);
 
     final var message =
-        Encoder.encode(checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
+        new MessageWriter(checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
 
     communicationService.unicast(
         TOPIC_PREFIX + receiverPartitionId,
-        message,
-        DefaultSerializers.BASIC::encode,
-        MemberId.from("" + partitionLeader),
-        true);
+        MessagePayload.of(message),
+        MemberId.from("" + partitionLeader));
   }
 
   void setCheckpointId(final long checkpointId) {
@@ -90,39 +91,68 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
     partitionLeaders.put(partitionId, currentLeader);
   }
 
-  private static final class Encoder {
-
-    private static byte[] encode(
+  /**
+   * Writes the message directly into the buffer of the network message when it is sent, framed as
+   * a serialized array for compatibility with receivers which decode the message as such.
+   */
+  private static final class MessageWriter implements BufferWriter {
+    private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+    private final InterPartitionMessageEncoder bodyEncoder = new InterPartitionMessageEncoder();
+    private final long checkpointId;
+    private final int receiverPartitionId;
+    private final ValueType valueType;
+    private final Intent intent;
+    private final Long recordKey;
+    private final BufferWriter command;
+    private final int commandLength;
+
+    private MessageWriter(
         final long checkpointId,
         final int receiverPartitionId,
         final ValueType valueType,
         final Intent intent,
         final Long recordKey,
         final BufferWriter command) {
-      final var messageLength =
-          MessageHeaderEncoder.ENCODED_LENGTH
-              + InterPartitionMessageEncoder.BLOCK_LENGTH
-              + InterPartitionMessageEncoder.commandHeaderLength()
-              + command.getLength();
-
-      final var headerEncoder = new MessageHeaderEncoder();
-      final var bodyEncoder = new InterPartitionMessageEncoder();
-      final var commandBuffer = new UnsafeBuffer(new byte[command.getLength()]);
-      final var messageBuffer = new UnsafeBuffer(new byte[messageLength]);
-      command.write(commandBuffer, 0);
+      this.checkpointId = checkpointId;
+      this.receiverPartitionId = receiverPartitionId;
+      this.valueType = valueType;
+      this.intent = intent;
+      this.recordKey = recordKey;
+      this.command = command;
+      commandLength = command.getLength();
+    }
+
+    @Override
+    public int getLength() {
+      return SerializedArrayFraming.framedLength(getMessageLength());
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      final var messageOffset =
+          SerializedArrayFraming.writeHeader(buffer, offset, getMessageLength());
+
       bodyEncoder
-          .wrapAndApplyHeader(messageBuffer, 0, headerEncoder)
+          .wrapAndApplyHeader(buffer, messageOffset, headerEncoder)
           .checkpointId(checkpointId)
           .receiverPartitionId(receiverPartitionId)
           .valueType(valueType.value())
           .intent(intent.value())
-          .putCommand(commandBuffer, 0, command.getLength());
-
-      bodyEncoder.recordKey(
-          Objects.requireNonNullElseGet(
-              recordKey, InterPartitionMessageEncoder::recordKeyNullValue));
+          .recordKey(
+              Objects.requireNonNullElseGet(
+                  recordKey, InterPartitionMessageEncoder::recordKeyNullValue));
+
+      // write the command directly behind its length, instead of copying it from another buffer
+      final var commandLengthOffset = bodyEncoder.limit();
+      buffer.putInt(commandLengthOffset, commandLength, Protocol.ENDIANNESS);
+      command.write(buffer, commandLengthOffset + commandHeaderLength());
+    }
 
-      return messageBuffer.byteArray();
+    private int getMessageLength() {
+      return MessageHeaderEncoder.ENCODED_LENGTH
+          + InterPartitionMessageEncoder.BLOCK_LENGTH
+          + commandHeaderLength()
+          + commandLength;
     }
   }
 }
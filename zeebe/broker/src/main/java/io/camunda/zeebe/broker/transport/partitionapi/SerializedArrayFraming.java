@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.partitionapi;
+
+import io.atomix.utils.serializer.serializers.DefaultSerializers;
+import java.util.Arrays;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Frames inter-partition messages the same way as {@link DefaultSerializers#BASIC} serializes a
+ * {@code byte[]}, so that messages can be written to and read from the network buffers directly,
+ * while staying compatible with brokers which still serialize them as arrays.
+ *
+ * <p>A serialized array starts with the header of its class, followed by its length plus one as
+ * variable length integer and its bytes. The class header is taken from the serialized empty
+ * array, whose length is always encoded in a single byte.
+ */
+final class SerializedArrayFraming {
+
+  private static final int MAX_VAR_INT_LENGTH = 5;
+  private static final DirectBuffer CLASS_HEADER;
+
+  static {
+    final var emptyArray = DefaultSerializers.BASIC.encode(new byte[0]);
+    CLASS_HEADER = new UnsafeBuffer(Arrays.copyOf(emptyArray, emptyArray.length - 1));
+  }
+
+  private SerializedArrayFraming() {}
+
+  /**
+   * @return the length of the framed message with the given length
+   */
+  static int framedLength(final int messageLength) {
+    return CLASS_HEADER.capacity() + varIntLength(messageLength + 1) + messageLength;
+  }
+
+  /**
+   * Writes the frame header of a message with the given length.
+   *
+   * @return the offset at which the message has to be written
+   */
+  static int writeHeader(final MutableDirectBuffer buffer, final int offset, final int length) {
+    buffer.putBytes(offset, CLASS_HEADER, 0, CLASS_HEADER.capacity());
+    int index = offset + CLASS_HEADER.capacity();
+    int value = length + 1;
+    while ((value & ~0x7F) != 0) {
+      buffer.putByte(index++, (byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.putByte(index++, (byte) value);
+    return index;
+  }
+
+  /**
+   * Reads the frame header of the given framed message.
+   *
+   * @return the offset of the message in the given buffer
+   * @throws IllegalArgumentException if the buffer does not contain a framed message
+   */
+  static int readHeader(final DirectBuffer buffer) {
+    final int headerLength = CLASS_HEADER.capacity();
+    for (int i = 0; i < headerLength; i++) {
+      if (i >= buffer.capacity() || buffer.getByte(i) != CLASS_HEADER.getByte(i)) {
+        throw new IllegalArgumentException(
+            "Expected message to start with the header of a serialized array, but it does not");
+      }
+    }
+
+    int index = headerLength;
+    int value = 0;
+    for (int shift = 0; shift < MAX_VAR_INT_LENGTH * 7; shift += 7) {
+      if (index >= buffer.capacity()) {
+        break;
+      }
+
+      final byte b = buffer.getByte(index++);
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        final int length = value - 1;
+        if (length < 0 || index + length != buffer.capacity()) {
+          break;
+        }
+        return index;
+      }
+    }
+
+    throw new IllegalArgumentException(
+        "Expected message to contain the length of a serialized array, but it does not");
+  }
+
+  private static int varIntLength(final int value) {
+    int length = 1;
+    int remaining = value >>> 7;
+    while (remaining != 0) {
+      length++;
+      remaining >>>= 7;
+    }
+    return length;
+  }
+}
@@ -15,6 +15,7 @@ import io.camunda.zeebe.broker.system.configuration.backpressure.GradientCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.LimitCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.LimitCfg.LimitAlgorithm;
 import io.camunda.zeebe.broker.system.configuration.backpressure.VegasCfg;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.LatencySloLimit;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -99,6 +100,37 @@ public final class BackpressureCfgTest {
     assertThat(gradient2Cfg.getLongWindow()).isEqualTo(300);
   }
 
+  @Test
+  public void shouldSetLatencySloCfg() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("backpressure-latency-slo-cfg", environment);
+    final LimitCfg backpressure = cfg.getBackpressure();
+    final var latencySlo = backpressure.getLatencySlo();
+
+    // then
+    assertThat(backpressure.getAlgorithm()).isEqualTo(LimitAlgorithm.LATENCY_SLO);
+    assertThat(latencySlo.getTargetLatency()).isEqualTo(Duration.ofMillis(50));
+    assertThat(latencySlo.getPercentile()).isEqualTo(0.95);
+    assertThat(latencySlo.getWindowSize()).isEqualTo(200);
+    assertThat(latencySlo.getInitialLimit()).isEqualTo(20);
+    assertThat(latencySlo.getMinLimit()).isEqualTo(2);
+    assertThat(latencySlo.getMaxLimit()).isEqualTo(400);
+    assertThat(latencySlo.getBackoffRatio()).isEqualTo(0.8);
+  }
+
+  @Test
+  public void shouldNotWindowLatencySloLimit() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("backpressure-latency-slo-cfg", environment);
+
+    // when
+    final var limit = cfg.getBackpressure().buildLimit();
+
+    // then
+    assertThat(limit).isInstanceOf(LatencySloLimit.class);
+    assertThat(limit.getLimit()).isEqualTo(20);
+  }
+
   @Test
   public void shouldUseConfiguredBackpressureAlgorithms() {
 
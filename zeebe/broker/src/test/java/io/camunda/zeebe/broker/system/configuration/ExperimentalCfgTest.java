@@ -9,12 +9,14 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.util.unit.DataSize;
 
 @Execution(ExecutionMode.CONCURRENT)
 final class ExperimentalCfgTest {
@@ -113,6 +115,55 @@ final class ExperimentalCfgTest {
     assertThat(raft.getPreferSnapshotReplicationThreshold()).isEqualTo(10);
   }
 
+  @Test
+  void shouldSetMaxInFlightSnapshotChunksFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxInFlightSnapshotChunks()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetMaxInFlightSnapshotChunksFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.maxInFlightSnapshotChunks", "8");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxInFlightSnapshotChunks()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldSetGroupFlushFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.isGroupFlushEnabled()).isTrue();
+    assertThat(raft.getGroupFlushWindow()).isEqualTo(Duration.ofMillis(2));
+  }
+
+  @Test
+  void shouldSetGroupFlushFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.groupFlushEnabled", "false");
+    environment.put("zeebe.broker.experimental.raft.groupFlushWindow", "5ms");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.isGroupFlushEnabled()).isFalse();
+    assertThat(raft.getGroupFlushWindow()).isEqualTo(Duration.ofMillis(5));
+  }
+
   @Test
   void shouldSetEnablePreconditionsFromConfig() {
     // when
@@ -181,4 +232,73 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetPreparedSegmentCountFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.preparedSegmentCount", "4");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getPreparedSegmentCount()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetCompressionFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.compression", "zstd");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getCompression()).isEqualTo(RecordCompression.ZSTD);
+  }
+
+  @Test
+  void shouldSetReadAheadSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.readAheadSize", "4MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getReadAheadSize()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  void shouldSetAdaptiveAppendWindowFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.isAdaptiveAppendWindowEnabled()).isTrue();
+    assertThat(experimental.getMaxAdaptiveAppendsPerFollower()).isEqualTo(8);
+    assertThat(experimental.getMaxAdaptiveAppendBatchSize()).isEqualTo(DataSize.ofKilobytes(512));
+  }
+
+  @Test
+  void shouldSetAdaptiveAppendWindowFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.adaptiveAppendWindowEnabled", "false");
+    environment.put("zeebe.broker.experimental.maxAdaptiveAppendsPerFollower", "32");
+    environment.put("zeebe.broker.experimental.maxAdaptiveAppendBatchSize", "2MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.isAdaptiveAppendWindowEnabled()).isFalse();
+    assertThat(experimental.getMaxAdaptiveAppendsPerFollower()).isEqualTo(32);
+    assertThat(experimental.getMaxAdaptiveAppendBatchSizeInBytes())
+        .isEqualTo(DataSize.ofMegabytes(2).toBytes());
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -80,6 +81,59 @@ final class ProcessingCfgTest {
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
 
+  @Test
+  void shouldDisableGroupCommitByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxCommandsInGroupCommit();
+
+    // then
+    assertThat(limit).isOne();
+    assertThat(cfg.getGroupCommitMaxDelay()).isEqualTo(Duration.ofMillis(5));
+  }
+
+  @Test
+  void shouldSetGroupCommitFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxCommandsInGroupCommit();
+
+    // then
+    assertThat(limit).isEqualTo(20);
+    assertThat(cfg.getGroupCommitMaxDelay()).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  void shouldSetMaxCommandsInGroupCommitFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxCommandsInGroupCommit", "30");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var limit = cfg.getMaxCommandsInGroupCommit();
+
+    // then
+    assertThat(limit).isEqualTo(30);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxCommandsInGroupCommit() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxCommandsInGroupCommit", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxCommandsInGroupCommit must be >= 1");
+  }
+
   @Test
   void shouldEnableAsyncScheduledTasksByDefault() {
     // given
@@ -155,6 +155,58 @@ public final class RocksdbCfgTest {
     assertThat(columnFamilyOptions).containsEntry("arena_block_size", "16777216");
   }
 
+  @Test
+  public void shouldSetColumnFamilyCacheSizesConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getColumnFamilyCacheSizes())
+        .containsExactly(Map.entry("JOBS", 100));
+  }
+
+  @Test
+  public void shouldSetColumnFamilyCacheSizesFromEnvironmentVariables() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.columnFamilyCacheSizes.element.instance.key", "1000");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then keys should be column family names
+    assertThat(rocksdb.getColumnFamilyCacheSizes())
+        .containsEntry("ELEMENT_INSTANCE_KEY", 1000)
+        .containsEntry("JOBS", 100);
+  }
+
+  @Test
+  public void shouldSetPrefixBloomFilterConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksdbConfiguration.getBloomFilterBitsPerKey()).isEqualTo(16);
+    assertThat(rocksdbConfiguration.getMemtablePrefixBloomSizeRatio()).isEqualTo(0.2);
+  }
+
+  @Test
+  public void shouldSetBloomFilterBitsPerKeyViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.bloomFilterBitsPerKey", "0");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getBloomFilterBitsPerKey()).isZero();
+  }
+
   @Test
   public void shouldEnableStatisticsViaEnvironmentVariables() {
     // given
@@ -115,4 +115,68 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldDisablePartitionAffinityByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean enabled = cfg.isPartitionAffinityEnabled();
+
+    // then
+    assertThat(enabled).isFalse();
+    assertThat(cfg.getPartitionAffinityStealThreshold()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldSetPartitionAffinityFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final boolean enabled = cfg.isPartitionAffinityEnabled();
+
+    // then
+    assertThat(enabled).isTrue();
+    assertThat(cfg.getPartitionAffinityStealThreshold()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldSetPartitionAffinityStealThresholdFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.partitionAffinityStealThreshold", "4");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final int threshold = cfg.getPartitionAffinityStealThreshold();
+
+    // then
+    assertThat(threshold).isEqualTo(4);
+  }
+
+  @Test
+  void shouldDisableVirtualIoThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean enabled = cfg.isVirtualIoThreadsEnabled();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldSetVirtualIoThreadsFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final boolean enabled = cfg.isVirtualIoThreadsEnabled();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
 }
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagePayload;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
@@ -207,9 +208,8 @@ final class InterPartitionCommandCheckpointTest {
   private void sendAndReceive(final ValueType valueType, final Intent intent) {
     sender.sendCommand(1, valueType, intent, new JobRecord());
 
-    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
-    verify(communicationService)
-        .unicast(eq(TOPIC_PREFIX + 1), messageCaptor.capture(), any(), any(), eq(true));
-    receiver.handleMessage(new MemberId("0"), messageCaptor.getValue());
+    final var messageCaptor = ArgumentCaptor.forClass(MessagePayload.class);
+    verify(communicationService).unicast(eq(TOPIC_PREFIX + 1), messageCaptor.capture(), any());
+    receiver.handleMessage(new MemberId("0"), messageCaptor.getValue().buffer());
   }
 }
@@ -19,6 +19,8 @@ import static org.mockito.Mockito.withSettings;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagePayload;
+import io.atomix.utils.serializer.serializers.DefaultSerializers;
 import io.camunda.zeebe.logstreams.impl.log.LogEntryDescriptor;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -31,10 +33,14 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 
@@ -220,7 +226,31 @@ final class InterPartitionCommandReceiverTest {
     assertThat(entryCaptor.getValue().key()).isEqualTo(LogEntryDescriptor.KEY_NULL_VALUE);
   }
 
-  private byte[] sendCommand(
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1024})
+  void shouldFrameMessageAsSerializedArray(final int correlationKeyLength) {
+    // given
+    final var correlationKey = BufferUtil.wrapString("k".repeat(correlationKeyLength));
+
+    // when
+    final var sentMessage =
+        sendCommand(
+            1,
+            5,
+            ValueType.MESSAGE_SUBSCRIPTION,
+            MessageSubscriptionIntent.CORRELATE,
+            new MessageSubscriptionRecord()
+                .setProcessInstanceKey(1)
+                .setElementInstanceKey(1)
+                .setCorrelationKey(correlationKey));
+
+    // then - brokers which still serialize the message as array can receive it and vice versa
+    final var framedMessage = BufferUtil.bufferAsArray(sentMessage);
+    final byte[] message = DefaultSerializers.BASIC.decode(framedMessage);
+    assertThat(DefaultSerializers.BASIC.encode(message)).isEqualTo(framedMessage);
+  }
+
+  private DirectBuffer sendCommand(
       final Integer receiverBrokerId,
       final Integer receiverPartitionId,
       final ValueType valueType,
@@ -229,7 +259,7 @@ final class InterPartitionCommandReceiverTest {
     return sendCommand(receiverBrokerId, receiverPartitionId, valueType, intent, null, recordValue);
   }
 
-  private byte[] sendCommand(
+  private DirectBuffer sendCommand(
       final Integer receiverBrokerId,
       final Integer receiverPartitionId,
       final ValueType valueType,
@@ -244,15 +274,10 @@ final class InterPartitionCommandReceiverTest {
 
     sender.sendCommand(receiverPartitionId, valueType, intent, recordKey, recordValue);
 
-    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    final var messageCaptor = ArgumentCaptor.forClass(MessagePayload.class);
     verify(communicationService)
-        .unicast(
-            eq(TOPIC_PREFIX + receiverPartitionId),
-            messageCaptor.capture(),
-            any(),
-            any(),
-            eq(true));
-
-    return messageCaptor.getValue();
+        .unicast(eq(TOPIC_PREFIX + receiverPartitionId), messageCaptor.capture(), any());
+
+    return messageCaptor.getValue().buffer();
   }
 }
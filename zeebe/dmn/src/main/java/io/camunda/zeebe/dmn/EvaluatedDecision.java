@@ -54,4 +54,12 @@ public interface EvaluatedDecision {
    * @return the matched rules, or an empty list if the decision is not a decision table
    */
   List<MatchedRule> matchedRules();
+
+  /**
+   * If the decision is a decision table then it returns the number of rules which were evaluated to
+   * find the matched rules.
+   *
+   * @return the number of evaluated rules, or 0 if the decision is not a decision table
+   */
+  int evaluatedRules();
 }
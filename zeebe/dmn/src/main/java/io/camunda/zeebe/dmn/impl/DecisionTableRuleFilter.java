@@ -0,0 +1,410 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.agrona.DirectBuffer;
+import org.camunda.dmn.parser.EmptyExpression$;
+import org.camunda.dmn.parser.FeelExpression;
+import org.camunda.dmn.parser.ParsedDecision;
+import org.camunda.dmn.parser.ParsedDecisionTable;
+import org.camunda.dmn.parser.ParsedExpression;
+import org.camunda.dmn.parser.ParsedInput;
+import org.camunda.dmn.parser.ParsedRule;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Selects the rules of a decision table which may match the given variables, so that dmn-scala
+ * only evaluates these rules instead of all rules of the decision table. The input entries of the
+ * rules are indexed per input: string literals in a hash index, and numeric comparisons and
+ * intervals in an index of ranges sorted by their lower bound. Other input entries are not indexed.
+ *
+ * <p>dmn-scala checks the input entries of a rule in order, and stops at the first entry which is
+ * not satisfied. A rule is only skipped if an indexed entry is not satisfied and all entries before
+ * it are known to be satisfied. Skipping it can then neither change the matched rules nor hide an
+ * evaluation failure. The order of the selected rules is kept, so all hit policies apply as before.
+ */
+final class DecisionTableRuleFilter {
+
+  private static final String NUMBER = "-?\\d+(?:\\.\\d+)?";
+  private static final Pattern STRING_LITERAL = Pattern.compile("\"([^\"\\\\]*)\"");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile(NUMBER);
+  private static final Pattern COMPARISON = Pattern.compile("(<=|>=|<|>)\\s*(" + NUMBER + ")");
+  private static final Pattern INTERVAL =
+      Pattern.compile(
+          "([\\[\\](])\\s*(" + NUMBER + ")\\s*\\.\\.\\s*(" + NUMBER + ")\\s*([\\[\\])])");
+  private static final Pattern VARIABLE_PATH =
+      Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*(?:\\.[a-zA-Z_][a-zA-Z0-9_]*)*");
+  private static final Set<String> LITERAL_NAMES = Set.of("true", "false", "null");
+
+  private final ParsedDecision decision;
+  private final ParsedDecisionTable decisionTable;
+  private final List<ParsedRule> rules;
+  private final List<InputIndex> inputIndices;
+
+  private DecisionTableRuleFilter(
+      final ParsedDecision decision,
+      final ParsedDecisionTable decisionTable,
+      final List<ParsedRule> rules,
+      final List<InputIndex> inputIndices) {
+    this.decision = decision;
+    this.decisionTable = decisionTable;
+    this.rules = rules;
+    this.inputIndices = inputIndices;
+  }
+
+  /**
+   * @return the filter for the rules of the decision table, or null if none of its input entries
+   *     can be indexed
+   */
+  static DecisionTableRuleFilter of(
+      final ParsedDecision decision, final ParsedDecisionTable decisionTable) {
+    final List<ParsedRule> rules = CollectionConverters.asJava(decisionTable.rules().toList());
+    final List<List<ParsedExpression>> inputEntries =
+        rules.stream()
+            .map(rule -> CollectionConverters.asJava(rule.inputEntries().toList()))
+            .toList();
+    final var inputIndices = new ArrayList<InputIndex>();
+    final var inputs = decisionTable.inputs().iterator();
+    boolean isIndexed = false;
+
+    for (int input = 0; inputs.hasNext(); input++) {
+      final var inputIndex = InputIndex.of(inputs.next(), input, inputEntries);
+      inputIndices.add(inputIndex);
+      isIndexed |= inputIndex.isIndexed();
+    }
+
+    return isIndexed
+        ? new DecisionTableRuleFilter(decision, decisionTable, rules, inputIndices)
+        : null;
+  }
+
+  ParsedDecision getDecision() {
+    return decision;
+  }
+
+  /**
+   * @return the decision with a decision table of the rules which may match the variables, or the
+   *     given decision if no rule can be skipped
+   */
+  ParsedDecision selectRules(final Map<String, Object> variables) {
+    final int ruleCount = rules.size();
+    final var skippedRules = new BitSet(ruleCount);
+    final var satisfiedRules = new BitSet(ruleCount);
+    satisfiedRules.set(0, ruleCount);
+    final var satisfiedEntries = new BitSet(ruleCount);
+    final var unsatisfiedEntries = new BitSet(ruleCount);
+
+    for (final var inputIndex : inputIndices) {
+      satisfiedEntries.clear();
+      unsatisfiedEntries.clear();
+      inputIndex.match(variables, satisfiedEntries, unsatisfiedEntries);
+
+      unsatisfiedEntries.and(satisfiedRules);
+      skippedRules.or(unsatisfiedEntries);
+      satisfiedRules.and(satisfiedEntries);
+      if (satisfiedRules.isEmpty()) {
+        break;
+      }
+    }
+
+    if (skippedRules.isEmpty()) {
+      return decision;
+    }
+
+    final var selectedRules = new ArrayList<ParsedRule>(ruleCount - skippedRules.cardinality());
+    for (int rule = skippedRules.nextClearBit(0);
+        rule < ruleCount;
+        rule = skippedRules.nextClearBit(rule + 1)) {
+      selectedRules.add(rules.get(rule));
+    }
+
+    final var selectedDecisionTable =
+        new ParsedDecisionTable(
+            decisionTable.inputs(),
+            decisionTable.outputs(),
+            CollectionConverters.asScala(selectedRules).toList(),
+            decisionTable.hitPolicy(),
+            decisionTable.aggregation());
+    return new ParsedDecision(
+        decision.id(),
+        decision.name(),
+        selectedDecisionTable,
+        decision.resultName(),
+        decision.resultType(),
+        decision.requiredDecisions(),
+        decision.requiredBkms());
+  }
+
+  /** Indexes the entries of all rules for one input of the decision table. */
+  private static final class InputIndex {
+    private final String[] variablePath;
+    private final BitSet anyValueRules = new BitSet();
+    private final BitSet stringRules = new BitSet();
+    private final Map<String, BitSet> rulesByString = new HashMap<>();
+    private final BitSet numberRules = new BitSet();
+    private final List<NumberRange> numberRanges = new ArrayList<>();
+
+    private InputIndex(final String[] variablePath) {
+      this.variablePath = variablePath;
+    }
+
+    private static InputIndex of(
+        final ParsedInput input,
+        final int inputIndex,
+        final List<List<ParsedExpression>> inputEntries) {
+      final var index = new InputIndex(getVariablePath(input.expression()));
+      for (int rule = 0; rule < inputEntries.size(); rule++) {
+        final var entries = inputEntries.get(rule);
+        if (inputIndex < entries.size()) {
+          index.addEntry(rule, entries.get(inputIndex));
+        }
+      }
+      index.numberRanges.sort(NumberRange.BY_LOWER_BOUND);
+      return index;
+    }
+
+    /**
+     * @return the path of the variable which is the input expression, or null if the input
+     *     expression is not a plain variable, and its value can't be resolved without evaluating it
+     */
+    private static String[] getVariablePath(final ParsedExpression expression) {
+      if (!(expression instanceof final FeelExpression feelExpression)) {
+        return null;
+      }
+
+      final var text = feelExpression.expression().text().trim();
+      if (!VARIABLE_PATH.matcher(text).matches() || LITERAL_NAMES.contains(text)) {
+        return null;
+      }
+      return text.split("\\.");
+    }
+
+    private boolean isIndexed() {
+      return variablePath != null && (!stringRules.isEmpty() || !numberRules.isEmpty());
+    }
+
+    private void addEntry(final int rule, final ParsedExpression entry) {
+      if (entry == EmptyExpression$.MODULE$) {
+        anyValueRules.set(rule);
+        return;
+      }
+      if (!(entry instanceof final FeelExpression feelExpression)) {
+        return;
+      }
+
+      final var text = feelExpression.expression().text().trim();
+      if (text.equals("-")) {
+        anyValueRules.set(rule);
+        return;
+      }
+
+      final var tests = splitTests(text);
+      final var strings = parseStrings(tests);
+      if (strings != null) {
+        stringRules.set(rule);
+        strings.forEach(
+            string -> rulesByString.computeIfAbsent(string, s -> new BitSet()).set(rule));
+        return;
+      }
+
+      final var ranges = parseNumberRanges(tests, rule);
+      if (ranges != null) {
+        numberRules.set(rule);
+        numberRanges.addAll(ranges);
+      }
+    }
+
+    /**
+     * Adds the rules whose entry is satisfied by the value of the input to the satisfied entries,
+     * and the rules whose entry is not satisfied to the unsatisfied entries. The entries of the
+     * other rules are not known to be satisfied or not, e.g. if the value is of a different type.
+     */
+    private void match(
+        final Map<String, Object> variables,
+        final BitSet satisfiedEntries,
+        final BitSet unsatisfiedEntries) {
+      satisfiedEntries.or(anyValueRules);
+
+      final var value = variablePath != null ? getValue(variables, variablePath) : null;
+      if (value instanceof final String string) {
+        final var matchingRules = rulesByString.get(string);
+        unsatisfiedEntries.or(stringRules);
+        if (matchingRules != null) {
+          satisfiedEntries.or(matchingRules);
+          unsatisfiedEntries.andNot(matchingRules);
+        }
+
+      } else if (value instanceof final BigDecimal number) {
+        // the ranges are sorted by their lower bound, so none of the remaining ranges contain it
+        for (final var range : numberRanges) {
+          if (range.lower() != null && range.lower().compareTo(number) > 0) {
+            break;
+          }
+          if (range.contains(number)) {
+            satisfiedEntries.set(range.rule());
+          }
+        }
+        unsatisfiedEntries.or(numberRules);
+        unsatisfiedEntries.andNot(satisfiedEntries);
+      }
+    }
+
+    private static List<String> splitTests(final String text) {
+      final var tests = new ArrayList<String>();
+      boolean isInString = false;
+      int start = 0;
+      for (int i = 0; i < text.length(); i++) {
+        final char c = text.charAt(i);
+        if (c == '"') {
+          isInString = !isInString;
+        } else if (c == ',' && !isInString) {
+          tests.add(text.substring(start, i).trim());
+          start = i + 1;
+        }
+      }
+      tests.add(text.substring(start).trim());
+      return tests;
+    }
+
+    private static List<String> parseStrings(final List<String> tests) {
+      final var strings = new ArrayList<String>(tests.size());
+      for (final var test : tests) {
+        final var matcher = STRING_LITERAL.matcher(test);
+        if (!matcher.matches()) {
+          return null;
+        }
+        strings.add(matcher.group(1));
+      }
+      return strings;
+    }
+
+    private static List<NumberRange> parseNumberRanges(final List<String> tests, final int rule) {
+      final var ranges = new ArrayList<NumberRange>(tests.size());
+      for (final var test : tests) {
+        final var range = parseNumberRange(test, rule);
+        if (range == null) {
+          return null;
+        }
+        ranges.add(range);
+      }
+      return ranges;
+    }
+
+    private static NumberRange parseNumberRange(final String test, final int rule) {
+      if (NUMBER_LITERAL.matcher(test).matches()) {
+        final var number = new BigDecimal(test);
+        return new NumberRange(number, true, number, true, rule);
+      }
+
+      final var comparison = COMPARISON.matcher(test);
+      if (comparison.matches()) {
+        final var number = new BigDecimal(comparison.group(2));
+        return switch (comparison.group(1)) {
+          case "<" -> new NumberRange(null, false, number, false, rule);
+          case "<=" -> new NumberRange(null, false, number, true, rule);
+          case ">" -> new NumberRange(number, false, null, false, rule);
+          default -> new NumberRange(number, true, null, false, rule);
+        };
+      }
+
+      final var interval = INTERVAL.matcher(test);
+      if (interval.matches()) {
+        return new NumberRange(
+            new BigDecimal(interval.group(2)),
+            interval.group(1).equals("["),
+            new BigDecimal(interval.group(3)),
+            interval.group(4).equals("]"),
+            rule);
+      }
+
+      return null;
+    }
+
+    /**
+     * @return the value of the variable as it is compared by FEEL, or null if it is not a string
+     *     or a number, or if the variable doesn't exist
+     */
+    private static Object getValue(final Map<String, Object> variables, final String[] path) {
+      Object value = variables;
+      for (final var name : path) {
+        if (!(value instanceof final Map<?, ?> context)) {
+          return null;
+        }
+        value = context.get(name);
+      }
+
+      return switch (value) {
+        case final String string -> string;
+        case final Integer number -> BigDecimal.valueOf(number);
+        case final Long number -> BigDecimal.valueOf(number);
+        case final Double number when Double.isFinite(number) -> BigDecimal.valueOf(number);
+        case final BigDecimal number -> number;
+        case final DirectBuffer buffer -> readMessagePackValue(buffer);
+        case null, default -> null;
+      };
+    }
+
+    private static Object readMessagePackValue(final DirectBuffer buffer) {
+      if (buffer.capacity() == 0) {
+        return null;
+      }
+
+      final var reader = new MsgPackReader();
+      reader.wrap(buffer, 0, buffer.capacity());
+      final var token = reader.readToken();
+      return switch (token.getType()) {
+        case STRING -> bufferAsString(token.getValueBuffer());
+        case INTEGER -> BigDecimal.valueOf(token.getIntegerValue());
+        case FLOAT ->
+            Double.isFinite(token.getFloatValue())
+                ? BigDecimal.valueOf(token.getFloatValue())
+                : null;
+        default -> null;
+      };
+    }
+  }
+
+  /** A range of numbers which satisfy an entry of a rule, a null bound is unbounded. */
+  private record NumberRange(
+      BigDecimal lower,
+      boolean isLowerInclusive,
+      BigDecimal upper,
+      boolean isUpperInclusive,
+      int rule) {
+
+    private static final Comparator<NumberRange> BY_LOWER_BOUND =
+        Comparator.comparing(NumberRange::lower, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private boolean contains(final BigDecimal number) {
+      if (lower != null) {
+        final int comparison = lower.compareTo(number);
+        if (comparison > 0 || (comparison == 0 && !isLowerInclusive)) {
+          return false;
+        }
+      }
+
+      if (upper != null) {
+        final int comparison = upper.compareTo(number);
+        return comparison > 0 || (comparison == 0 && isUpperInclusive);
+      }
+      return true;
+    }
+  }
+}
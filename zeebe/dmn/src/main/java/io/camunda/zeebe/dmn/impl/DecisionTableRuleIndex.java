@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.camunda.dmn.parser.ParsedDecision;
+import org.camunda.dmn.parser.ParsedDecisionLogic;
+import org.camunda.dmn.parser.ParsedDecisionTable;
+import org.camunda.dmn.parser.ParsedDmn;
+import org.camunda.dmn.parser.ParsedRule;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Indexes the rules of the decision tables of a DRG. The index of a matched rule can be looked up
+ * directly, instead of searching the rules of its decision table for every matched rule. Before a
+ * decision table is evaluated, the rules which can't match the variables are skipped by its {@link
+ * DecisionTableRuleFilter}. The index is built once when the DRG is parsed, and is not modified
+ * afterward.
+ */
+final class DecisionTableRuleIndex {
+
+  private final Map<ParsedRule, Integer> ruleIndices = new IdentityHashMap<>();
+  private final Map<String, DecisionTableRuleFilter> ruleFiltersByDecisionId = new HashMap<>();
+
+  private DecisionTableRuleIndex() {}
+
+  static DecisionTableRuleIndex of(final ParsedDmn parsedDmn) {
+    final var index = new DecisionTableRuleIndex();
+    parsedDmn
+        .decisions()
+        .foreach(
+            decision -> {
+              if (decision.logic() instanceof final ParsedDecisionTable decisionTable) {
+                index.addDecisionTable(decision, decisionTable);
+              }
+              return null;
+            });
+    return index;
+  }
+
+  private void addDecisionTable(
+      final ParsedDecision decision, final ParsedDecisionTable decisionTable) {
+    final var rules = decisionTable.rules().iterator();
+    int ruleIndex = 1;
+    while (rules.hasNext()) {
+      ruleIndices.put(rules.next(), ruleIndex++);
+    }
+
+    // the inputs of a decision which requires other decisions or knowledge models may refer to
+    // their results, which are not known before the decision is evaluated
+    if (decision.requiredDecisions().isEmpty() && decision.requiredBkms().isEmpty()) {
+      final var ruleFilter = DecisionTableRuleFilter.of(decision, decisionTable);
+      if (ruleFilter != null) {
+        ruleFiltersByDecisionId.put(decision.id(), ruleFilter);
+      }
+    }
+  }
+
+  /**
+   * @return the DRG in which the decision table of the given decision only contains the rules which
+   *     may match the variables, or the given DRG if no rule can be skipped
+   */
+  ParsedDmn selectRules(
+      final ParsedDmn parsedDmn, final String decisionId, final Map<String, Object> variables) {
+    final var ruleFilter = ruleFiltersByDecisionId.get(decisionId);
+    if (ruleFilter == null) {
+      return parsedDmn;
+    }
+
+    final var selectedDecision = ruleFilter.selectRules(variables);
+    if (selectedDecision == ruleFilter.getDecision()) {
+      return parsedDmn;
+    }
+
+    final var decisions = new ArrayList<ParsedDecision>();
+    parsedDmn
+        .decisions()
+        .foreach(
+            decision ->
+                decisions.add(decision.id().equals(decisionId) ? selectedDecision : decision));
+    return new ParsedDmn(parsedDmn.model(), CollectionConverters.asScala(decisions).toList());
+  }
+
+  /**
+   * @return the index of the rule in the decision table, starting at 1, or -1 if the decision logic
+   *     is not a decision table
+   */
+  int getRuleIndex(final ParsedDecisionLogic decisionLogic, final ParsedRule rule) {
+    if (!(decisionLogic instanceof final ParsedDecisionTable decisionTable)) {
+      return -1;
+    }
+
+    // the rules are indexed by identity, so that the rules of a decision table which only contains
+    // the selected rules keep the index of the rule in the original decision table
+    final var ruleIndex = ruleIndices.get(rule);
+    if (ruleIndex != null) {
+      return ruleIndex;
+    }
+
+    // decision tables which are not the logic of a decision, e.g. of a business knowledge model,
+    // are not indexed
+    return decisionTable.rules().toList().indexOf(rule) + 1;
+  }
+
+  /**
+   * @return the number of rules of the evaluated decision table, which excludes the rules skipped
+   *     by its filter, or 0 if the decision logic is not a decision table
+   */
+  int getRuleCount(final ParsedDecisionLogic decisionLogic) {
+    if (!(decisionLogic instanceof final ParsedDecisionTable decisionTable)) {
+      return 0;
+    }
+
+    return decisionTable.rules().size();
+  }
+}
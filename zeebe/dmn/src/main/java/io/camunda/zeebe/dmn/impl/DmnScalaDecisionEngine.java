@@ -93,14 +93,19 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
           decisionId);
     }
 
-    final var parsedDmn = ((ParsedDmnScalaDrg) decisionRequirementsGraph).getParsedDmn();
+    final var parsedDrg = (ParsedDmnScalaDrg) decisionRequirementsGraph;
     // todo(#8092): pass in context that allows fetching variable by name (lazy)
-    final Either<EvalFailure, EvalResult> result =
-        dmnEngine.eval(parsedDmn, decisionId, evalContext.toMap());
+    final var variables = evalContext.toMap();
+    // only the rules of the decision table which may match the variables are evaluated
+    final var parsedDmn =
+        parsedDrg.getRuleIndex().selectRules(parsedDrg.getParsedDmn(), decisionId, variables);
+    final Either<EvalFailure, EvalResult> result = dmnEngine.eval(parsedDmn, decisionId, variables);
     final AuditLog auditLog =
         result.map(EvalResult::auditLog).getOrElse(() -> result.left().get().auditLog());
     final var evaluatedDecisions =
-        Optional.ofNullable(auditLog).map(this::getEvaluatedDecisions).orElse(List.of());
+        Optional.ofNullable(auditLog)
+            .map(log -> getEvaluatedDecisions(log, parsedDrg.getRuleIndex()))
+            .orElse(List.of());
 
     if (result.isLeft()) {
       final var reason = result.left().get().failure().message();
@@ -135,14 +140,15 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
             Val.class, output.getClass()));
   }
 
-  private List<EvaluatedDecision> getEvaluatedDecisions(final AuditLog auditLog) {
+  private List<EvaluatedDecision> getEvaluatedDecisions(
+      final AuditLog auditLog, final DecisionTableRuleIndex ruleIndex) {
     final var evaluatedDecisions = new ArrayList<EvaluatedDecision>();
     auditLog
         .entries()
         .foreach(
             auditLogEntry -> {
               final var evaluatedDecision =
-                  EvaluatedDmnScalaDecision.of(auditLogEntry, this::toMessagePack);
+                  EvaluatedDmnScalaDecision.of(auditLogEntry, ruleIndex, this::toMessagePack);
               return evaluatedDecisions.add(evaluatedDecision);
             });
 
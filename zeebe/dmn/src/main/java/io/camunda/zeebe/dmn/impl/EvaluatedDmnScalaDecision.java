@@ -27,7 +27,6 @@ import org.camunda.dmn.parser.ParsedInvocation;
 import org.camunda.dmn.parser.ParsedList;
 import org.camunda.dmn.parser.ParsedLiteralExpression;
 import org.camunda.dmn.parser.ParsedRelation;
-import org.camunda.dmn.parser.ParsedRule;
 import org.camunda.feel.syntaxtree.Val;
 
 public record EvaluatedDmnScalaDecision(
@@ -36,7 +35,8 @@ public record EvaluatedDmnScalaDecision(
     DecisionType decisionType,
     DirectBuffer decisionOutput,
     List<EvaluatedInput> evaluatedInputs,
-    List<MatchedRule> matchedRules)
+    List<MatchedRule> matchedRules,
+    int evaluatedRules)
     implements EvaluatedDecision {
 
   private static final Map<Class<? extends ParsedDecisionLogic>, DecisionType>
@@ -50,7 +50,9 @@ public record EvaluatedDmnScalaDecision(
               entry(ParsedInvocation.class, DecisionType.INVOCATION));
 
   public static EvaluatedDmnScalaDecision of(
-      final AuditLogEntry auditLogEntry, final Function<Val, DirectBuffer> converter) {
+      final AuditLogEntry auditLogEntry,
+      final DecisionTableRuleIndex ruleIndex,
+      final Function<Val, DirectBuffer> converter) {
     final DecisionType decisionType = getDecisionType(auditLogEntry.decisionLogic());
     final var evaluationResult = auditLogEntry.result();
     final var decisionOutput = converter.apply(evaluationResult.result());
@@ -74,7 +76,8 @@ public record EvaluatedDmnScalaDecision(
                 final var matchedRule =
                     MatchedDmnScalaRule.of(
                         evaluatedRule,
-                        getRuleIndex(auditLogEntry.decisionLogic(), evaluatedRule.rule()),
+                        ruleIndex.getRuleIndex(
+                            auditLogEntry.decisionLogic(), evaluatedRule.rule()),
                         converter);
                 return matchedRules.add(matchedRule);
               });
@@ -86,22 +89,11 @@ public record EvaluatedDmnScalaDecision(
         decisionType,
         decisionOutput,
         evaluatedInputs,
-        matchedRules);
+        matchedRules,
+        ruleIndex.getRuleCount(auditLogEntry.decisionLogic()));
   }
 
   private static DecisionType getDecisionType(final ParsedDecisionLogic decisionLogic) {
     return DECISION_TYPE_MAPPING.getOrDefault(decisionLogic.getClass(), DecisionType.UNKNOWN);
   }
-
-  // TODO (dmn-scala#136): read the rule index from the parsed rule object
-  private static int getRuleIndex(final ParsedDecisionLogic decisionLogic, final ParsedRule rule) {
-
-    if (decisionLogic instanceof ParsedDecisionTable decisionTable) {
-      final var rules = decisionTable.rules().toList();
-      return rules.indexOf(rule) + 1;
-
-    } else {
-      return -1;
-    }
-  }
 }
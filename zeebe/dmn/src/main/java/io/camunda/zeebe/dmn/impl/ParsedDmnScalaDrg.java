@@ -23,18 +23,21 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
   private final String decisionRequirementsName;
   private final String decisionRequirementsNamespace;
   private final List<ParsedDecision> decisions;
+  private final DecisionTableRuleIndex ruleIndex;
 
   private ParsedDmnScalaDrg(
       final ParsedDmn parsedDmn,
       final String decisionRequirementsId,
       final String decisionRequirementsName,
       final String decisionRequirementsNamespace,
-      final List<ParsedDecision> decisions) {
+      final List<ParsedDecision> decisions,
+      final DecisionTableRuleIndex ruleIndex) {
     this.parsedDmn = parsedDmn;
     this.decisionRequirementsId = decisionRequirementsId;
     this.decisionRequirementsName = decisionRequirementsName;
     this.decisionRequirementsNamespace = decisionRequirementsNamespace;
     this.decisions = decisions;
+    this.ruleIndex = ruleIndex;
   }
 
   @Override
@@ -71,6 +74,10 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
     return parsedDmn;
   }
 
+  DecisionTableRuleIndex getRuleIndex() {
+    return ruleIndex;
+  }
+
   public static ParsedDmnScalaDrg of(final ParsedDmn parsedDmn) {
 
     final DmnModelInstance modelInstance = parsedDmn.model();
@@ -80,7 +87,9 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
     final String namespace = definitions.getNamespace();
     final List<ParsedDecision> parsedDecisions = getParsedDecisions(parsedDmn);
 
-    return new ParsedDmnScalaDrg(parsedDmn, id, name, namespace, parsedDecisions);
+    final var ruleIndex = DecisionTableRuleIndex.of(parsedDmn);
+
+    return new ParsedDmnScalaDrg(parsedDmn, id, name, namespace, parsedDecisions, ruleIndex);
   }
 
   private static List<ParsedDecision> getParsedDecisions(final ParsedDmn parsedDmn) {
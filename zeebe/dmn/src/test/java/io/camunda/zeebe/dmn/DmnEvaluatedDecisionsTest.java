@@ -28,6 +28,8 @@ class DmnEvaluatedDecisionsTest {
 
   private static final String VALID_DRG = "/drg-force-user.dmn";
   private static final String DRG_WITH_ASSERTIONS = "/drg-force-user-with-assertions.dmn";
+  private static final String DECISION_TABLE_WITH_INDEXED_RULES =
+      "/decision-table-with-indexed-rules.dmn";
 
   private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
 
@@ -78,6 +80,9 @@ class DmnEvaluatedDecisionsTest {
     assertEquality(evaluatedInput.inputValue(), "'blue'");
 
     assertThat(evaluatedDecision.matchedRules()).hasSize(1);
+    assertThat(evaluatedDecision.evaluatedRules())
+        .describedAs("Expect that the rules for other lightsaber colors are skipped")
+        .isEqualTo(1);
 
     final var matchedRules = evaluatedDecision.matchedRules().get(0);
     assertThat(matchedRules.ruleId()).isEqualTo("DecisionRule_0zumznl");
@@ -91,6 +96,79 @@ class DmnEvaluatedDecisionsTest {
     assertEquality(evaluatedOutput.outputValue(), "'Jedi'");
   }
 
+  @Test
+  @DisplayName("Should return the index of the matched rule")
+  void shouldReturnIndexOfMatchedRule() {
+    // given
+    final var inputStream = getClass().getResourceAsStream(VALID_DRG);
+    final var parsedDrg = decisionEngine.parse(inputStream);
+
+    // when
+    final var context = new VariablesContext(Map.of("lightsaberColor", asMsgPack("'red'")));
+    final var result = decisionEngine.evaluateDecisionById(parsedDrg, "jedi_or_sith", context);
+
+    // then
+    assertThat(result.getEvaluatedDecisions()).hasSize(1);
+
+    final var evaluatedDecision = result.getEvaluatedDecisions().get(0);
+    assertThat(evaluatedDecision.matchedRules())
+        .extracting(MatchedRule::ruleId, MatchedRule::ruleIndex)
+        .containsExactly(tuple("DecisionRule_1bwgcym", 3));
+  }
+
+  @Test
+  @DisplayName("Should only evaluate the rules which may match")
+  void shouldOnlyEvaluateRulesWhichMayMatch() {
+    // given
+    final var inputStream = getClass().getResourceAsStream(DECISION_TABLE_WITH_INDEXED_RULES);
+    final var parsedDrg = decisionEngine.parse(inputStream);
+
+    // when
+    final var context =
+        new VariablesContext(Map.of("customerType", "business", "order", Map.of("amount", 500)));
+    final var result = decisionEngine.evaluateDecisionById(parsedDrg, "discount", context);
+
+    // then
+    assertThat(result.isFailure()).isFalse();
+    assertThat(result.getEvaluatedDecisions()).hasSize(1);
+
+    final var evaluatedDecision = result.getEvaluatedDecisions().get(0);
+    assertThat(evaluatedDecision.matchedRules())
+        .extracting(MatchedRule::ruleId, MatchedRule::ruleIndex)
+        .containsExactly(
+            tuple("business_small_order", 1),
+            tuple("any_order_between", 5),
+            tuple("not_private", 7));
+    assertThat(evaluatedDecision.evaluatedRules())
+        .describedAs("Expect that only the rules which may match are evaluated")
+        .isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should evaluate the rules with input entries which are not indexed")
+  void shouldEvaluateRulesWithInputEntriesWhichAreNotIndexed() {
+    // given
+    final var inputStream = getClass().getResourceAsStream(DECISION_TABLE_WITH_INDEXED_RULES);
+    final var parsedDrg = decisionEngine.parse(inputStream);
+
+    // when
+    final var context =
+        new VariablesContext(Map.of("customerType", "other", "order", Map.of("amount", 20000)));
+    final var result = decisionEngine.evaluateDecisionById(parsedDrg, "discount", context);
+
+    // then
+    assertThat(result.isFailure()).isFalse();
+    assertThat(result.getEvaluatedDecisions()).hasSize(1);
+
+    final var evaluatedDecision = result.getEvaluatedDecisions().get(0);
+    assertThat(evaluatedDecision.matchedRules())
+        .extracting(MatchedRule::ruleId, MatchedRule::ruleIndex)
+        .containsExactly(tuple("huge_order", 6), tuple("not_private", 7));
+    assertThat(evaluatedDecision.evaluatedRules())
+        .describedAs("Expect that the rule with an entry which is not indexed is evaluated")
+        .isEqualTo(2);
+  }
+
   @Test
   @DisplayName("Should return all evaluated decisions")
   void shouldReturnResultOfAllEvaluatedDecisions() {
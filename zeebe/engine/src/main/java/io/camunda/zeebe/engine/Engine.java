@@ -136,7 +136,6 @@ public class Engine implements RecordProcessor {
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
-
       final var typedCommand = (TypedRecord<?>) record;
       TypedRecordProcessor<?> processor = null;
       try {
@@ -12,6 +12,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.BpmnEventType;
 import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
 
 public final class ProcessEngineMetrics {
 
@@ -69,6 +70,17 @@ public final class ProcessEngineMetrics {
           .help("Number of created (root) process instances")
           .labelNames(PARTITION_LABEL, CREATION_MODE_LABEL)
           .register();
+  private static final String RULES_LABEL = "rules";
+  private static final String RULES_EVALUATED = "evaluated";
+  private static final String RULES_MATCHED = "matched";
+  static final Histogram DECISION_TABLE_RULES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("decision_table_rules")
+          .help("Number of evaluated and matched rules per evaluated decision table")
+          .labelNames(PARTITION_LABEL, RULES_LABEL)
+          .buckets(1, 10, 100, 1_000, 10_000)
+          .register();
   private final String partitionIdLabel;
 
   public ProcessEngineMetrics(final int partitionId) {
@@ -149,6 +161,11 @@ public final class ProcessEngineMetrics {
     EVALUATED_DMN_ELEMENTS.labels(ORGANIZATION_ID, action, partitionIdLabel).inc(amount);
   }
 
+  public void observeDecisionTableRules(final int evaluatedRules, final int matchedRules) {
+    DECISION_TABLE_RULES.labels(partitionIdLabel, RULES_EVALUATED).observe(evaluatedRules);
+    DECISION_TABLE_RULES.labels(partitionIdLabel, RULES_MATCHED).observe(matchedRules);
+  }
+
   private String extractEventTypeName(final BpmnEventType eventType) {
     return eventType != null ? eventType.name() : BpmnEventType.UNSPECIFIED.name();
   }
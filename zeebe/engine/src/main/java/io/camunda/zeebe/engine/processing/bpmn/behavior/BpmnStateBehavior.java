@@ -22,6 +22,7 @@ import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 
@@ -176,6 +177,27 @@ public final class BpmnStateBehavior {
         valueLength);
   }
 
+  public void collectOutputElement(
+      final BpmnElementContext childContext,
+      final BpmnElementContext flowScopeContext,
+      final DirectBuffer variableName,
+      final DirectBuffer outputElement) {
+    variableBehavior.collectOutputElement(
+        childContext.getElementInstanceKey(),
+        flowScopeContext.getElementInstanceKey(),
+        flowScopeContext.getProcessDefinitionKey(),
+        flowScopeContext.getProcessInstanceKey(),
+        flowScopeContext.getBpmnProcessId(),
+        flowScopeContext.getTenantId(),
+        variableName,
+        outputElement);
+  }
+
+  public void visitOutputElements(
+      final BpmnElementContext context, final ObjIntConsumer<DirectBuffer> outputElementVisitor) {
+    variablesState.visitOutputElements(context.getElementInstanceKey(), outputElementVisitor);
+  }
+
   public void propagateVariable(final BpmnElementContext context, final DirectBuffer variableName) {
 
     final var sourceScope = context.getElementInstanceKey();
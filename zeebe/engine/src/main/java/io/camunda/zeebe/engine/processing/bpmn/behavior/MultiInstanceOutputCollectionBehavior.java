@@ -12,6 +12,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackToken;
@@ -22,13 +23,32 @@ import io.camunda.zeebe.util.Either;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Collects the output elements of the child instances of a multi-instance body into its output
+ * collection.
+ *
+ * <p>Rewriting the whole output collection on every completed child instance is quadratic in the
+ * size of the collection, for the state as well as for the written records. Instead, the output
+ * element of each completed child instance is stored separately at its index, and the output
+ * collection variable is only updated once, when the multi-instance body completes. Until then, the
+ * output collection variable keeps the value it was initialized with, and a failure to update it,
+ * e.g. because another element changed its type, is raised on the multi-instance body when it
+ * completes.
+ *
+ * <p>The output collection is still updated on every completed child instance if it may be read
+ * before the multi-instance body completes: by the next iteration of a sequential multi-instance
+ * body, or by a completion condition which references it.
+ */
 public final class MultiInstanceOutputCollectionBehavior {
 
   private final MsgPackReader outputCollectionReader = new MsgPackReader();
   private final MsgPackWriter outputCollectionWriter = new MsgPackWriter();
   private final ExpandableArrayBuffer outputCollectionBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer currentCollectionBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer currentCollectionView = new UnsafeBuffer(0, 0);
   private final DirectBuffer updatedOutputCollectionBuffer = new UnsafeBuffer(0, 0);
 
   private final BpmnStateBehavior stateBehavior;
@@ -56,20 +76,71 @@ public final class MultiInstanceOutputCollectionBehavior {
     stateBehavior.setLocalVariable(context, variableName, outputCollectionBuffer, 0, length);
   }
 
-  public Either<Failure, Void> updateOutputCollection(
+  /**
+   * Evaluates the output element of the completing child instance, and collects it at the index of
+   * the child instance. The output collection itself is updated when the multi-instance body
+   * completes, see {@link #completeOutputCollection(ExecutableMultiInstanceBody,
+   * BpmnElementContext)}, unless it may be read before by a sequential iteration or by the
+   * completion condition. Then, the element is written into the output collection immediately.
+   */
+  public Either<Failure, Void> collectOutputElement(
       final ExecutableMultiInstanceBody element,
       final BpmnElementContext childContext,
       final BpmnElementContext flowScopeContext) {
 
-    return element
-        .getLoopCharacteristics()
+    final var loopCharacteristics = element.getLoopCharacteristics();
+    return loopCharacteristics
         .getOutputCollection()
         .map(
-            variableName ->
-                updateOutputCollection(element, childContext, flowScopeContext, variableName))
+            variableName -> {
+              if (isReadBeforeCompletion(loopCharacteristics, variableName)) {
+                return updateOutputCollection(
+                    element, childContext, flowScopeContext, variableName);
+              }
+
+              return readOutputElementVariable(element, childContext)
+                  .map(
+                      elementVariable -> {
+                        stateBehavior.collectOutputElement(
+                            childContext, flowScopeContext, variableName, elementVariable);
+                        return (Void) null;
+                      });
+            })
         .orElse(Either.right(null));
   }
 
+  /**
+   * Writes the output elements collected so far into the output collection variable of the
+   * completing multi-instance body, replacing the elements at their index. Elements which were not
+   * collected keep their current value.
+   */
+  public Either<Failure, Void> completeOutputCollection(
+      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+
+    final var loopCharacteristics = element.getLoopCharacteristics();
+    return loopCharacteristics
+        .getOutputCollection()
+        .filter(variableName -> !isReadBeforeCompletion(loopCharacteristics, variableName))
+        .map(variableName -> completeOutputCollection(context, variableName))
+        .orElse(Either.right(null));
+  }
+
+  /**
+   * Returns {@code true} if the output collection may be read before the multi-instance body
+   * completes, i.e. by the next iteration of a sequential multi-instance body, or by the completion
+   * condition. In this case, it must contain the output elements of all completed child instances.
+   */
+  private boolean isReadBeforeCompletion(
+      final ExecutableLoopCharacteristics loopCharacteristics, final DirectBuffer variableName) {
+    return loopCharacteristics.isSequential()
+        || loopCharacteristics
+            .getCompletionCondition()
+            .map(
+                condition ->
+                    condition.getReferencedVariableNames().contains(bufferAsString(variableName)))
+            .orElse(false);
+  }
+
   private Either<Failure, Void> updateOutputCollection(
       final ExecutableMultiInstanceBody element,
       final BpmnElementContext childContext,
@@ -82,10 +153,8 @@ public final class MultiInstanceOutputCollectionBehavior {
     return readOutputElementVariable(element, childContext)
         .flatMap(
             elementVariable -> {
-              // we need to read the output element variable before the current collection
-              // is read, because readOutputElementVariable(Context) uses the same
-              // buffer as getVariableLocal this could also be avoided by cloning the current
-              // collection, but that is slower.
+              // the output element must be read before the current collection, because both may
+              // be read into the same buffer
               final var currentCollection =
                   stateBehavior.getLocalVariable(flowScopeContext, variableName);
               return replaceAt(
@@ -103,12 +172,84 @@ public final class MultiInstanceOutputCollectionBehavior {
             });
   }
 
+  private Either<Failure, Void> completeOutputCollection(
+      final BpmnElementContext context, final DirectBuffer variableName) {
+
+    // copy the current collection, as visiting the output elements may reuse the buffer which the
+    // variable is read into
+    final var currentCollection = stateBehavior.getLocalVariable(context, variableName);
+    currentCollectionBuffer.putBytes(0, currentCollection, 0, currentCollection.capacity());
+    currentCollectionView.wrap(currentCollectionBuffer, 0, currentCollection.capacity());
+
+    return replaceCollectedElements(currentCollectionView, context, variableName)
+        .map(
+            updatedCollection -> {
+              stateBehavior.setLocalVariable(context, variableName, updatedCollection);
+              return null;
+            });
+  }
+
   private Either<Failure, DirectBuffer> readOutputElementVariable(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
     final var expression = element.getLoopCharacteristics().getOutputElement().orElseThrow();
     return expressionProcessor.evaluateAnyExpression(expression, context.getElementInstanceKey());
   }
 
+  private Either<Failure, DirectBuffer> replaceCollectedElements(
+      final DirectBuffer array, final BpmnElementContext context, final DirectBuffer variableName) {
+
+    final var variableScopeKey = context.getElementInstanceKey();
+    outputCollectionReader.wrap(array, 0, array.capacity());
+    final var token = outputCollectionReader.readToken();
+
+    final var optTypeFailure = validateIsCollection(variableScopeKey, variableName, token);
+    if (optTypeFailure.isPresent()) {
+      return Either.left(optTypeFailure.get());
+    }
+
+    final int size = token.getSize();
+    final var copiedOffset = new MutableInteger(outputCollectionReader.getOffset());
+    final var nextIndex = new MutableInteger(1);
+    final var outOfBoundsIndex = new MutableInteger(-1);
+
+    outputCollectionWriter.wrap(outputCollectionBuffer, 0);
+    outputCollectionWriter.writeArrayHeader(size);
+
+    stateBehavior.visitOutputElements(
+        context,
+        (outputElement, index) -> {
+          if (index > size) {
+            if (outOfBoundsIndex.get() < 0) {
+              outOfBoundsIndex.set(index);
+            }
+            return;
+          }
+
+          // copy the elements in between unchanged, and replace the element at the index
+          outputCollectionReader.skipValues((long) index - nextIndex.get());
+          outputCollectionWriter.writeRaw(
+              array, copiedOffset.get(), outputCollectionReader.getOffset() - copiedOffset.get());
+          outputCollectionReader.skipValue();
+          outputCollectionWriter.writeRaw(outputElement);
+
+          copiedOffset.set(outputCollectionReader.getOffset());
+          nextIndex.set(index + 1);
+        });
+
+    if (outOfBoundsIndex.get() > 0) {
+      return Either.left(
+          createOutOfBoundsFailure(outOfBoundsIndex.get(), size, variableScopeKey, variableName));
+    }
+
+    outputCollectionWriter.writeRaw(
+        array, copiedOffset.get(), array.capacity() - copiedOffset.get());
+
+    final var length = outputCollectionWriter.getOffset();
+
+    updatedOutputCollectionBuffer.wrap(outputCollectionBuffer, 0, length);
+    return Either.right(updatedOutputCollectionBuffer);
+  }
+
   private Either<Failure, DirectBuffer> replaceAt(
       final DirectBuffer array,
       final int index,
@@ -119,10 +260,14 @@ public final class MultiInstanceOutputCollectionBehavior {
     outputCollectionReader.wrap(array, 0, array.capacity());
     final var token = outputCollectionReader.readToken();
 
-    final var optValidationFailure =
-        validateIsCollectionAndHasAppropriateSIze(index, variableScopeKey, variableName, token);
-    if (optValidationFailure.isPresent()) {
-      return Either.left(optValidationFailure.get());
+    final var optTypeFailure = validateIsCollection(variableScopeKey, variableName, token);
+    if (optTypeFailure.isPresent()) {
+      return Either.left(optTypeFailure.get());
+    }
+
+    final int size = token.getSize();
+    if (index > size) {
+      return Either.left(createOutOfBoundsFailure(index, size, variableScopeKey, variableName));
     }
 
     outputCollectionReader.skipValues((long) index - 1L);
@@ -142,11 +287,8 @@ public final class MultiInstanceOutputCollectionBehavior {
     return Either.right(updatedOutputCollectionBuffer);
   }
 
-  private Optional<Failure> validateIsCollectionAndHasAppropriateSIze(
-      final int index,
-      final long variableScopeKey,
-      final DirectBuffer variableName,
-      final MsgPackToken token) {
+  private Optional<Failure> validateIsCollection(
+      final long variableScopeKey, final DirectBuffer variableName, final MsgPackToken token) {
     if (token.getType() != MsgPackType.ARRAY) {
       return Optional.of(
           new Failure(
@@ -155,16 +297,18 @@ public final class MultiInstanceOutputCollectionBehavior {
               ErrorType.EXTRACT_VALUE_ERROR,
               variableScopeKey));
     }
-
-    final int size = token.getSize();
-    if (index > size) {
-      return Optional.of(
-          new Failure(
-              "Unable to update an item in output collection '%s' at position %d because the size of the collection is: %d. This may happen when multiple BPMN elements write to the same variable."
-                  .formatted(bufferAsString(variableName), index, size),
-              ErrorType.EXTRACT_VALUE_ERROR,
-              variableScopeKey));
-    }
     return Optional.empty();
   }
+
+  private Failure createOutOfBoundsFailure(
+      final int index,
+      final int size,
+      final long variableScopeKey,
+      final DirectBuffer variableName) {
+    return new Failure(
+        "Unable to update an item in output collection '%s' at position %d because the size of the collection is: %d. This may happen when multiple BPMN elements write to the same variable."
+            .formatted(bufferAsString(variableName), index, size),
+        ErrorType.EXTRACT_VALUE_ERROR,
+        variableScopeKey);
+  }
 }
@@ -99,6 +99,12 @@ public final class MultiInstanceBodyProcessor
   public Either<Failure, ?> onComplete(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
 
+    final var outputCollectionCompleted =
+        multiInstanceOutputCollectionBehavior.completeOutputCollection(element, context);
+    if (outputCollectionCompleted.isLeft()) {
+      return outputCollectionCompleted;
+    }
+
     eventSubscriptionBehavior.unsubscribeFromEvents(context);
 
     element
@@ -169,7 +175,7 @@ public final class MultiInstanceBodyProcessor
       final BpmnElementContext flowScopeContext,
       final BpmnElementContext childContext) {
     final var updatedOrFailure =
-        multiInstanceOutputCollectionBehavior.updateOutputCollection(
+        multiInstanceOutputCollectionBehavior.collectOutputElement(
             element, childContext, flowScopeContext);
     if (updatedOrFailure.isLeft()) {
       return updatedOrFailure;
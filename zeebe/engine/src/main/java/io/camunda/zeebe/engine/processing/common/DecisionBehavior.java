@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import io.camunda.zeebe.dmn.DecisionEngine;
 import io.camunda.zeebe.dmn.DecisionEvaluationResult;
+import io.camunda.zeebe.dmn.DecisionType;
 import io.camunda.zeebe.dmn.EvaluatedDecision;
 import io.camunda.zeebe.dmn.EvaluatedInput;
 import io.camunda.zeebe.dmn.EvaluatedOutput;
@@ -154,6 +155,13 @@ public class DecisionBehavior {
       metrics.increaseSuccessfullyEvaluatedDmnElements(
           evaluationResult.getEvaluatedDecisions().size());
     }
+
+    evaluationResult.getEvaluatedDecisions().stream()
+        .filter(decision -> decision.decisionType() == DecisionType.DECISION_TABLE)
+        .forEach(
+            decision ->
+                metrics.observeDecisionTableRules(
+                    decision.evaluatedRules(), decision.matchedRules().size()));
   }
 
   private Either<Failure, DeployedDrg> findDrgByDecision(final PersistedDecision decision) {
@@ -377,7 +377,8 @@ public final class ExpressionProcessor {
       final Expression expression, final long variableScopeKey) {
 
     final EvaluationContext context;
-    if (variableScopeKey < 0) {
+    if (variableScopeKey < 0 || expression.getReferencedVariableNames().isEmpty()) {
+      // no need to look up the variable scope if the expression doesn't reference any variables
       context = EMPTY_EVALUATION_CONTEXT;
     } else {
       context = evaluationContextLookup.getContext(variableScopeKey);
@@ -83,6 +83,7 @@ final class JobBatchCollector {
     jobState.forEachActivatableJobs(
         value.getTypeBuffer(),
         tenantIds,
+        maxActivatedCount,
         (key, jobRecord) -> {
           // fill in the job record properties first in order to accurately estimate its size before
           // adding it to the batch
@@ -34,14 +34,8 @@ public class JobVariablesCollector {
 
   private DirectBuffer collectVariables(
       final Collection<DirectBuffer> variableNames, final long elementInstanceKey) {
-    final DirectBuffer variables;
-
-    if (variableNames.isEmpty()) {
-      variables = variableState.getVariablesAsDocument(elementInstanceKey);
-    } else {
-      variables = variableState.getVariablesAsDocument(elementInstanceKey, variableNames);
-    }
-
-    return variables;
+    // jobs are often activated again (e.g. after a time out) or activated by different workers
+    // requesting the same variables, so the collected document is cached
+    return variableState.getCachedVariablesAsDocument(elementInstanceKey, variableNames);
   }
 }
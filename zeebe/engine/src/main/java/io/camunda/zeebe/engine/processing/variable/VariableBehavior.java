@@ -188,6 +188,43 @@ public final class VariableBehavior {
     setLocalVariable(variableRecord);
   }
 
+  /**
+   * Publishes a follow up event to collect the output element of a completing multi-instance child
+   * instance. The element is stored at the index of the child instance, and is only written into
+   * the output collection variable with name {@code name} once the multi-instance body with key
+   * {@code scopeKey} completes. This way, completing a child instance does not have to rewrite the
+   * whole output collection.
+   *
+   * @param childInstanceKey the key of the completing child instance
+   * @param scopeKey the key of the multi-instance body
+   * @param processDefinitionKey the associated process key
+   * @param processInstanceKey the associated process instance key
+   * @param name a buffer containing only the name of the output collection variable
+   * @param value a buffer containing only the output element as MessagePack
+   */
+  public void collectOutputElement(
+      final long childInstanceKey,
+      final long scopeKey,
+      final long processDefinitionKey,
+      final long processInstanceKey,
+      final DirectBuffer bpmnProcessId,
+      final String tenantId,
+      final DirectBuffer name,
+      final DirectBuffer value) {
+
+    variableRecord
+        .setScopeKey(scopeKey)
+        .setProcessDefinitionKey(processDefinitionKey)
+        .setProcessInstanceKey(processInstanceKey)
+        .setBpmnProcessId(bpmnProcessId)
+        .setTenantId(tenantId)
+        .setName(name)
+        .setValue(value);
+
+    stateWriter.appendFollowUpEvent(
+        childInstanceKey, VariableIntent.OUTPUT_ELEMENT_COLLECTED, variableRecord);
+  }
+
   private void setLocalVariable(final VariableRecord record) {
     final VariableInstance variableInstance =
         variableState.getVariableInstanceLocal(record.getScopeKey(), record.getNameBuffer());
@@ -138,6 +138,10 @@ public final class EventAppliers implements EventApplier {
     register(VariableIntent.CREATED, variableApplier);
     register(VariableIntent.UPDATED, variableApplier);
     register(VariableIntent.MIGRATED, new VariableMigratedApplier());
+    register(
+        VariableIntent.OUTPUT_ELEMENT_COLLECTED,
+        new VariableOutputElementCollectedApplier(
+            state.getElementInstanceState(), state.getVariableState()));
     register(VariableDocumentIntent.UPDATED, NOOP_EVENT_APPLIER);
   }
 
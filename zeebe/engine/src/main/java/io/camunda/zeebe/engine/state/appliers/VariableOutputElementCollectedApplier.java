@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.appliers;
+
+import io.camunda.zeebe.engine.state.TypedEventApplier;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+
+/**
+ * Applies state changes for `Variable:Output_Element_Collected`. The key of the event is the key of
+ * the completing multi-instance child instance, whose loop counter is the index of the output
+ * element in the output collection.
+ */
+final class VariableOutputElementCollectedApplier
+    implements TypedEventApplier<VariableIntent, VariableRecord> {
+
+  private final ElementInstanceState elementInstanceState;
+  private final MutableVariableState variableState;
+
+  public VariableOutputElementCollectedApplier(
+      final ElementInstanceState elementInstanceState, final MutableVariableState variableState) {
+    this.elementInstanceState = elementInstanceState;
+    this.variableState = variableState;
+  }
+
+  @Override
+  public void applyState(final long key, final VariableRecord value) {
+    final var childInstance = elementInstanceState.getInstance(key);
+    variableState.setOutputElement(
+        key,
+        value.getScopeKey(),
+        childInstance.getMultiInstanceLoopCounter(),
+        value.getValueBuffer());
+  }
+}
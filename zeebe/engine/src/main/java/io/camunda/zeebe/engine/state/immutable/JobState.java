@@ -42,6 +42,19 @@ public interface JobState {
       final List<String> tenantIds,
       BiFunction<Long, JobRecord, Boolean> callback);
 
+  /**
+   * Like {@link #forEachActivatableJobs(DirectBuffer, List, BiFunction)}, but looks up the jobs in
+   * batches of up to {@code batchSize} jobs at once, instead of one by one. Use this when many jobs
+   * are expected to be visited, e.g. when activating a batch of jobs.
+   *
+   * @param batchSize the maximum amount of jobs to look up at once
+   */
+  void forEachActivatableJobs(
+      DirectBuffer type,
+      final List<String> tenantIds,
+      int batchSize,
+      BiFunction<Long, JobRecord, Boolean> callback);
+
   JobRecord getJob(long key);
 
   JobRecord getJob(final long key, final Map<String, Object> authorizations);
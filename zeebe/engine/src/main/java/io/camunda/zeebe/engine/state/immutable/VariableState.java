@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.immutable;
 import io.camunda.zeebe.engine.state.variable.VariableInstance;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.ObjIntConsumer;
 import org.agrona.DirectBuffer;
 
 public interface VariableState {
@@ -27,8 +28,28 @@ public interface VariableState {
 
   DirectBuffer getVariablesAsDocument(long scopeKey, Collection<DirectBuffer> names);
 
+  /**
+   * Returns the same document as {@link #getVariablesAsDocument(long, Collection)}, or as {@link
+   * #getVariablesAsDocument(long)} if no names are given. Recently collected documents are cached
+   * and returned again as long as none of the scopes they were collected from has changed since.
+   *
+   * @param scopeKey the key of the variable scope to start from
+   * @param names the names of the variables to collect, or an empty collection to collect all
+   * @return the variables as MsgPack document, which must not be modified
+   */
+  DirectBuffer getCachedVariablesAsDocument(long scopeKey, Collection<DirectBuffer> names);
+
   DirectBuffer getVariablesLocalAsDocument(long scopeKey);
 
+  /**
+   * Visits the output elements collected so far for the multi-instance body with the given key, in
+   * the order of their index. Each visited element is only valid during the call.
+   *
+   * @param scopeKey the key of the multi-instance body
+   * @param outputElementVisitor receives each output element (MsgPack encoded) with its index
+   */
+  void visitOutputElements(long scopeKey, ObjIntConsumer<DirectBuffer> outputElementVisitor);
+
   boolean isEmpty();
 
   /**
@@ -50,6 +71,12 @@ public interface VariableState {
    */
   long getParentScopeKey(long childScopeKey);
 
+  /**
+   * Drops all documents cached by {@link #getCachedVariablesAsDocument(long, Collection)}, e.g.
+   * when the changes of a failed transaction are rolled back.
+   */
+  void clearCache();
+
   /** Data wrapper for a variable. */
   record Variable(long key, long scopeKey, DirectBuffer name, DirectBuffer value) {}
 }
@@ -176,6 +176,10 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     removeNumberOfTakenSequenceFlows(key);
 
     final var recordValue = instance.getValue();
+    if (recordValue.getBpmnElementType() == BpmnElementType.MULTI_INSTANCE_BODY) {
+      variableState.removeOutputElements(key);
+    }
+
     if (recordValue.getBpmnElementType() == BpmnElementType.PROCESS) {
       processDefinitionKey.wrapLong(recordValue.getProcessDefinitionKey());
       processInstanceKeyByProcessDefinitionKeyColumnFamily.deleteExisting(
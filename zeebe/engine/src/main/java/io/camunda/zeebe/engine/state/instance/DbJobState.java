@@ -24,6 +24,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,11 +32,14 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+  private static final int MAX_ACTIVATABLE_JOBS_LOOKUP_BATCH_SIZE = 128;
 
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
@@ -62,6 +66,9 @@ public final class DbJobState implements JobState, MutableJobState {
       activatableColumnFamily;
 
   // timeout => key
+  // reused keys to look up activatable jobs in batches
+  private final List<DbLong> activatableJobKeys = new ArrayList<>();
+
   private final DbLong deadlineKey;
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
@@ -423,6 +430,45 @@ public final class DbJobState implements JobState, MutableJobState {
         }));
   }
 
+  @Override
+  public void forEachActivatableJobs(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final int batchSize,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    final int maxBatchSize =
+        Math.max(1, Math.min(batchSize, MAX_ACTIVATABLE_JOBS_LOOKUP_BATCH_SIZE));
+    final var batchedKeyCount = new MutableInteger(0);
+    final var shouldContinue = new MutableBoolean(true);
+    jobTypeKey.wrapBuffer(type);
+
+    activatableColumnFamily.whileEqualPrefix(
+        jobTypeKey,
+        ((tenantAwareCompositeKey, zbNil) -> {
+          final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
+          if (!tenantIds.contains(tenantId)) {
+            // we want to continue with the iteration
+            return true;
+          }
+
+          final long key = tenantAwareCompositeKey.wrappedKey().second().inner().getValue();
+          if (batchedKeyCount.value == activatableJobKeys.size()) {
+            activatableJobKeys.add(new DbLong());
+          }
+          activatableJobKeys.get(batchedKeyCount.value++).wrapLong(key);
+
+          if (batchedKeyCount.value == maxBatchSize) {
+            shouldContinue.set(visitJobs(batchedKeyCount.value, callback));
+            batchedKeyCount.set(0);
+          }
+          return shouldContinue.get();
+        }));
+
+    if (shouldContinue.get() && batchedKeyCount.value > 0) {
+      visitJobs(batchedKeyCount.value, callback);
+    }
+  }
+
   @Override
   public JobRecord getJob(final long key) {
     jobKey.wrapLong(key);
@@ -475,6 +521,42 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  /**
+   * Looks up the first {@code count} jobs of {@link #activatableJobKeys} at once, and visits them
+   * in order until the callback returns false.
+   */
+  private boolean visitJobs(final int count, final BiFunction<Long, JobRecord, Boolean> callback) {
+    final List<DbLong> keys = activatableJobKeys.subList(0, count);
+    final var visitedCount = new MutableInteger(0);
+    final var shouldContinue = new MutableBoolean(true);
+
+    jobsColumnFamily.getAll(
+        keys,
+        (key, job) -> {
+          if (!shouldContinue.get()) {
+            return;
+          }
+
+          // the jobs are visited in order, but missing jobs are skipped
+          while (keys.get(visitedCount.value) != key) {
+            LOG.warn(
+                "Expected to find job with key {}, but no job found",
+                keys.get(visitedCount.value++).getValue());
+          }
+          visitedCount.increment();
+
+          shouldContinue.set(callback.apply(key.getValue(), job.getRecord()));
+        });
+
+    if (shouldContinue.get()) {
+      for (int i = visitedCount.value; i < count; i++) {
+        LOG.warn("Expected to find job with key {}, but no job found", keys.get(i).getValue());
+      }
+    }
+
+    return shouldContinue.get();
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
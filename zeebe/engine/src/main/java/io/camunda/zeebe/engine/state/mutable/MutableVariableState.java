@@ -56,6 +56,28 @@ public interface MutableVariableState extends VariableState {
       int valueOffset,
       int valueLength);
 
+  /**
+   * Stores the output element of a multi-instance child instance, which is collected into the
+   * output collection of the multi-instance body with {@code scopeKey} at the given {@code index}
+   * once the body completes. Replaces any output element previously stored at the same index.
+   *
+   * <p>This method is expected to be called directly ONLY from an {@link
+   * io.camunda.zeebe.engine.state.EventApplier} or from tests.
+   *
+   * @param key the key of the child instance which produced the output element
+   * @param scopeKey the key of the multi-instance body
+   * @param index the loop counter of the child instance, starting at 1
+   * @param value the output element (MsgPack encoded)
+   */
+  void setOutputElement(long key, long scopeKey, int index, DirectBuffer value);
+
+  /**
+   * Removes all output elements stored for the multi-instance body with {@code scopeKey}.
+   *
+   * @param scopeKey the key of the multi-instance body
+   */
+  void removeOutputElements(long scopeKey);
+
   void createScope(long childKey, long parentKey);
 
   void removeScope(long scopeKey);
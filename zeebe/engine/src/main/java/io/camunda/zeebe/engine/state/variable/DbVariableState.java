@@ -7,12 +7,17 @@
  */
 package io.camunda.zeebe.engine.state.variable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
@@ -20,19 +25,34 @@ import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  // variable keys are sorted bytewise, and the name of a variable is prefixed by its length
+  private static final Comparator<DirectBuffer> VARIABLE_NAME_ORDER =
+      Comparator.comparingInt(DirectBuffer::capacity)
+          .thenComparing(DbVariableState::compareBytesUnsigned);
+
+  // larger documents are not cached to limit the memory of the cache
+  private static final int MAX_CACHED_DOCUMENT_SIZE = 64 * 1024;
+  private static final long NO_VERSION = -1L;
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -49,15 +69,41 @@ public class DbVariableState implements MutableVariableState {
   private final DbLong scopeKey;
   private final DbString variableName;
 
+  // (multi-instance body key, loop counter) => (output element)
+  private final ColumnFamily<DbCompositeKey<DbLong, DbInt>, VariableInstance>
+      outputElementsColumnFamily;
+  private final DbLong outputElementScopeKey;
+  private final DbInt outputElementIndex;
+  private final DbCompositeKey<DbLong, DbInt> outputElementKey;
+  private final VariableInstance outputElement = new VariableInstance();
+
   private final VariableInstance newVariable = new VariableInstance();
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  private final List<DirectBuffer> variableNamesToLookUp = new ArrayList<>();
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeysToLookUp = new ArrayList<>();
+  private final LongArrayList collectedScopes = new LongArrayList();
+
+  // (scope key, variable names) => (variables document) of recently collected job variables
+  private final Cache<CachedDocumentKey, CachedDocument> documentCache;
+  // (scope key) => (version of the last change); only tracked for scopes of cached documents
+  private final Long2LongHashMap scopeVersions = new Long2LongHashMap(NO_VERSION);
+  // (scope key) => (number of cached documents which contain the variables of the scope)
+  private final Long2LongHashMap scopeReferences = new Long2LongHashMap(0);
+  private long version;
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new EngineConfiguration());
+  }
+
+  public DbVariableState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config) {
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -75,6 +121,25 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    outputElementScopeKey = new DbLong();
+    outputElementIndex = new DbInt();
+    outputElementKey = new DbCompositeKey<>(outputElementScopeKey, outputElementIndex);
+    outputElementsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MULTI_INSTANCE_OUTPUT_ELEMENTS,
+            transactionContext,
+            outputElementKey,
+            new VariableInstance());
+
+    documentCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(config.getJobVariablesCacheCapacity())
+            .<CachedDocumentKey, CachedDocument>removalListener(this::onDocumentRemoved)
+            .build();
+    // documents collected in a transaction may contain its changes, which are gone after a
+    // rollback, e.g. when the processing of a command failed or its result was too large
+    transactionContext.addRollbackListener(this::clearCache);
   }
 
   @Override
@@ -109,6 +174,30 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    onScopeChanged(scopeKey);
+  }
+
+  @Override
+  public void setOutputElement(
+      final long key, final long scopeKey, final int index, final DirectBuffer value) {
+    outputElement.reset();
+    outputElement.setKey(key);
+    outputElement.setValue(value, 0, value.capacity());
+
+    outputElementScopeKey.wrapLong(scopeKey);
+    outputElementIndex.wrapInt(index);
+
+    outputElementsColumnFamily.upsert(outputElementKey, outputElement);
+  }
+
+  @Override
+  public void removeOutputElements(final long scopeKey) {
+    outputElementScopeKey.wrapLong(scopeKey);
+    outputElementsColumnFamily.whileEqualPrefix(
+        outputElementScopeKey,
+        (key, element) -> {
+          outputElementsColumnFamily.deleteExisting(key);
+        });
   }
 
   @Override
@@ -137,6 +226,7 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    onScopeChanged(scopeKey);
   }
 
   @Override
@@ -196,6 +286,7 @@ public class DbVariableState implements MutableVariableState {
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
 
     collectedVariables.clear();
+    collectedScopes.clear();
     writer.wrap(documentResultBuffer, 0);
 
     writer.reserveMapHeader();
@@ -228,27 +319,74 @@ public class DbVariableState implements MutableVariableState {
     variablesToCollect.clear();
     variablesToCollect.addAll(names);
 
+    // look up the names in the order in which they are stored, such that the resulting document is
+    // the same as when iterating over the variables of each scope
+    variableNamesToLookUp.clear();
+    variableNamesToLookUp.addAll(variablesToCollect);
+    variableNamesToLookUp.sort(VARIABLE_NAME_ORDER);
+
     writer.wrap(documentResultBuffer, 0);
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    collectedScopes.clear();
+    long currentScope = scopeKey;
+    do {
+      collectedScopes.addLong(currentScope);
+      collectVariablesLocal(currentScope);
+      currentScope = getParentScopeKey(currentScope);
+    } while (!variablesToCollect.isEmpty() && currentScope >= 0);
 
-    writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
+    writer.writeReservedMapHeader(0, variableNamesToLookUp.size() - variablesToCollect.size());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
   }
 
+  @Override
+  public DirectBuffer getCachedVariablesAsDocument(
+      final long scopeKey, final Collection<DirectBuffer> names) {
+    final var key =
+        new CachedDocumentKey(
+            scopeKey,
+            names.stream().map(BufferUtil::bufferAsString).collect(Collectors.toUnmodifiableSet()));
+
+    final var cachedDocument = documentCache.getIfPresent(key);
+    if (cachedDocument != null && isUpToDate(cachedDocument)) {
+      return cachedDocument.document();
+    }
+
+    final DirectBuffer document =
+        names.isEmpty()
+            ? getVariablesAsDocument(scopeKey)
+            : getVariablesAsDocument(scopeKey, names);
+
+    if (document.capacity() <= MAX_CACHED_DOCUMENT_SIZE) {
+      final long[] scopeKeys = collectedScopes.toLongArray();
+      for (final long collectedScope : scopeKeys) {
+        if (!scopeVersions.containsKey(collectedScope)) {
+          scopeVersions.put(collectedScope, version);
+        }
+        scopeReferences.put(collectedScope, scopeReferences.get(collectedScope) + 1);
+      }
+      // return the cached copy, as the document is a view of a buffer which is reused
+      final var documentCopy = BufferUtil.cloneBuffer(document);
+      documentCache.put(key, new CachedDocument(scopeKeys, version, documentCopy));
+      return documentCopy;
+    } else if (cachedDocument != null) {
+      documentCache.invalidate(key);
+    }
+
+    return document;
+  }
+
+  @Override
+  public void clearCache() {
+    documentCache.invalidateAll();
+    scopeVersions.clear();
+    scopeReferences.clear();
+  }
+
   @Override
   public DirectBuffer getVariablesLocalAsDocument(final long scopeKey) {
     writer.wrap(documentResultBuffer, 0);
@@ -272,9 +410,22 @@ public class DbVariableState implements MutableVariableState {
     return resultView;
   }
 
+  @Override
+  public void visitOutputElements(
+      final long scopeKey, final ObjIntConsumer<DirectBuffer> outputElementVisitor) {
+    outputElementScopeKey.wrapLong(scopeKey);
+    outputElementsColumnFamily.whileEqualPrefix(
+        outputElementScopeKey,
+        (key, element) -> {
+          outputElementVisitor.accept(element.getValue(), key.second().getValue());
+        });
+  }
+
   @Override
   public boolean isEmpty() {
-    return variablesColumnFamily.isEmpty() && childParentColumnFamily.isEmpty();
+    return variablesColumnFamily.isEmpty()
+        && childParentColumnFamily.isEmpty()
+        && outputElementsColumnFamily.isEmpty();
   }
 
   @Override
@@ -316,6 +467,36 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Writes the variables of the given scope which are still to be collected to the result document.
+   * Instead of iterating over all variables of the scope, the remaining names are looked up at
+   * once.
+   */
+  private void collectVariablesLocal(final long scopeKey) {
+    int keyCount = 0;
+    for (final DirectBuffer name : variableNamesToLookUp) {
+      if (variablesToCollect.contains(name)) {
+        if (keyCount == variableKeysToLookUp.size()) {
+          variableKeysToLookUp.add(new DbCompositeKey<>(new DbLong(), new DbString()));
+        }
+
+        final var key = variableKeysToLookUp.get(keyCount++);
+        key.first().wrapLong(scopeKey);
+        key.second().wrapBuffer(name);
+      }
+    }
+
+    variablesColumnFamily.getAll(
+        variableKeysToLookUp.subList(0, keyCount),
+        (key, variable) -> {
+          final DirectBuffer name = key.second().getBuffer();
+          writer.writeString(name);
+          writer.writeRaw(variable.getValue());
+
+          variablesToCollect.remove(name);
+        });
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
@@ -329,6 +510,7 @@ public class DbVariableState implements MutableVariableState {
 
     boolean completed;
     do {
+      collectedScopes.addLong(currentScope);
       completed = visitVariablesLocal(currentScope, filter, variableConsumer, completionCondition);
 
       currentScope = getParentScopeKey(currentScope);
@@ -365,4 +547,67 @@ public class DbVariableState implements MutableVariableState {
         });
     return false;
   }
+
+  /**
+   * Marks the given scope as changed, such that the cached documents which contain the variables of
+   * this scope are not used anymore. Changes of scopes which are not part of any cached document
+   * don't need to be tracked, because documents cached afterwards contain the change already.
+   */
+  private void onScopeChanged(final long scopeKey) {
+    if (scopeVersions.containsKey(scopeKey)) {
+      scopeVersions.put(scopeKey, ++version);
+    }
+  }
+
+  private boolean isUpToDate(final CachedDocument cachedDocument) {
+    for (final long scopeKey : cachedDocument.scopeKeys()) {
+      // the scopes of cached documents are tracked, so a scope without version is not known anymore
+      final long scopeVersion = scopeVersions.get(scopeKey);
+      if (scopeVersion == NO_VERSION || scopeVersion > cachedDocument.version()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Stops tracking the scopes of the removed document, unless they are part of another cached
+   * document, so that only the scopes of the cached documents are tracked.
+   */
+  private void onDocumentRemoved(
+      final RemovalNotification<CachedDocumentKey, CachedDocument> notification) {
+    final var cachedDocument = notification.getValue();
+    if (cachedDocument == null) {
+      return;
+    }
+
+    for (final long scopeKey : cachedDocument.scopeKeys()) {
+      final long references = scopeReferences.get(scopeKey) - 1;
+      if (references > 0) {
+        scopeReferences.put(scopeKey, references);
+      } else {
+        scopeReferences.remove(scopeKey);
+        scopeVersions.remove(scopeKey);
+      }
+    }
+  }
+
+  private static int compareBytesUnsigned(final DirectBuffer first, final DirectBuffer second) {
+    for (int i = 0; i < first.capacity(); i++) {
+      final int result = Integer.compare(first.getByte(i) & 0xFF, second.getByte(i) & 0xFF);
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    return 0;
+  }
+
+  private record CachedDocumentKey(long scopeKey, Set<String> variableNames) {}
+
+  /**
+   * A variables document collected from the given scopes. It is up to date as long as none of the
+   * scopes changed after the given version.
+   */
+  private record CachedDocument(long[] scopeKeys, long version, DirectBuffer document) {}
 }
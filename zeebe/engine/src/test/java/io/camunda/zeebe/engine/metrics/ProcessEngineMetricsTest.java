@@ -37,6 +37,7 @@ public class ProcessEngineMetricsTest {
     ProcessEngineMetrics.EVALUATED_DMN_ELEMENTS.clear();
     ProcessEngineMetrics.EXECUTED_INSTANCES.clear();
     ProcessEngineMetrics.CREATED_PROCESS_INSTANCES.clear();
+    ProcessEngineMetrics.DECISION_TABLE_RULES.clear();
   }
 
   @Test
@@ -75,6 +76,14 @@ public class ProcessEngineMetricsTest {
         .describedAs(
             "Expected two decision where executed, i.e. the root decision and one required decision")
         .isEqualTo(2);
+
+    assertThat(decisionTableRulesMetric("count", "evaluated")).isEqualTo(2);
+    assertThat(decisionTableRulesMetric("sum", "evaluated"))
+        .describedAs("Expected all rules of both decision tables to be evaluated")
+        .isEqualTo(9);
+    assertThat(decisionTableRulesMetric("sum", "matched"))
+        .describedAs("Expected one rule of each decision table to match")
+        .isEqualTo(2);
   }
 
   @Test
@@ -218,6 +227,11 @@ public class ProcessEngineMetricsTest {
     return evaluatedDmnElementsMetric("evaluated_failed");
   }
 
+  private Double decisionTableRulesMetric(final String sample, final String rules) {
+    return MetricsTestHelper.readMetricValue(
+        "zeebe_decision_table_rules_" + sample, entry("partition", "1"), entry("rules", rules));
+  }
+
   private Double evaluatedDmnElementsMetric(final String action) {
     return MetricsTestHelper.readMetricValue(
         "zeebe_evaluated_dmn_elements_total",
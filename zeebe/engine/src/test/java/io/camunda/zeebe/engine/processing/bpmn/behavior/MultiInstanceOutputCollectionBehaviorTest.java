@@ -11,9 +11,10 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.el.Expression;
@@ -23,15 +24,18 @@ import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
-import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.ObjIntConsumer;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,32 +59,25 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
     final var loopCharacteristics =
         createLoopCharacteristics(outputCollectionName, outputElementExpression);
-    final var flowScopeContextKey = 12345L;
+    final var contextKey = 12345L;
 
-    final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
+    final var mockStateBehavior = mock(BpmnStateBehavior.class);
     when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
         .thenReturn(collectionWithSize1);
-
-    final var mockExpressionProcessor = mock(ExpressionProcessor.class);
-    when(mockExpressionProcessor.evaluateAnyExpression(eq(outputElementExpression), anyLong()))
-        .thenReturn(Either.right(elementToAdd));
+    mockOutputElements(mockStateBehavior, Map.of(indexThatIsOutOfBounds, elementToAdd));
 
     final var mockElement = mock(ExecutableMultiInstanceBody.class);
     when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
 
-    final var mockChildContext = mock(BpmnElementContext.class);
-    when(mockStateBehavior.getElementInstance(mockChildContext).getMultiInstanceLoopCounter())
-        .thenReturn(indexThatIsOutOfBounds);
-
-    final var mockFlowScopeContext = mock(BpmnElementContext.class);
-    when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
+    final var mockContext = mock(BpmnElementContext.class);
+    when(mockContext.getElementInstanceKey()).thenReturn(contextKey);
 
     final var sut =
-        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mock(ExpressionProcessor.class));
 
     // when
-    final var result =
-        sut.updateOutputCollection(mockElement, mockChildContext, mockFlowScopeContext);
+    final var result = sut.completeOutputCollection(mockElement, mockContext);
 
     // then
     assertThat(result.isLeft()).isTrue();
@@ -90,45 +87,35 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     assertThat(failure.getMessage())
         .isEqualTo(
             "Unable to update an item in output collection 'OUTPUT_COLLECTION' at position 2 because the size of the collection is: 1. This may happen when multiple BPMN elements write to the same variable.");
-    assertThat(failure.getVariableScopeKey()).isEqualTo(flowScopeContextKey);
+    assertThat(failure.getVariableScopeKey()).isEqualTo(contextKey);
   }
 
   @Test
   void shouldReturnFailureWhenWritingToOutputCollectionWhichIsNotArray() {
     // given
     final var unexpectedValueType = createMsgPackString("lorem ipsum");
-    final var elementToAdd = createMsgPackString("element to add");
-    final var index = 1;
     final var outputElementExpression = new StaticExpression("dummy expression");
     final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
     final var loopCharacteristics =
         createLoopCharacteristics(outputCollectionName, outputElementExpression);
-    final var flowScopeContextKey = 12345L;
+    final var contextKey = 12345L;
 
-    final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
+    final var mockStateBehavior = mock(BpmnStateBehavior.class);
     when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
         .thenReturn(unexpectedValueType);
 
-    final var mockExpressionProcessor = mock(ExpressionProcessor.class);
-    when(mockExpressionProcessor.evaluateAnyExpression(eq(outputElementExpression), anyLong()))
-        .thenReturn(Either.right(elementToAdd));
-
     final var mockElement = mock(ExecutableMultiInstanceBody.class);
     when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
 
-    final var mockChildContext = mock(BpmnElementContext.class);
-    when(mockStateBehavior.getElementInstance(mockChildContext).getMultiInstanceLoopCounter())
-        .thenReturn(index);
-
-    final var mockFlowScopeContext = mock(BpmnElementContext.class);
-    when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
+    final var mockContext = mock(BpmnElementContext.class);
+    when(mockContext.getElementInstanceKey()).thenReturn(contextKey);
 
     final var sut =
-        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mock(ExpressionProcessor.class));
 
     // when
-    final var result =
-        sut.updateOutputCollection(mockElement, mockChildContext, mockFlowScopeContext);
+    final var result = sut.completeOutputCollection(mockElement, mockContext);
 
     // then
     assertThat(result.isLeft()).isTrue();
@@ -138,7 +125,43 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     assertThat(failure.getMessage())
         .isEqualTo(
             "Unable to update an item in output collection 'OUTPUT_COLLECTION' because the type of the output collection is: STRING. This may happen when multiple BPMN elements write to the same variable.");
-    assertThat(failure.getVariableScopeKey()).isEqualTo(flowScopeContextKey);
+    assertThat(failure.getVariableScopeKey()).isEqualTo(contextKey);
+  }
+
+  @Test
+  void shouldReplaceCollectedElementsInOutputCollection() {
+    // given
+    final var collectionWithSize3 = createCollection(3);
+    final var outputElementExpression = new StaticExpression("dummy expression");
+    final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
+    final var loopCharacteristics =
+        createLoopCharacteristics(outputCollectionName, outputElementExpression);
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class);
+    when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
+        .thenReturn(collectionWithSize3);
+    mockOutputElements(
+        mockStateBehavior, Map.of(1, createMsgPackString("a"), 3, createMsgPackString("c")));
+
+    final var mockElement = mock(ExecutableMultiInstanceBody.class);
+    when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
+
+    final var mockContext = mock(BpmnElementContext.class);
+    final var sut =
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mock(ExpressionProcessor.class));
+
+    // when
+    final var result = sut.completeOutputCollection(mockElement, mockContext);
+
+    // then
+    assertThat(result.isRight()).isTrue();
+
+    final var updatedCollection = ArgumentCaptor.forClass(DirectBuffer.class);
+    verify(mockStateBehavior)
+        .setLocalVariable(eq(mockContext), eq(outputCollectionName), updatedCollection.capture());
+    assertThat(MsgPackConverter.convertToJson(updatedCollection.getValue()))
+        .isEqualTo("[\"a\",null,\"c\"]");
   }
 
   private ExecutableLoopCharacteristics createLoopCharacteristics(
@@ -152,6 +175,18 @@ public class MultiInstanceOutputCollectionBehaviorTest {
         Optional.of(outputElement));
   }
 
+  private void mockOutputElements(
+      final BpmnStateBehavior mockStateBehavior, final Map<Integer, DirectBuffer> outputElements) {
+    doAnswer(
+            invocation -> {
+              final ObjIntConsumer<DirectBuffer> visitor = invocation.getArgument(1);
+              new TreeMap<>(outputElements).forEach((index, value) -> visitor.accept(value, index));
+              return null;
+            })
+        .when(mockStateBehavior)
+        .visitOutputElements(any(), any());
+  }
+
   private DirectBuffer createCollection(final int size) {
     final var writer = new MsgPackWriter();
     final var buffer = new ExpandableArrayBuffer();
@@ -853,13 +853,116 @@ public final class MultiInstanceActivityTest {
             .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
             .getFirst();
 
+    if ("parallel".equals(loopCharacteristics)) {
+      // the output elements are collected, and the output collection is updated once
+      assertThat(
+              RecordingExporter.variableRecords()
+                  .withName(OUTPUT_COLLECTION_VARIABLE)
+                  .withScopeKey(multiInstanceBody.getKey())
+                  .limit(INPUT_COLLECTION.size() + 2))
+          .extracting(Record::getIntent, r -> r.getValue().getValue())
+          .containsExactlyInAnyOrder(
+              tuple(VariableIntent.CREATED, "[null,null,null]"),
+              tuple(VariableIntent.OUTPUT_ELEMENT_COLLECTED, "11"),
+              tuple(VariableIntent.OUTPUT_ELEMENT_COLLECTED, "22"),
+              tuple(VariableIntent.OUTPUT_ELEMENT_COLLECTED, "33"),
+              tuple(VariableIntent.UPDATED, "[11,22,33]"));
+    } else {
+      // the output collection is updated on every iteration, as the next one may read it
+      assertThat(
+              RecordingExporter.variableRecords()
+                  .withName(OUTPUT_COLLECTION_VARIABLE)
+                  .withScopeKey(multiInstanceBody.getKey())
+                  .limit(INPUT_COLLECTION.size() + 1))
+          .extracting(Record::getIntent, r -> r.getValue().getValue())
+          .containsExactly(
+              tuple(VariableIntent.CREATED, "[null,null,null]"),
+              tuple(VariableIntent.UPDATED, "[11,null,null]"),
+              tuple(VariableIntent.UPDATED, "[11,22,null]"),
+              tuple(VariableIntent.UPDATED, "[11,22,33]"));
+    }
+  }
+
+  @Test
+  public void shouldReadOutputCollectionInChildInstances() {
+    // given
+    ENGINE.deployment().withXmlResource(process(miBuilder)).deploy();
+
+    // when
+    final var processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION_EXPRESSION, INPUT_COLLECTION)
+            .create();
+
+    completeJobs(processInstanceKey, INPUT_COLLECTION.size());
+
+    // then
+    final List<List<Integer>> expectedOutputCollections;
+    if ("parallel".equals(loopCharacteristics)) {
+      // the output collection is only updated when the multi-instance body completes
+      expectedOutputCollections =
+          List.of(
+              Arrays.asList(null, null, null),
+              Arrays.asList(null, null, null),
+              Arrays.asList(null, null, null));
+    } else {
+      // every iteration reads the output elements of the previous ones
+      expectedOutputCollections =
+          List.of(
+              Arrays.asList(null, null, null),
+              Arrays.asList(11, null, null),
+              Arrays.asList(11, 22, null));
+    }
+
+    assertThat(
+            RecordingExporter.jobBatchRecords(JobBatchIntent.ACTIVATED).withType(jobType).limit(3))
+        .flatExtracting(r -> r.getValue().getJobs())
+        .extracting(j -> j.getVariables().get(OUTPUT_COLLECTION_VARIABLE))
+        .containsExactlyElementsOf(expectedOutputCollections);
+  }
+
+  @Test
+  public void shouldCompleteBodyWhenCompletionConditionReadsOutputCollection() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            process(
+                miBuilder.andThen(
+                    m -> m.completionCondition("= some r in results satisfies r = 22"))))
+        .deploy();
+
+    // when
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION_EXPRESSION, INPUT_COLLECTION)
+            .create();
+
+    completeJobs(processInstanceKey, 2);
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords()
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceCompleted()
+                .withElementId(ELEMENT_ID))
+        .extracting(r -> tuple(r.getValue().getBpmnElementType(), r.getIntent()))
+        .containsSubsequence(
+            tuple(BpmnElementType.SERVICE_TASK, ProcessInstanceIntent.ELEMENT_COMPLETED),
+            tuple(BpmnElementType.SERVICE_TASK, ProcessInstanceIntent.ELEMENT_COMPLETED),
+            tuple(BpmnElementType.MULTI_INSTANCE_BODY, ProcessInstanceIntent.ELEMENT_COMPLETED));
+
     assertThat(
             RecordingExporter.variableRecords()
                 .withName(OUTPUT_COLLECTION_VARIABLE)
-                .withScopeKey(multiInstanceBody.getKey())
-                .limit(INPUT_COLLECTION.size() + 1))
-        .extracting(r -> r.getValue().getValue())
-        .contains("[null,null,null]", "[11,null,null]", "[11,22,null]", "[11,22,33]");
+                .withScopeKey(processInstanceKey)
+                .getFirst()
+                .getValue())
+        .hasValue("[11,22,null]");
   }
 
   @Test
@@ -230,8 +230,8 @@ public final class MultiInstanceIncidentTest {
             RecordingExporter.variableRecords()
                 .withProcessInstanceKey(processInstanceKey)
                 .withName("results")
-                .limit(4)
-                .getLast())
+                .withScopeKey(processInstanceKey)
+                .getFirst())
         .extracting(Record::getValue)
         .extracting(VariableRecordValue::getValue)
         .describedAs("the results have been collected")
@@ -534,11 +534,20 @@ public final class MultiInstanceIncidentTest {
             .withProcessInstanceKey(processInstanceKey)
             .getFirst();
 
+    // the output collection of a parallel multi-instance body is updated when the body completes
+    final var multiInstanceBody =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETING)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+            .getFirst();
+
     Assertions.assertThat(incidentEvent.getValue())
         .hasErrorType(ErrorType.EXTRACT_VALUE_ERROR)
         .hasErrorMessage(
             "Unable to update an item in output collection 'outputItems' at position 1 because the size of the collection is: 0. This may happen when multiple BPMN elements write to the same variable.")
-        .hasProcessInstanceKey(processInstanceKey);
+        .hasProcessInstanceKey(processInstanceKey)
+        .hasElementInstanceKey(multiInstanceBody.getKey())
+        .hasVariableScopeKey(multiInstanceBody.getKey());
 
     // when (resolve incident)
     ENGINE
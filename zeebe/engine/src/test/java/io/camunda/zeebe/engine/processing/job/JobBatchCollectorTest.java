@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.job.JobBatchCollector.TooLargeJob;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
@@ -52,6 +53,9 @@ final class JobBatchCollectorTest {
   @SuppressWarnings("unused") // injected by the extension
   private MutableProcessingState state;
 
+  @SuppressWarnings("unused") // injected by the extension
+  private TransactionContext transactionContext;
+
   private JobBatchCollector collector;
 
   @BeforeEach
@@ -128,6 +132,31 @@ final class JobBatchCollectorTest {
             });
   }
 
+  @Test
+  void shouldNotActivateJobWithVariablesOfRolledBackWrite() throws Exception {
+    // given
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    createJobWithVariables(scopeKey, Map.of("foo", "bar"));
+    collector.collectJobs(createRecord());
+
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          setVariables(scopeKey, Map.of("foo", "baz"));
+          collector.collectJobs(createRecord());
+        });
+    transaction.rollback();
+
+    // when
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    collector.collectJobs(record);
+
+    // then
+    final List<JobRecordValue> activatedJobs = record.getValue().getJobs();
+    RecordValueWithVariablesAssert.assertThat(activatedJobs.getFirst())
+        .hasVariables(Map.of("foo", "bar"));
+  }
+
   @Test
   void shouldAppendJobKeyToBatchRecord() {
     // given - multiple jobs to ensure variables are collected based on the scope
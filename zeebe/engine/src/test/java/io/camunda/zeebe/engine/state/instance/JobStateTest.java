@@ -641,6 +641,33 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListActivatableJobsInBatchesUntilStopped() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final String tenantId = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+    for (long key = 1; key <= 5; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+    jobState.create(6, newJobRecord("other-tenant").setType(type));
+    jobState.create(7, newJobRecord().setType(type));
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(tenantId),
+        2,
+        (key, job) -> {
+          jobKeys.add(key);
+          assertThat(job.getTypeBuffer()).isEqualTo(type);
+          return jobKeys.size() < 6;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L, 3L, 4L, 5L, 7L);
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
@@ -28,6 +28,7 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.DirectBuffer;
 import org.junit.After;
@@ -66,6 +67,7 @@ public final class VariableStateTest {
 
   @After
   public void cleanUp() {
+    variableState.clearCache();
     elementInstanceState.removeInstance(child2);
     elementInstanceState.removeInstance(child);
     elementInstanceState.removeInstance(parent);
@@ -241,6 +243,123 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1}");
   }
 
+  @Test
+  public void shouldReturnCachedVariablesDocument() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+
+    final DirectBuffer cachedDocument =
+        variableState.getCachedVariablesAsDocument(child, List.of(wrapString("a")));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getCachedVariablesAsDocument(child, List.of(wrapString("a")));
+
+    // then
+    assertThat(variablesDocument).isSameAs(cachedDocument);
+    assertEquality(variablesDocument, "{'a': 1}");
+  }
+
+  @Test
+  public void shouldCacheVariablesDocumentPerVariableNames() {
+    // given
+    declareScope(parent);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+
+    variableState.getCachedVariablesAsDocument(parent, List.of(wrapString("a")));
+
+    // when
+    final DirectBuffer allVariables = variableState.getCachedVariablesAsDocument(parent, Set.of());
+    final DirectBuffer variablesByName =
+        variableState.getCachedVariablesAsDocument(
+            parent, List.of(wrapString("b"), wrapString("a")));
+
+    // then
+    assertEquality(allVariables, "{'a': 1, 'b': 2}");
+    assertEquality(variablesByName, "{'a': 1, 'b': 2}");
+  }
+
+  @Test
+  public void shouldNotReturnCachedVariablesDocumentAfterVariableUpdatedInParentScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+
+    variableState.getCachedVariablesAsDocument(child, List.of());
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("3"));
+
+    // then
+    assertEquality(
+        variableState.getCachedVariablesAsDocument(child, List.of()), "{'a': 3, 'b': 2}");
+  }
+
+  @Test
+  public void shouldNotReturnCachedVariablesDocumentAfterVariableCreatedInScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    variableState.getCachedVariablesAsDocument(child, List.of(wrapString("a")));
+
+    // when
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+
+    // then
+    assertEquality(
+        variableState.getCachedVariablesAsDocument(child, List.of(wrapString("a"))), "{'a': 2}");
+  }
+
+  @Test
+  public void shouldNotReturnCachedVariablesDocumentAfterScopeRemoved() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+
+    variableState.getCachedVariablesAsDocument(child, List.of());
+
+    // when
+    variableState.removeScope(child);
+
+    // then
+    assertEquality(variableState.getCachedVariablesAsDocument(child, List.of()), "{}");
+  }
+
+  @Test
+  public void shouldNotReturnCachedVariablesDocumentAfterCacheCleared() {
+    // given
+    declareScope(parent);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    final DirectBuffer cachedDocument =
+        variableState.getCachedVariablesAsDocument(parent, List.of());
+
+    // when
+    variableState.clearCache();
+
+    // then
+    final DirectBuffer variablesDocument =
+        variableState.getCachedVariablesAsDocument(parent, List.of());
+    assertThat(variablesDocument).isNotSameAs(cachedDocument);
+    assertEquality(variablesDocument, "{'a': 1}");
+  }
+
   @Test
   public void shouldSetLocalVariable() {
     // given
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.el;
 
 import java.util.Optional;
+import java.util.Set;
 
 /** A parsed expression. */
 public interface Expression {
@@ -23,6 +24,17 @@ public interface Expression {
    */
   Optional<String> getVariableName();
 
+  /**
+   * Returns the names of the variables which are referenced by the expression. For a path
+   * expression like {@code order.customer.id}, only the root {@code order} is included. The names
+   * are extracted once when the expression is parsed, so that only these variables need to be
+   * looked up when the expression is evaluated.
+   *
+   * @return the names of the referenced variables, or an empty set if the expression doesn't
+   *     reference any variables
+   */
+  Set<String> getReferencedVariableNames();
+
   /**
    * @return {@code true} if it is a static expression that does not require additional context
    *     variables
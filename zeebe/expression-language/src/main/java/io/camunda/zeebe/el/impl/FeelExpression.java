@@ -8,18 +8,24 @@
 package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.Expression;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import org.camunda.feel.syntaxtree.Exp;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.PathExpression;
 import org.camunda.feel.syntaxtree.Ref;
+import scala.Product;
+import scala.collection.Iterable;
 
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final Set<String> referencedVariableNames;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    referencedVariableNames = extractReferencedVariableNames(expression.expression());
   }
 
   @Override
@@ -32,6 +38,11 @@ public final class FeelExpression implements Expression {
     return extractVariableName(expression.expression());
   }
 
+  @Override
+  public Set<String> getReferencedVariableNames() {
+    return referencedVariableNames;
+  }
+
   @Override
   public boolean isStatic() {
     return false;
@@ -59,6 +70,36 @@ public final class FeelExpression implements Expression {
     return Optional.empty();
   }
 
+  /**
+   * Collects the root names of all references in the syntax tree. The nodes of the syntax tree are
+   * Scala case classes, so the tree is traversed generically via their elements instead of matching
+   * every type of node. Names which are bound inside the expression (e.g. by a for-expression or a
+   * context literal) are collected too. This is fine, as the expression context takes precedence
+   * over the variables when the expression is evaluated.
+   */
+  private static Set<String> extractReferencedVariableNames(final Exp expression) {
+    final var names = new HashSet<String>();
+    collectReferencedVariableNames(expression, names);
+    return Set.copyOf(names);
+  }
+
+  private static void collectReferencedVariableNames(final Object node, final Set<String> names) {
+    if (node instanceof final Ref ref) {
+      names.add(ref.names().head());
+    } else if (node instanceof final Iterable<?> elements) {
+      // check for collections before products, as Scala lists are products too
+      final var iterator = elements.iterator();
+      while (iterator.hasNext()) {
+        collectReferencedVariableNames(iterator.next(), names);
+      }
+    } else if (node instanceof final Product product) {
+      final var iterator = product.productIterator();
+      while (iterator.hasNext()) {
+        collectReferencedVariableNames(iterator.next(), names);
+      }
+    }
+  }
+
   public ParsedExpression getParsedExpression() {
     return expression;
   }
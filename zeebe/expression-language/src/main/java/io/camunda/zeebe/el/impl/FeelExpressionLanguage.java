@@ -108,7 +108,8 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final FeelExpression feelExpression) {
 
     final var parsedExpression = feelExpression.getParsedExpression();
-    final var feelContext = new FeelVariableContext(context);
+    final var feelContext =
+        new FeelVariableContext(context, feelExpression.getReferencedVariableNames());
 
     final var evaluationResult = feelEngine.evaluate(parsedExpression, feelContext);
 
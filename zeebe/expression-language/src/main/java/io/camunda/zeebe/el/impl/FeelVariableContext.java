@@ -8,17 +8,31 @@
 package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.feel.impl.MessagePackValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.agrona.DirectBuffer;
 import org.camunda.feel.context.CustomContext;
 import org.camunda.feel.context.VariableProvider;
 import scala.Option;
 import scala.collection.Iterable;
 import scala.collection.immutable.List$;
 
+/**
+ * Provides the variables of an {@link EvaluationContext} to the FEEL engine for the evaluation of a
+ * single expression. Only the variables which are referenced by the expression are looked up, and
+ * each of them only once, even if the engine asks for it repeatedly (e.g. inside a for-expression).
+ */
 final class FeelVariableContext extends CustomContext {
   private final EvaluationContext context;
+  private final Set<String> referencedVariableNames;
+  private final Map<String, Option<Object>> variables = new HashMap<>();
 
-  FeelVariableContext(final EvaluationContext context) {
+  FeelVariableContext(final EvaluationContext context, final Set<String> referencedVariableNames) {
     this.context = context;
+    this.referencedVariableNames = referencedVariableNames;
   }
 
   @Override
@@ -26,13 +40,26 @@ final class FeelVariableContext extends CustomContext {
     return new EvaluationContextWrapper();
   }
 
+  private Option<Object> lookupVariable(final String name) {
+    final DirectBuffer variable = context.getVariable(name);
+    if (variable == null || variable.capacity() == 0) {
+      return Option.empty();
+    }
+    // the context may reuse the returned buffer for the next lookup; the copy is passed on as
+    // a value which is not modified anymore, so that its maps are read lazily without copying
+    return Option.apply(new MessagePackValue(BufferUtil.cloneBuffer(variable)));
+  }
+
   private final class EvaluationContextWrapper implements VariableProvider {
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return Option.apply(context.getVariable(name))
-          .filter(variable -> variable.capacity() > 0)
-          .map(variable -> variable);
+      if (!referencedVariableNames.contains(name)) {
+        // the engine may ask for names which are not variables, e.g. to resolve a function; the
+        // variables can't hold functions, so there is no need to look these up
+        return Option.empty();
+      }
+      return variables.computeIfAbsent(name, FeelVariableContext.this::lookupVariable);
     }
 
     @Override
@@ -9,6 +9,7 @@ package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.Expression;
 import java.util.Optional;
+import java.util.Set;
 
 public final class InvalidExpression implements Expression {
 
@@ -30,6 +31,11 @@ public final class InvalidExpression implements Expression {
     return Optional.empty();
   }
 
+  @Override
+  public Set<String> getReferencedVariableNames() {
+    return Set.of();
+  }
+
   @Override
   public boolean isStatic() {
     return false;
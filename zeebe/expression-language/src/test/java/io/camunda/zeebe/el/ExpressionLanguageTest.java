@@ -73,6 +73,26 @@ public class ExpressionLanguageTest {
     assertThat(expression.getFailureMessage()).isNull();
   }
 
+  @Test
+  public void shouldExtractReferencedVariableNames() {
+    final var expression =
+        expressionLanguage.parseExpression(
+            "=if order.total > limit then sum(for item in order.items return item.price) else 0");
+
+    assertThat(expression.isValid()).isTrue();
+    assertThat(expression.getReferencedVariableNames())
+        .containsExactlyInAnyOrder("order", "limit", "item");
+  }
+
+  @Test
+  public void shouldNotReferenceVariablesWithoutVariableReference() {
+    assertThat(expressionLanguage.parseExpression("x").getReferencedVariableNames()).isEmpty();
+    assertThat(expressionLanguage.parseExpression("=now()").getReferencedVariableNames())
+        .isEmpty();
+    assertThat(expressionLanguage.parseExpression("=x ?! 5").getReferencedVariableNames())
+        .isEmpty();
+  }
+
   @Test
   public void shouldParseMultilineExpression() {
     final var expression = expressionLanguage.parseExpression("={\nx:1\n}");
@@ -8,14 +8,17 @@
 package io.camunda.zeebe.el;
 
 import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.encodeMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
 import io.camunda.zeebe.el.util.TestFeelEngineClock;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 
 public class FeelExpressionTest {
@@ -228,6 +231,92 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getBoolean()).isFalse();
   }
 
+  @Test
+  public void shouldLookupReferencedVariablesOnlyOnce() {
+    final var context = Map.of("x", asMsgPack("2"), "y", asMsgPack("3"));
+    final List<String> lookups = new ArrayList<>();
+
+    final var evaluationResult =
+        evaluateExpression(
+            "sum(for i in [1, 2, 3] return i * x)",
+            name -> {
+              lookups.add(name);
+              return context.get(name);
+            });
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(12L);
+    assertThat(lookups).doesNotContain("y", "sum").containsOnlyOnce("x");
+  }
+
+  @Test
+  public void pathExpressionOnNestedContexts() {
+    final var context =
+        Map.of("x", asMsgPack("{\"a\":[{\"b\":{\"c\":1}},{\"b\":{\"c\":2}}],\"d\":\"e\"}"));
+
+    final var evaluationResult = evaluateExpression("x.a[2].b.c + count(x.a)", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(4L);
+  }
+
+  @Test
+  public void contextEntries() {
+    final var context = Map.of("x", asMsgPack("{\"a\":{\"b\":1},\"c\":2}"));
+
+    final var evaluationResult =
+        evaluateExpression("get entries(x)[key = \"a\"].value[1].b", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(1L);
+  }
+
+  @Test
+  public void contextsOfReusedVariableBuffer() {
+    // the variable state reuses the buffer of returned variables for the next lookup
+    final var variables = Map.of("x", asMsgPack("{\"a\":1}"), "y", asMsgPack("{\"a\":2}"));
+    final var variableView = new UnsafeBuffer(0, 0);
+
+    final var evaluationResult =
+        evaluateExpression(
+            "[x, y]",
+            name -> {
+              variableView.wrap(variables.get(name));
+              return variableView;
+            });
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.ARRAY);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("[{\"a\":1},{\"a\":2}]"));
+  }
+
+  @Test
+  public void contextWithDuplicateKeys() {
+    // the last entry wins if a key is contained multiple times
+    final var context =
+        Map.of(
+            "x",
+            encodeMsgPack(
+                packer ->
+                    packer
+                        .packMapHeader(3)
+                        .packString("foo")
+                        .packInt(1)
+                        .packString("bar")
+                        .packInt(2)
+                        .packString("foo")
+                        .packInt(3)));
+
+    final var evaluationResult =
+        evaluateExpression("x.foo + count(get entries(x))", context::get);
+    final var missingKeyResult = evaluateExpression("x.baz", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(5L);
+    assertThat(missingKeyResult.getWarnings())
+        .extracting(EvaluationWarning::getMessage)
+        .anySatisfy(message -> assertThat(message).containsOnlyOnce("foo").contains("bar"));
+  }
+
   private EvaluationResult evaluateExpression(
       final String expression, final EvaluationContext context) {
     final var parseExpression = expressionLanguage.parseExpression("=" + expression);
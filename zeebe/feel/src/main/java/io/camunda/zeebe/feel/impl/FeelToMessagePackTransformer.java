@@ -79,6 +79,8 @@ public class FeelToMessagePackTransformer {
 
                 switch (entryValue) {
                   case final Val entryVal -> writeValue(entryVal);
+                  case final MessagePackValue entryMessagePack ->
+                      writer.writeRaw(entryMessagePack.buffer());
                   case final DirectBuffer entryBuffer -> writer.writeRaw(entryBuffer);
                   default -> {
                     writer.writeNil();
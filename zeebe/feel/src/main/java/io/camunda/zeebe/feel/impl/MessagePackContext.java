@@ -8,9 +8,10 @@
 package io.camunda.zeebe.feel.impl;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
-import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.context.CustomContext;
@@ -18,18 +19,24 @@ import org.camunda.feel.context.VariableProvider;
 import scala.Option;
 import scala.Tuple2;
 import scala.collection.Iterable;
+import scala.collection.immutable.List;
 import scala.collection.immutable.Map;
 
-public class MessagePackContext extends CustomContext {
+/**
+ * A FEEL context backed by a MessagePack encoded map. The entries are not read until the first
+ * access, which indexes the offsets of the keys and values in the buffer. The values are passed on
+ * as views of the buffer, so nested maps are neither copied nor read unless they are accessed.
+ */
+public final class MessagePackContext extends CustomContext {
 
+  /** The encoded map, including its header. The buffer must not be modified. */
   public final DirectBuffer messagePackMap;
+
   private final VariableProvider variableProvider;
 
-  public MessagePackContext(final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var valueSpans = readValueSpans(reader, bufferOffset, size);
-    messagePackMap =
-        cloneBuffer(reader.getBuffer(), bufferOffset, reader.getOffset() - bufferOffset);
-    variableProvider = new MessagePackMapVariableProvider(messagePackMap, valueSpans);
+  MessagePackContext(final DirectBuffer messagePackMap, final int size) {
+    this.messagePackMap = messagePackMap;
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap, size);
   }
 
   @Override
@@ -37,62 +44,107 @@ public class MessagePackContext extends CustomContext {
     return variableProvider;
   }
 
-  private Map<String, Span> readValueSpans(
-      final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var spans = Map.<String, Span>newBuilder();
-    spans.sizeHint(size);
+  private static final class MessagePackMapVariableProvider implements VariableProvider {
+    private final DirectBuffer entries;
+    private final int size;
 
-    for (int i = 0; i < size; i++) {
-      final var keyToken = reader.readToken();
-      final var keyBuffer = keyToken.getValueBuffer();
-      final var key = bufferAsString(keyBuffer);
+    private int[] keyOffsets;
+    private int[] keyLengths;
+    private int[] valueOffsets;
+    private int[] valueLengths;
 
-      final var valueOffset = reader.getOffset();
-      reader.skipValue();
-      final var valueLength = reader.getOffset() - valueOffset;
-      spans.addOne(new Tuple2<>(key, new Span(valueOffset - bufferOffset, valueLength)));
+    private MessagePackMapVariableProvider(final DirectBuffer entries, final int size) {
+      this.entries = entries;
+      this.size = size;
     }
-    return spans.result();
-  }
 
-  record Span(int offset, int length) {}
+    private void ensureIndexed() {
+      if (keyOffsets != null) {
+        return;
+      }
 
-  private static final class MessagePackMapVariableProvider implements VariableProvider {
-    private final DirectBuffer entries;
-    private final DirectBuffer resultView = new UnsafeBuffer();
-    private final Map<String, Span> valueSpans;
+      keyOffsets = new int[size];
+      keyLengths = new int[size];
+      valueOffsets = new int[size];
+      valueLengths = new int[size];
 
-    private MessagePackMapVariableProvider(
-        final DirectBuffer entries, final Map<String, Span> valueSpans) {
-      this.entries = entries;
-      this.valueSpans = valueSpans;
+      final var reader = new MsgPackReader();
+      reader.wrap(entries, 0, entries.capacity());
+      reader.readMapHeader();
+
+      for (int i = 0; i < size; i++) {
+        final var keyLength = reader.readToken().getValueBuffer().capacity();
+        keyOffsets[i] = reader.getOffset() - keyLength;
+        keyLengths[i] = keyLength;
+
+        valueOffsets[i] = reader.getOffset();
+        reader.skipValue();
+        valueLengths[i] = reader.getOffset() - valueOffsets[i];
+      }
+    }
+
+    private int indexOf(final String name) {
+      ensureIndexed();
+      final var nameBytes = name.getBytes(StandardCharsets.UTF_8);
+
+      // search backwards, as the last entry wins if a key is contained multiple times
+      for (int i = size - 1; i >= 0; i--) {
+        if (keyLengths[i] == nameBytes.length && keyEquals(keyOffsets[i], nameBytes)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private boolean keyEquals(final int keyOffset, final byte[] nameBytes) {
+      for (int i = 0; i < nameBytes.length; i++) {
+        if (entries.getByte(keyOffset + i) != nameBytes[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private String keyAt(final int index) {
+      return bufferAsString(entries, keyOffsets[index], keyLengths[index]);
+    }
+
+    private MessagePackValue valueAt(final int index) {
+      return new MessagePackValue(
+          new UnsafeBuffer(entries, valueOffsets[index], valueLengths[index]));
     }
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return valueSpans
-          .get(name)
-          .map(
-              span -> {
-                resultView.wrap(entries, span.offset(), span.length());
-                return resultView;
-              });
+      final var index = indexOf(name);
+      return index < 0 ? Option.empty() : Option.apply(valueAt(index));
     }
 
     @Override
     public Iterable<String> keys() {
-      return valueSpans.keySet();
+      ensureIndexed();
+      final var keys = List.<String>newBuilder();
+      keys.sizeHint(size);
+      // a key may be contained multiple times, but is only listed once
+      final var distinctKeys = new HashSet<String>(size);
+      for (int i = 0; i < size; i++) {
+        final var key = keyAt(i);
+        if (distinctKeys.add(key)) {
+          keys.addOne(key);
+        }
+      }
+      return keys.result();
     }
 
     @Override
     public Map<String, Object> getVariables() {
-      final var clonedMap = Map.<String, Object>newBuilder();
-      valueSpans.foreach(
-          entry ->
-              clonedMap.addOne(
-                  new Tuple2<>(
-                      entry._1(), cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
-      return clonedMap.result();
+      ensureIndexed();
+      final var variables = Map.<String, Object>newBuilder();
+      variables.sizeHint(size);
+      for (int i = 0; i < size; i++) {
+        variables.addOne(new Tuple2<>(keyAt(i), valueAt(i)));
+      }
+      return variables.result();
     }
   }
 }
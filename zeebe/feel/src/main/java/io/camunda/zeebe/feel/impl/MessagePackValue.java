@@ -0,0 +1,19 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.feel.impl;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * A MessagePack encoded value in a buffer which is not modified anymore. Unlike a plain {@link
+ * DirectBuffer}, which may be reused by its owner, it can be read lazily and without copying it
+ * first.
+ *
+ * @param buffer the buffer containing exactly the encoded value
+ */
+public record MessagePackValue(DirectBuffer buffer) {}
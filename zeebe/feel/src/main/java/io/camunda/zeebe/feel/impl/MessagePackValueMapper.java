@@ -9,12 +9,16 @@ package io.camunda.zeebe.feel.impl;
 
 import static io.camunda.zeebe.feel.impl.Loggers.LOGGER;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
+import io.camunda.zeebe.msgpack.spec.MsgPackFormat;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.impl.JavaValueMapper;
 import org.camunda.feel.syntaxtree.Val;
 import org.camunda.feel.syntaxtree.ValBoolean;
@@ -27,6 +31,11 @@ import scala.Function1;
 import scala.Option;
 import scala.jdk.javaapi.CollectionConverters;
 
+/**
+ * Maps MessagePack encoded values to FEEL values. Maps are not read eagerly, but are mapped to a
+ * {@link MessagePackContext} which refers to the encoded map, so that only the entries which are
+ * accessed by an expression are read.
+ */
 public final class MessagePackValueMapper extends JavaValueMapper {
   private final MsgPackReader msgPackReader = new MsgPackReader();
 
@@ -52,7 +61,13 @@ public final class MessagePackValueMapper extends JavaValueMapper {
         }
         yield new ValList(CollectionConverters.asScala(items).toList());
       }
-      case MAP -> new ValContext(new MessagePackContext(msgPackReader, offset, token.getSize()));
+      case MAP -> {
+        // skip the entries, they are only read when the context is accessed
+        msgPackReader.skipValues(2L * token.getSize());
+        final var map =
+            new UnsafeBuffer(msgPackReader.getBuffer(), offset, msgPackReader.getOffset() - offset);
+        yield new ValContext(new MessagePackContext(map, token.getSize()));
+      }
       case STRING -> new ValString(bufferAsString(token.getValueBuffer()));
       default -> {
         LOGGER.warn(
@@ -71,11 +86,26 @@ public final class MessagePackValueMapper extends JavaValueMapper {
 
   @Override
   public Option<Val> toVal(final Object x, final Function1<Object, Val> innerValueMapper) {
-    if (x instanceof final DirectBuffer buffer) {
-      msgPackReader.wrap(buffer, 0, buffer.capacity());
-      return Option.apply(readNext());
+    if (x instanceof final MessagePackValue value) {
+      return Option.apply(read(value.buffer()));
+    } else if (x instanceof final DirectBuffer buffer) {
+      // the buffer may be reused by its owner, but the contexts of the value refer to it
+      return Option.apply(read(isContainer(buffer) ? cloneBuffer(buffer) : buffer));
     } else {
       return Option.empty();
     }
   }
+
+  private Val read(final DirectBuffer buffer) {
+    msgPackReader.wrap(buffer, 0, buffer.capacity());
+    return readNext();
+  }
+
+  private static boolean isContainer(final DirectBuffer buffer) {
+    if (buffer.capacity() == 0) {
+      return false;
+    }
+    final var type = MsgPackFormat.valueOf(buffer.getByte(0)).getType();
+    return type == MsgPackType.MAP || type == MsgPackType.ARRAY;
+  }
 }
@@ -15,13 +15,15 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.camunda.zeebe.journal.record.CompressionObserver;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Gauge.Timer;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
+import java.util.concurrent.TimeUnit;
 
-final class JournalMetrics {
+final class JournalMetrics implements CompressionObserver {
   private static final String NAMESPACE = "atomix";
   private static final String PARTITION_LABEL = "partition";
   private static final Histogram SEGMENT_CREATION_TIME =
@@ -79,6 +81,14 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Gauge PREPARED_SEGMENT_COUNT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("prepared_segment_count")
+          .help("Number of segments which are allocated ahead of time and ready to be used")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Counter APPEND_DATA_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -112,6 +122,35 @@ final class JournalMetrics {
           .buckets(0.0001, 0.001, .005, .01, .025, .05, .075, .1, .25, .5, .75, 1, 2.5, 5)
           .register();
 
+  private static final Histogram COMPRESSION_RATIO =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_compression_ratio")
+          .help(
+              "Distribution of the ratio of compressed to uncompressed size of compressed records,"
+                  + " including records which were stored uncompressed as compression did not pay off")
+          .labelNames(PARTITION_LABEL)
+          .buckets(.1, .2, .3, .4, .5, .6, .7, .8, .9, 1)
+          .register();
+
+  private static final Histogram COMPRESSION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_compression_time")
+          .help("Distribution of time spent compressing record data")
+          .labelNames(PARTITION_LABEL)
+          .buckets(0.00001, 0.00005, 0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1)
+          .register();
+
+  private static final Histogram DECOMPRESSION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_decompression_time")
+          .help("Distribution of time spent decompressing record data")
+          .labelNames(PARTITION_LABEL)
+          .buckets(0.00001, 0.00005, 0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1)
+          .register();
+
   private final Histogram.Child segmentCreationTime;
   private final Histogram.Child segmentTruncateTime;
   private final Histogram.Child segmentFlushTime;
@@ -119,10 +158,14 @@ final class JournalMetrics {
   private final Gauge.Child segmentCount;
   private final Gauge.Child journalOpenTime;
   private final Histogram.Child segmentAllocationTime;
+  private final Gauge.Child preparedSegmentCount;
   private final Histogram.Child appendLatency;
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
   private final Child seekLatency;
+  private final Histogram.Child compressionRatio;
+  private final Histogram.Child compressionTime;
+  private final Histogram.Child decompressionTime;
 
   JournalMetrics(final String partitionId) {
     segmentCreationTime = SEGMENT_CREATION_TIME.labels(partitionId);
@@ -132,10 +175,14 @@ final class JournalMetrics {
     segmentCount = SEGMENT_COUNT.labels(partitionId);
     journalOpenTime = JOURNAL_OPEN_DURATION.labels(partitionId);
     segmentAllocationTime = SEGMENT_ALLOCATION_TIME.labels(partitionId);
+    preparedSegmentCount = PREPARED_SEGMENT_COUNT.labels(partitionId);
     appendLatency = APPEND_LATENCY.labels(partitionId);
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
     seekLatency = SEEK_LATENCY.labels(partitionId);
+    compressionRatio = COMPRESSION_RATIO.labels(partitionId);
+    compressionTime = COMPRESSION_TIME.labels(partitionId);
+    decompressionTime = DECOMPRESSION_TIME.labels(partitionId);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -170,6 +217,14 @@ final class JournalMetrics {
     return segmentAllocationTime.startTimer();
   }
 
+  void incPreparedSegmentCount() {
+    preparedSegmentCount.inc();
+  }
+
+  void decPreparedSegmentCount() {
+    preparedSegmentCount.dec();
+  }
+
   void observeAppend(final long appendedBytes) {
     appendRate.inc();
     appendDataRate.inc(appendedBytes / 1024f);
@@ -182,4 +237,16 @@ final class JournalMetrics {
   Histogram.Timer observeSeekLatency() {
     return seekLatency.startTimer();
   }
+
+  @Override
+  public void onCompressed(
+      final int uncompressedLength, final int compressedLength, final long durationNanos) {
+    compressionRatio.observe((double) compressedLength / uncompressedLength);
+    compressionTime.observe(durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Override
+  public void onDecompressed(final int compressedLength, final long durationNanos) {
+    decompressionTime.observe(durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
 }
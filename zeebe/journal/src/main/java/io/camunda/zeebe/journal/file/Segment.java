@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.collect.Sets;
 import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -50,6 +51,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
+  private final RecordCompression compression;
+  private final int readAheadSize;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
@@ -62,12 +65,16 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final MappedByteBuffer buffer,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final RecordCompression compression,
+      final int readAheadSize) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    this.compression = compression;
+    this.readAheadSize = readAheadSize;
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -185,13 +192,18 @@ final class Segment implements AutoCloseable, FlushableSegment {
   SegmentReader createReader() {
     checkOpen();
     final SegmentReader reader =
-        new SegmentReader(buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
+        new SegmentReader(
+            buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS),
+            this,
+            index,
+            metrics,
+            readAheadSize);
     readers.add(reader);
     return reader;
   }
 
   private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
-    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
+    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics, compression);
   }
 
   /**
@@ -9,6 +9,7 @@ package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -32,6 +33,8 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final RecordCompression compression;
+  private final int readAheadSize;
 
   SegmentLoader(final int minFreeDiskSpace, final JournalMetrics metrics) {
     this(minFreeDiskSpace, metrics, SegmentAllocator.fill());
@@ -39,9 +42,28 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, RecordCompression.NONE);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final RecordCompression compression) {
+    this(minFreeDiskSpace, metrics, allocator, compression, 0);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final RecordCompression compression,
+      final int readAheadSize) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.compression = compression;
+    this.readAheadSize = readAheadSize;
   }
 
   Segment createSegment(
@@ -109,7 +131,9 @@ final class SegmentLoader {
         descriptor.id(),
         descriptor.maxSegmentSize(),
         mappedSegment,
-        journalIndex);
+        journalIndex,
+        compression,
+        readAheadSize);
   }
 
   Segment loadExistingSegment(
@@ -142,7 +166,15 @@ final class SegmentLoader {
       final long lastWrittenAsqn,
       final JournalIndex journalIndex) {
     final SegmentFile segmentFile = new SegmentFile(file.toFile());
-    return new Segment(segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        segmentFile,
+        descriptor,
+        buffer,
+        lastWrittenAsqn,
+        journalIndex,
+        metrics,
+        compression,
+        readAheadSize);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
@@ -19,8 +19,10 @@ package io.camunda.zeebe.journal.file;
 import com.google.common.base.Preconditions;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -33,12 +35,30 @@ final class SegmentReader implements Iterator<JournalRecord> {
   private long currentIndex;
   private final JournalRecordReaderUtil recordReader;
   private final int descriptorLength;
+  private final int readAheadSize;
+  // the position up to which the pages of the segment were loaded by the read-ahead
+  private int readAheadLimit;
+
+  SegmentReader(
+      final ByteBuffer buffer,
+      final Segment segment,
+      final JournalIndex index,
+      final JournalMetrics metrics) {
+    this(buffer, segment, index, metrics, 0);
+  }
 
-  SegmentReader(final ByteBuffer buffer, final Segment segment, final JournalIndex index) {
+  SegmentReader(
+      final ByteBuffer buffer,
+      final Segment segment,
+      final JournalIndex index,
+      final JournalMetrics metrics,
+      final int readAheadSize) {
+    this.readAheadSize = readAheadSize;
     this.index = index;
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
-    recordReader = new JournalRecordReaderUtil(new SBESerializer());
+    // readers never write, but must be able to decompress records
+    recordReader = new JournalRecordReaderUtil(new SBESerializer(RecordCompression.NONE, metrics));
     this.buffer = buffer;
     reset();
   }
@@ -61,6 +81,8 @@ final class SegmentReader implements Iterator<JournalRecord> {
       throw new NoSuchElementException();
     }
 
+    readAhead();
+
     // Read version so that buffer's position is advanced.
     FrameUtil.readVersion(buffer);
 
@@ -73,6 +95,7 @@ final class SegmentReader implements Iterator<JournalRecord> {
   void reset() {
     buffer.position(descriptorLength);
     currentIndex = segment.index() - 1;
+    readAheadLimit = 0;
   }
 
   void seek(final long index) {
@@ -109,6 +132,25 @@ final class SegmentReader implements Iterator<JournalRecord> {
     return currentIndex + 1;
   }
 
+  /**
+   * Once the reader reaches the end of the previously loaded window, loads the pages of the next
+   * {@link #readAheadSize} bytes of the segment. This tells the OS up front that the pages will be
+   * needed, letting it read them with a few large I/O operations, instead of faulting them in one
+   * by one as the records are read. Only the pages which are not yet in the page cache are read.
+   */
+  private void readAhead() {
+    final int position = buffer.position();
+    if (readAheadSize <= 0 || position < readAheadLimit) {
+      return;
+    }
+
+    final int length = Math.min(readAheadSize, buffer.limit() - position);
+    if (length > 0 && buffer instanceof final MappedByteBuffer mappedBuffer) {
+      mappedBuffer.slice(position, length).load();
+    }
+    readAheadLimit = position + length;
+  }
+
   private void checkSegmentOpen() {
     Preconditions.checkState(
         segment.isOpen(), "Segment is already closed. Reader must reset to a valid index.");
@@ -25,8 +25,8 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalException.SegmentFull;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
-import io.camunda.zeebe.journal.record.JournalRecordSerializer;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.record.RecordMetadata;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
@@ -55,7 +55,7 @@ final class SegmentWriter {
   private int lastEntryPosition;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
-  private final JournalRecordSerializer serializer = new SBESerializer();
+  private final SBESerializer serializer;
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
@@ -65,8 +65,10 @@ final class SegmentWriter {
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final RecordCompression compression) {
     this.segment = segment;
+    serializer = new SBESerializer(compression, metrics);
     descriptorLength = segment.descriptor().length();
     recordUtil = new JournalRecordReaderUtil(serializer);
     this.index = index;
@@ -174,7 +176,8 @@ final class SegmentWriter {
     // write serialized RecordData
     writeBuffer.putBytes(startPosition + frameLength + metadataLength, serializedRecord);
 
-    finalizeAppend(expectedChecksum, startPosition, frameLength, metadataLength, recordLength);
+    finalizeAppend(
+        expectedChecksum, startPosition, frameLength, metadataLength, recordLength, false);
     return Either.right(lastEntry);
   }
 
@@ -207,7 +210,7 @@ final class SegmentWriter {
         .map(
             recordLength -> {
               finalizeAppend(
-                  expectedChecksum, startPosition, frameLength, metadataLength, recordLength);
+                  expectedChecksum, startPosition, frameLength, metadataLength, recordLength, true);
               return lastEntry;
             })
         .mapLeft(
@@ -217,13 +220,19 @@ final class SegmentWriter {
             });
   }
 
-  /** Writes record metadata and header. Update lastWrittenEntry. Update JournalIndex */
+  /**
+   * Writes record metadata and header. Update lastWrittenEntry. Update JournalIndex
+   *
+   * @param serializedByWriter true if the record data was serialized by this writer, false if it
+   *     was appended already serialized
+   */
   private void finalizeAppend(
       final Long expectedChecksum,
       final int startPosition,
       final int frameLength,
       final int metadataLength,
-      final int recordLength) {
+      final int recordLength,
+      final boolean serializedByWriter) {
     final long checksum =
         checksumGenerator.compute(
             buffer, startPosition + frameLength + metadataLength, recordLength);
@@ -241,7 +250,8 @@ final class SegmentWriter {
     final int nextEntryOffset = startPosition + frameLength + metadataLength + recordLength;
     invalidateNextEntry(nextEntryOffset);
 
-    updateLastWrittenEntry(startPosition, frameLength, metadataLength, recordLength);
+    updateLastWrittenEntry(
+        startPosition, frameLength, metadataLength, recordLength, serializedByWriter);
     FrameUtil.writeVersion(buffer, startPosition);
 
     final int appendedBytes = frameLength + metadataLength + recordLength;
@@ -253,17 +263,22 @@ final class SegmentWriter {
       final int startPosition,
       final int frameLength,
       final int metadataLength,
-      final int recordLength) {
+      final int recordLength,
+      final boolean serializedByWriter) {
     final var metadata = serializer.readMetadata(writeBuffer, startPosition + frameLength);
-    final var data = serializer.readData(writeBuffer, startPosition + frameLength + metadataLength);
+    final int dataOffset = startPosition + frameLength + metadataLength;
+    // the data of a record serialized here is still at hand, so don't decompress it again
+    final var data =
+        serializedByWriter
+            ? serializer.readWrittenData(writeBuffer, dataOffset)
+            : serializer.readData(writeBuffer, dataOffset);
     verifyNoIndexGap(data.index(), getNextIndex());
 
     lastEntry =
         new PersistedJournalRecord(
             metadata,
             data,
-            new UnsafeBuffer(
-                writeBuffer, startPosition + frameLength + metadataLength, recordLength));
+            new UnsafeBuffer(writeBuffer, dataOffset, recordLength));
     updateLastAsqn(lastEntry.asqn());
     index.index(lastEntry, startPosition);
     lastEntryPosition = startPosition;
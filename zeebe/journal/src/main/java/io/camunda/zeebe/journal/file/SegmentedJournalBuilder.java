@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.io.File;
 
 /** Raft log builder. */
@@ -32,6 +33,8 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+  private static final int DEFAULT_READ_AHEAD_SIZE = 0;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +46,9 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+  private RecordCompression compression = RecordCompression.NONE;
+  private int readAheadSize = DEFAULT_READ_AHEAD_SIZE;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -140,6 +146,53 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how many segments are created and allocated ahead of time in the background. When the
+   * current segment is full, the next one is taken from this pool, such that rolling over does not
+   * need to create and allocate a new file on the append path. If 0, new segments are created on
+   * demand.
+   *
+   * @param preparedSegmentCount the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code preparedSegmentCount} is negative
+   */
+  public SegmentedJournalBuilder withPreparedSegmentCount(final int preparedSegmentCount) {
+    checkArgument(preparedSegmentCount >= 0, "preparedSegmentCount must not be negative");
+    this.preparedSegmentCount = preparedSegmentCount;
+    return this;
+  }
+
+  /**
+   * Sets the compression applied to the data of newly appended records. Records are always
+   * readable, regardless of this setting, since whether a record is compressed is stored with the
+   * record itself. Compressed records can only be read by brokers which support compression, so
+   * this must only be enabled once all brokers of a cluster have been updated.
+   *
+   * @param compression the compression to apply to new records
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withCompression(final RecordCompression compression) {
+    this.compression = checkNotNull(compression, "compression cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets how many bytes of a segment readers load ahead of the record they read. Readers load the
+   * next window whenever they reach the end of the previous one, which lets the OS read the pages
+   * in few large I/O operations instead of faulting them in one by one. This mostly speeds up
+   * sequential reads of data which is not in the page cache, e.g. when replaying or exporting after
+   * a restart. If 0, readers rely on the OS's default read-ahead.
+   *
+   * @param readAheadSize the size of the read-ahead window in bytes
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code readAheadSize} is negative
+   */
+  public SegmentedJournalBuilder withReadAheadSize(final int readAheadSize) {
+    checkArgument(readAheadSize >= 0, "readAheadSize must not be negative");
+    this.readAheadSize = readAheadSize;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -166,7 +219,9 @@ public class SegmentedJournalBuilder {
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(
+            freeDiskSpace, journalMetrics, segmentAllocator, compression, readAheadSize);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -175,7 +230,8 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            preparedSegmentCount);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
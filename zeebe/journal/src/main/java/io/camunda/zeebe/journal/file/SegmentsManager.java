@@ -19,11 +19,13 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +34,7 @@ import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +49,10 @@ final class SegmentsManager implements AutoCloseable {
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
+  // segments which are created and allocated ahead of time, in the order they will be used
+  private final Deque<CompletableFuture<UninitializedSegment>> preparedSegments =
+      new ArrayDeque<>();
+  private long lastPreparedSegmentId;
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -55,6 +61,7 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final int preparedSegmentCount;
 
   private volatile Segment currentSegment;
 
@@ -65,7 +72,8 @@ final class SegmentsManager implements AutoCloseable {
       final String name,
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
-      final JournalMetaStore metaStore) {
+      final JournalMetaStore metaStore,
+      final int preparedSegmentCount) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +81,7 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.preparedSegmentCount = preparedSegmentCount;
   }
 
   @Override
@@ -85,14 +94,15 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
+    CompletableFuture<UninitializedSegment> preparedSegment;
+    while ((preparedSegment = preparedSegments.pollFirst()) != null) {
       try {
-        nextSegment.join();
+        preparedSegment.join();
+        journalMetrics.decPreparedSegmentCount();
       } catch (final Exception e) {
         LOG.warn(
             "Next segment preparation failed during close, ignoring and proceeding to close", e);
       }
-      nextSegment = null;
     }
 
     currentSegment = null;
@@ -129,19 +139,20 @@ final class SegmentsManager implements AutoCloseable {
             .withIndex(nextSegmentIndex)
             .withMaxSegmentSize(maxSegmentSize)
             .build();
+    final var nextSegment = preparedSegments.pollFirst();
     if (nextSegment != null) {
       try {
         currentSegment =
             nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
+        journalMetrics.decPreparedSegmentCount();
       } catch (final CompletionException e) {
         LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
         currentSegment = createSegment(descriptor, lastWrittenAsqn);
       }
     } else {
       currentSegment = createSegment(descriptor, lastWrittenAsqn);
     }
-    prepareNextSegment();
+    prepareNextSegments();
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
@@ -223,6 +234,9 @@ final class SegmentsManager implements AutoCloseable {
     // creating the segment but before writing its descriptor)
     metaStore.resetLastFlushedIndex();
 
+    // the prepared segments have ids following the segments which are deleted now
+    discardPreparedSegments();
+
     // delete the segments in reverse order, such that if the operation is interrupted (e.g. crash)
     // in the middle, there are no gaps in the log (or between the log and snapshot)
     final Iterator<Segment> it = segments.descendingMap().values().iterator();
@@ -246,6 +260,7 @@ final class SegmentsManager implements AutoCloseable {
     currentSegment = createSegment(descriptor, INITIAL_ASQN);
     segments.put(index, currentSegment);
     journalMetrics.incSegmentCount();
+    prepareNextSegments();
     return currentSegment;
   }
 
@@ -314,16 +329,72 @@ final class SegmentsManager implements AutoCloseable {
     // node was stopped. It is safe to delete it now since there are no readers opened for these
     // segments.
     deleteDeferredFiles();
+
+    // prepared segments of a previous run were deleted when loading, as they have no descriptor
+    prepareNextSegments();
   }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
+  /**
+   * Tops up the pool of prepared segments in the background, such that rolling over to a new
+   * segment does not need to create and allocate a file on the append path. Segments are prepared
+   * one after the other, so at most one allocation runs in the background at any time.
+   */
+  private void prepareNextSegments() {
+    while (preparedSegments.size() < preparedSegmentCount) {
+      final var segmentId = Math.max(lastPreparedSegmentId, currentSegment.id()) + 1;
+      final var descriptor =
+          SegmentDescriptor.builder()
+              .withId(segmentId)
+              .withIndex(INITIAL_INDEX)
+              .withMaxSegmentSize(maxSegmentSize)
+              .build();
+      final var previous = preparedSegments.peekLast();
+      final CompletableFuture<UninitializedSegment> preparedSegment;
+      if (previous == null) {
+        preparedSegment = CompletableFuture.supplyAsync(() -> createPreparedSegment(descriptor));
+      } else {
+        preparedSegment = previous.handleAsync((ok, error) -> createPreparedSegment(descriptor));
+      }
+
+      preparedSegments.addLast(preparedSegment);
+      lastPreparedSegmentId = segmentId;
+    }
+  }
+
+  /**
+   * Waits for the prepared segments and deletes them, such that the next segments are prepared
+   * again with ids following the current segment.
+   */
+  private void discardPreparedSegments() {
+    CompletableFuture<UninitializedSegment> preparedSegment;
+    while ((preparedSegment = preparedSegments.pollFirst()) != null) {
+      final UninitializedSegment segment;
+      try {
+        segment = preparedSegment.join();
+      } catch (final CompletionException e) {
+        LOG.warn("Failed to prepare segment, ignoring it as it is discarded anyway", e);
+        continue;
+      }
+
+      journalMetrics.decPreparedSegmentCount();
+      IoUtil.unmap(segment.buffer());
+      try {
+        Files.deleteIfExists(segment.file().file().toPath());
+      } catch (final IOException e) {
+        LOG.warn(
+            "Could not delete prepared segment {}. This can result in unnecessary disk usage.",
+            segment.file().name(),
+            e);
+      }
+    }
+
+    lastPreparedSegmentId = 0;
+  }
+
+  private UninitializedSegment createPreparedSegment(final SegmentDescriptor descriptor) {
+    final var segment = createUninitializedSegment(descriptor);
+    journalMetrics.incPreparedSegmentCount();
+    return segment;
   }
 
   Collection<Segment> getTailSegments(final long index) {
@@ -16,19 +16,42 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
 
+/**
+ * A sparse index which stores every {@code density}-th record. Entries are kept in sorted,
+ * primitive parallel arrays and looked up via binary search, such that indexing and lookups do not
+ * allocate (beyond the returned {@link IndexInfo}) and the index does not produce one boxed node
+ * per entry.
+ *
+ * <p>Records are usually indexed in ascending order, which is a simple append. However, readers may
+ * lazily index older segments when seeking, so out of order inserts are supported as well, at the
+ * cost of shifting the tail of the arrays.
+ *
+ * <p>The writer and readers access the index concurrently, so all access is guarded by a {@link
+ * StampedLock}. Lookups only ever take the read lock.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final StampedLock lock = new StampedLock();
+
+  // index -> position, sorted by index
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // index <-> asqn, sorted by index; since the asqn is monotonically increasing with the index,
+  // the asqns are sorted as well, which lets us binary search in both directions
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
+  // when compacting, the entry right before the compaction bound is kept for asqn lookups, but
+  // must not be returned when looking up by index upper bound
+  private long asqnIndexLowerBound = Long.MIN_VALUE;
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +61,28 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
       final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      final long stamp = lock.writeLock();
+      try {
+        putPosition(index, position);
+        if (asqn != SegmentedJournal.ASQN_IGNORE) {
+          putAsqn(index, asqn);
+        }
+      } finally {
+        lock.unlockWrite(stamp);
       }
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final long stamp = lock.readLock();
+    try {
+      final int slot = floorSlot(indexes, size, index);
+      return slot >= 0 ? new IndexInfo(indexes[slot], positions[slot]) : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
   }
 
   @Override
@@ -60,55 +92,178 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+    final long stamp = lock.readLock();
+    try {
+      final int slot = floorSlot(asqns, asqnSize, asqn);
+      if (slot < 0) {
+        return null;
       }
+
+      if (asqnIndexes[slot] <= indexUpperBound) {
+        return asqnIndexes[slot];
+      }
+
+      final int boundSlot = floorSlot(asqnIndexes, asqnSize, indexUpperBound);
+      if (boundSlot < 0 || asqnIndexes[boundSlot] < asqnIndexLowerBound) {
+        return null;
+      }
+
+      return asqnIndexes[boundSlot];
+    } finally {
+      lock.unlockRead(stamp);
     }
-    return null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final long stamp = lock.writeLock();
+    try {
+      size = floorSlot(indexes, size, index) + 1;
+      asqnSize = floorSlot(asqnIndexes, asqnSize, index) + 1;
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    final long stamp = lock.writeLock();
+    try {
+      final int firstRetained = ceilingSlot(indexes, size, index);
+      if (firstRetained > 0) {
+        size -= firstRetained;
+        System.arraycopy(indexes, firstRetained, indexes, 0, size);
+        System.arraycopy(positions, firstRetained, positions, 0, size);
+        shrinkPositionsIfSparse();
+      }
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+      final int floorAsqn = floorSlot(asqnIndexes, asqnSize, index);
+      if (floorAsqn >= 0 && asqnIndexes[floorAsqn] >= asqnIndexLowerBound) {
+        asqnSize -= floorAsqn;
+        System.arraycopy(asqnIndexes, floorAsqn, asqnIndexes, 0, asqnSize);
+        System.arraycopy(asqns, floorAsqn, asqns, 0, asqnSize);
+        shrinkAsqnsIfSparse();
+      }
+      asqnIndexLowerBound = Math.max(asqnIndexLowerBound, index);
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    final long stamp = lock.writeLock();
+    try {
+      indexes = new long[INITIAL_CAPACITY];
+      positions = new int[INITIAL_CAPACITY];
+      size = 0;
+      asqnIndexes = new long[INITIAL_CAPACITY];
+      asqns = new long[INITIAL_CAPACITY];
+      asqnSize = 0;
+      asqnIndexLowerBound = Long.MIN_VALUE;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
   public boolean hasIndexed(final long index) {
-    final var indexInfo = lookup(index);
-    if (indexInfo == null) {
-      return false;
-    } else {
-      return indexInfo.index() > index - density;
+    final long stamp = lock.readLock();
+    try {
+      final int slot = floorSlot(indexes, size, index);
+      return slot >= 0 && indexes[slot] > index - density;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private void putPosition(final long index, final int position) {
+    if (size > 0 && indexes[size - 1] >= index) {
+      final int slot = Arrays.binarySearch(indexes, 0, size, index);
+      if (slot >= 0) {
+        positions[slot] = position;
+        return;
+      }
+
+      insertPosition(-(slot + 1), index, position);
+      return;
+    }
+
+    insertPosition(size, index, position);
+  }
+
+  private void insertPosition(final int slot, final long index, final int position) {
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, size << 1);
+      positions = Arrays.copyOf(positions, size << 1);
     }
+
+    if (slot < size) {
+      System.arraycopy(indexes, slot, indexes, slot + 1, size - slot);
+      System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+    }
+
+    indexes[slot] = index;
+    positions[slot] = position;
+    size++;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    if (asqnSize > 0 && asqnIndexes[asqnSize - 1] >= index) {
+      final int slot = Arrays.binarySearch(asqnIndexes, 0, asqnSize, index);
+      if (slot >= 0) {
+        asqns[slot] = asqn;
+        return;
+      }
+
+      insertAsqn(-(slot + 1), index, asqn);
+      return;
+    }
+
+    insertAsqn(asqnSize, index, asqn);
+  }
+
+  private void insertAsqn(final int slot, final long index, final long asqn) {
+    if (asqnSize == asqnIndexes.length) {
+      asqnIndexes = Arrays.copyOf(asqnIndexes, asqnSize << 1);
+      asqns = Arrays.copyOf(asqns, asqnSize << 1);
+    }
+
+    if (slot < asqnSize) {
+      System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnSize - slot);
+      System.arraycopy(asqns, slot, asqns, slot + 1, asqnSize - slot);
+    }
+
+    asqnIndexes[slot] = index;
+    asqns[slot] = asqn;
+    asqnSize++;
+  }
+
+  private void shrinkPositionsIfSparse() {
+    final int capacity = indexes.length;
+    if (capacity > INITIAL_CAPACITY && size < capacity >> 2) {
+      indexes = Arrays.copyOf(indexes, capacity >> 1);
+      positions = Arrays.copyOf(positions, capacity >> 1);
+    }
+  }
+
+  private void shrinkAsqnsIfSparse() {
+    final int capacity = asqnIndexes.length;
+    if (capacity > INITIAL_CAPACITY && asqnSize < capacity >> 2) {
+      asqnIndexes = Arrays.copyOf(asqnIndexes, capacity >> 1);
+      asqns = Arrays.copyOf(asqns, capacity >> 1);
+    }
+  }
+
+  /** Returns the slot of the greatest key less than or equal to the given key, or -1 if none. */
+  private static int floorSlot(final long[] keys, final int size, final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, size, key);
+    return slot >= 0 ? slot : -(slot + 1) - 1;
+  }
+
+  /** Returns the slot of the least key greater than or equal to the given key, or size if none. */
+  private static int ceilingSlot(final long[] keys, final int size, final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, size, key);
+    return slot >= 0 ? slot : -(slot + 1);
   }
 }
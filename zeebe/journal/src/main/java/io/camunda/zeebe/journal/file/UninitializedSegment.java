@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.nio.MappedByteBuffer;
 
 /**
@@ -18,7 +19,9 @@ public record UninitializedSegment(
     long segmentId,
     int maxSegmentSize,
     MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    JournalIndex journalIndex,
+    RecordCompression compression,
+    int readAheadSize) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -33,6 +36,14 @@ public record UninitializedSegment(
             .withMaxSegmentSize(maxSegmentSize)
             .build();
     updatedDescriptor.copyTo(buffer);
-    return new Segment(file, updatedDescriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        file,
+        updatedDescriptor,
+        buffer,
+        lastWrittenAsqn,
+        journalIndex,
+        metrics,
+        compression,
+        readAheadSize);
   }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.record;
+
+/** Observes the (de)compression of record data, e.g. to expose metrics. */
+public interface CompressionObserver {
+  CompressionObserver NOOP = new CompressionObserver() {};
+
+  /**
+   * Called whenever the data of a record was compressed, regardless of whether the compressed data
+   * was used or discarded.
+   *
+   * @param uncompressedLength the length of the data before compression
+   * @param compressedLength the length of the data after compression
+   * @param durationNanos the time spent compressing
+   */
+  default void onCompressed(
+      final int uncompressedLength, final int compressedLength, final long durationNanos) {}
+
+  /**
+   * Called whenever the data of a record was decompressed.
+   *
+   * @param compressedLength the length of the compressed data
+   * @param durationNanos the time spent decompressing
+   */
+  default void onDecompressed(final int compressedLength, final long durationNanos) {}
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.record;
+
+/**
+ * The compression applied to the data of newly written journal records. Whether a record is
+ * compressed is stored per record, so segments may contain a mix of compressed and uncompressed
+ * records, and records are always readable regardless of the configured compression.
+ *
+ * <p>Brokers which do not know about compressed records cannot read them, so compression must only
+ * be enabled once all brokers of a cluster have been updated.
+ */
+public enum RecordCompression {
+  /** Records are written as is. */
+  NONE,
+
+  /** Records are compressed with Zstandard, if they are large enough and compression pays off. */
+  ZSTD
+}
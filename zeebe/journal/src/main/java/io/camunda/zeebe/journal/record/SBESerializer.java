@@ -7,7 +7,11 @@
  */
 package io.camunda.zeebe.journal.record;
 
+import com.github.luben.zstd.Zstd;
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.file.CompressedRecordDataDecoder;
+import io.camunda.zeebe.journal.file.CompressedRecordDataEncoder;
+import io.camunda.zeebe.journal.file.CompressionCodec;
 import io.camunda.zeebe.journal.file.MessageHeaderDecoder;
 import io.camunda.zeebe.journal.file.MessageHeaderEncoder;
 import io.camunda.zeebe.journal.file.RecordDataDecoder;
@@ -18,11 +22,23 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.nio.BufferOverflowException;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
-/** The serializer that writes and reads a journal record according to the SBE schema defined. */
+/**
+ * The serializer that writes and reads a journal record according to the SBE schema defined.
+ *
+ * <p>If a {@link RecordCompression} is configured, the data of records written via {@link
+ * #writeData(long, long, BufferWriter, MutableDirectBuffer, int)} is compressed and written as
+ * {@code CompressedRecordData}, as long as the data is large enough and compression actually
+ * reduces its size. Compressed records are decompressed transparently by {@link
+ * #readData(DirectBuffer, int)}, regardless of the configured compression.
+ */
 public final class SBESerializer implements JournalRecordSerializer {
+  // below this size, the compression frame overhead usually outweighs the gain
+  static final int MIN_COMPRESSIBLE_LENGTH = 128;
+  private static final int ZSTD_COMPRESSION_LEVEL = 3;
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final RecordMetadataEncoder metadataEncoder = new RecordMetadataEncoder();
   private final RecordDataEncoder recordEncoder = new RecordDataEncoder();
@@ -30,6 +46,25 @@ public final class SBESerializer implements JournalRecordSerializer {
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
   private final RecordMetadataDecoder metadataDecoder = new RecordMetadataDecoder();
   private final RecordDataDecoder recordDecoder = new RecordDataDecoder();
+  private final CompressedRecordDataEncoder compressedEncoder = new CompressedRecordDataEncoder();
+  private final CompressedRecordDataDecoder compressedDecoder = new CompressedRecordDataDecoder();
+
+  private final RecordCompression compression;
+  private final CompressionObserver compressionObserver;
+  private final ExpandableArrayBuffer uncompressedBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer compressedBuffer = new ExpandableArrayBuffer();
+  // the index of the record whose data is still in the uncompressed buffer after writing it
+  private long lastCompressedIndex = -1;
+
+  public SBESerializer() {
+    this(RecordCompression.NONE, CompressionObserver.NOOP);
+  }
+
+  public SBESerializer(
+      final RecordCompression compression, final CompressionObserver compressionObserver) {
+    this.compression = compression;
+    this.compressionObserver = compressionObserver;
+  }
 
   @Override
   public Either<BufferOverflowException, Integer> writeData(
@@ -38,6 +73,14 @@ public final class SBESerializer implements JournalRecordSerializer {
       final BufferWriter recordDataWriter,
       final MutableDirectBuffer writeBuffer,
       final int offset) {
+    final int entryLength = recordDataWriter.getLength();
+    if (compression == RecordCompression.ZSTD && entryLength >= MIN_COMPRESSIBLE_LENGTH) {
+      final int compressedLength = compress(recordDataWriter, entryLength);
+      if (compressedLength < entryLength) {
+        return writeCompressedData(index, asqn, entryLength, compressedLength, writeBuffer, offset);
+      }
+    }
+
     return writeDataAtVersion(
         recordEncoder.sbeSchemaVersion(), index, asqn, recordDataWriter, writeBuffer, offset);
   }
@@ -116,6 +159,11 @@ public final class SBESerializer implements JournalRecordSerializer {
   @Override
   public RecordData readData(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
+    if (headerDecoder.schemaId() == compressedDecoder.sbeSchemaId()
+        && headerDecoder.templateId() == compressedDecoder.sbeTemplateId()) {
+      return readCompressedData(buffer, offset);
+    }
+
     if (headerDecoder.schemaId() != recordDecoder.sbeSchemaId()
         || headerDecoder.templateId() != recordDecoder.sbeTemplateId()) {
       throw new CorruptedJournalException("Cannot read record. Header does not match.");
@@ -131,6 +179,35 @@ public final class SBESerializer implements JournalRecordSerializer {
     return new RecordData(recordDecoder.index(), recordDecoder.asqn(), data);
   }
 
+  /**
+   * Reads the record which was just written at the given offset by {@link #writeData(long, long,
+   * BufferWriter, MutableDirectBuffer, int)}. Unlike {@link #readData(DirectBuffer, int)}, the data
+   * of a compressed record is not decompressed again, but copied from the data that was compressed
+   * when writing it.
+   */
+  public RecordData readWrittenData(final DirectBuffer buffer, final int offset) {
+    headerDecoder.wrap(buffer, offset);
+    if (headerDecoder.schemaId() != compressedDecoder.sbeSchemaId()
+        || headerDecoder.templateId() != compressedDecoder.sbeTemplateId()) {
+      return readData(buffer, offset);
+    }
+
+    compressedDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+    final long index = compressedDecoder.index();
+    if (index != lastCompressedIndex) {
+      return readCompressedData(buffer, offset);
+    }
+
+    final int uncompressedLength = compressedDecoder.uncompressedLength();
+    final byte[] data = new byte[uncompressedLength];
+    uncompressedBuffer.getBytes(0, data);
+    return new RecordData(index, compressedDecoder.asqn(), new UnsafeBuffer(data));
+  }
+
   @Override
   public int getMetadataLength(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
@@ -143,6 +220,103 @@ public final class SBESerializer implements JournalRecordSerializer {
         && headerDecoder.templateId() == metadataDecoder.sbeTemplateId());
   }
 
+  /**
+   * Compresses the data of the given writer into {@link #compressedBuffer}, and returns the length
+   * of the compressed data.
+   */
+  private int compress(final BufferWriter recordDataWriter, final int entryLength) {
+    uncompressedBuffer.checkLimit(entryLength);
+    recordDataWriter.write(uncompressedBuffer, 0);
+
+    final int maxCompressedLength = (int) Zstd.compressBound(entryLength);
+    compressedBuffer.checkLimit(maxCompressedLength);
+
+    final long startTime = System.nanoTime();
+    final long result =
+        Zstd.compressByteArray(
+            compressedBuffer.byteArray(),
+            0,
+            maxCompressedLength,
+            uncompressedBuffer.byteArray(),
+            0,
+            entryLength,
+            ZSTD_COMPRESSION_LEVEL);
+    if (Zstd.isError(result)) {
+      throw new IllegalStateException(
+          "Failed to compress record data: " + Zstd.getErrorName(result));
+    }
+
+    compressionObserver.onCompressed(entryLength, (int) result, System.nanoTime() - startTime);
+    return (int) result;
+  }
+
+  private Either<BufferOverflowException, Integer> writeCompressedData(
+      final long index,
+      final long asqn,
+      final int uncompressedLength,
+      final int compressedLength,
+      final MutableDirectBuffer writeBuffer,
+      final int offset) {
+    final int serializedLength =
+        headerEncoder.encodedLength()
+            + compressedEncoder.sbeBlockLength()
+            + CompressedRecordDataEncoder.dataHeaderLength()
+            + compressedLength;
+    if (offset + serializedLength > writeBuffer.capacity()) {
+      return Either.left(new BufferOverflowException());
+    }
+
+    compressedEncoder
+        .wrapAndApplyHeader(writeBuffer, offset, headerEncoder)
+        .index(index)
+        .asqn(asqn)
+        .codec(CompressionCodec.ZSTD)
+        .uncompressedLength(uncompressedLength)
+        .putData(compressedBuffer, 0, compressedLength);
+    lastCompressedIndex = index;
+
+    return Either.right(headerEncoder.encodedLength() + compressedEncoder.encodedLength());
+  }
+
+  private RecordData readCompressedData(final DirectBuffer buffer, final int offset) {
+    compressedDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    final long index = compressedDecoder.index();
+    final long asqn = compressedDecoder.asqn();
+    final CompressionCodec codec = compressedDecoder.codec();
+    final int uncompressedLength = compressedDecoder.uncompressedLength();
+    if (codec != CompressionCodec.ZSTD) {
+      throw new CorruptedJournalException(
+          "Cannot read record with index %d. Unknown compression codec %s."
+              .formatted(index, codec));
+    }
+
+    final int compressedLength = compressedDecoder.dataLength();
+    compressedBuffer.checkLimit(compressedLength);
+    compressedDecoder.getData(compressedBuffer, 0, compressedLength);
+
+    final byte[] data = new byte[uncompressedLength];
+    final long startTime = System.nanoTime();
+    final long result =
+        Zstd.decompressByteArray(
+            data, 0, uncompressedLength, compressedBuffer.byteArray(), 0, compressedLength);
+    if (Zstd.isError(result) || result != uncompressedLength) {
+      throw new CorruptedJournalException(
+          "Cannot decompress record with index %d. Expected %d bytes, but got %s."
+              .formatted(
+                  index,
+                  uncompressedLength,
+                  Zstd.isError(result) ? Zstd.getErrorName(result) : result));
+    }
+    compressionObserver.onDecompressed(compressedLength, System.nanoTime() - startTime);
+
+    return new RecordData(index, asqn, new UnsafeBuffer(data));
+  }
+
   private int getSerializedLength(final int entryLength) {
     return headerEncoder.encodedLength()
         + recordEncoder.sbeBlockLength()
@@ -14,6 +14,7 @@ import io.camunda.zeebe.journal.file.LogCorrupter;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.record.RecordData;
 import io.camunda.zeebe.journal.record.RecordMetadata;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
@@ -504,7 +505,8 @@ final class JournalTest {
     journal.append(recordDataWriter);
     final var secondRecord = copyRecord(journal.append(recordDataWriter));
     final File dataFile = Objects.requireNonNull(directory.toFile().listFiles())[0];
-    final File log = Objects.requireNonNull(dataFile.listFiles())[0];
+    final File log =
+        Objects.requireNonNull(dataFile.listFiles(f -> f.getName().endsWith("-1.log")))[0];
 
     // when
     journal.close();
@@ -523,7 +525,8 @@ final class JournalTest {
     final var firstRecord = copyRecord(journal.append(recordDataWriter));
     final var secondRecord = copyRecord(journal.append(recordDataWriter));
     final File dataFile = Objects.requireNonNull(directory.toFile().listFiles())[0];
-    final File log = Objects.requireNonNull(dataFile.listFiles())[0];
+    final File log =
+        Objects.requireNonNull(dataFile.listFiles(f -> f.getName().endsWith("-1.log")))[0];
 
     // when
     journal.close();
@@ -552,6 +555,68 @@ final class JournalTest {
     assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(lastWrittenIndex);
   }
 
+  @Test
+  void shouldReadCompressedRecords() throws Exception {
+    // given
+    journal.close();
+    journal = openJournal(b -> b.withCompression(RecordCompression.ZSTD));
+    final var data = BufferUtil.wrapString("compressible".repeat(100));
+
+    // when
+    final var appended = journal.append(1, new DirectBufferWriter().wrap(data));
+
+    // then
+    final var read = journal.openReader().next();
+    assertThat(read.data()).isEqualTo(data);
+    assertThat(appended.data()).isEqualTo(data);
+    assertThat(read.serializedRecord().capacity()).isLessThan(data.capacity());
+  }
+
+  @Test
+  void shouldReadRecordsWrittenWithDifferentCompression() throws Exception {
+    // given
+    final var data = BufferUtil.wrapString("compressible".repeat(100));
+    final var writer = new DirectBufferWriter().wrap(data);
+    journal.append(1, writer);
+    journal.close();
+    journal = openJournal(b -> b.withCompression(RecordCompression.ZSTD));
+    journal.append(2, writer);
+    journal.close();
+
+    // when
+    journal = openJournal();
+    final var reader = journal.openReader();
+
+    // then
+    assertThat(reader.next().data()).isEqualTo(data);
+    assertThat(reader.next().data()).isEqualTo(data);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldAppendCompressedSerializedRecord() throws Exception {
+    // given
+    journal.close();
+    journal = openJournal(b -> b.withCompression(RecordCompression.ZSTD));
+    final var data = BufferUtil.wrapString("compressible".repeat(100));
+    final var record = journal.append(1, new DirectBufferWriter().wrap(data));
+    final var serializedRecord = BufferUtil.bufferAsArray(record.serializedRecord());
+
+    // when - the receiving journal does not compress, but must still accept the record as is
+    try (final var receiver =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("receiver").toFile())
+            .withMetaStore(new MockJournalMetastore())
+            .build()) {
+      final var appended = receiver.append(record.checksum(), serializedRecord);
+
+      // then
+      assertThat(appended.data()).isEqualTo(data);
+      assertThat(appended.checksum()).isEqualTo(record.checksum());
+      assertThat(receiver.openReader().next().data()).isEqualTo(data);
+    }
+  }
+
   // TODO: do not rely on implementation detail to compare records
   private PersistedJournalRecord copyRecord(final JournalRecord record) {
     final RecordData data =
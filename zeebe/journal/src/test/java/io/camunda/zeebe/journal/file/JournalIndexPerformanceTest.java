@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares the primitive {@link SparseJournalIndex} with the previous skip list based {@link
+ * SkipListJournalIndex}. Run it with the GC profiler (as the JUnit test below does) to compare the
+ * allocation rate; the normalized allocation of {@link #measureIndex()} approximates the heap
+ * footprint of an index with {@link #ENTRY_COUNT} entries.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final int ENTRY_COUNT = 100_000;
+  private static final int DENSITY = 1;
+
+  @Param({"sparse", "skipList"})
+  private String implementation;
+
+  private JournalIndex index;
+  private TestJournalRecord[] records;
+
+  @Setup
+  public void setup() {
+    records = new TestJournalRecord[ENTRY_COUNT];
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      records[i] = new TestJournalRecord(i + 1, i + 1, 0, null, null);
+    }
+
+    index = newIndex();
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      index.index(records[i], i * 64);
+    }
+  }
+
+  @Benchmark
+  public IndexInfo measureLookup() {
+    return index.lookup(ThreadLocalRandom.current().nextLong(1, ENTRY_COUNT + 1));
+  }
+
+  @Benchmark
+  public Long measureAsqnLookup() {
+    return index.lookupAsqn(ThreadLocalRandom.current().nextLong(1, ENTRY_COUNT + 1));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ENTRY_COUNT)
+  public JournalIndex measureIndex() {
+    final var newIndex = newIndex();
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      newIndex.index(records[i], i * 64);
+    }
+
+    return newIndex;
+  }
+
+  @JMHTest("measureLookup")
+  void shouldLookupWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative ops/s score; a lookup is a binary search over 100k entries
+    final var referenceScore = 1_000_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(opt -> opt.param("implementation", "sparse").addProfiler(GCProfiler.class))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private JournalIndex newIndex() {
+    return switch (implementation) {
+      case "sparse" -> new SparseJournalIndex(DENSITY);
+      case "skipList" -> new SkipListJournalIndex(DENSITY);
+      default -> throw new IllegalArgumentException("Unknown implementation " + implementation);
+    };
+  }
+}
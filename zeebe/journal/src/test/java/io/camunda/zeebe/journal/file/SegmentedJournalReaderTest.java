@@ -170,6 +170,40 @@ class SegmentedJournalReaderTest {
         .isNotNull();
   }
 
+  @Test
+  void shouldReadAndSeekWithReadAhead() {
+    // given - a read-ahead window which ends in the middle of a record
+    final int entrySize = FrameUtil.getLength() + getSerializedSize(data);
+    CloseHelper.quietCloseAll(reader, journal);
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("read-ahead").toFile())
+            .withMaxSegmentSize(
+                entrySize * ENTRIES_PER_SEGMENT + SegmentDescriptor.getEncodingLength())
+            .withJournalIndexDensity(ENTRIES_PER_SEGMENT / 2)
+            .withMetaStore(new MockJournalMetastore())
+            .withReadAheadSize(entrySize + entrySize / 2)
+            .build();
+    reader = journal.openReader();
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 3; i++) {
+      journal.append(i, recordDataWriter);
+    }
+
+    // when
+    long lastReadIndex = 0;
+    while (reader.hasNext()) {
+      final var record = reader.next();
+      assertThat(record.index()).isEqualTo(lastReadIndex + 1);
+      assertThat(record.data()).isEqualTo(data);
+      lastReadIndex = record.index();
+    }
+    reader.seek(ENTRIES_PER_SEGMENT + 2);
+
+    // then
+    assertThat(lastReadIndex).isEqualTo(ENTRIES_PER_SEGMENT * 3);
+    assertThat(reader.next().index()).isEqualTo(ENTRIES_PER_SEGMENT + 2);
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(Long.MAX_VALUE, Long.MAX_VALUE, data);
     final var serializer = new SBESerializer();
@@ -457,8 +457,7 @@ class SegmentedJournalTest {
     journal = openJournal(1);
     journal.close();
     final File dataFile = directory.resolve("data").toFile();
-    final File logFile =
-        Objects.requireNonNull(dataFile.listFiles(f -> f.getName().endsWith(".log")))[0];
+    final File logFile = new File(dataFile, "journal-1.log");
     LogCorrupter.corruptDescriptor(logFile);
 
     // when/then
@@ -643,9 +642,8 @@ class SegmentedJournalTest {
             logDirectory.listFiles(
                 file -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, file.getName())))
         .hasSize(2);
-    assertThat(
-            logDirectory.listFiles(file -> SegmentFile.isSegmentFile(JOURNAL_NAME, file.getName())))
-        .hasSize(1);
+    assertThat(logDirectory)
+        .isDirectoryContaining(file -> file.getName().equals(JOURNAL_NAME + "-1.log"));
   }
 
   @Test
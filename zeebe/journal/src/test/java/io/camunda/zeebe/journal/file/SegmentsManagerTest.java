@@ -72,8 +72,7 @@ class SegmentsManagerTest {
     }
 
     final File dataFile = directory.resolve("data").toFile();
-    final File logFile =
-        Objects.requireNonNull(dataFile.listFiles(f -> f.getName().endsWith(".log")))[0];
+    final File logFile = new File(dataFile, "journal-1.log");
     LogCorrupter.corruptDescriptor(logFile);
 
     // when/then
@@ -112,8 +111,7 @@ class SegmentsManagerTest {
     final var journal = openJournal();
     journal.close();
     final File dataFile = directory.resolve("data").toFile();
-    final File logFile =
-        Objects.requireNonNull(dataFile.listFiles(f -> f.getName().endsWith(".log")))[0];
+    final File logFile = new File(dataFile, "journal-1.log");
     LogCorrupter.corruptDescriptor(logFile);
 
     // when
@@ -293,6 +291,85 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldPrepareConfiguredNumberOfSegmentsAhead() {
+    // given
+    segments =
+        journalFactory.segmentsManager(
+            directory, journalFactory.segmentLoader(), journalFactory.metaStore(), 3);
+    segments.open();
+
+    // when
+    final var secondSegment = segments.getNextSegment();
+    final var thirdSegment = segments.getNextSegment();
+    segments.close();
+
+    // then - the third segment was taken from the pool, which was topped up again
+    assertThat(secondSegment.id()).isEqualTo(2);
+    assertThat(thirdSegment.id()).isEqualTo(3);
+    assertThat(directory.resolve("data").toFile())
+        .isDirectoryContaining(file -> file.getName().equals("journal-6.log"))
+        .isDirectoryNotContaining(file -> file.getName().equals("journal-7.log"));
+  }
+
+  @Test
+  void shouldCreateSegmentsOnDemandWithoutPreparedSegments() {
+    // given
+    segments =
+        journalFactory.segmentsManager(
+            directory, journalFactory.segmentLoader(), journalFactory.metaStore(), 0);
+    segments.open();
+
+    // when
+    final var nextSegment = segments.getNextSegment();
+    segments.close();
+
+    // then
+    assertThat(nextSegment.id()).isEqualTo(2);
+    assertThat(directory.resolve("data").toFile())
+        .isDirectoryNotContaining(file -> file.getName().equals("journal-3.log"));
+  }
+
+  @Test
+  void shouldPrepareSegmentsOnOpen() {
+    // given
+    final var loader = Mockito.spy(journalFactory.segmentLoader());
+    segments = journalFactory.segmentsManager(directory, loader, journalFactory.metaStore(), 2);
+    segments.open();
+
+    // when
+    final var nextSegment = segments.getNextSegment();
+
+    // then - only the first segment was created on demand, the next one was prepared on open
+    assertThat(nextSegment.id()).isEqualTo(2);
+    Mockito.verify(loader, Mockito.times(1))
+        .createSegment(Mockito.any(), Mockito.any(), Mockito.anyLong(), Mockito.any());
+  }
+
+  @Test
+  void shouldDiscardPreparedSegmentsOnReset() {
+    // given
+    segments =
+        journalFactory.segmentsManager(
+            directory, journalFactory.segmentLoader(), journalFactory.metaStore(), 2);
+    segments.open();
+    segments.getNextSegment();
+    segments.getNextSegment();
+
+    // when
+    segments.resetSegments(100);
+    final var nextSegment = segments.getNextSegment();
+    segments.close();
+
+    // then - the segments 4 and 5 prepared before the reset are gone, and 3 and 4 were prepared
+    // again after it
+    assertThat(nextSegment.id()).isEqualTo(2);
+    assertThat(directory.resolve("data").toFile())
+        .isDirectoryContaining(file -> file.getName().equals("journal-3.log"))
+        .isDirectoryContaining(file -> file.getName().equals("journal-4.log"))
+        .isDirectoryNotContaining(file -> file.getName().equals("journal-5.log"));
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
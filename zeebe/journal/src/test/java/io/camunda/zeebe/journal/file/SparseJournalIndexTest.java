@@ -265,4 +265,80 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when - an older segment is indexed lazily by a reader
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // then
+    assertEquals(5, index.lookup(9).index());
+    assertEquals(10, index.lookup(9).position());
+    assertEquals(10, index.lookup(14).index());
+    assertEquals(20, index.lookup(14).position());
+    assertEquals(15, index.lookup(15).index());
+    assertEquals(10, index.lookupAsqn(149));
+    assertEquals(15, index.lookupAsqn(150));
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertEquals(500, index.lookup(500).index());
+    assertEquals(1_000, index.lookup(500).position());
+    assertEquals(1_000, index.lookup(2_000).index());
+    assertEquals(499, index.lookupAsqn(4_999));
+  }
+
+  @Test
+  void shouldIndexAfterCompactingAndTruncating() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteUntil(900);
+    index.deleteAfter(950);
+    index.index(asJournalRecord(951, 20_000), 5);
+
+    // then
+    assertNull(index.lookup(899));
+    assertEquals(900, index.lookup(900).index());
+    assertEquals(950, index.lookup(950).index());
+    assertEquals(951, index.lookup(1_000).index());
+    assertEquals(5, index.lookup(1_000).position());
+    assertEquals(950, index.lookupAsqn(19_999));
+    assertEquals(951, index.lookupAsqn(20_000));
+  }
+
+  @Test
+  void shouldNotFindAsqnBelowCompactedIndexWithInBound() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when
+    index.deleteUntil(12);
+
+    // then
+    assertNull(index.lookupAsqn(150, 12));
+    assertEquals(15, index.lookupAsqn(150, 15));
+  }
 }
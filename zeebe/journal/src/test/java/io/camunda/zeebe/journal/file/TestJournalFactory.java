@@ -103,6 +103,14 @@ final class TestJournalFactory {
 
   SegmentsManager segmentsManager(
       final Path directory, final SegmentLoader loader, final JournalMetaStore metaStore) {
+    return segmentsManager(directory, loader, metaStore, 1);
+  }
+
+  SegmentsManager segmentsManager(
+      final Path directory,
+      final SegmentLoader loader,
+      final JournalMetaStore metaStore,
+      final int preparedSegmentCount) {
     return new SegmentsManager(
         index,
         maxSegmentSize(),
@@ -110,7 +118,8 @@ final class TestJournalFactory {
         "journal",
         loader,
         metrics,
-        metaStore);
+        metaStore,
+        preparedSegmentCount);
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
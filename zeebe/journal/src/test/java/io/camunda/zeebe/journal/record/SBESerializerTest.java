@@ -12,7 +12,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -152,4 +155,82 @@ final class SBESerializerTest {
     // when - then
     assertThat(serializer.writeData(record, writeBuffer, offset)).matches(Either::isLeft);
   }
+
+  @Test
+  void shouldCompressRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.ZSTD, CompressionObserver.NOOP);
+    final var data = BufferUtil.wrapString("compressible".repeat(100));
+    final var compressibleRecord = new RecordData(1, 2, data);
+    final var buffer = new UnsafeBuffer(new byte[4096]);
+
+    // when
+    final int writtenLength = compressingSerializer.writeData(compressibleRecord, buffer, 0).get();
+    final var readRecord = serializer.readData(buffer, 0);
+
+    // then
+    assertThat(writtenLength).isLessThan(data.capacity());
+    assertThat(readRecord).isEqualTo(compressibleRecord);
+  }
+
+  @Test
+  void shouldNotCompressSmallRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.ZSTD, CompressionObserver.NOOP);
+
+    // when
+    final int compressedLength = compressingSerializer.writeData(record, writeBuffer, 0).get();
+    final int plainLength = serializer.writeData(record, new UnsafeBuffer(new byte[256]), 0).get();
+
+    // then
+    assertThat(compressedLength).isEqualTo(plainLength);
+    assertThat(serializer.readData(writeBuffer, 0)).isEqualTo(record);
+  }
+
+  @Test
+  void shouldNotCompressIncompressibleRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.ZSTD, CompressionObserver.NOOP);
+    final var bytes = new byte[SBESerializer.MIN_COMPRESSIBLE_LENGTH * 2];
+    new Random(42).nextBytes(bytes);
+    final var incompressibleRecord = new RecordData(1, 2, new UnsafeBuffer(bytes));
+    final var buffer = new UnsafeBuffer(new byte[4096]);
+
+    // when
+    final int writtenLength =
+        compressingSerializer.writeData(incompressibleRecord, buffer, 0).get();
+
+    // then
+    assertThat(writtenLength).isGreaterThan(bytes.length);
+    assertThat(serializer.readData(buffer, 0)).isEqualTo(incompressibleRecord);
+  }
+
+  @Test
+  void shouldReadWrittenCompressedRecordWithoutDecompressing() {
+    // given
+    final var decompressions = new AtomicInteger();
+    final var compressingSerializer =
+        new SBESerializer(
+            RecordCompression.ZSTD,
+            new CompressionObserver() {
+              @Override
+              public void onDecompressed(final int compressedLength, final long durationNanos) {
+                decompressions.incrementAndGet();
+              }
+            });
+    final var data = BufferUtil.wrapString("compressible".repeat(100));
+    final var compressibleRecord = new RecordData(1, 2, data);
+    final var buffer = new UnsafeBuffer(new byte[4096]);
+    compressingSerializer.writeData(compressibleRecord, buffer, 0).get();
+
+    // when
+    final var readRecord = compressingSerializer.readWrittenData(buffer, 0);
+
+    // then
+    assertThat(readRecord).isEqualTo(compressibleRecord);
+    assertThat(decompressions).hasValue(0);
+  }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.logstreams.impl;
 
+import io.camunda.zeebe.logstreams.impl.flowcontrol.LatencySloLimit.Decision;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.log.WriteContext.UserCommand;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -82,6 +83,30 @@ public final class LogStreamMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Counter LATENCY_SLO_DECISIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("backpressure_latency_slo_decisions_total")
+          .help("Number of decisions taken by the latency SLO limit, per limiter and decision")
+          .labelNames("partition", "limiter", "decision")
+          .register();
+
+  private static final Gauge LATENCY_SLO_OBSERVED =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("backpressure_latency_slo_observed_seconds")
+          .help("Latency percentile observed by the latency SLO limit in its last window")
+          .labelNames("partition", "limiter")
+          .register();
+
+  private static final Gauge LATENCY_SLO_TARGET =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("backpressure_latency_slo_target_seconds")
+          .help("Latency target of the latency SLO limit")
+          .labelNames("partition", "limiter")
+          .register();
+
   private static final Gauge LAST_COMMITTED_POSITION =
       Gauge.build()
           .namespace("zeebe")
@@ -122,6 +147,9 @@ public final class LogStreamMetrics {
           .help("Count of records appended per partition, record type, value type, and intent")
           .register();
 
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+  private static final String[] LATENCY_SLO_LIMITERS = {"append", "request"};
+
   private final Counter.Child deferredAppends;
   private final Counter.Child triedAppends;
   private final Gauge.Child inflightAppends;
@@ -194,6 +222,16 @@ public final class LogStreamMetrics {
     inflightRequests.dec();
   }
 
+  public void setLatencySloTarget(final String limiter, final long targetNanos) {
+    LATENCY_SLO_TARGET.labels(partitionLabel, limiter).set(targetNanos / NANOS_PER_SECOND);
+  }
+
+  public void recordLatencySloDecision(
+      final String limiter, final Decision decision, final long observedNanos) {
+    LATENCY_SLO_DECISIONS.labels(partitionLabel, limiter, decision.name()).inc();
+    LATENCY_SLO_OBSERVED.labels(partitionLabel, limiter).set(observedNanos / NANOS_PER_SECOND);
+  }
+
   public Timer startWriteTimer() {
     return appendLatency.startTimer();
   }
@@ -231,5 +269,12 @@ public final class LogStreamMetrics {
     LAST_WRITTEN_POSITION.remove(partitionLabel);
     COMMIT_LATENCY.remove(partitionLabel);
     WRITE_LATENCY.remove(partitionLabel);
+    for (final var limiter : LATENCY_SLO_LIMITERS) {
+      LATENCY_SLO_OBSERVED.remove(partitionLabel, limiter);
+      LATENCY_SLO_TARGET.remove(partitionLabel, limiter);
+      for (final var decision : Decision.values()) {
+        LATENCY_SLO_DECISIONS.remove(partitionLabel, limiter, decision.name());
+      }
+    }
   }
 }
@@ -57,6 +57,17 @@ public final class FlowControl implements AppendListener {
         requestLimit != null
             ? new CommandRateLimiterBuilder().limit(requestLimit).build(metrics)
             : new NoopLimiter<>();
+    observeLatencySlo("append", appendLimit);
+    observeLatencySlo("request", requestLimit);
+  }
+
+  private void observeLatencySlo(final String limiter, final Limit limit) {
+    if (limit instanceof final LatencySloLimit latencySloLimit) {
+      metrics.setLatencySloTarget(limiter, latencySloLimit.getTargetRtt());
+      latencySloLimit.addDecisionListener(
+          (decision, observedRtt, newLimit) ->
+              metrics.recordLatencySloDecision(limiter, decision, observedRtt));
+    }
   }
 
   /**
@@ -0,0 +1,219 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import com.google.common.base.Preconditions;
+import com.netflix.concurrency.limits.limit.AbstractLimit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A limit which tries to keep a percentile of the observed rtt (round trip time) below a configured
+ * target, e.g. to keep the p99 commit latency of appends below 100ms.
+ *
+ * <p>Unlike {@link StabilizingAIMDLimit}, which reacts to every single sample, the limit collects
+ * the rtts of a window of samples and only updates the limit once the window is full. The
+ * configured percentile of the window is then compared to the target:
+ *
+ * <ul>
+ *   <li>if it exceeds the target, or a request was dropped, the limit is reduced by the backoff
+ *       ratio. Same as {@link StabilizingAIMDLimit}, the limit is not reduced if the inflight count
+ *       is greater than the current limit, to keep the limit stable around the optimal value.
+ *   <li>if it is below the target and the limit was actually used, the limit is increased. The
+ *       further the percentile is below the target, the larger the increase.
+ *   <li>otherwise, the limit is kept.
+ * </ul>
+ *
+ * <p>Since the limit already aggregates samples over a window, it should not be wrapped in a {@link
+ * com.netflix.concurrency.limits.limit.WindowedLimit}, which would only pass averages to it.
+ */
+public final class LatencySloLimit extends AbstractLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long targetRtt;
+  private final double percentile;
+  private final long[] window;
+  private final List<DecisionListener> decisionListeners = new CopyOnWriteArrayList<>();
+
+  private int sampleCount;
+  private int maxInflight;
+  private boolean didDropInWindow;
+
+  private LatencySloLimit(
+      final int initialLimit,
+      final int maxLimit,
+      final int minLimit,
+      final double backoffRatio,
+      final long targetRtt,
+      final double percentile,
+      final int windowSize) {
+    super(initialLimit);
+    this.maxLimit = maxLimit;
+    this.minLimit = minLimit;
+    this.backoffRatio = backoffRatio;
+    this.targetRtt = targetRtt;
+    this.percentile = percentile;
+    window = new long[windowSize];
+  }
+
+  @Override
+  protected int _update(
+      final long startTime, final long rtt, final int inflight, final boolean didDrop) {
+    window[sampleCount++] = rtt;
+    maxInflight = Math.max(maxInflight, inflight);
+    didDropInWindow |= didDrop;
+
+    if (sampleCount < window.length) {
+      return getLimit();
+    }
+
+    final long observedRtt = percentileOfWindow();
+    final int currentLimit = getLimit();
+    final Decision decision;
+    int newLimit = currentLimit;
+
+    if (didDropInWindow || observedRtt > targetRtt) {
+      if (inflight <= currentLimit) {
+        decision = Decision.DECREASE;
+        newLimit = (int) (currentLimit * backoffRatio);
+      } else {
+        decision = Decision.HOLD;
+      }
+    } else if (maxInflight * 2 >= currentLimit) {
+      decision = Decision.INCREASE;
+      final double headroom = 1.0 - (double) observedRtt / targetRtt;
+      newLimit = currentLimit + Math.max(1, (int) (currentLimit * headroom / 2));
+    } else {
+      decision = Decision.HOLD;
+    }
+
+    sampleCount = 0;
+    maxInflight = 0;
+    didDropInWindow = false;
+
+    newLimit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+    for (final var listener : decisionListeners) {
+      listener.onDecision(decision, observedRtt, newLimit);
+    }
+    return newLimit;
+  }
+
+  /** Registers a listener which is notified after every window with the taken decision. */
+  public void addDecisionListener(final DecisionListener listener) {
+    decisionListeners.add(listener);
+  }
+
+  /**
+   * @return the target rtt in nanoseconds
+   */
+  public long getTargetRtt() {
+    return targetRtt;
+  }
+
+  private long percentileOfWindow() {
+    Arrays.sort(window);
+    final int index = (int) Math.ceil(percentile * window.length) - 1;
+    return window[Math.max(0, index)];
+  }
+
+  @Override
+  public String toString() {
+    return "LatencySloLimit [limit=" + getLimit() + ", targetRtt=" + targetRtt + "]";
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  public enum Decision {
+    INCREASE,
+    DECREASE,
+    HOLD
+  }
+
+  @FunctionalInterface
+  public interface DecisionListener {
+
+    /**
+     * Called whenever the limit evaluated a full window of samples.
+     *
+     * @param decision the decision taken for the window
+     * @param observedRtt the observed percentile of the window in nanoseconds
+     * @param newLimit the limit after the decision
+     */
+    void onDecision(Decision decision, long observedRtt, int newLimit);
+  }
+
+  public static final class Builder {
+    private int minLimit = 1;
+    private int initialLimit = 100;
+    private int maxLimit = 1000;
+    private double backoffRatio = 0.9;
+    private long targetRtt = TimeUnit.MILLISECONDS.toNanos(200);
+    private double percentile = 0.99;
+    private int windowSize = 100;
+
+    public Builder initialLimit(final int initialLimit) {
+      this.initialLimit = initialLimit;
+      return this;
+    }
+
+    public Builder minLimit(final int minLimit) {
+      this.minLimit = minLimit;
+      return this;
+    }
+
+    public Builder maxLimit(final int maxLimit) {
+      this.maxLimit = maxLimit;
+      return this;
+    }
+
+    /**
+     * When the limit has to be reduced, the new limit is calculated as current limit *
+     * backoffRatio.
+     */
+    public Builder backoffRatio(final double backoffRatio) {
+      Preconditions.checkArgument(
+          backoffRatio < 1.0 && backoffRatio >= 0.5,
+          "Backoff ratio must be in the range [0.5, 1.0)");
+      this.backoffRatio = backoffRatio;
+      return this;
+    }
+
+    /** When the observed percentile of a window exceeds this value, the limit will be reduced. */
+    public Builder targetRtt(final long target, final TimeUnit units) {
+      Preconditions.checkArgument(target > 0, "Target must be positive");
+      targetRtt = units.toNanos(target);
+      return this;
+    }
+
+    /** The percentile of the window which is compared to the target, e.g. 0.99 for the p99. */
+    public Builder percentile(final double percentile) {
+      Preconditions.checkArgument(
+          percentile > 0.0 && percentile <= 1.0, "Percentile must be in the range (0.0, 1.0]");
+      this.percentile = percentile;
+      return this;
+    }
+
+    /** The number of samples to collect before the limit is updated. */
+    public Builder windowSize(final int windowSize) {
+      Preconditions.checkArgument(windowSize > 0, "Window size must be positive");
+      this.windowSize = windowSize;
+      return this;
+    }
+
+    public LatencySloLimit build() {
+      return new LatencySloLimit(
+          initialLimit, maxLimit, minLimit, backoffRatio, targetRtt, percentile, windowSize);
+    }
+  }
+}
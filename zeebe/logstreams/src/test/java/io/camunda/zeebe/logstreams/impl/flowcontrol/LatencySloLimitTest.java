@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.LatencySloLimit.Decision;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class LatencySloLimitTest {
+
+  private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final List<Decision> decisions = new ArrayList<>();
+  private final LatencySloLimit limit =
+      LatencySloLimit.newBuilder()
+          .initialLimit(100)
+          .minLimit(10)
+          .maxLimit(200)
+          .backoffRatio(0.5)
+          .targetRtt(100, TimeUnit.MILLISECONDS)
+          .percentile(0.9)
+          .windowSize(10)
+          .build();
+
+  @BeforeEach
+  void setup() {
+    limit.addDecisionListener((decision, observedRtt, newLimit) -> decisions.add(decision));
+  }
+
+  @Test
+  void shouldNotUpdateLimitBeforeWindowIsFull() {
+    // when
+    sample(9, TARGET * 10, 100);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(100);
+    assertThat(decisions).isEmpty();
+  }
+
+  @Test
+  void shouldDecreaseLimitWhenPercentileExceedsTarget() {
+    // when - two of ten samples are above the target, so the p90 is as well
+    sample(8, TARGET / 2, 100);
+    sample(2, TARGET * 2, 100);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(50);
+    assertThat(decisions).containsExactly(Decision.DECREASE);
+  }
+
+  @Test
+  void shouldIgnoreOutliersAbovePercentile() {
+    // when - only one of ten samples is above the target, so the p90 is not
+    sample(9, TARGET / 2, 100);
+    sample(1, TARGET * 10, 100);
+
+    // then
+    assertThat(limit.getLimit()).isGreaterThan(100);
+    assertThat(decisions).containsExactly(Decision.INCREASE);
+  }
+
+  @Test
+  void shouldIncreaseMoreWhenFurtherBelowTarget() {
+    // when
+    sample(10, TARGET / 2, 100);
+    final var increaseCloseToTarget = limit.getLimit() - 100;
+    sample(10, TARGET / 10, limit.getLimit());
+    final var increaseFarFromTarget = limit.getLimit() - 100 - increaseCloseToTarget;
+
+    // then
+    assertThat(increaseFarFromTarget).isGreaterThan(increaseCloseToTarget);
+  }
+
+  @Test
+  void shouldNotIncreaseLimitIfLimitIsNotUsed() {
+    // when
+    sample(10, TARGET / 2, 10);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(100);
+    assertThat(decisions).containsExactly(Decision.HOLD);
+  }
+
+  @Test
+  void shouldNotDecreaseLimitIfInflightExceedsLimit() {
+    // when
+    sample(10, TARGET * 2, 150);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(100);
+    assertThat(decisions).containsExactly(Decision.HOLD);
+  }
+
+  @Test
+  void shouldDecreaseLimitOnDrop() {
+    // when
+    sample(9, TARGET / 2, 100);
+    limit.onSample(0, TARGET / 2, 100, true);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(50);
+    assertThat(decisions).containsExactly(Decision.DECREASE);
+  }
+
+  @Test
+  void shouldStayWithinBounds() {
+    // when
+    for (int i = 0; i < 10; i++) {
+      sample(10, TARGET * 2, 1);
+    }
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(10);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      sample(10, 1, limit.getLimit());
+    }
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(200);
+  }
+
+  private void sample(final int count, final long rtt, final int inflight) {
+    for (int i = 0; i < count; i++) {
+      limit.onSample(0, rtt, inflight, false);
+    }
+  }
+}
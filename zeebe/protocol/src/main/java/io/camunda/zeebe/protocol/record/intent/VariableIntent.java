@@ -18,7 +18,15 @@ package io.camunda.zeebe.protocol.record.intent;
 public enum VariableIntent implements Intent {
   CREATED((short) 0),
   UPDATED((short) 1),
-  MIGRATED((short) 2);
+  MIGRATED((short) 2),
+
+  /**
+   * The output element of a completed multi-instance child instance was collected, at the index of
+   * the child, into the output collection of its multi-instance body. The record key is the key of
+   * the child instance, and the value holds the output element. The output collection variable
+   * itself is only updated once the multi-instance body completes.
+   */
+  OUTPUT_ELEMENT_COLLECTED((short) 3);
 
   private final short value;
 
@@ -44,6 +52,8 @@ public enum VariableIntent implements Intent {
         return UPDATED;
       case 2:
         return MIGRATED;
+      case 3:
+        return OUTPUT_ELEMENT_COLLECTED;
       default:
         return Intent.UNKNOWN;
     }
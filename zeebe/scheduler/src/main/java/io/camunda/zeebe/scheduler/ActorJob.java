@@ -108,6 +108,14 @@ public final class ActorJob {
     return resultFuture;
   }
 
+  /**
+   * @return the time at which the job was added to its task in nanoseconds, see {@link
+   *     System#nanoTime()}, or -1 if it was not added yet
+   */
+  long getScheduledAt() {
+    return scheduledAt;
+  }
+
   /** used to recycle the job object */
   void reset() {
     schedulingState = TaskSchedulingState.NOT_SCHEDULED;
@@ -47,6 +47,60 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Counter STEAL_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_steal_count")
+          .help("Number of actor tasks which a thread stole from the queue of another thread")
+          .labelNames("threadName")
+          .register();
+
+  private static final Counter MIGRATION_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_migration_count")
+          .help("Number of actor tasks which a thread executed that last ran on another thread")
+          .labelNames("threadName")
+          .register();
+
+  private static final Gauge VIRTUAL_THREAD_COUNT =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("actor_virtual_thread_count")
+          .help("Number of virtual threads which run I/O bound actors")
+          .register();
+
+  private static final Counter VIRTUAL_THREAD_PINNED_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_virtual_thread_pinned_count")
+          .help("Number of times a virtual thread of an actor pinned its carrier thread")
+          .register();
+
+  private static final Counter CPU_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_cpu_time")
+          .help("Estimated cpu time in seconds spent executing a certain actor task")
+          .labelNames("actorName")
+          .register();
+
+  private static final Gauge MAILBOX_LENGTH =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("actor_task_mailbox_length")
+          .help("Sampled number of jobs which were submitted to an actor task and wait to run")
+          .labelNames("actorName")
+          .register();
+
+  private static final Gauge MAILBOX_AGE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("actor_task_mailbox_age")
+          .help("Sampled time in seconds the oldest submitted job of an actor task waits to run")
+          .labelNames("actorName")
+          .register();
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -72,6 +126,58 @@ final class ActorMetrics {
     }
   }
 
+  void countCpuTime(final String actorName, final long nanos) {
+    if (enabled) {
+      CPU_TIME.labels(actorName).inc(nanos / 1_000_000_000d);
+    }
+  }
+
+  void updateMailbox(final String actorName, final int length, final long oldestJobAgeNanos) {
+    if (enabled) {
+      MAILBOX_LENGTH.labels(actorName).set(length);
+      MAILBOX_AGE.labels(actorName).set(oldestJobAgeNanos / 1_000_000_000d);
+    }
+  }
+
+  /** Removes the sampled series of a closed actor, which would otherwise be exported forever. */
+  void removeActor(final String actorName) {
+    if (enabled) {
+      CPU_TIME.remove(actorName);
+      MAILBOX_LENGTH.remove(actorName);
+      MAILBOX_AGE.remove(actorName);
+    }
+  }
+
+  void countSteal(final String threadName) {
+    if (enabled) {
+      STEAL_COUNT.labels(threadName).inc();
+    }
+  }
+
+  void countMigration(final String threadName) {
+    if (enabled) {
+      MIGRATION_COUNT.labels(threadName).inc();
+    }
+  }
+
+  void incrementVirtualThreadCount() {
+    if (enabled) {
+      VIRTUAL_THREAD_COUNT.inc();
+    }
+  }
+
+  void decrementVirtualThreadCount() {
+    if (enabled) {
+      VIRTUAL_THREAD_COUNT.dec();
+    }
+  }
+
+  void countVirtualThreadPinned() {
+    if (enabled) {
+      VIRTUAL_THREAD_PINNED_COUNT.inc();
+    }
+  }
+
   public void observeJobSchedulingLatency(final long waitTimeNs, final String subscriptionType) {
     if (enabled) {
       SCHEDULING_LATENCY.labels(subscriptionType).observe(waitTimeNs / 1_000_000_000f);
@@ -9,6 +9,8 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -65,6 +67,21 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     };
   }
 
+  /**
+   * Returns the statistics of all actors which are currently scheduled, i.e. their estimated cpu
+   * time and the state of their mailbox. The statistics are collected continuously with a low
+   * overhead, so they are only estimates.
+   *
+   * @return the statistics of all scheduled actors
+   */
+  public List<ActorStatistics> getActorStatistics() {
+    final long now = System.nanoTime();
+    final var statistics =
+        new ArrayList<>(actorTaskExecutor.getCpuBoundThreads().getActorStatistics(now));
+    statistics.addAll(actorTaskExecutor.getIoBoundThreads().getActorStatistics(now));
+    return statistics;
+  }
+
   private void checkRunningState() {
     if (state.get() != SchedulerState.RUNNING) {
       throw new IllegalStateException("Actor scheduler is not running");
@@ -121,6 +138,9 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     /** 20 ms instead of {@link BackoffIdleStrategy#DEFAULT_MAX_PARK_PERIOD_NS}. */
     public static final long DEFAULT_MAX_PARK_PERIOD_NS = 20_000_000;
 
+    /** Number of queued tasks a CPU thread must exceed before its partition actors are stolen. */
+    public static final int DEFAULT_PARTITION_AFFINITY_STEAL_THRESHOLD = 2;
+
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
@@ -131,6 +151,9 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
     private boolean enableMetrics = false;
+    private boolean partitionAffinityEnabled = false;
+    private int partitionAffinityStealThreshold = DEFAULT_PARTITION_AFFINITY_STEAL_THRESHOLD;
+    private boolean ioBoundVirtualThreadsEnabled = false;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
 
@@ -228,6 +251,55 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isPartitionAffinityEnabled() {
+      return partitionAffinityEnabled;
+    }
+
+    /**
+     * Binds all CPU-bound actors of the same partition to the same home thread, instead of letting
+     * them run on any thread. This improves the cache locality of partitions, at the cost of a less
+     * even load between threads.
+     */
+    public ActorSchedulerBuilder setPartitionAffinityEnabled(
+        final boolean partitionAffinityEnabled) {
+      this.partitionAffinityEnabled = partitionAffinityEnabled;
+      return this;
+    }
+
+    public int getPartitionAffinityStealThreshold() {
+      return partitionAffinityStealThreshold;
+    }
+
+    /**
+     * Sets the number of queued tasks a thread must exceed before idle threads steal from it, when
+     * partition affinity is enabled.
+     */
+    public ActorSchedulerBuilder setPartitionAffinityStealThreshold(
+        final int partitionAffinityStealThreshold) {
+      if (partitionAffinityStealThreshold < 0) {
+        throw new IllegalArgumentException(
+            "Expected steal threshold to be >= 0, but was %d"
+                .formatted(partitionAffinityStealThreshold));
+      }
+      this.partitionAffinityStealThreshold = partitionAffinityStealThreshold;
+      return this;
+    }
+
+    public boolean isIoBoundVirtualThreadsEnabled() {
+      return ioBoundVirtualThreadsEnabled;
+    }
+
+    /**
+     * Runs every I/O-bound actor on its own virtual thread instead of on the fixed set of I/O
+     * threads, such that a blocking actor cannot starve other I/O-bound actors. If enabled, the
+     * configured I/O-bound thread count is ignored.
+     */
+    public ActorSchedulerBuilder setIoBoundVirtualThreadsEnabled(
+        final boolean ioBoundVirtualThreadsEnabled) {
+      this.ioBoundVirtualThreadsEnabled = ioBoundVirtualThreadsEnabled;
+      return this;
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -236,7 +308,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     private void initIoBoundActorThreadGroup() {
       if (ioBoundActorGroup == null) {
-        ioBoundActorGroup = new IoThreadGroup(this);
+        ioBoundActorGroup =
+            ioBoundVirtualThreadsEnabled ? new VirtualIoThreadGroup(this) : new IoThreadGroup(this);
       }
     }
 
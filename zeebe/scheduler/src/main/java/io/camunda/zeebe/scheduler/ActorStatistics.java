@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * A snapshot of the statistics of a single actor.
+ *
+ * @param name the name of the actor
+ * @param context the context of the actor, e.g. its partition id
+ * @param cpuTime the estimated cpu time spent executing the actor since it was scheduled
+ * @param mailboxLength the number of jobs submitted to the actor which wait to be executed
+ * @param oldestJobAge the time the oldest of these jobs waits to be executed
+ */
+public record ActorStatistics(
+    String name,
+    Map<String, String> context,
+    Duration cpuTime,
+    int mailboxLength,
+    Duration oldestJobAge) {}
@@ -12,11 +12,13 @@ import static io.camunda.zeebe.scheduler.ActorThread.ensureCalledFromActorThread
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.Loggers;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -45,10 +47,15 @@ public class ActorTask {
   boolean shouldYield;
   final AtomicReference<TaskSchedulingState> schedulingState = new AtomicReference<>();
   final AtomicLong stateCount = new AtomicLong(0);
+  // id of the thread which executed the task last, or -1 if it was never executed
+  int lastRunnerId = -1;
+  // estimated cpu time spent executing the task, see ActorThread
+  private final AtomicLong cpuTimeNanos = new AtomicLong();
   private final CompletableActorFuture<Void> jobClosingTaskFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private int homeThreadId = ActorThreadGroup.NO_HOME_THREAD;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -58,6 +65,8 @@ public class ActorTask {
    * submitted from a job within the same actor while the task is in RUNNING state.
    */
   private volatile Queue<ActorJob> submittedJobs = new ClosedQueue();
+  // the size of the submitted jobs queue, whose size() would have to traverse it
+  private final AtomicInteger mailboxLength = new AtomicInteger();
 
   public ActorTask(final Actor actor) {
     this.actor = actor;
@@ -66,6 +75,8 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    homeThreadId = actorThreadGroup.homeThreadOf(actor);
+    actorThreadGroup.onTaskScheduled(this);
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -80,6 +91,7 @@ public class ActorTask {
     jobStartingTaskFuture.setAwaitingResult();
 
     submittedJobs = new ManyToOneConcurrentLinkedQueue<>();
+    mailboxLength.set(0);
     fastLaneJobs = new ArrayDeque<>();
     lifecyclePhase = ActorLifecyclePhase.STARTING;
 
@@ -100,6 +112,7 @@ public class ActorTask {
 
     // add job to queue
     if (submittedJobs.offer(job)) {
+      mailboxLength.incrementAndGet();
       if (submittedJobs != this.submittedJobs) {
         // jobs queue was replaced (see onClosed method)
         // in case the job was offer after the original queue was drained
@@ -241,6 +254,7 @@ public class ActorTask {
 
   private void onClosed() {
     schedulingState.set(TaskSchedulingState.NOT_SCHEDULED);
+    actorThreadGroup.onTaskClosed(this);
 
     // we need to work on a copy - otherwise we would get a ConcurrentModificationException
     // since some subscriptions remove them self on cancel
@@ -257,6 +271,7 @@ public class ActorTask {
       // cancel and discard jobs
       failJob(j);
     }
+    mailboxLength.set(0);
   }
 
   private void failJob(final ActorJob job) {
@@ -431,6 +446,7 @@ public class ActorTask {
     while (lifecyclePhase == ActorLifecyclePhase.STARTED && !submittedJobs.isEmpty()) {
       final ActorJob job = submittedJobs.poll();
       if (job != null) {
+        mailboxLength.decrementAndGet();
         if (currentJob == null) {
           currentJob = job;
         } else {
@@ -465,6 +481,14 @@ public class ActorTask {
     return actor.getName();
   }
 
+  /**
+   * @return the id of the thread this task is bound to, or {@link ActorThreadGroup#NO_HOME_THREAD}
+   *     if it can run on any thread of its group
+   */
+  public int getHomeThreadId() {
+    return homeThreadId;
+  }
+
   public Actor getActor() {
     return actor;
   }
@@ -526,12 +550,54 @@ public class ActorTask {
     actor.onActorFailed();
   }
 
+  void addCpuTime(final long nanos) {
+    cpuTimeNanos.addAndGet(nanos);
+  }
+
+  /**
+   * @return the number of jobs which were submitted externally and are not executed yet
+   */
+  int getMailboxLength() {
+    return submittedJobs instanceof ClosedQueue ? 0 : Math.max(0, mailboxLength.get());
+  }
+
+  /**
+   * Returns the time the oldest externally submitted job is waiting to be executed. Can be called
+   * from any thread, in which case the result is only an estimate.
+   *
+   * @param nowNanos the current time, see {@link System#nanoTime()}
+   * @return the age of the oldest job in nanoseconds, or 0 if no job is waiting
+   */
+  long getOldestJobAge(final long nowNanos) {
+    final Queue<ActorJob> jobs = submittedJobs;
+    if (jobs instanceof ClosedQueue) {
+      return 0;
+    }
+
+    final ActorJob oldestJob = jobs.peek();
+    final long scheduledAt = oldestJob != null ? oldestJob.getScheduledAt() : -1;
+    return scheduledAt >= 0 ? Math.max(0, nowNanos - scheduledAt) : 0;
+  }
+
+  /**
+   * @param nowNanos the current time, see {@link System#nanoTime()}
+   * @return a snapshot of the statistics of this task
+   */
+  public ActorStatistics getStatistics(final long nowNanos) {
+    return new ActorStatistics(
+        actor.getName(),
+        actor.getContext(),
+        Duration.ofNanos(cpuTimeNanos.get()),
+        getMailboxLength(),
+        Duration.ofNanos(getOldestJobAge(nowNanos)));
+  }
+
   public int estimateQueueLength() {
     if (fastLaneJobs instanceof ClosedQueue || submittedJobs instanceof ClosedQueue) {
       return 0;
     }
     // In theory this could overflow. In practice, both queue sizes are very low.
-    return fastLaneJobs.size() + submittedJobs.size();
+    return fastLaneJobs.size() + getMailboxLength();
   }
 
   /** Describes an actor's scheduling state */
@@ -8,12 +8,15 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
 import io.camunda.zeebe.util.Loggers;
 import io.camunda.zeebe.util.error.FatalErrorHandler;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
@@ -26,6 +29,22 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
   private static final FatalErrorHandler FATAL_ERROR_HANDLER = FatalErrorHandler.withLogger(LOG);
   private static final VarHandle STATE_HANDLE;
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_TIME_SUPPORTED =
+      THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+  /**
+   * Only every n-th task execution of a thread is sampled for the actor statistics, to keep the
+   * overhead low. The cpu time of a sampled execution is multiplied by the interval, which results
+   * in an unbiased estimate of the cpu time of each actor.
+   */
+  private static final int STATISTICS_SAMPLE_INTERVAL = 16;
+
+  private static final int DEFAULT_SUBMITTED_CALLBACKS_CAPACITY = 1024 * 24;
+  private static final int DEFAULT_JOB_POOL_CAPACITY = 2048;
+
+  // virtual threads cannot extend ActorThread, see VirtualActorThread
+  private static final ThreadLocal<ActorThread> VIRTUAL_RUNNER = new ThreadLocal<>();
 
   static {
     try {
@@ -36,8 +55,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
-  public final ManyToManyConcurrentArrayQueue<Runnable> submittedCallbacks =
-      new ManyToManyConcurrentArrayQueue<>(1024 * 24);
+  public final ManyToManyConcurrentArrayQueue<Runnable> submittedCallbacks;
   protected final ActorTimerQueue timerJobQueue;
   protected ActorTaskRunnerIdleStrategy idleStrategy;
   ActorTask currentTask;
@@ -46,9 +64,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final ActorClock clock;
   private final int threadId;
   private final TaskScheduler taskScheduler;
-  private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
+  private final BoundedArrayQueue<ActorJob> jobs;
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  private int executionsUntilSample = STATISTICS_SAMPLE_INTERVAL;
 
   public ActorThread(
       final String name,
@@ -78,6 +97,35 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       final ActorTimerQueue timerQueue,
       final boolean metricsEnabled,
       final IdleStrategy idleStrategy) {
+    this(
+        name,
+        id,
+        threadGroup,
+        taskScheduler,
+        clock,
+        timerQueue,
+        metricsEnabled,
+        idleStrategy,
+        DEFAULT_SUBMITTED_CALLBACKS_CAPACITY,
+        DEFAULT_JOB_POOL_CAPACITY);
+  }
+
+  /**
+   * @param submittedCallbacksCapacity the capacity of the queue of callbacks submitted by other
+   *     threads, e.g. to cancel timers
+   * @param jobPoolCapacity the number of recycled jobs which are kept for reuse
+   */
+  ActorThread(
+      final String name,
+      final int id,
+      final ActorThreadGroup threadGroup,
+      final TaskScheduler taskScheduler,
+      final ActorClock clock,
+      final ActorTimerQueue timerQueue,
+      final boolean metricsEnabled,
+      final IdleStrategy idleStrategy,
+      final int submittedCallbacksCapacity,
+      final int jobPoolCapacity) {
     setName(name);
     state = ActorThreadState.NEW;
     threadId = id;
@@ -87,6 +135,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     this.taskScheduler = taskScheduler;
     actorMetrics = new ActorMetrics(metricsEnabled);
     this.idleStrategy = new ActorTaskRunnerIdleStrategy(idleStrategy);
+    submittedCallbacks = new ManyToManyConcurrentArrayQueue<>(submittedCallbacksCapacity);
+    jobs = new BoundedArrayQueue<>(jobPoolCapacity);
   }
 
   ActorMetrics getActorMetrics() {
@@ -103,19 +153,68 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     currentTask = taskScheduler.getNextTask();
 
     if (currentTask != null) {
-      final var actorName = currentTask.actor.getName();
+      final var task = currentTask;
+      final var actorName = task.actor.getName();
+      trackMigration(task);
+      final long cpuTimeBefore = shouldSample() ? sampleBeforeExecution(task, actorName) : -1;
       try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
         executeCurrentTask();
       }
+      if (cpuTimeBefore >= 0) {
+        sampleAfterExecution(task, actorName, cpuTimeBefore);
+      }
       if (actorMetrics.isEnabled()) {
         actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
         actorMetrics.countExecution(actorName);
       }
+      if (task.getState() == TaskSchedulingState.NOT_SCHEDULED) {
+        // the task was closed during this execution
+        actorMetrics.removeActor(actorName);
+      }
     } else {
       idleStrategy.onIdle();
     }
   }
 
+  private boolean shouldSample() {
+    if (--executionsUntilSample > 0) {
+      return false;
+    }
+
+    executionsUntilSample = STATISTICS_SAMPLE_INTERVAL;
+    return true;
+  }
+
+  /**
+   * Samples the mailbox of the task before it runs, i.e. how many jobs wait to be executed and for
+   * how long.
+   *
+   * @return the cpu time of this thread, or -1 if it can't be measured
+   */
+  private long sampleBeforeExecution(final ActorTask task, final String actorName) {
+    actorMetrics.updateMailbox(
+        actorName, task.getMailboxLength(), task.getOldestJobAge(System.nanoTime()));
+    // returns -1 on virtual threads
+    return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+  }
+
+  private void sampleAfterExecution(
+      final ActorTask task, final String actorName, final long cpuTimeBefore) {
+    final long cpuTime =
+        (THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuTimeBefore) * STATISTICS_SAMPLE_INTERVAL;
+    task.addCpuTime(cpuTime);
+    actorMetrics.countCpuTime(actorName, cpuTime);
+  }
+
+  private void trackMigration(final ActorTask task) {
+    if (task.lastRunnerId != threadId) {
+      if (task.lastRunnerId >= 0) {
+        actorMetrics.countMigration(getName());
+      }
+      task.lastRunnerId = threadId;
+    }
+  }
+
   private void executeCurrentTask() {
     final var properties = currentTask.getActor().getContext();
     boolean resubmit = false;
@@ -168,9 +267,26 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof ActorThread) {
+      return (ActorThread) thread;
+    }
+
+    // only virtual threads pay for the thread-local lookup
+    return thread.isVirtual() ? VIRTUAL_RUNNER.get() : null;
+  }
+
+  /**
+   * Runs the given runner on the current virtual thread, such that {@link #current()} returns the
+   * runner while it runs.
+   */
+  static void runOnVirtualThread(final ActorThread runner) {
+    VIRTUAL_RUNNER.set(runner);
+    try {
+      runner.run();
+    } finally {
+      VIRTUAL_RUNNER.remove();
+    }
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -211,12 +327,24 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   @Override
   public synchronized void start() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
-      super.start();
+      startRunner();
     } else {
       throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
     }
   }
 
+  /** Starts the thread which runs this runner, see {@link #run()}. */
+  protected void startRunner() {
+    super.start();
+  }
+
+  /**
+   * @return the thread which runs this runner
+   */
+  protected Thread getRunnerThread() {
+    return this;
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
@@ -290,7 +418,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      LockSupport.unpark(getRunnerThread());
     }
 
     protected void onIdle() {
@@ -299,6 +427,11 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
         isIdle = true;
       }
 
+      idle();
+    }
+
+    /** Waits until work may be available, as long as the wrapped idle strategy decides. */
+    protected void idle() {
       idleStrategy.idle();
     }
 
@@ -9,30 +9,56 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
  * CPU bound).
+ *
+ * <p>With partition affinity, all actors of the same partition (see {@link
+ * Actor#ACTOR_PROP_PARTITION_ID}) are bound to the same home thread, so that they keep their data
+ * in the caches of the same core. Other threads only steal these actors if the queue of the home
+ * thread grows beyond the configured steal threshold.
  */
 public abstract class ActorThreadGroup {
+  /** Marks a task which is not bound to a specific thread of the group. */
+  public static final int NO_HOME_THREAD = -1;
+
   protected final String groupName;
   protected final ActorThread[] threads;
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final boolean partitionAffinity;
+  private final Set<ActorTask> scheduledTasks = ConcurrentHashMap.newKeySet();
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, builder, schedulerName, false);
+  }
+
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final boolean partitionAffinity) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    this.partitionAffinity = partitionAffinity;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks =
+        partitionAffinity
+            ? new WorkStealingGroup(numOfThreads, builder.getPartitionAffinityStealThreshold())
+            : new WorkStealingGroup(numOfThreads);
 
     threads = new ActorThread[numOfThreads];
 
@@ -57,7 +83,13 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int homeThreadId = actorTask.getHomeThreadId();
+    if (homeThreadId != NO_HOME_THREAD) {
+      tasks.submit(actorTask, homeThreadId);
+      if (current != threads[homeThreadId]) {
+        threads[homeThreadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -66,6 +98,47 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  /**
+   * Returns the home thread of the given actor. Only actors which belong to a partition have a home
+   * thread, and only if partition affinity is enabled for this group.
+   *
+   * @param actor the actor to look up
+   * @return the id of the home thread, or {@link #NO_HOME_THREAD}
+   */
+  int homeThreadOf(final Actor actor) {
+    if (!partitionAffinity) {
+      return NO_HOME_THREAD;
+    }
+
+    final var partitionId = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (partitionId == null) {
+      return NO_HOME_THREAD;
+    }
+
+    try {
+      // partition ids start at 1, so this spreads consecutive partitions over consecutive threads
+      return Math.floorMod(Integer.parseInt(partitionId) - 1, numOfThreads);
+    } catch (final NumberFormatException e) {
+      return NO_HOME_THREAD;
+    }
+  }
+
+  void onTaskScheduled(final ActorTask task) {
+    scheduledTasks.add(task);
+  }
+
+  void onTaskClosed(final ActorTask task) {
+    scheduledTasks.remove(task);
+  }
+
+  /**
+   * @param nowNanos the current time, see {@link System#nanoTime()}
+   * @return the statistics of all actors which are currently scheduled on this group
+   */
+  public List<ActorStatistics> getActorStatistics(final long nowNanos) {
+    return scheduledTasks.stream().map(task -> task.getStatistics(nowNanos)).toList();
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
+
+import io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.concurrent.NoOpIdleStrategy;
+
+/**
+ * A runner which is dedicated to a single actor task and runs on a virtual thread instead of a
+ * platform thread. Since the runner only ever executes its own task, the single-threaded semantics
+ * of the actor are kept, while blocking calls of the actor only block its virtual thread instead of
+ * one of the few shared platform threads.
+ *
+ * <p>Virtual threads cannot be subclassed, so the runner is an unstarted {@link ActorThread} whose
+ * {@link #run()} loop is executed by a virtual thread. Unlike the shared threads, the runner keeps
+ * only small queues, and it does not poll while idle: it parks its virtual thread until its task is
+ * submitted or its next timer is due. The runner terminates once its task is closed and nothing is
+ * queued anymore.
+ */
+final class VirtualActorThread extends ActorThread {
+  private static final int SUBMITTED_CALLBACKS_CAPACITY = 256;
+  private static final int JOB_POOL_CAPACITY = 64;
+
+  private final VirtualIoThreadGroup threadGroup;
+  private final ActorTask task;
+  private final SingleTaskScheduler taskScheduler;
+  private final Thread virtualThread;
+
+  VirtualActorThread(
+      final String name,
+      final VirtualIoThreadGroup threadGroup,
+      final ActorTask task,
+      final ActorClock clock,
+      final ActorTimerQueue timerQueue,
+      final boolean metricsEnabled) {
+    this(name, threadGroup, task, new SingleTaskScheduler(task), clock, timerQueue, metricsEnabled);
+  }
+
+  private VirtualActorThread(
+      final String name,
+      final VirtualIoThreadGroup threadGroup,
+      final ActorTask task,
+      final SingleTaskScheduler taskScheduler,
+      final ActorClock clock,
+      final ActorTimerQueue timerQueue,
+      final boolean metricsEnabled) {
+    super(
+        name,
+        0,
+        threadGroup,
+        taskScheduler,
+        clock,
+        timerQueue,
+        metricsEnabled,
+        NoOpIdleStrategy.INSTANCE,
+        SUBMITTED_CALLBACKS_CAPACITY,
+        JOB_POOL_CAPACITY);
+    this.threadGroup = threadGroup;
+    this.task = task;
+    this.taskScheduler = taskScheduler;
+    idleStrategy = new VirtualIdleStrategy();
+    virtualThread = Thread.ofVirtual().name(name).unstarted(this::runVirtual);
+  }
+
+  void submit() {
+    taskScheduler.submit();
+    hintWorkAvailable();
+  }
+
+  ActorTask getTask() {
+    return task;
+  }
+
+  boolean isTaskDone() {
+    return task.getState() == TaskSchedulingState.NOT_SCHEDULED;
+  }
+
+  private void runVirtual() {
+    try {
+      runOnVirtualThread(this);
+    } finally {
+      threadGroup.onRunnerTerminated();
+    }
+  }
+
+  @Override
+  protected void startRunner() {
+    virtualThread.start();
+  }
+
+  @Override
+  protected Thread getRunnerThread() {
+    return virtualThread;
+  }
+
+  @Override
+  public CompletableFuture<Void> close() {
+    final var terminationFuture = super.close();
+    // wake up the runner if it is parked, so that it terminates
+    hintWorkAvailable();
+    return terminationFuture;
+  }
+
+  /** Schedules the single task of the runner, whenever it is submitted. */
+  private static final class SingleTaskScheduler implements TaskScheduler {
+    private static final long NOT_QUEUED = -1;
+
+    private final ActorTask task;
+    private final AtomicLong queuedStateCount = new AtomicLong(NOT_QUEUED);
+
+    private SingleTaskScheduler(final ActorTask task) {
+      this.task = task;
+    }
+
+    private void submit() {
+      task.schedulingState.set(QUEUED);
+      queuedStateCount.set(task.getStateCount());
+    }
+
+    @Override
+    public ActorTask getNextTask() {
+      final long stateCount = queuedStateCount.getAndSet(NOT_QUEUED);
+      if (stateCount != NOT_QUEUED && task.claim(stateCount)) {
+        return task;
+      }
+
+      return null;
+    }
+  }
+
+  private final class VirtualIdleStrategy extends ActorTaskRunnerIdleStrategy {
+
+    private VirtualIdleStrategy() {
+      super(NoOpIdleStrategy.INSTANCE);
+    }
+
+    @Override
+    protected void onIdle() {
+      if (isTaskDone() && threadGroup.release(VirtualActorThread.this)) {
+        try {
+          close();
+        } catch (final IllegalStateException ignored) {
+          // the thread group closed the runner concurrently
+        }
+        return;
+      }
+
+      super.onIdle();
+    }
+
+    /**
+     * Parks the virtual thread until the task is submitted (see {@link #hintWorkAvailable()}) or
+     * the next timer is due. A submission before parking is not lost, as it leaves a permit.
+     */
+    @Override
+    protected void idle() {
+      final long nextDeadline = timerJobQueue.nextDeadline();
+      if (nextDeadline == Long.MAX_VALUE) {
+        LockSupport.park(this);
+        return;
+      }
+
+      final long waitMillis = nextDeadline - getClock().getTimeMillis();
+      if (waitMillis > 0) {
+        LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(waitMillis));
+      }
+    }
+  }
+}
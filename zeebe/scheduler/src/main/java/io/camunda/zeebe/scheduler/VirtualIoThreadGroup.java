@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.util.Loggers;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Thread group for I/O bound actors which runs every actor on its own virtual thread, instead of
+ * sharing a small, fixed set of platform threads between all I/O bound actors. A slow disk or
+ * remote store then only blocks the actors which use it, while the JVM runs the virtual threads on
+ * its carrier threads.
+ *
+ * <p>If actor metrics are enabled, the group counts the virtual threads and how often one of them
+ * pinned its carrier thread, e.g. by blocking within a synchronized block, as reported by the
+ * {@code jdk.VirtualThreadPinned} JFR event.
+ */
+public final class VirtualIoThreadGroup extends ActorThreadGroup {
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+  private final ActorSchedulerBuilder builder;
+  private final ActorMetrics actorMetrics;
+  private final Map<ActorTask, VirtualActorThread> runners = new ConcurrentHashMap<>();
+  private final AtomicLong runnerIds = new AtomicLong();
+  private RecordingStream pinnedEvents;
+
+  public VirtualIoThreadGroup(final ActorSchedulerBuilder builder) {
+    super("zb-fs-workers", 0, builder, builder.getSchedulerName());
+    this.builder = builder;
+    actorMetrics = new ActorMetrics(builder.isMetricsEnabled());
+  }
+
+  @Override
+  public void submit(final ActorTask actorTask) {
+    runners.compute(
+        actorTask,
+        (task, runner) -> {
+          final var taskRunner = runner != null ? runner : newRunner(task);
+          taskRunner.submit();
+          return taskRunner;
+        });
+  }
+
+  @Override
+  public void start() {
+    if (actorMetrics.isEnabled()) {
+      startPinnedEventStream();
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    Loggers.ACTOR_LOGGER.debug("Closing virtual actor thread group '{}'", groupName);
+    if (pinnedEvents != null) {
+      pinnedEvents.close();
+    }
+
+    final var terminationFutures =
+        runners.values().stream()
+            .map(VirtualIoThreadGroup::closeRunner)
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(terminationFutures);
+  }
+
+  /**
+   * Releases the runner of a closed task, unless the task was submitted again in the meantime.
+   *
+   * @return true if the runner was released and must terminate, false otherwise
+   */
+  boolean release(final VirtualActorThread runner) {
+    final var currentRunner =
+        runners.computeIfPresent(
+            runner.getTask(), (task, r) -> r == runner && runner.isTaskDone() ? null : r);
+    return currentRunner != runner;
+  }
+
+  void onRunnerTerminated() {
+    actorMetrics.decrementVirtualThreadCount();
+  }
+
+  int getRunnerCount() {
+    return runners.size();
+  }
+
+  private VirtualActorThread newRunner(final ActorTask task) {
+    final var runner =
+        new VirtualActorThread(
+            "%s-virtual-%d".formatted(groupName, runnerIds.getAndIncrement()),
+            this,
+            task,
+            builder.getActorClock(),
+            builder.getActorTimerQueue(),
+            builder.isMetricsEnabled());
+    runner.start();
+    actorMetrics.incrementVirtualThreadCount();
+    return runner;
+  }
+
+  private void startPinnedEventStream() {
+    try {
+      pinnedEvents = new RecordingStream();
+      pinnedEvents.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD);
+      pinnedEvents.onEvent(
+          PINNED_EVENT,
+          event -> {
+            final var thread = event.getThread();
+            if (thread != null
+                && thread.getJavaName() != null
+                && thread.getJavaName().startsWith(groupName)) {
+              actorMetrics.countVirtualThreadPinned();
+            }
+          });
+      pinnedEvents.startAsync();
+    } catch (final RuntimeException e) {
+      Loggers.ACTOR_LOGGER.warn(
+          "Failed to observe pinned virtual threads, no metrics about pinning will be exported", e);
+      pinnedEvents = null;
+    }
+  }
+
+  private static CompletableFuture<Void> closeRunner(final VirtualActorThread runner) {
+    try {
+      return runner.close();
+    } catch (final IllegalStateException e) {
+      // the runner terminated concurrently, as its task was closed
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+}
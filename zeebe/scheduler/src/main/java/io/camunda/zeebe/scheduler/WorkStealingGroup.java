@@ -10,17 +10,52 @@ package io.camunda.zeebe.scheduler;
 import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread.
+ *
+ * <p>By default, an idle thread steals from any other thread which has queued tasks. When created
+ * with a steal threshold, tasks which are bound to a home thread (see {@link
+ * ActorTask#getHomeThreadId()}) are kept in a separate queue per thread, and the group keeps track
+ * of the approximate depth of these queues. An idle thread only steals such tasks from queues which
+ * hold more tasks than the threshold, which keeps them on their home thread unless it is
+ * overloaded. Tasks without a home thread can still be stolen right away.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
+  private static final int UNRESTRICTED = -1;
+
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private final int stealThreshold;
+  // only with a steal threshold: the queues of the tasks bound to a home thread, and their depths
+  private final ActorTaskQueue[] homeTaskQueues;
+  private final AtomicIntegerArray homeQueueDepths;
+  // only with a steal threshold: whether a thread polls its home queue first, which alternates so
+  // that neither queue starves the other; each entry is only accessed by its own thread
+  private final boolean[] pollHomeQueueFirst;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, UNRESTRICTED);
+  }
+
+  /**
+   * @param numOfThreads the number of threads of the group
+   * @param stealThreshold the number of queued tasks bound to a thread which it must exceed before
+   *     other threads steal them
+   */
+  public WorkStealingGroup(final int numOfThreads, final int stealThreshold) {
     this.numOfThreads = numOfThreads;
-    taskQueues = new ActorTaskQueue[numOfThreads];
-    for (int i = 0; i < numOfThreads; i++) {
-      taskQueues[i] = new ActorTaskQueue();
+    this.stealThreshold = stealThreshold;
+    taskQueues = newTaskQueues(numOfThreads);
+    if (stealThreshold == UNRESTRICTED) {
+      homeTaskQueues = null;
+      homeQueueDepths = null;
+      pollHomeQueueFirst = null;
+    } else {
+      homeTaskQueues = newTaskQueues(numOfThreads);
+      homeQueueDepths = new AtomicIntegerArray(numOfThreads);
+      pollHomeQueueFirst = new boolean[numOfThreads];
     }
   }
 
@@ -32,7 +67,12 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
-    taskQueues[threadId].append(task);
+    if (homeTaskQueues != null && task.getHomeThreadId() != ActorThreadGroup.NO_HOME_THREAD) {
+      homeTaskQueues[threadId].append(task);
+      homeQueueDepths.incrementAndGet(threadId);
+    } else {
+      taskQueues[threadId].append(task);
+    }
   }
 
   /**
@@ -43,15 +83,44 @@ public final class WorkStealingGroup implements TaskScheduler {
   @Override
   public ActorTask getNextTask() {
     final ActorThread currentThread = ActorThread.current();
-    ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
+    final int runnerId = currentThread.getRunnerId();
+    ActorTask nextTask = pollOwnQueues(runnerId);
 
     if (nextTask == null) {
       nextTask = trySteal(currentThread);
+      if (nextTask != null) {
+        currentThread.getActorMetrics().countSteal(currentThread.getName());
+      }
     }
 
     return nextTask;
   }
 
+  private ActorTask pollOwnQueues(final int runnerId) {
+    if (homeTaskQueues == null) {
+      return taskQueues[runnerId].pop();
+    }
+
+    final boolean homeQueueFirst = pollHomeQueueFirst[runnerId];
+    pollHomeQueueFirst[runnerId] = !homeQueueFirst;
+
+    if (homeQueueFirst) {
+      final ActorTask homeTask = popHomeTask(runnerId);
+      return homeTask != null ? homeTask : taskQueues[runnerId].pop();
+    } else {
+      final ActorTask task = taskQueues[runnerId].pop();
+      return task != null ? task : popHomeTask(runnerId);
+    }
+  }
+
+  private ActorTask popHomeTask(final int runnerId) {
+    final ActorTask task = homeTaskQueues[runnerId].pop();
+    if (task != null) {
+      homeQueueDepths.decrementAndGet(runnerId);
+    }
+    return task;
+  }
+
   /**
    * Work stealing: when this runner (aka. the "thief") has no more tasks to run, it attempts to
    * take ("steal") a task from another runner (aka. the "victim").
@@ -81,7 +150,7 @@ public final class WorkStealingGroup implements TaskScheduler {
       final int runnerId = i % numOfThreads;
 
       if (runnerId != currentThread.getRunnerId()) {
-        final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+        final ActorTask stolenActor = stealFrom(runnerId);
 
         if (stolenActor != null) {
           return stolenActor;
@@ -91,4 +160,29 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     return null;
   }
+
+  private ActorTask stealFrom(final int runnerId) {
+    final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+    if (stolenActor != null || homeTaskQueues == null) {
+      return stolenActor;
+    }
+
+    if (homeQueueDepths.get(runnerId) > stealThreshold) {
+      final ActorTask stolenHomeActor = homeTaskQueues[runnerId].trySteal();
+      if (stolenHomeActor != null) {
+        homeQueueDepths.decrementAndGet(runnerId);
+      }
+      return stolenHomeActor;
+    }
+
+    return null;
+  }
+
+  private static ActorTaskQueue[] newTaskQueues(final int numOfThreads) {
+    final ActorTaskQueue[] queues = new ActorTaskQueue[numOfThreads];
+    for (int i = 0; i < numOfThreads; i++) {
+      queues[i] = new ActorTaskQueue();
+    }
+    return queues;
+  }
 }
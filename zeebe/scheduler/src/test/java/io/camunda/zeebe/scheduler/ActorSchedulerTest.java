@@ -11,8 +11,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.prometheus.client.CollectorRegistry;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 final class ActorSchedulerTest {
@@ -83,5 +89,213 @@ final class ActorSchedulerTest {
         .isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  void shouldRunPartitionActorsOnHomeThread() throws Exception {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setPartitionAffinityEnabled(true)
+            .setPartitionAffinityStealThreshold(Integer.MAX_VALUE)
+            .build();
+    scheduler.start();
+    final var firstPartitionActor = new PartitionActor(1);
+    final var secondPartitionActor = new PartitionActor(2);
+    final var otherFirstPartitionActor = new PartitionActor(3);
+
+    try {
+      scheduler.submitActor(firstPartitionActor).join();
+      scheduler.submitActor(secondPartitionActor).join();
+      scheduler.submitActor(otherFirstPartitionActor).join();
+
+      // when
+      for (int i = 0; i < 100; i++) {
+        firstPartitionActor.recordThread().join();
+        secondPartitionActor.recordThread().join();
+        otherFirstPartitionActor.recordThread().join();
+      }
+
+      // then
+      assertThat(firstPartitionActor.threads).containsExactly("zb-actors-0");
+      assertThat(secondPartitionActor.threads).containsExactly("zb-actors-1");
+      assertThat(otherFirstPartitionActor.threads).containsExactly("zb-actors-0");
+    } finally {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldStealActorWithoutPartitionFromLoadedThreadWithPartitionAffinity() throws Exception {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setPartitionAffinityEnabled(true)
+            .setPartitionAffinityStealThreshold(Integer.MAX_VALUE)
+            .build();
+    scheduler.start();
+    final var partitionActor = new PartitionActor(1);
+    final var otherActorStarted = new CountDownLatch(1);
+    final var otherActor =
+        new Actor() {
+          @Override
+          protected void onActorStarted() {
+            otherActorStarted.countDown();
+          }
+        };
+
+    try {
+      scheduler.submitActor(partitionActor).join();
+
+      // when -- the actor is queued on the home thread of the partition, which stays busy until the
+      // actor has started
+      final var startedWhileBusy =
+          partitionActor.call(
+              () -> {
+                scheduler.submitActor(otherActor);
+                return otherActorStarted.await(10, TimeUnit.SECONDS);
+              });
+
+      // then
+      assertThat(startedWhileBusy).succeedsWithin(Duration.ofSeconds(15)).isEqualTo(true);
+    } finally {
+      otherActorStarted.countDown();
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldRejectNegativePartitionAffinityStealThreshold() {
+    // given
+    final var builder = ActorScheduler.newActorScheduler();
+
+    // when + then
+    assertThatThrownBy(() -> builder.setPartitionAffinityStealThreshold(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldCollectActorStatistics() throws Exception {
+    // given
+    final var scheduler = ActorScheduler.newActorScheduler().setCpuBoundActorThreadCount(1).build();
+    scheduler.start();
+    final var busyActor = new PartitionActor(1);
+    final var blocking = new CountDownLatch(1);
+    final var blocked = new CountDownLatch(1);
+
+    try {
+      scheduler.submitActor(busyActor).join();
+
+      // when -- the cpu time is sampled, so the actor needs to run a few times
+      await()
+          .untilAsserted(
+              () -> {
+                busyActor.call(() -> spin(Duration.ofMillis(1))).join();
+                assertThat(getStatistics(scheduler, busyActor).cpuTime()).isPositive();
+              });
+      busyActor.run(
+          () -> {
+            try {
+              blocking.countDown();
+              blocked.await();
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      blocking.await();
+      busyActor.run(() -> {});
+
+      // then
+      await()
+          .untilAsserted(
+              () -> {
+                final var statistics = getStatistics(scheduler, busyActor);
+                assertThat(statistics.context()).containsEntry(Actor.ACTOR_PROP_PARTITION_ID, "1");
+                assertThat(statistics.mailboxLength()).isOne();
+                assertThat(statistics.oldestJobAge()).isPositive();
+              });
+
+      // then -- closed actors are not listed anymore
+      blocked.countDown();
+      busyActor.closeAsync().join();
+      assertThat(scheduler.getActorStatistics()).isEmpty();
+    } finally {
+      blocked.countDown();
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldRemoveSampledActorMetricsOnClose() throws Exception {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setMetricsEnabled(true)
+            .build();
+    scheduler.start();
+    final var actor = new PartitionActor(1);
+
+    try {
+      scheduler.submitActor(actor).join();
+      await()
+          .untilAsserted(
+              () -> {
+                actor.call(() -> spin(Duration.ofMillis(1))).join();
+                assertThat(getCpuTimeMetric(actor)).isNotNull();
+              });
+
+      // when
+      actor.closeAsync().join();
+
+      // then
+      await().untilAsserted(() -> assertThat(getCpuTimeMetric(actor)).isNull());
+    } finally {
+      scheduler.close();
+    }
+  }
+
+  private static Double getCpuTimeMetric(final Actor actor) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "zeebe_actor_task_cpu_time_total",
+        new String[] {"actorName"},
+        new String[] {actor.getName()});
+  }
+
+  private static ActorStatistics getStatistics(final ActorScheduler scheduler, final Actor actor) {
+    return scheduler.getActorStatistics().stream()
+        .filter(statistics -> statistics.name().equals(actor.getName()))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static boolean spin(final Duration duration) {
+    final long end = System.nanoTime() + duration.toNanos();
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+    return true;
+  }
+
   private static final class TestActor extends Actor {}
+
+  private static final class PartitionActor extends Actor {
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private final int partitionId;
+
+    private PartitionActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+      return context;
+    }
+
+    private ActorFuture<Boolean> recordThread() {
+      return actor.call(() -> threads.add(Thread.currentThread().getName()));
+    }
+  }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualIoThreadGroupTest {
+
+  private ActorScheduler scheduler;
+  private VirtualIoThreadGroup threadGroup;
+
+  @BeforeEach
+  void setup() {
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundVirtualThreadsEnabled(true);
+    scheduler = builder.build();
+    threadGroup = (VirtualIoThreadGroup) builder.getIoBoundActorThreads();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final var thread = new AtomicReference<Thread>();
+    final var runner = new AtomicReference<ActorThread>();
+    final var actor =
+        Actor.wrap(
+            control -> {
+              thread.set(Thread.currentThread());
+              runner.set(ActorThread.current());
+            });
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    await().until(() -> thread.get() != null);
+    assertThat(thread.get().isVirtual()).isTrue();
+    assertThat(runner.get().getActorThreadGroup()).isSameAs(threadGroup);
+  }
+
+  @Test
+  void shouldNotBlockOtherActorsWhileBlocking() throws Exception {
+    // given
+    final var unblock = new CountDownLatch(1);
+    final var blockingActor = new TestActor();
+    final var otherActor = new TestActor();
+    scheduler.submitActor(blockingActor, SchedulingHints.ioBound()).join();
+    scheduler.submitActor(otherActor, SchedulingHints.ioBound()).join();
+
+    // when
+    final var blocked = blockingActor.call(() -> unblock.await(10, TimeUnit.SECONDS));
+
+    // then
+    assertThat(otherActor.call(() -> true)).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(blocked).isNotDone();
+    unblock.countDown();
+    assertThat(blocked).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldRunTimersOfIoBoundActor() {
+    // given
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final var latch = new CountDownLatch(1);
+
+    // when
+    actor.run(() -> actor.schedule(Duration.ofMillis(10), latch::countDown));
+
+    // then
+    await().until(() -> latch.getCount() == 0);
+  }
+
+  @Test
+  void shouldParkVirtualThreadOfIdleActor() {
+    // given
+    final var thread = new AtomicReference<Thread>();
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // when
+    actor.run(() -> thread.set(Thread.currentThread()));
+
+    // then -- the runner waits for the next job without a timeout, instead of polling
+    await().until(() -> thread.get() != null && thread.get().getState() == Thread.State.WAITING);
+    assertThat(actor.call(() -> true)).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldReleaseVirtualThreadOfClosedActor() {
+    // given
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // when
+    actor.closeAsync().join();
+
+    // then
+    await().until(() -> threadGroup.getRunnerCount() == 0);
+  }
+
+  @Test
+  void shouldCountVirtualThreadsIfMetricsEnabled() throws Exception {
+    // given
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundVirtualThreadsEnabled(true)
+            .setMetricsEnabled(true);
+    final var actor = new TestActor();
+
+    try (final var metricsScheduler = builder.build()) {
+      metricsScheduler.start();
+
+      // when
+      metricsScheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+      // then
+      assertThat(
+              CollectorRegistry.defaultRegistry.getSampleValue("zeebe_actor_virtual_thread_count"))
+          .isGreaterThanOrEqualTo(1);
+    }
+  }
+
+  private static final class TestActor extends Actor {}
+}
@@ -33,6 +33,17 @@ public interface MutableChecksumsSFV extends ImmutableChecksumsSFV {
    */
   void updateFromBytes(final String fileName, final byte[] bytes);
 
+  /**
+   * Update the checksum collection with the next block of a file, whose blocks are added in order
+   * and right after each other. The checksum of the file is complete once its last block is added.
+   *
+   * @param fileName the name of the file (which relates to the given bytes), that is used in the
+   *     checksum collection in SFV file format
+   * @param bytes the bytes of the block
+   * @param blockPosition the position of the block within the file
+   */
+  void updateFromBlock(final String fileName, final byte[] bytes, final long blockPosition);
+
   /**
    * Build the checksum collection from a SFV format string array.
    *
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.nio.file.Path;
+import java.util.SortedMap;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot {
@@ -78,6 +79,14 @@ public interface PersistedSnapshot {
    */
   long getChecksum();
 
+  /**
+   * Returns the checksums of the individual files of the snapshot, keyed by file name. Snapshots
+   * which were persisted with only a combined checksum return an empty map.
+   *
+   * @return the checksums of the files of the snapshot
+   */
+  SortedMap<String, Long> getFileChecksums();
+
   /**
    * SnapshotMetadata includes information related to a snapshot.
    *
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Map;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +31,14 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Adds the given chunks to the snapshot by reusing the equal files of the latest persisted
+   * snapshot, instead of receiving them. In case the latest snapshot does not contain a file with
+   * the expected checksum for every chunk, the future will be completed with a
+   * SnapshotWriteException.
+   *
+   * @param chunkChecksums the checksums of the chunks to reuse, keyed by chunk name
+   */
+  ActorFuture<Void> reuse(Map<String, Long> chunkChecksums);
 }
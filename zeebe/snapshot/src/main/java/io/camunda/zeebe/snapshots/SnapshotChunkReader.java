@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,14 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Excludes the chunks with the given names from the chunks returned by this reader, e.g. because
+   * the receiver can reuse them from a snapshot it already has. Excluded chunks still count towards
+   * the total count of the snapshot. The first and the last chunk are never excluded, as the
+   * receiver relies on them to start and complete the snapshot.
+   *
+   * @param chunkNames the names of the chunks to exclude
+   */
+  void exclude(Set<String> chunkNames);
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots.impl;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -22,7 +23,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,10 +40,16 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private final FileBasedSnapshotStore snapshotStore;
 
   private final FileBasedSnapshotId snapshotId;
+  private final Set<FileBlock> appliedBlocks = new HashSet<>();
+  private final Set<String> reusedChunks = new HashSet<>();
   private long expectedSnapshotChecksum;
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
-  private SfvChecksumImpl checksumCollection;
+  private MutableChecksumsSFV checksumCollection;
+  private String lastAppliedChunkName;
+  private long lastAppliedBlockEnd;
+  private boolean lastAppliedFileComplete;
+  private boolean appliedOutOfOrder;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -68,12 +78,35 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public ActorFuture<Void> reuse(final Map<String, Long> chunkChecksums) {
+    return actor.call(
+        () -> {
+          reuseInternal(chunkChecksums);
+          return null;
+        });
+  }
+
   private boolean containsChunk(final String chunkId) {
     return Files.exists(directory.resolve(chunkId));
   }
 
+  /**
+   * A whole file is applied once the file exists. The blocks of a file share its name, so the file
+   * exists once its first block was written, and each block is tracked separately instead. Files
+   * which were reused from the latest snapshot are never written to, as they are shared with it.
+   */
+  private boolean isApplied(final SnapshotChunk snapshotChunk) {
+    final var chunkName = snapshotChunk.getChunkName();
+    if (isWholeFile(snapshotChunk) || reusedChunks.contains(chunkName)) {
+      return containsChunk(chunkName);
+    }
+
+    return appliedBlocks.contains(new FileBlock(chunkName, snapshotChunk.getFileBlockPosition()));
+  }
+
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
-    if (containsChunk(snapshotChunk.getChunkName())) {
+    if (isApplied(snapshotChunk)) {
       return;
     }
 
@@ -107,7 +140,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
+    if (isWholeFile(snapshotChunk) && Files.exists(snapshotFile)) {
       throw new SnapshotWriteException(
           String.format(
               "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
@@ -115,14 +148,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
-
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
+    if (!isWholeFile(snapshotChunk)) {
+      appliedBlocks.add(new FileBlock(chunkName, snapshotChunk.getFileBlockPosition()));
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
-    if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+    updateChecksum(snapshotFile.getFileName().toString(), snapshotChunk);
+
+    // the metadata of a file received in blocks is read from the file when persisting
+    if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStore.METADATA_FILE_NAME)
+        && isWholeFile(snapshotChunk)) {
       try {
         collectMetadata(snapshotChunk.getContent());
       } catch (final IOException e) {
@@ -131,6 +165,138 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  private void reuseInternal(final Map<String, Long> chunkChecksums) throws SnapshotWriteException {
+    if (chunkChecksums.isEmpty()) {
+      return;
+    }
+
+    // runs on the actor of the store, so the latest snapshot cannot be deleted while linking it
+    final var latestSnapshot =
+        snapshotStore
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new SnapshotWriteException(
+                        String.format(
+                            "Expected to reuse chunks %s for snapshot %s, but there is no persisted snapshot",
+                            chunkChecksums.keySet(), snapshotId)));
+    final var availableChecksums = latestSnapshot.getFileChecksums();
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    for (final var chunk : chunkChecksums.entrySet()) {
+      final var chunkName = chunk.getKey();
+      if (containsChunk(chunkName)) {
+        continue;
+      }
+
+      final var availableChecksum = availableChecksums.get(chunkName);
+      if (!chunk.getValue().equals(availableChecksum)) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse chunk %s with checksum %d from snapshot %s, but found checksum %s",
+                chunkName, chunk.getValue(), latestSnapshot.getId(), availableChecksum));
+      }
+
+      final var snapshotFile = directory.resolve(chunkName);
+      linkChunk(latestSnapshot.getPath().resolve(chunkName), snapshotFile);
+      reusedChunks.add(chunkName);
+
+      if (chunkName.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+        try {
+          collectMetadata(Files.readAllBytes(snapshotFile));
+        } catch (final IOException e) {
+          throw new SnapshotWriteException("Cannot decode snapshot metadata");
+        }
+      }
+    }
+
+    // reused chunks are not part of the checksum collection, so it is calculated when persisting
+    appliedOutOfOrder = true;
+    LOGGER.debug(
+        "Reused {} chunks of snapshot {} for snapshot {}",
+        chunkChecksums.size(),
+        latestSnapshot.getId(),
+        snapshotId);
+  }
+
+  private void linkChunk(final Path source, final Path target) throws SnapshotWriteException {
+    try {
+      // the files of persisted snapshots are immutable, so they can be shared between snapshots
+      Files.createLink(target, source);
+    } catch (final UnsupportedOperationException | IOException linkError) {
+      LOGGER.trace("Failed to link {} to {}, copying it instead", source, target, linkError);
+      try {
+        Files.copy(source, target);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to reuse snapshot file %s", source), e);
+      }
+    }
+  }
+
+  /**
+   * The combined checksum depends on the order in which the files are added, and is expected to be
+   * calculated in the order the chunks are read by the sender. Chunks can arrive out of order when
+   * the sender pipelines them, in which case the checksums are calculated again from the written
+   * files when persisting.
+   */
+  private void updateChecksum(final String chunkName, final SnapshotChunk snapshotChunk) {
+    final long blockPosition = snapshotChunk.getFileBlockPosition();
+    final byte[] content = snapshotChunk.getContent();
+    final boolean expected =
+        lastAppliedChunkName == null
+            ? blockPosition == 0
+            : isExpectedAfter(lastAppliedChunkName, chunkName, blockPosition);
+    if (!expected) {
+      appliedOutOfOrder = true;
+    }
+    lastAppliedChunkName = chunkName;
+    lastAppliedBlockEnd = blockPosition + content.length;
+    lastAppliedFileComplete = lastAppliedBlockEnd >= snapshotChunk.getTotalFileSize();
+
+    if (appliedOutOfOrder) {
+      return;
+    }
+
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+    checksumCollection.updateFromBlock(chunkName, content, blockPosition);
+  }
+
+  private boolean isExpectedAfter(
+      final String previousChunkName, final String chunkName, final long blockPosition) {
+    // the sender splits files larger than the maximum chunk size into consecutive blocks, which
+    // share the name of the file
+    if (previousChunkName.equals(chunkName)) {
+      return blockPosition == lastAppliedBlockEnd;
+    }
+
+    // the metadata file is always added last, see SnapshotChecksum#calculate
+    if (!lastAppliedFileComplete
+        || blockPosition != 0
+        || previousChunkName.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+      return false;
+    }
+
+    return chunkName.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)
+        || previousChunkName.compareTo(chunkName) < 0;
+  }
+
+  /**
+   * @return true if the chunk contains the whole file, false if it is one of several blocks of it
+   */
+  private static boolean isWholeFile(final SnapshotChunk snapshotChunk) {
+    return snapshotChunk.getFileBlockPosition() == 0
+        && snapshotChunk.getContent().length >= snapshotChunk.getTotalFileSize();
+  }
+
   private void collectMetadata(final byte[] content) throws IOException {
     metadata = FileBasedSnapshotMetadata.decode(content);
   }
@@ -194,13 +360,17 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private void writeReceivedSnapshotChunk(
       final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
+    // the blocks of a file may be applied in any order, so only a whole file must be new
+    final var createOption =
+        isWholeFile(snapshotChunk) ? StandardOpenOption.CREATE_NEW : StandardOpenOption.CREATE;
     try (final var channel =
-        FileChannel.open(snapshotFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        FileChannel.open(snapshotFile, createOption, StandardOpenOption.WRITE)) {
       final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+      long position = snapshotChunk.getFileBlockPosition();
 
       while (buffer.hasRemaining()) {
         final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
-        channel.write(buffer.limit(newLimit));
+        position += channel.write(buffer.limit(newLimit), position);
         buffer.limit(buffer.capacity());
       }
 
@@ -277,6 +447,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     try {
+      if (appliedOutOfOrder) {
+        checksumCollection = SnapshotChecksum.calculate(directory);
+      }
+
+      final var metadataFile = directory.resolve(FileBasedSnapshotStore.METADATA_FILE_NAME);
+      if (metadata == null && Files.exists(metadataFile)) {
+        collectMetadata(Files.readAllBytes(metadataFile));
+      }
+
       if (metadata == null) {
         // backward compatibility
         metadata =
@@ -307,4 +486,6 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         + snapshotId
         + '}';
   }
+
+  private record FileBlock(String chunkName, long position) {}
 }
@@ -22,6 +22,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -117,6 +118,15 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return checksum;
   }
 
+  @Override
+  public SortedMap<String, Long> getFileChecksums() {
+    try {
+      return SnapshotChecksum.read(checksumFile).getChecksums();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Override
   public SnapshotMetadata getMetadata() {
     return metadata;
@@ -19,6 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -99,6 +100,23 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void exclude(final Set<String> chunkNames) {
+    if (chunks.isEmpty()) {
+      return;
+    }
+
+    final var firstChunk = chunks.first();
+    final var lastChunk = chunks.last();
+    for (final var chunkName : chunkNames) {
+      if (CharSequence.compare(chunkName, firstChunk) != 0
+          && CharSequence.compare(chunkName, lastChunk) != 0) {
+        chunks.remove(chunkName);
+        chunksView.remove(chunkName);
+      }
+    }
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -79,6 +79,7 @@ public final class FileBasedSnapshotStore extends Actor
   private final Set<PersistableSnapshot> pendingSnapshots = new HashSet<>();
   private final Set<FileBasedSnapshot> availableSnapshots = new HashSet<>();
   private final ChecksumProvider checksumProvider;
+  private final SnapshotChecksumCache checksumCache;
   private final String actorName;
   private final int partitionId;
 
@@ -99,6 +100,7 @@ public final class FileBasedSnapshotStore extends Actor
     }
 
     snapshotMetrics = new SnapshotMetrics(String.valueOf(partitionId));
+    checksumCache = new SnapshotChecksumCache(snapshotMetrics);
     receivingSnapshotStartCount = new AtomicLong();
 
     listeners = new CopyOnWriteArraySet<>();
@@ -125,6 +127,7 @@ public final class FileBasedSnapshotStore extends Actor
     currentPersistedSnapshotRef.set(latestSnapshot);
     if (latestSnapshot != null) {
       availableSnapshots.add(latestSnapshot);
+      updateChecksumCache(latestSnapshot);
     }
     purgePendingSnapshotsDirectory();
   }
@@ -591,6 +594,7 @@ public final class FileBasedSnapshotStore extends Actor
 
       snapshotMetrics.incrementSnapshotCount();
       observeSnapshotSize(newPersistedSnapshot);
+      checksumCache.update(newPersistedSnapshot.getPath(), immutableChecksumsSFV.getChecksums());
 
       deleteOlderSnapshots(newPersistedSnapshot);
 
@@ -600,6 +604,14 @@ public final class FileBasedSnapshotStore extends Actor
     }
   }
 
+  private void updateChecksumCache(final FileBasedSnapshot snapshot) {
+    try {
+      checksumCache.update(snapshot.getPath(), snapshot.getFileChecksums());
+    } catch (final UncheckedIOException e) {
+      LOGGER.debug("Failed to read checksums of snapshot {}, will not cache them", snapshot, e);
+    }
+  }
+
   private void deleteOlderSnapshots(final FileBasedSnapshot newPersistedSnapshot) {
     LOGGER.trace(
         "Purging snapshots older than {}",
@@ -654,6 +666,10 @@ public final class FileBasedSnapshotStore extends Actor
     return snapshotMetrics;
   }
 
+  SnapshotChecksumCache getChecksumCache() {
+    return checksumCache;
+  }
+
   void onSnapshotDeleted(final FileBasedSnapshot snapshot) {
     availableSnapshots.remove(snapshot);
   }
@@ -54,6 +54,8 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
   private Checksum combinedChecksum;
   private final SortedMap<String, Long> checksums = new TreeMap<>();
   private String snapshotDirectoryComment;
+  // the checksum of the file whose blocks are currently added, see updateFromBlock
+  private Checksum blockFileChecksum;
 
   /**
    * creates an immutable and pre-defined checksum
@@ -142,6 +144,17 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     checksums.put(fileName, checksum.getValue());
   }
 
+  @Override
+  public void updateFromBlock(final String fileName, final byte[] bytes, final long blockPosition) {
+    if (blockPosition == 0 || blockFileChecksum == null) {
+      combinedChecksum.update(fileName.getBytes(UTF_8));
+      blockFileChecksum = new CRC32C();
+    }
+    combinedChecksum.update(bytes);
+    blockFileChecksum.update(bytes);
+    checksums.put(fileName, blockFileChecksum.getValue());
+  }
+
   @Override
   public void updateFromSfvFile(final String... lines) {
     for (String line : lines) {
@@ -44,16 +44,31 @@ final class SnapshotChecksum {
   }
 
   public static MutableChecksumsSFV calculate(final Path snapshotDirectory) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, null);
+    return createChecksumForSnapshot(snapshotDirectory, null, null);
   }
 
   public static MutableChecksumsSFV calculateWithProvidedChecksums(
       final Path snapshotDirectory, final ChecksumProvider provider) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, provider);
+    return createChecksumForSnapshot(snapshotDirectory, provider, null);
+  }
+
+  /**
+   * Calculates the checksums of the given snapshot, taking the checksum of a file from the
+   * provider, or else from the cache, before falling back to reading the file.
+   */
+  public static MutableChecksumsSFV calculateWithCachedChecksums(
+      final Path snapshotDirectory,
+      final ChecksumProvider provider,
+      final SnapshotChecksumCache cache)
+      throws IOException {
+    return createChecksumForSnapshot(snapshotDirectory, provider, cache);
   }
 
   private static MutableChecksumsSFV createChecksumForSnapshot(
-      final Path snapshotDirectory, final ChecksumProvider provider) throws IOException {
+      final Path snapshotDirectory,
+      final ChecksumProvider provider,
+      final SnapshotChecksumCache cache)
+      throws IOException {
 
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
@@ -62,7 +77,11 @@ final class SnapshotChecksum {
           provider == null
               ? Collections.emptyMap()
               : provider.getSnapshotChecksums(snapshotDirectory);
-      fileStream.forEachOrdered(path -> updateChecksum(sfvChecksum, fullFileChecksums, path));
+      if (cache != null) {
+        cache.onProvided(fullFileChecksums.keySet());
+      }
+      fileStream.forEachOrdered(
+          path -> updateChecksum(sfvChecksum, fullFileChecksums, cache, path));
 
       // While persisting transient snapshot, the checksum of metadata file is added at the end.
       // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
@@ -98,16 +117,28 @@ final class SnapshotChecksum {
   private static void updateChecksum(
       final MutableChecksumsSFV checksum,
       final Map<String, Long> fullFileChecksums,
+      final SnapshotChecksumCache cache,
       final Path file) {
     final String fileName = file.getFileName().toString();
-    if (fullFileChecksums.containsKey(fileName)) {
-      checksum.updateFromChecksum(file, fullFileChecksums.get(fileName));
+    final Long providedChecksum = fullFileChecksums.get(fileName);
+    if (providedChecksum != null) {
+      checksum.updateFromChecksum(file, providedChecksum);
+      return;
+    }
+
+    final Long cachedChecksum = cache != null ? cache.get(file) : null;
+    if (cachedChecksum != null) {
+      checksum.updateFromChecksum(file, cachedChecksum);
+      cache.onReused(file);
     } else {
       try {
         checksum.updateFromFile(file);
       } catch (final IOException e) {
         throw new UncheckedIOException(e);
       }
+      if (cache != null) {
+        cache.onHashed(file);
+      }
     }
   }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the checksums of the files of the latest persisted snapshot which are not covered by the
+ * checksum provider, so that a new snapshot only has to hash the files which were added or changed
+ * since then.
+ *
+ * <p>The provider takes the checksums of SST files from RocksDB, which calculates them when writing
+ * the files. The remaining files, e.g. SST files written without a file checksum, are read on every
+ * snapshot unless their checksum is cached. A new RocksDB checkpoint hard links the files it shares
+ * with the previous one, so a file is only considered unchanged if its name, size and last modified
+ * time are the same as when it was cached. Only the files of the latest snapshot are kept, which
+ * keeps the cache to a single lineage of the state.
+ *
+ * <p>This class is not thread safe, and is expected to be only accessed from the snapshot store
+ * actor.
+ */
+final class SnapshotChecksumCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotChecksumCache.class);
+
+  private final SnapshotMetrics snapshotMetrics;
+  private Map<String, CachedChecksum> checksums = new HashMap<>();
+  // the files whose checksums the provider returned for the latest calculated snapshot
+  private Set<String> providedFileNames = Set.of();
+
+  SnapshotChecksumCache(final SnapshotMetrics snapshotMetrics) {
+    this.snapshotMetrics = snapshotMetrics;
+  }
+
+  /**
+   * Replaces the cached checksums with the ones of the given snapshot. The metadata file, files
+   * whose checksum the provider returned when the snapshot was calculated, and files whose
+   * attributes cannot be read are not cached.
+   *
+   * @param snapshotDirectory the directory of the snapshot
+   * @param fileChecksums the checksums of the snapshot files, keyed by file name
+   */
+  void update(final Path snapshotDirectory, final Map<String, Long> fileChecksums) {
+    final Map<String, CachedChecksum> newChecksums = new HashMap<>();
+    for (final var entry : fileChecksums.entrySet()) {
+      final var fileName = entry.getKey();
+      // the metadata file is written anew for every snapshot
+      if (providedFileNames.contains(fileName)
+          || fileName.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+        continue;
+      }
+
+      try {
+        final var attributes = readAttributes(snapshotDirectory.resolve(fileName));
+        newChecksums.put(
+            fileName,
+            new CachedChecksum(attributes.size(), attributes.lastModifiedTime(), entry.getValue()));
+      } catch (final IOException e) {
+        LOGGER.debug("Failed to cache checksum of snapshot file {}", fileName, e);
+      }
+    }
+
+    checksums = newChecksums;
+  }
+
+  /**
+   * Returns the cached checksum of the given file, if the same file was part of the latest
+   * snapshot.
+   *
+   * @param file the file to look up
+   * @return the cached checksum, or null if the file is unknown or changed
+   */
+  Long get(final Path file) {
+    final var cached = checksums.get(file.getFileName().toString());
+    if (cached == null) {
+      return null;
+    }
+
+    try {
+      final var attributes = readAttributes(file);
+      return cached.matches(attributes) ? cached.checksum() : null;
+    } catch (final IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Records the files whose checksums the provider returned for the snapshot which is being
+   * calculated. These are not cached, as the provider returns them again for the next snapshot.
+   */
+  void onProvided(final Set<String> fileNames) {
+    providedFileNames = Set.copyOf(fileNames);
+  }
+
+  /** Records that the checksum of the given file was calculated by reading its content. */
+  void onHashed(final Path file) {
+    snapshotMetrics.incrementChecksumHashedBytes(sizeOf(file));
+  }
+
+  /** Records that the cached checksum of the given file was reused without reading its content. */
+  void onReused(final Path file) {
+    snapshotMetrics.incrementChecksumReusedBytes(sizeOf(file));
+  }
+
+  int size() {
+    return checksums.size();
+  }
+
+  private static BasicFileAttributes readAttributes(final Path file) throws IOException {
+    return Files.readAttributes(file, BasicFileAttributes.class);
+  }
+
+  private static long sizeOf(final Path file) {
+    try {
+      return Files.size(file);
+    } catch (final IOException e) {
+      return 0L;
+    }
+  }
+
+  private record CachedChecksum(long size, FileTime lastModifiedTime, long checksum) {
+    private boolean matches(final BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime());
+    }
+  }
+}
@@ -24,6 +24,20 @@ public final class SnapshotMetrics {
           .name("snapshot_count")
           .help("Total count of committed snapshots on disk")
           .register();
+  private static final Counter SNAPSHOT_CHECKSUM_HASHED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_checksum_hashed_bytes")
+          .help("Total bytes of snapshot files which were read to calculate their checksum")
+          .register();
+  private static final Counter SNAPSHOT_CHECKSUM_REUSED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_checksum_reused_bytes")
+          .help("Total bytes of snapshot files whose checksum was reused instead of calculated")
+          .register();
   private static final Gauge SNAPSHOT_SIZE =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -68,6 +82,8 @@ public final class SnapshotMetrics {
   private final Gauge.Child snapshotChunkCount;
   private final Gauge.Child snapshotSize;
   private final Child snapshotCount;
+  private final Child checksumHashedBytes;
+  private final Child checksumReusedBytes;
 
   public SnapshotMetrics(final String partitionId) {
     snapshotDuration = SNAPSHOT_DURATION.labels(partitionId);
@@ -76,6 +92,8 @@ public final class SnapshotMetrics {
     snapshotChunkCount = SNAPSHOT_CHUNK_COUNT.labels(partitionId);
     snapshotSize = SNAPSHOT_SIZE.labels(partitionId);
     snapshotCount = SNAPSHOT_COUNT.labels(partitionId);
+    checksumHashedBytes = SNAPSHOT_CHECKSUM_HASHED_BYTES.labels(partitionId);
+    checksumReusedBytes = SNAPSHOT_CHECKSUM_REUSED_BYTES.labels(partitionId);
   }
 
   void incrementSnapshotCount() {
@@ -94,6 +112,14 @@ public final class SnapshotMetrics {
     snapshotFileSize.observe(sizeInBytes / 1_000_000f);
   }
 
+  void incrementChecksumHashedBytes(final long bytes) {
+    checksumHashedBytes.inc(bytes);
+  }
+
+  void incrementChecksumReusedBytes(final long bytes) {
+    checksumReusedBytes.inc(bytes);
+  }
+
   Timer startTimer() {
     return snapshotDuration.startTimer();
   }
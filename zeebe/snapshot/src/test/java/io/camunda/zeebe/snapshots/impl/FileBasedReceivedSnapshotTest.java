@@ -25,6 +25,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -335,6 +337,117 @@ public class FileBasedReceivedSnapshotTest {
                 name.getFileName().toString().equals(FileBasedSnapshotStore.METADATA_FILE_NAME));
   }
 
+  @Test
+  public void shouldPersistChunksReceivedOutOfOrder() {
+    // given
+    final var snapshotToSend = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.forEachRemaining(chunks::add);
+    }
+
+    // when
+    Collections.reverse(chunks);
+    chunks.forEach(chunk -> receivedSnapshot.apply(chunk).join());
+    receivedSnapshot.apply(chunks.getFirst()).join();
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getMetadata()).isEqualTo(snapshotToSend.getMetadata());
+  }
+
+  @Test
+  public void shouldPersistFilesReceivedInBlocks() {
+    // given
+    final var snapshotToSend = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when -- the files are larger than the maximum chunk size, so each is sent in several blocks
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getFileChecksums())
+        .isEqualTo(snapshotToSend.getFileChecksums());
+    assertThat(persistedSnapshot.getPath().resolve("file1")).hasContent("file1 contents");
+  }
+
+  @Test
+  public void shouldPersistBlocksReceivedOutOfOrder() {
+    // given
+    final var snapshotToSend = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      snapshotChunkReader.forEachRemaining(chunks::add);
+    }
+
+    // when
+    Collections.reverse(chunks);
+    chunks.forEach(chunk -> receivedSnapshot.apply(chunk).join());
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getPath().resolve("file2")).hasContent("file2 contents");
+  }
+
+  @Test
+  public void shouldReuseChunksOfLatestSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    final var reusedChunks = Map.of("file2", snapshotToSend.getFileChecksums().get("file2"));
+    receivedSnapshot.reuse(reusedChunks).join();
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.exclude(reusedChunks.keySet());
+      snapshotChunkReader.forEachRemaining(chunk -> receivedSnapshot.apply(chunk).join());
+    }
+
+    // then
+    assertThat(
+            Files.isSameFile(
+                receivedSnapshot.getPath().resolve("file2"),
+                previousSnapshot.getPath().resolve("file2")))
+        .describedAs("the reused file is linked from the previous snapshot")
+        .isTrue();
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getFileChecksums()).isEqualTo(snapshotToSend.getFileChecksums());
+  }
+
+  @Test
+  public void shouldNotReuseChunkWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    final var reuse = receivedSnapshot.reuse(Map.of("file2", 0xCAFEL));
+
+    // then
+    assertThatThrownBy(reuse::join).hasCauseInstanceOf(SnapshotWriteException.class);
+    assertThat(receivedSnapshot.getPath()).isEmptyDirectory();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.junit.Rule;
@@ -165,6 +166,48 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
   }
 
+  @Test
+  public void shouldExcludeChunks() throws IOException {
+    // given
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = newReader()) {
+
+      // when
+      snapshotChunkReader.exclude(Set.of("file2"));
+      snapshotChunkReader.seek(asByteBuffer("file2__0"));
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+      snapshotChunkReader.reset();
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file3", "file1", "file3");
+    assertThat(snapshotChunks).extracting(SnapshotChunk::getTotalCount).containsOnly(3);
+  }
+
+  @Test
+  public void shouldNotExcludeFirstAndLastChunk() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+
+      // when
+      snapshotChunkReader.exclude(Set.of("file1", "file3"));
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
+  }
+
   @Test
   public void shouldThrowExceptionOnReachingLimit() throws IOException {
     // given
@@ -342,6 +342,31 @@ public class FileBasedTransientSnapshotTest {
                 path.getFileName().toString().equals(FileBasedSnapshotStore.METADATA_FILE_NAME));
   }
 
+  @Test
+  public void shouldCacheFileChecksumsOfPersistedSnapshot() {
+    // given
+    final var transientSnapshot = snapshotStore.newTransientSnapshot(1L, 2L, 3, 4).get();
+    transientSnapshot
+        .take(
+            path -> {
+              writeSnapshot(path);
+              try {
+                Files.writeString(path.resolve("000001.sst"), "sst contents", CREATE_NEW);
+              } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            })
+        .join();
+
+    // when
+    transientSnapshot.persist().join();
+
+    // then
+    assertThat(snapshotStore.getChecksumCache().size())
+        .describedAs("Without a provider, all checksums except the metadata file's are cached")
+        .isEqualTo(SNAPSHOT_FILE_CONTENTS.size() + 1);
+  }
+
   private boolean writeSnapshot(final Path path) {
     try {
       FileUtil.ensureDirectoryExists(path);
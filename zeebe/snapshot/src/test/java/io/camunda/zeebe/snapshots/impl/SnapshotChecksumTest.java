@@ -9,12 +9,14 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.snapshots.ChecksumProvider;
 import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.test.util.STracer;
 import io.camunda.zeebe.test.util.STracer.Syscall;
 import io.camunda.zeebe.test.util.asserts.strace.FSyncTraceAssert;
 import io.camunda.zeebe.test.util.asserts.strace.STracerAssert;
 import io.camunda.zeebe.util.FileUtil;
+import io.prometheus.client.CollectorRegistry;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -24,6 +26,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.Map;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 import org.agrona.IoUtil;
@@ -256,6 +259,86 @@ public final class SnapshotChecksumTest {
         .isEqualTo(checksumCalculatedAtOnce.getCombinedValue());
   }
 
+  @Test
+  void shouldReuseCachedChecksumOfUnchangedFile() throws IOException {
+    // given
+    final var metrics = new SnapshotMetrics("reuse-cached-checksum");
+    final var cache = new SnapshotChecksumCache(metrics);
+    final var previous = createTempDir("previous");
+    createChunk(previous, "000001.sst");
+    createChunk(previous, "OPTIONS");
+    cache.update(previous, SnapshotChecksum.calculate(previous).getChecksums());
+
+    final var next = createTempDir("next");
+    Files.createLink(next.resolve("000001.sst"), previous.resolve("000001.sst"));
+    Files.createLink(next.resolve("OPTIONS"), previous.resolve("OPTIONS"));
+    createChunk(next, "000002.sst");
+
+    // when
+    final var checksum = SnapshotChecksum.calculateWithCachedChecksums(next, null, cache);
+
+    // then
+    assertThat(checksum.getChecksums()).isEqualTo(SnapshotChecksum.calculate(next).getChecksums());
+    assertThat(checksumBytes("reused", "reuse-cached-checksum"))
+        .isEqualTo(Files.size(next.resolve("000001.sst")) + Files.size(next.resolve("OPTIONS")));
+    assertThat(checksumBytes("hashed", "reuse-cached-checksum"))
+        .isEqualTo(Files.size(next.resolve("000002.sst")));
+  }
+
+  @Test
+  void shouldNotCountOrCacheProvidedChecksums() throws IOException {
+    // given
+    final var metrics = new SnapshotMetrics("provided-checksum");
+    final var cache = new SnapshotChecksumCache(metrics);
+    final var snapshot = createTempDir("provided");
+    createChunk(snapshot, "000001.sst");
+    createChunk(snapshot, "CURRENT");
+    final var expected = SnapshotChecksum.calculate(snapshot).getChecksums();
+    final var provider =
+        (ChecksumProvider) path -> Map.of("000001.sst", expected.get("000001.sst"));
+
+    // when
+    final var checksum = SnapshotChecksum.calculateWithCachedChecksums(snapshot, provider, cache);
+    cache.update(snapshot, checksum.getChecksums());
+
+    // then
+    assertThat(checksum.getChecksums()).isEqualTo(expected);
+    assertThat(checksumBytes("reused", "provided-checksum")).isZero();
+    assertThat(checksumBytes("hashed", "provided-checksum"))
+        .isEqualTo(Files.size(snapshot.resolve("CURRENT")));
+    assertThat(cache.get(snapshot.resolve("000001.sst")))
+        .describedAs("The provided checksum is not cached")
+        .isNull();
+    assertThat(cache.get(snapshot.resolve("CURRENT"))).isEqualTo(expected.get("CURRENT"));
+  }
+
+  @Test
+  void shouldNotReuseCachedChecksumOfChangedFile() throws IOException {
+    // given
+    final var metrics = new SnapshotMetrics("changed-cached-checksum");
+    final var cache = new SnapshotChecksumCache(metrics);
+    final var previous = createTempDir("previous");
+    createChunk(previous, "000001.sst");
+    cache.update(previous, SnapshotChecksum.calculate(previous).getChecksums());
+
+    final var next = createTempDir("next");
+    Files.writeString(next.resolve("000001.sst"), "other content");
+
+    // when
+    final var checksum = SnapshotChecksum.calculateWithCachedChecksums(next, null, cache);
+
+    // then
+    assertThat(checksum.getChecksums()).isEqualTo(SnapshotChecksum.calculate(next).getChecksums());
+    assertThat(checksumBytes("reused", "changed-cached-checksum")).isZero();
+  }
+
+  private static double checksumBytes(final String type, final String partition) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "zeebe_snapshot_checksum_" + type + "_bytes_total",
+        new String[] {"partition"},
+        new String[] {partition});
+  }
+
   private Path createTempDir(final String name) throws IOException {
     final var path = temporaryFolder.resolve(name);
     FileUtil.ensureDirectoryExists(path);
@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -55,6 +56,7 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.BooleanSupplier;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 /**
@@ -95,6 +97,13 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If group commit is enabled (see {@link StreamProcessorContext#getMaxCommandsInGroupCommit()}),
+ * updateState() may defer the commit and continue with the next command in the same transaction, as
+ * long as a next command is available and neither the size nor the time bound of the group is
+ * reached. Each grouped command sets a savepoint, such that a failing command only rolls back its
+ * own changes. Responses and post commit tasks of all grouped commands are executed once the group
+ * is committed.
  */
 public final class ProcessingStateMachine {
 
@@ -107,6 +116,10 @@ public final class ProcessingStateMachine {
       "Expected to roll back the current transaction for record '{} {}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED =
       "Expected to execute side effects for record '{} {}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_EXECUTE_GROUP_SIDE_EFFECTS_ABORTED =
+      "Expected to execute side effects for {} commands of a group commit successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_GROUP_COMMIT_FAILED =
+      "Expected to commit the state of %d commands in one transaction, but caught an exception. Their follow-up records are already written, so the state is recovered by replaying them.";
   private static final String ERROR_MESSAGE_UPDATE_STATE_FAILED =
       "Expected to successfully update state for record '{} {}', but caught an exception. Retry.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING =
@@ -163,6 +176,11 @@ public final class ProcessingStateMachine {
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
+  private final int maxCommandsInGroupCommit;
+  private final long groupCommitMaxDelayMillis;
+  // commands which are processed and written, but whose transaction is not committed yet
+  private final List<GroupedCommand> groupedCommands = new ArrayList<>();
+  private long groupStartTime;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
 
   public ProcessingStateMachine(
@@ -181,6 +199,8 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    maxCommandsInGroupCommit = context.getMaxCommandsInGroupCommit();
+    groupCommitMaxDelayMillis = context.getGroupCommitMaxDelay().toMillis();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -235,7 +255,13 @@ public final class ProcessingStateMachine {
               && lastWrittenPosition <= previousRecord.getPosition();
     }
 
-    if (shouldProcessNext.getAsBoolean() && hasNext && !inProcessing) {
+    final var canProcessNext = shouldProcessNext.getAsBoolean() && hasNext;
+    if (!inProcessing && !groupedCommands.isEmpty() && !(canProcessNext && isGroupOpen())) {
+      commitGroup();
+      return;
+    }
+
+    if (canProcessNext && !inProcessing) {
       currentRecord = logStreamReader.next();
 
       if (processingFilter.applies(currentRecord)) {
@@ -280,6 +306,7 @@ public final class ProcessingStateMachine {
       typedCommand.wrap(loggedEvent, metadata, value);
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      setSavepointIfGrouped();
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
@@ -441,7 +468,7 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              rollbackCurrentCommand();
               return true;
             },
             abortCondition);
@@ -567,6 +594,7 @@ public final class ProcessingStateMachine {
   private void errorHandlingInTransaction(final Throwable processingException) throws Exception {
     startErrorLoop(typedCommand.hasRequestMetadata());
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    setSavepointIfGrouped();
     zeebeDbTransaction.run(
         () -> {
           final ProcessingResultBuilder processingResultBuilder =
@@ -641,6 +669,11 @@ public final class ProcessingStateMachine {
   }
 
   private void updateState() {
+    if (shouldDeferCommit()) {
+      deferCommit();
+      return;
+    }
+
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
@@ -655,7 +688,11 @@ public final class ProcessingStateMachine {
     actor.runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
-          if (throwable != null) {
+          if (throwable != null && !groupedCommands.isEmpty()) {
+            // rolling back would also discard the state of the grouped commands
+            throw new UnrecoverableException(
+                ERROR_MESSAGE_GROUP_COMMIT_FAILED.formatted(groupedCommands.size() + 1), throwable);
+          } else if (throwable != null) {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentRecord, metadata, throwable);
             onError(
                 throwable,
@@ -663,8 +700,13 @@ public final class ProcessingStateMachine {
                   errorHandlingInTransaction(throwable);
                   updateState();
                 });
+          } else if (!groupedCommands.isEmpty()) {
+            scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
+            groupedCommands.add(groupCurrentCommand());
+            executeGroupSideEffects();
           } else {
             scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
+            observeGroupCommit(1);
             executeSideEffects();
           }
         });
@@ -676,24 +718,8 @@ public final class ProcessingStateMachine {
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
+              writeResponses(pendingResponses);
+              return executePostCommitTasks(currentProcessingResult);
             },
             abortCondition);
 
@@ -716,9 +742,167 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  private void writeResponses(final Collection<ProcessingResponse> responses) {
+    for (final var processingResponse : responses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
+    }
+  }
+
+  /**
+   * A command is only grouped with the next one if the next command is already available, such that
+   * waiting for it doesn't delay the results of the grouped commands.
+   */
+  private boolean shouldDeferCommit() {
+    return maxCommandsInGroupCommit > 1
+        && errorHandlingPhase == ErrorHandlingPhase.NO_ERROR
+        && groupedCommands.size() + 1 < maxCommandsInGroupCommit
+        && (groupedCommands.isEmpty() || isGroupOpen())
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext();
+  }
+
+  private boolean isGroupOpen() {
+    return ActorClock.currentTimeMillis() - groupStartTime < groupCommitMaxDelayMillis;
+  }
+
+  /**
+   * Keeps the transaction of the current command open, such that the next command is processed in
+   * the same transaction. The records of the command are already written, but its responses and
+   * post commit tasks are only executed once the group is committed.
+   */
+  private void deferCommit() {
+    if (groupedCommands.isEmpty()) {
+      groupStartTime = ActorClock.currentTimeMillis();
+    }
+    scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
+    groupedCommands.add(groupCurrentCommand());
+    lastWrittenPosition = writtenPosition;
+
+    markProcessingCompleted();
+    actor.submit(this::tryToReadNextRecord);
+  }
+
+  private GroupedCommand groupCurrentCommand() {
+    // the current record is only a view on the reader's buffer, which is reused for the next one
+    final var buffer = new UnsafeBuffer(new byte[currentRecord.getLength()]);
+    currentRecord.write(buffer, 0);
+    final var command = new LoggedEventImpl();
+    command.wrap(buffer, 0);
+    return new GroupedCommand(command, pendingResponses, currentProcessingResult, processingTimer);
+  }
+
+  private void setSavepointIfGrouped() throws Exception {
+    if (!groupedCommands.isEmpty()) {
+      zeebeDbTransaction.setSavepoint();
+    }
+  }
+
+  /**
+   * Discards the state changes of the current command. If other commands are grouped in the same
+   * transaction, only the changes since the savepoint of the current command are discarded, and a
+   * new savepoint is set for the following error handling.
+   */
+  private void rollbackCurrentCommand() throws Exception {
+    if (groupedCommands.isEmpty()) {
+      zeebeDbTransaction.rollback();
+    } else {
+      zeebeDbTransaction.rollbackToSavepoint();
+      zeebeDbTransaction.setSavepoint();
+    }
+  }
+
+  /** Commits the grouped commands, if no further command can be added to the group. */
+  private void commitGroup() {
+    inProcessing = true;
+    final var lastGroupedPosition = groupedCommands.getLast().command().getPosition();
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.commit();
+              lastSuccessfulProcessedRecordPosition = lastGroupedPosition;
+              metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            throw new UnrecoverableException(
+                ERROR_MESSAGE_GROUP_COMMIT_FAILED.formatted(groupedCommands.size()), throwable);
+          }
+          executeGroupSideEffects();
+        });
+  }
+
+  private void executeGroupSideEffects() {
+    observeGroupCommit(groupedCommands.size());
+    final ActorFuture<Boolean> retryFuture =
+        sideEffectsRetryStrategy.runWithRetry(
+            () -> {
+              var executed = true;
+              for (final var groupedCommand : groupedCommands) {
+                writeResponses(groupedCommand.responses());
+                executed &= executePostCommitTasks(groupedCommand.processingResult());
+              }
+              return executed;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(
+                ERROR_MESSAGE_EXECUTE_GROUP_SIDE_EFFECTS_ABORTED,
+                groupedCommands.size(),
+                throwable);
+          }
+
+          final var groupedMetadata = new RecordMetadata();
+          final var groupedRecord = new TypedRecordImpl(context.getPartitionId());
+          for (final var groupedCommand : groupedCommands) {
+            final var command = groupedCommand.command();
+            groupedMetadata.reset();
+            command.readMetadata(groupedMetadata);
+            groupedRecord.wrap(
+                command,
+                groupedMetadata,
+                recordValues.readRecordValue(command, groupedMetadata.getValueType()));
+            notifyProcessedListener(groupedRecord);
+            groupedCommand.processingTimer().close();
+          }
+          groupedCommands.clear();
+
+          // continue with next record
+          markProcessingCompleted();
+          actor.submit(this::tryToReadNextRecord);
+        });
+  }
+
+  private void observeGroupCommit(final int commandCount) {
+    if (maxCommandsInGroupCommit > 1) {
+      processingMetrics.observeGroupCommitCommandCount(commandCount);
     }
   }
 
@@ -776,6 +960,12 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  private record GroupedCommand(
+      LoggedEvent command,
+      Collection<ProcessingResponse> responses,
+      ProcessingResult processingResult,
+      Histogram.Timer processingTimer) {}
+
   @FunctionalInterface
   private interface NextProcessingStep {
     void run() throws Exception;
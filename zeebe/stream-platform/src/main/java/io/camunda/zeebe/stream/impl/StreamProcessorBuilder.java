@@ -17,6 +17,7 @@ import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache.NoopScheduledCommandCache;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache.StageableScheduledCommandCache;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -145,6 +146,13 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxCommandsInGroupCommit() < 1) {
+      throw new IllegalArgumentException(
+          "Group commit limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxCommandsInGroupCommit()));
+    }
+    Objects.requireNonNull(
+        streamProcessorContext.getGroupCommitMaxDelay(), "No group commit max delay provided");
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -152,6 +160,21 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets how many consecutive commands may share one transaction, which is committed once the limit
+   * or the {@link #groupCommitMaxDelay(Duration) max delay} is reached, or no further command is
+   * available. Defaults to 1, i.e. each command is committed on its own.
+   */
+  public StreamProcessorBuilder maxCommandsInGroupCommit(final int maxCommandsInGroupCommit) {
+    streamProcessorContext.maxCommandsInGroupCommit(maxCommandsInGroupCommit);
+    return this;
+  }
+
+  public StreamProcessorBuilder groupCommitMaxDelay(final Duration groupCommitMaxDelay) {
+    streamProcessorContext.groupCommitMaxDelay(groupCommitMaxDelay);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
@@ -21,11 +21,14 @@ import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
+import java.time.Duration;
 import java.util.function.BooleanSupplier;
 
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_COMMANDS_IN_GROUP_COMMIT = 1;
+  public static final Duration DEFAULT_GROUP_COMMIT_MAX_DELAY = Duration.ofMillis(5);
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -48,6 +51,8 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxCommandsInGroupCommit = DEFAULT_MAX_COMMANDS_IN_GROUP_COMMIT;
+  private Duration groupCommitMaxDelay = DEFAULT_GROUP_COMMIT_MAX_DELAY;
   private boolean enableAsyncScheduledTasks = true;
   private EventFilter processingFilter = e -> true;
 
@@ -206,6 +211,24 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext maxCommandsInGroupCommit(final int maxCommandsInGroupCommit) {
+    this.maxCommandsInGroupCommit = maxCommandsInGroupCommit;
+    return this;
+  }
+
+  public int getMaxCommandsInGroupCommit() {
+    return maxCommandsInGroupCommit;
+  }
+
+  public StreamProcessorContext groupCommitMaxDelay(final Duration groupCommitMaxDelay) {
+    this.groupCommitMaxDelay = groupCommitMaxDelay;
+    return this;
+  }
+
+  public Duration getGroupCommitMaxDelay() {
+    return groupCommitMaxDelay;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
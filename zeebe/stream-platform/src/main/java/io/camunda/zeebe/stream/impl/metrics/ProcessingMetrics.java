@@ -54,6 +54,15 @@ public class ProcessingMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Histogram GROUP_COMMIT_COMMANDS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_group_commit_commands")
+          .help("Records the distribution of commands committed in one transaction over time")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private static final Enumeration ERROR_HANDLING_PHASE =
       Enumeration.build()
           .namespace(NAMESPACE)
@@ -67,6 +76,7 @@ public class ProcessingMetrics {
   private final Child batchProcessingCommands;
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
+  private final Child groupCommitCommands;
   private final Enumeration.Child errorHandlingPhase;
 
   public ProcessingMetrics(final String partitionIdLabel) {
@@ -74,6 +84,7 @@ public class ProcessingMetrics {
     batchProcessingCommands = BATCH_PROCESSING_COMMANDS.labels(partitionIdLabel);
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
+    groupCommitCommands = GROUP_COMMIT_COMMANDS.labels(partitionIdLabel);
     errorHandlingPhase = ERROR_HANDLING_PHASE.labels(partitionIdLabel);
   }
 
@@ -85,6 +96,10 @@ public class ProcessingMetrics {
     batchProcessingCommands.observe(commandCount);
   }
 
+  public void observeGroupCommitCommandCount(final int commandCount) {
+    groupCommitCommands.observe(commandCount);
+  }
+
   public void countRetry() {
     batchProcessingRetries.inc();
   }
@@ -56,6 +56,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
@@ -844,6 +845,88 @@ public final class StreamProcessorTest {
     AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 1);
   }
 
+  @Test
+  public void shouldCommitGroupedCommands() {
+    // given
+    final var testProcessor = spy(new TestProcessor());
+    testProcessor.processingAction =
+        (ctx) -> {
+          final var zeebeDb = ctx.getZeebeDb();
+          final var keyGenerator = new DbKeyGenerator(1, zeebeDb, ctx.getTransactionContext());
+          keyGenerator.nextKey();
+          keyGenerator.nextKey();
+          keyGenerator.nextKey();
+        };
+    streamPlatform
+        .withRecordProcessors(List.of(testProcessor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxCommandsInGroupCommit(10));
+
+    final var zeebeDb = testProcessor.recordProcessorContext.getZeebeDb();
+    final var keyGenerator = new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    final var lastPosition =
+        streamPlatform.writeBatch(
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(testProcessor, TIMEOUT.times(3)).process(any(), any());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    await("should commit the last processed position")
+        .untilAsserted(
+            () ->
+                assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition())
+                    .isEqualTo(lastPosition));
+
+    final var nextKey = keyGenerator.nextKey();
+    AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 10);
+  }
+
+  @Test
+  public void shouldOnlyRollbackFailingCommandOfGroup() {
+    // given
+    final var processedCommands = new AtomicInteger();
+    final var testProcessor = spy(new TestProcessor());
+    testProcessor.processingAction =
+        (ctx) -> {
+          final var zeebeDb = ctx.getZeebeDb();
+          final var keyGenerator = new DbKeyGenerator(1, zeebeDb, ctx.getTransactionContext());
+          keyGenerator.nextKey();
+          keyGenerator.nextKey();
+          keyGenerator.nextKey();
+
+          if (processedCommands.incrementAndGet() == 2) {
+            throw new RuntimeException("expected");
+          }
+        };
+    streamPlatform
+        .withRecordProcessors(List.of(testProcessor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxCommandsInGroupCommit(10));
+
+    final var zeebeDb = testProcessor.recordProcessorContext.getZeebeDb();
+    final var keyGenerator = new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(testProcessor, TIMEOUT.times(3)).process(any(), any());
+    verify(testProcessor, TIMEOUT).onProcessingError(any(), any(), any());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+
+    final var nextKey = keyGenerator.nextKey();
+    AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 7);
+  }
+
   @Test
   public void shouldWriteResponse() {
     // given
@@ -148,7 +148,7 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      * @param request the request to send
      * @param receiver the expected target
      * @return a future which is completed when the request has been acknowledged by the receiver,
-     *     or an error occurred
+     *     or an error occurred, e.g. if the request could not be written when it was sent out
      * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
      */
     CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver)
@@ -9,6 +9,7 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagePayload;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
@@ -16,7 +17,6 @@ import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
-import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -25,7 +25,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
@@ -90,12 +89,8 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
   }
 
   private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
+    // the request is written directly into the network buffer, instead of into an array first
     return transport.send(
-        StreamTopics.PUSH.topic(),
-        request,
-        BufferUtil::bufferAsArray,
-        Function.identity(),
-        receiver,
-        REQUEST_TIMEOUT);
+        StreamTopics.PUSH.topic(), MessagePayload.of(request), receiver, REQUEST_TIMEOUT);
   }
 }
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagePayload;
 import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerExtension;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
@@ -113,12 +114,14 @@ final class RemoteStreamerTest {
     scheduler.workUntilDone();
 
     // then
+    final var expectedRequest =
+        BufferUtil.createCopy(
+            new PushStreamRequest().streamId(streamId.streamId()).payload(payload));
     Mockito.verify(communicationService, Mockito.timeout(5_000).times(1))
         .send(
             Mockito.eq(StreamTopics.PUSH.topic()),
-            Mockito.eq(new PushStreamRequest().streamId(streamId.streamId()).payload(payload)),
-            Mockito.any(),
-            Mockito.any(),
+            Mockito.<MessagePayload>argThat(
+                request -> BufferUtil.equals(request.buffer(), expectedRequest)),
             Mockito.eq(streamId.receiver()),
             Mockito.any());
   }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,22 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up all given keys at once, and visits the key-value pairs of those keys which exist in
+   * the column family. This is equivalent to calling {@link #get(DbKey)} for each key, including
+   * seeing the uncommitted writes of the current transaction, but all keys are read with a single
+   * batched lookup.
+   *
+   * <p>The consumer is called in the order of the given keys, and is not called for keys which do
+   * not exist. As with {@link #forEach(BiConsumer)}, the given DbValue is reused for all keys and
+   * should not be stored. Since all keys are serialized before the lookup, each key must be a
+   * separate instance.
+   *
+   * @param keys the keys to look up
+   * @param consumer the consumer which accepts the found key-value pairs
+   */
+  void getAll(Collection<KeyType> keys, BiConsumer<KeyType, ValueType> consumer);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   Timer measureDeleteLatency();
 
   Timer measureIterateLatency();
+
+  void cacheHit();
+
+  void cacheMiss();
+
+  void cacheEviction();
 }
@@ -34,4 +34,13 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is called whenever changes of a transaction of this context are
+   * discarded, i.e. when it is rolled back or rolled back to a savepoint. This allows to invalidate
+   * in-memory state which may have been derived from the discarded changes.
+   *
+   * @param listener the listener to call after the changes were discarded
+   */
+  void addRollbackListener(Runnable listener);
 }
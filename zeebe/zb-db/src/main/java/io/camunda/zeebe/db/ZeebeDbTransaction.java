@@ -38,4 +38,24 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction, such that all later changes can be discarded via
+   * {@link #rollbackToSavepoint()}, while keeping the changes made before. Only the latest
+   * savepoint can be rolled back to; savepoints are released on commit or rollback.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavepoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest savepoint, discards all changes made since then, and
+   * releases the savepoint. If no savepoint is set, the whole transaction is rolled back, see
+   * {@link #rollback()}.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void rollbackToSavepoint() throws Exception;
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.db.impl;
 
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.prometheus.client.Counter;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
 import io.prometheus.client.Histogram.Timer;
@@ -24,10 +25,21 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
           .help("Latency of RocksDB operations per column family")
           .register();
 
+  private static final Counter CACHE =
+      Counter.build()
+          .namespace("zeebe")
+          .name("rocksdb_cache_events")
+          .labelNames("partition", "columnFamily", "result")
+          .help("Number of hits, misses and evictions of the column family value cache")
+          .register();
+
   private final Child getLatency;
   private final Child putLatency;
   private final Child deleteLatency;
   private final Child iterateLatency;
+  private final Counter.Child cacheHits;
+  private final Counter.Child cacheMisses;
+  private final Counter.Child cacheEvictions;
 
   public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
       FineGrainedColumnFamilyMetrics(final int partitionId, final ColumnFamilyNames columnFamily) {
@@ -37,6 +49,9 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
     putLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "put");
     deleteLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "delete");
     iterateLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "iterate");
+    cacheHits = CACHE.labels(partitionLabel, columnFamilyLabel, "hit");
+    cacheMisses = CACHE.labels(partitionLabel, columnFamilyLabel, "miss");
+    cacheEvictions = CACHE.labels(partitionLabel, columnFamilyLabel, "eviction");
   }
 
   @Override
@@ -58,4 +73,19 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
   public Timer measureIterateLatency() {
     return iterateLatency.startTimer();
   }
+
+  @Override
+  public void cacheHit() {
+    cacheHits.inc();
+  }
+
+  @Override
+  public void cacheMiss() {
+    cacheMisses.inc();
+  }
+
+  @Override
+  public void cacheEviction() {
+    cacheEvictions.inc();
+  }
 }
@@ -31,4 +31,13 @@ public class NoopColumnFamilyMetrics implements ColumnFamilyMetrics {
   public Timer measureIterateLatency() {
     return null;
   }
+
+  @Override
+  public void cacheHit() {}
+
+  @Override
+  public void cacheMiss() {}
+
+  @Override
+  public void cacheEviction() {}
 }
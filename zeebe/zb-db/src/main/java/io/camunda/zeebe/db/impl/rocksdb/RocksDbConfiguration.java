@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -42,6 +43,8 @@ public final class RocksDbConfiguration {
   public static final boolean DEFAULT_SST_PARTITIONING_ENABLED = true;
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
+  public static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+  public static final double DEFAULT_MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.15;
 
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
@@ -72,6 +75,31 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * The maximum amount of committed values to cache in memory per column family, by column family
+   * name. Reads of cached values skip RocksDB entirely. Column families which are not listed, or
+   * with a size of 0 or less, are not cached. Per default, no column family is cached.
+   */
+  private Map<String, Integer> columnFamilyCacheSizes = Map.of();
+
+  /**
+   * The bits per key of the bloom filter built for every SST file. The filter contains both the
+   * whole keys and their column family prefix, which lets point lookups and prefix scans skip files
+   * which do not contain the key or prefix. A higher value lowers the false positive rate at the
+   * cost of more memory, since filters are kept in the block cache.
+   *
+   * <p>Setting to 0 or less disables the bloom filter.
+   */
+  private int bloomFilterBitsPerKey = DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+
+  /**
+   * The share of the memtable memory used for a prefix bloom filter per memtable, which lets prefix
+   * scans skip memtables without a matching key. RocksDB clamps values higher than 0.25.
+   *
+   * <p>Setting to 0 or less disables the memtable prefix bloom filter.
+   */
+  private double memtablePrefixBloomSizeRatio = DEFAULT_MEMTABLE_PREFIX_BLOOM_SIZE_RATIO;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +183,33 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public Map<String, Integer> getColumnFamilyCacheSizes() {
+    return columnFamilyCacheSizes;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheSizes(
+      final Map<String, Integer> columnFamilyCacheSizes) {
+    this.columnFamilyCacheSizes = columnFamilyCacheSizes;
+    return this;
+  }
+
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public RocksDbConfiguration setBloomFilterBitsPerKey(final int bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    return this;
+  }
+
+  public double getMemtablePrefixBloomSizeRatio() {
+    return memtablePrefixBloomSizeRatio;
+  }
+
+  public RocksDbConfiguration setMemtablePrefixBloomSizeRatio(
+      final double memtablePrefixBloomSizeRatio) {
+    this.memtablePrefixBloomSizeRatio = memtablePrefixBloomSizeRatio;
+    return this;
+  }
 }
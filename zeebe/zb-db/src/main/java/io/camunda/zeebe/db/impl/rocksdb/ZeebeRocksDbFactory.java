@@ -203,11 +203,12 @@ public final class ZeebeRocksDbFactory<
     final var maxConcurrentMemtableCount = rocksDbConfiguration.getMaxWriteBufferNumber();
     // this is a current guess and candidate for further tuning
     // values can be between 0 and 0.25 (anything higher gets clamped to 0.25), we randomly picked
-    // 0.15
+    // 0.15 as default
     // prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
     // create
     // a filter for each memtable, allowing us to skip the prefixes if possible
-    final var memtablePrefixFilterMemory = 0.15;
+    final var memtablePrefixFilterMemory =
+        Math.clamp(rocksDbConfiguration.getMemtablePrefixBloomSizeRatio(), 0, 0.25);
     final var memtableMemory =
         Math.round(
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
@@ -276,17 +277,20 @@ public final class ZeebeRocksDbFactory<
     final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
     closeables.add(cache);
 
-    final var filter = new BloomFilter(10, false);
-    closeables.add(filter);
+    final var tableConfig = new BlockBasedTableConfig();
+    if (rocksDbConfiguration.getBloomFilterBitsPerKey() > 0) {
+      final var filter = new BloomFilter(rocksDbConfiguration.getBloomFilterBitsPerKey(), false);
+      closeables.add(filter);
+      tableConfig.setFilterPolicy(filter);
+    }
 
-    return new BlockBasedTableConfig()
+    return tableConfig
         .setBlockCache(cache)
         // increasing block size means reducing memory usage, but increasing read iops
         .setBlockSize(32 * 1024L)
         // full and partitioned filters use a more efficient bloom filter implementation when
         // using format 5
         .setFormatVersion(5)
-        .setFilterPolicy(filter)
         // caching and pinning indexes and filters is important to keep reads/seeks fast when we
         // have many memtables, and pinning them ensures they are never evicted from the block
         // cache
@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.ColumnFamilyMetrics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+
+/**
+ * A size bounded LRU cache of the committed, serialized values of a single column family, keyed by
+ * their serialized keys. It is shared by all {@link TransactionalColumnFamily} instances of the
+ * same column family, regardless of their transaction context, and may thus be accessed
+ * concurrently.
+ *
+ * <p>The cache only ever contains committed values. Writes of a transaction are kept by the {@link
+ * ZeebeTransaction} itself, and are only applied to the cache once the transaction was committed;
+ * on rollback they are simply dropped.
+ *
+ * <p>To not cache stale values, a value read from RocksDB is only added if no transaction has
+ * committed writes to this cache since the read started, which is tracked via the {@link #epoch()}.
+ */
+final class ColumnFamilyCache {
+
+  /** Marks a key as deleted within a transaction; empty values are treated as missing anyway. */
+  static final byte[] DELETED = new byte[0];
+
+  private final Map<DirectBuffer, byte[]> entries;
+  private long epoch;
+
+  ColumnFamilyCache(final int maxEntries, final ColumnFamilyMetrics metrics) {
+    entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Entry<DirectBuffer, byte[]> eldest) {
+            if (size() > maxEntries) {
+              metrics.cacheEviction();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * @return the committed value of the given key, or null if it is not cached
+   */
+  synchronized byte[] get(final DirectBuffer key) {
+    return entries.get(key);
+  }
+
+  /**
+   * @return the current epoch, which must be passed to {@link #put(DirectBuffer, byte[], long)}
+   *     when caching a value read from RocksDB after calling this method
+   */
+  synchronized long epoch() {
+    return epoch;
+  }
+
+  /**
+   * Caches a committed value read from RocksDB, unless writes were committed since the given epoch,
+   * in which case the value may already be outdated.
+   *
+   * @param key the serialized key; must not be modified afterwards
+   * @param value the serialized value; must not be modified afterwards
+   * @param readEpoch the {@link #epoch()} before the value was read
+   */
+  synchronized void put(final DirectBuffer key, final byte[] value, final long readEpoch) {
+    if (epoch == readEpoch && value.length > 0) {
+      entries.put(key, value);
+    }
+  }
+
+  /**
+   * Applies the writes of a committed transaction, where deleted keys map to {@link #DELETED}. Must
+   * be called after the transaction was committed to RocksDB.
+   */
+  synchronized void applyCommitted(final Map<DirectBuffer, byte[]> writes) {
+    epoch++;
+    writes.forEach(
+        (key, value) -> {
+          if (value == DELETED) {
+            entries.remove(key);
+          } else {
+            entries.put(key, value);
+          }
+        });
+  }
+}
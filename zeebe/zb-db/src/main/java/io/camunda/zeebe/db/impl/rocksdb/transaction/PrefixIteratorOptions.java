@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import org.rocksdb.DirectSlice;
+import org.rocksdb.ReadOptions;
+
+/**
+ * Read options to iterate over the keys with a given prefix, bounded by the smallest key which is
+ * greater than all keys with the prefix. The options and their upper bound are reused for every
+ * iteration, such that a prefix iteration does not need to allocate native objects.
+ *
+ * <p>An instance must only be used by one iterator at a time, since the upper bound is shared with
+ * the iterators created with these options.
+ */
+final class PrefixIteratorOptions implements AutoCloseable {
+
+  private static final int INITIAL_UPPER_BOUND_CAPACITY = 64;
+
+  private final ReadOptions prefixReadOptions;
+  private final ReadOptions boundedReadOptions;
+  private ByteBuffer upperBoundBuffer;
+  private DirectSlice upperBound;
+
+  PrefixIteratorOptions(final ReadOptions prefixReadOptions) {
+    this.prefixReadOptions = prefixReadOptions;
+    boundedReadOptions = new ReadOptions(prefixReadOptions);
+    allocateUpperBound(INITIAL_UPPER_BOUND_CAPACITY);
+  }
+
+  /**
+   * Returns the read options to iterate over the keys with the given prefix. The returned options
+   * are only valid until this method is called again.
+   *
+   * @param prefixKey the prefix, including the column family prefix
+   * @param prefixLength the length of the prefix in {@code prefixKey}
+   * @return the read options with the upper bound of the prefix, or the unbounded prefix read
+   *     options if the prefix consists only of {@code 0xFF} bytes
+   */
+  ReadOptions forPrefix(final byte[] prefixKey, final int prefixLength) {
+    final int upperBoundLength = prefixUpperBoundLength(prefixKey, prefixLength);
+    if (upperBoundLength == 0) {
+      return prefixReadOptions;
+    }
+
+    if (upperBoundLength > upperBoundBuffer.capacity()) {
+      upperBound.close();
+      allocateUpperBound(Math.max(upperBoundLength, upperBoundBuffer.capacity() * 2));
+    }
+
+    upperBoundBuffer.put(0, prefixKey, 0, upperBoundLength);
+    upperBoundBuffer.put(upperBoundLength - 1, (byte) (prefixKey[upperBoundLength - 1] + 1));
+    upperBound.setLength(upperBoundLength);
+    return boundedReadOptions;
+  }
+
+  @Override
+  public void close() {
+    boundedReadOptions.close();
+    upperBound.close();
+  }
+
+  private void allocateUpperBound(final int capacity) {
+    upperBoundBuffer = ByteBuffer.allocateDirect(capacity);
+    upperBound = new DirectSlice(upperBoundBuffer, capacity);
+    boundedReadOptions.setIterateUpperBound(upperBound);
+  }
+
+  /**
+   * Returns the length of the smallest key which is greater than all keys starting with the given
+   * prefix. This key is the prefix with its last byte incremented, after dropping all trailing
+   * {@code 0xFF} bytes.
+   *
+   * @return the length of the exclusive upper bound, or 0 if the prefix consists only of {@code
+   *     0xFF} bytes
+   */
+  static int prefixUpperBoundLength(final byte[] prefixKey, final int prefixLength) {
+    for (int i = prefixLength - 1; i >= 0; i--) {
+      if (prefixKey[i] != (byte) 0xFF) {
+        return i + 1;
+      }
+    }
+
+    return 0;
+  }
+}
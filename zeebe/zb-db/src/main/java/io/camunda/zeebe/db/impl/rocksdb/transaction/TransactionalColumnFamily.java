@@ -19,12 +19,19 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +63,9 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyCache cache;
+  private final UnsafeBuffer cacheLookupKey = new UnsafeBuffer();
+  private final Queue<PrefixIteratorOptions> prefixIteratorOptions = new ArrayDeque<>();
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -64,7 +74,8 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
-      final ColumnFamilyMetrics metrics) {
+      final ColumnFamilyMetrics metrics,
+      final ColumnFamilyCache cache) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -72,6 +83,7 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    this.cache = cache;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -92,6 +104,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            putCachedWrite(transaction, value.getLength());
           });
     }
   }
@@ -111,6 +124,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            putCachedWrite(transaction, value.getLength());
           });
     }
   }
@@ -129,6 +143,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            putCachedWrite(transaction, value.getLength());
           });
     }
   }
@@ -139,12 +154,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = getValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
@@ -156,6 +166,44 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void getAll(
+      final Collection<KeyType> keys, final BiConsumer<KeyType, ValueType> consumer) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            final List<byte[]> serializedKeys = new ArrayList<>(keys.size());
+            for (final KeyType key : keys) {
+              columnFamilyContext.writeKey(key);
+              serializedKeys.add(
+                  Arrays.copyOf(
+                      columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+            }
+
+            final List<byte[]> values =
+                transaction.multiGet(
+                    transactionDb.getDefaultReadOptions(),
+                    transactionDb.getDefaultHandle(),
+                    serializedKeys);
+
+            int index = 0;
+            for (final KeyType key : keys) {
+              final byte[] value = values.get(index++);
+              if (value != null) {
+                columnFamilyContext.wrapValueView(value);
+                final DirectBuffer valueBuffer = columnFamilyContext.getValueView();
+                valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+                consumer.accept(key, valueInstance);
+              }
+            }
+          });
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -229,6 +277,7 @@ class TransactionalColumnFamily<
                 transactionDb.getDefaultNativeHandle(),
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            putCachedDelete(transaction);
           });
     }
   }
@@ -243,6 +292,7 @@ class TransactionalColumnFamily<
                 transactionDb.getDefaultNativeHandle(),
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            putCachedDelete(transaction);
           });
     }
   }
@@ -253,12 +303,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = getValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       return !columnFamilyContext.isValueViewEmpty();
@@ -334,6 +379,64 @@ class TransactionalColumnFamily<
     }
   }
 
+  /**
+   * Looks up the value of the key which was last written to the column family context. If the
+   * column family is cached, the writes of the current transaction and the committed values in the
+   * cache are checked first, and values read from RocksDB are added to the cache.
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    if (cache == null) {
+      return transaction.get(
+          transactionDb.getDefaultNativeHandle(),
+          transactionDb.getReadOptionsNativeHandle(),
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength());
+    }
+
+    cacheLookupKey.wrap(
+        columnFamilyContext.getKeyBufferArray(), 0, columnFamilyContext.getKeyLength());
+    byte[] value = transaction.getCachedWrite(cache, cacheLookupKey);
+    if (value == null) {
+      value = cache.get(cacheLookupKey);
+    }
+
+    if (value != null) {
+      metrics.cacheHit();
+      return value;
+    }
+
+    metrics.cacheMiss();
+    final long epoch = cache.epoch();
+    value =
+        transaction.get(
+            transactionDb.getDefaultNativeHandle(),
+            transactionDb.getReadOptionsNativeHandle(),
+            columnFamilyContext.getKeyBufferArray(),
+            columnFamilyContext.getKeyLength());
+    if (value != null) {
+      cache.put(copyKey(), value, epoch);
+    }
+    return value;
+  }
+
+  private void putCachedWrite(final ZeebeTransaction transaction, final int valueLength) {
+    if (cache != null) {
+      transaction.putCachedWrite(
+          cache, copyKey(), Arrays.copyOf(columnFamilyContext.getValueBufferArray(), valueLength));
+    }
+  }
+
+  private void putCachedDelete(final ZeebeTransaction transaction) {
+    if (cache != null) {
+      transaction.putCachedWrite(cache, copyKey(), ColumnFamilyCache.DELETED);
+    }
+  }
+
+  private DirectBuffer copyKey() {
+    return new UnsafeBuffer(
+        Arrays.copyOf(columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -380,34 +483,33 @@ class TransactionalColumnFamily<
       Objects.requireNonNull(visitor);
 
       /*
-       * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-       * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-       * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-       * over all keys contained in those files, so we still need to make sure the key actually
-       * matches the prefix.
+       * NOTE: the prefix extractor only covers the column family prefix, so the iterator is bounded
+       * by the given prefix via its upper bound. Keys of pending writes of the transaction, or keys
+       * before the prefix when seeking to startAt, are not covered by the bound, so we still need to
+       * make sure the key actually matches the prefix.
        *
        * <p>While iterating over subsequent keys we have to validate it.
        */
       columnFamilyContext.withPrefixKey(
           prefix,
-          (prefixKey, prefixLength) -> {
-            try (final RocksIterator iterator =
-                newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-              boolean shouldVisitNext = true;
-
-              for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                  iterator.isValid() && shouldVisitNext;
-                  iterator.next()) {
-                final byte[] keyBytes = iterator.key();
-                if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                  break;
-                }
-
-                shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
-              }
-            }
-          });
+          (prefixKey, prefixLength) ->
+              withPrefixIterator(
+                  prefixKey,
+                  prefixLength,
+                  iterator -> {
+                    boolean shouldVisitNext = true;
+
+                    for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
+                        iterator.isValid() && shouldVisitNext;
+                        iterator.next()) {
+                      final byte[] keyBytes = iterator.key();
+                      if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                        break;
+                      }
+
+                      shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+                    }
+                  }));
     }
   }
 
@@ -427,36 +529,61 @@ class TransactionalColumnFamily<
     final var count = new AtomicLong(0);
 
     /*
-     * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-     * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-     * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-     * over all keys contained in those files, so we still need to make sure the key actually
-     * matches the prefix.
+     * NOTE: the iterator is bounded by the given prefix via its upper bound, but keys of pending
+     * writes of the transaction are not covered by the bound, so we still need to make sure the key
+     * actually matches the prefix.
      *
      * <p>While iterating over subsequent keys we have to validate it.
      */
     columnFamilyContext.withPrefixKey(
         prefix,
-        (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-            for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                iterator.isValid();
-                iterator.next()) {
-              final byte[] keyBytes = iterator.key();
-              if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                break;
-              }
-
-              count.getAndIncrement();
-            }
-          }
-        });
+        (prefixKey, prefixLength) ->
+            withPrefixIterator(
+                prefixKey,
+                prefixLength,
+                iterator -> {
+                  for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
+                      iterator.isValid();
+                      iterator.next()) {
+                    final byte[] keyBytes = iterator.key();
+                    if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                      break;
+                    }
+
+                    count.getAndIncrement();
+                  }
+                }));
 
     return count.get();
   }
 
+  /**
+   * Opens an iterator whose upper bound is the smallest key which is greater than all keys with the
+   * given prefix. This lets RocksDB stop at the end of the prefix range, instead of reading the
+   * following entries (and possibly blocks) only for us to discard them.
+   *
+   * @param prefixKey the prefix, including the column family prefix
+   * @param prefixLength the length of the prefix in {@code prefixKey}
+   * @param iteratorConsumer called with the iterator, which is closed afterwards
+   */
+  private void withPrefixIterator(
+      final byte[] prefixKey,
+      final int prefixLength,
+      final Consumer<RocksIterator> iteratorConsumer) {
+    // one options instance per nesting level, as the upper bound is shared with the iterator
+    PrefixIteratorOptions options = prefixIteratorOptions.poll();
+    if (options == null) {
+      options = transactionDb.newPrefixIteratorOptions();
+    }
+
+    try (final RocksIterator iterator =
+        newIterator(context, options.forPrefix(prefixKey, prefixLength))) {
+      iteratorConsumer.accept(iterator);
+    } finally {
+      prefixIteratorOptions.add(options);
+    }
+  }
+
   private boolean visit(
       final KeyType keyInstance,
       final ValueType valueInstance,
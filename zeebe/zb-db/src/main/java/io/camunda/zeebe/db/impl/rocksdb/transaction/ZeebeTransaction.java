@@ -12,6 +12,12 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -23,8 +29,14 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  // uncommitted writes to cached column families, applied to the caches on commit
+  private final Map<ColumnFamilyCache, Map<DirectBuffer, byte[]>> cachedWrites = new HashMap<>();
+  // previous cached writes overwritten since the savepoint, restored in reverse order on rollback
+  private final List<CachedWriteUndo> cachedWritesUndo = new ArrayList<>();
+  private final List<Runnable> rollbackListeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
+  private boolean hasSavepoint;
   private Transaction transaction;
 
   public ZeebeTransaction(
@@ -87,6 +99,45 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Looks up all given keys in the given column family within this transaction, i.e. including its
+   * uncommitted writes.
+   *
+   * @return the values in the same order as the given keys, where missing keys map to null
+   */
+  public List<byte[]> multiGet(
+      final ReadOptions readOptions, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(readOptions, Collections.nCopies(keys.size(), handle), keys);
+  }
+
+  /**
+   * Remembers a write to a cached column family, such that it can be applied to the cache once this
+   * transaction is committed. Deletes are written as {@link ColumnFamilyCache#DELETED}.
+   *
+   * @param key the serialized key; must not be modified afterwards
+   * @param value the serialized value; must not be modified afterwards
+   */
+  void putCachedWrite(final ColumnFamilyCache cache, final DirectBuffer key, final byte[] value) {
+    final var previous = cachedWrites.computeIfAbsent(cache, c -> new HashMap<>()).put(key, value);
+    if (hasSavepoint) {
+      cachedWritesUndo.add(new CachedWriteUndo(cache, key, previous));
+    }
+  }
+
+  /**
+   * @return the value written to the given key of a cached column family in this transaction,
+   *     {@link ColumnFamilyCache#DELETED} if it was deleted, or null if it was not written
+   */
+  byte[] getCachedWrite(final ColumnFamilyCache cache, final DirectBuffer key) {
+    final var writes = cachedWrites.get(cache);
+    return writes == null ? null : writes.get(key);
+  }
+
+  void addRollbackListener(final Runnable listener) {
+    rollbackListeners.add(listener);
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     try {
@@ -103,6 +154,8 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
+    cachedWrites.clear();
+    clearSavepoint();
     inCurrentTransaction = true;
   }
 
@@ -149,18 +202,92 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavepoint() throws RocksDBException {
+    try {
+      // RocksDB keeps a stack of savepoints, which is cleared on commit or rollback; we only ever
+      // roll back to the latest one
+      transaction.setSavePoint();
+      cachedWritesUndo.clear();
+      hasSavepoint = true;
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred during setting a savepoint.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollbackToSavepoint() throws RocksDBException {
+    if (!hasSavepoint) {
+      rollback();
+      return;
+    }
+
+    try {
+      transaction.rollbackToSavePoint();
+      for (int i = cachedWritesUndo.size() - 1; i >= 0; i--) {
+        cachedWritesUndo.get(i).undo(cachedWrites);
+      }
+      clearSavepoint();
+      notifyRollbackListeners();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to savepoint.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    clearSavepoint();
     transaction.commit();
+    cachedWrites.forEach(ColumnFamilyCache::applyCommitted);
+    cachedWrites.clear();
   }
 
   void rollbackInternal() throws RocksDBException {
+    // after a commit there are no changes left to discard
+    final boolean discardsChanges = inCurrentTransaction;
     inCurrentTransaction = false;
+    clearSavepoint();
+    cachedWrites.clear();
     transaction.rollback();
+    if (discardsChanges) {
+      notifyRollbackListeners();
+    }
+  }
+
+  private void notifyRollbackListeners() {
+    for (final var listener : rollbackListeners) {
+      listener.run();
+    }
+  }
+
+  private void clearSavepoint() {
+    hasSavepoint = false;
+    cachedWritesUndo.clear();
   }
 
   @Override
   public void close() {
     transaction.close();
   }
+
+  private record CachedWriteUndo(ColumnFamilyCache cache, DirectBuffer key, byte[] previous) {
+
+    private void undo(final Map<ColumnFamilyCache, Map<DirectBuffer, byte[]>> cachedWrites) {
+      final var writes = cachedWrites.get(cache);
+      if (previous == null) {
+        writes.remove(key);
+      } else {
+        writes.put(key, previous);
+      }
+    }
+  }
 }
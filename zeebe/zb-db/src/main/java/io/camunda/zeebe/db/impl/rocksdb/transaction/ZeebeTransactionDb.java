@@ -9,6 +9,7 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
@@ -26,7 +27,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
@@ -54,6 +57,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final Map<String, Integer> columnFamilyCacheSizes;
+  private final Map<ColumnFamilyNames, ColumnFamilyCache> columnFamilyCaches =
+      new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
@@ -68,6 +74,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
+    columnFamilyCacheSizes = rocksDbConfiguration.getColumnFamilyCacheSizes();
 
     prefixReadOptions =
         new ReadOptions()
@@ -132,6 +139,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return prefixReadOptions;
   }
 
+  /**
+   * Creates reusable read options for prefix iterations, which are closed together with the
+   * database.
+   */
+  PrefixIteratorOptions newPrefixIteratorOptions() {
+    final var options = new PrefixIteratorOptions(prefixReadOptions);
+    closables.add(options);
+    return options;
+  }
+
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected ColumnFamilyHandle getDefaultHandle() {
     return defaultHandle;
   }
@@ -165,7 +186,23 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        metrics,
+        getColumnFamilyCache(columnFamily, metrics));
+  }
+
+  /**
+   * @return the cache shared by all instances of the given column family, or null if it should not
+   *     be cached
+   */
+  private ColumnFamilyCache getColumnFamilyCache(
+      final ColumnFamilyNames columnFamily, final ColumnFamilyMetrics metrics) {
+    final int cacheSize = columnFamilyCacheSizes.getOrDefault(columnFamily.name(), 0);
+    if (cacheSize <= 0) {
+      return null;
+    }
+
+    return columnFamilyCaches.computeIfAbsent(
+        columnFamily, name -> new ColumnFamilyCache(cacheSize, metrics));
   }
 
   @Override
@@ -0,0 +1,204 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.prometheus.client.CollectorRegistry;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class CachedColumnFamilyTest {
+
+  private static final AtomicInteger PARTITION_IDS = new AtomicInteger();
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final int partitionId = PARTITION_IDS.incrementAndGet();
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private DbLong key;
+  private DbLong value;
+
+  @Before
+  public void setup() throws Exception {
+    final var configuration =
+        new RocksDbConfiguration()
+            .setColumnFamilyCacheSizes(Map.of(DefaultColumnFamily.DEFAULT.name(), 2));
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                configuration,
+                new ConsistencyChecksSettings(true, true),
+                new AccessMetricsConfiguration(Kind.FINE, partitionId))
+            .createDb(temporaryFolder.newFolder());
+
+    key = new DbLong();
+    value = new DbLong();
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldReadCommittedValuesFromCache() {
+    // given
+    upsert(columnFamily, 1, 10);
+
+    // when
+    final var firstRead = get(columnFamily, 1);
+    final var secondRead = get(columnFamily, 1);
+
+    // then
+    assertThat(firstRead).isEqualTo(10);
+    assertThat(secondRead).isEqualTo(10);
+    assertThat(cacheEvents("hit")).isEqualTo(2);
+    assertThat(cacheEvents("miss")).isZero();
+  }
+
+  @Test
+  public void shouldReadOwnUncommittedWrites() throws Exception {
+    // given
+    upsert(columnFamily, 1, 10);
+    final ZeebeDbTransaction transaction = context.getCurrentTransaction();
+
+    // when
+    upsert(columnFamily, 1, 20);
+    upsert(columnFamily, 2, 30);
+    key.wrapLong(2);
+    columnFamily.deleteExisting(key);
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(20);
+    assertThat(get(columnFamily, 2)).isNull();
+    transaction.commit();
+    assertThat(get(columnFamily, 1)).isEqualTo(20);
+    assertThat(get(columnFamily, 2)).isNull();
+  }
+
+  @Test
+  public void shouldNotCacheRolledBackWrites() throws Exception {
+    // given
+    upsert(columnFamily, 1, 10);
+    final ZeebeDbTransaction transaction = context.getCurrentTransaction();
+    upsert(columnFamily, 1, 20);
+    upsert(columnFamily, 2, 30);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(10);
+    assertThat(get(columnFamily, 2)).isNull();
+  }
+
+  @Test
+  public void shouldOnlyCacheWritesBeforeSavepoint() throws Exception {
+    // given
+    upsert(columnFamily, 1, 10);
+    final ZeebeDbTransaction transaction = context.getCurrentTransaction();
+    upsert(columnFamily, 1, 20);
+    transaction.setSavepoint();
+    upsert(columnFamily, 1, 30);
+    upsert(columnFamily, 2, 40);
+
+    // when
+    transaction.rollbackToSavepoint();
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(20);
+    assertThat(get(columnFamily, 2)).isNull();
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(20);
+    assertThat(get(columnFamily, 2)).isNull();
+  }
+
+  @Test
+  public void shouldSeeCommittedWritesOfOtherContexts() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, otherValue);
+    upsert(columnFamily, 1, 10);
+    upsert(columnFamily, 2, 20);
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(10);
+
+    // when
+    upsert(otherColumnFamily, 1, 11);
+    otherKey.wrapLong(2);
+    otherColumnFamily.deleteExisting(otherKey);
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(11);
+    assertThat(get(columnFamily, 2)).isNull();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedValues() {
+    // given
+    upsert(columnFamily, 1, 10);
+    upsert(columnFamily, 2, 20);
+    get(columnFamily, 1);
+
+    // when
+    upsert(columnFamily, 3, 30);
+
+    // then
+    assertThat(cacheEvents("eviction")).isEqualTo(1);
+    assertThat(get(columnFamily, 1)).isEqualTo(10);
+    assertThat(cacheEvents("miss")).isZero();
+    assertThat(get(columnFamily, 2)).isEqualTo(20);
+    assertThat(cacheEvents("miss")).isEqualTo(1);
+  }
+
+  private void upsert(
+      final ColumnFamily<DbLong, DbLong> columnFamily, final long key, final long value) {
+    this.key.wrapLong(key);
+    this.value.wrapLong(value);
+    columnFamily.upsert(this.key, this.value);
+  }
+
+  private Long get(final ColumnFamily<DbLong, DbLong> columnFamily, final long key) {
+    this.key.wrapLong(key);
+    final var result = columnFamily.get(this.key);
+    return result == null ? null : result.getValue();
+  }
+
+  private double cacheEvents(final String result) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_cache_events_total",
+            new String[] {"partition", "columnFamily", "result"},
+            new String[] {String.valueOf(partitionId), DefaultColumnFamily.DEFAULT.name(), result});
+    return value == null ? 0 : value;
+  }
+}
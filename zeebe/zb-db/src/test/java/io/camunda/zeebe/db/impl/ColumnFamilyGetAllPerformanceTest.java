@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares looking up a batch of keys one by one via {@link ColumnFamily#get(DbKey)} with a single
+ * {@link ColumnFamily#getAll(java.util.Collection, java.util.function.BiConsumer)}. Both benchmarks
+ * look up {@link #batchSize} random keys per invocation, so dividing the score by the batch size
+ * gives the per key throughput.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ColumnFamilyGetAllPerformanceTest {
+  private static final int ENTRY_COUNT = 100_000;
+
+  @Param({"8", "32", "128"})
+  private int batchSize;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private DbLong key;
+  private List<DbLong> keys;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("get-all");
+    final ZeebeDbFactory<DefaultColumnFamily> factory = DefaultZeebeDbFactory.getDefaultFactory();
+    zeebeDb = factory.createDb(directory.toFile());
+
+    key = new DbLong();
+    final DbLong value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, value);
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      key.wrapLong(i);
+      value.wrapLong(i);
+      columnFamily.upsert(key, value);
+    }
+
+    keys = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      keys.add(new DbLong());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public void measureGet(final Blackhole blackhole) {
+    pickRandomKeys();
+    for (final DbLong dbKey : keys) {
+      key.wrapLong(dbKey.getValue());
+      blackhole.consume(columnFamily.get(key).getValue());
+    }
+  }
+
+  @Benchmark
+  public void measureGetAll(final Blackhole blackhole) {
+    pickRandomKeys();
+    columnFamily.getAll(keys, (k, v) -> blackhole.consume(v.getValue()));
+  }
+
+  @JMHTest("measureGetAll")
+  void shouldGetAllWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative ops/s score for looking up 8 random keys at once
+    final var referenceScore = 20_000;
+
+    // when
+    final var assertResult = testCase.withOptions(opt -> opt.param("batchSize", "8")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private void pickRandomKeys() {
+    final var random = ThreadLocalRandom.current();
+    for (final DbLong dbKey : keys) {
+      dbKey.wrapLong(random.nextLong(ENTRY_COUNT));
+    }
+  }
+}
@@ -466,6 +466,78 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  @Test
+  public void shouldGetAllExistingValues() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    upsertKeyValuePair(2, 20);
+    final List<DbLong> keys = new ArrayList<>();
+    for (final long k : new long[] {3, 4, 1, 2}) {
+      final DbLong dbKey = new DbLong();
+      dbKey.wrapLong(k);
+      keys.add(dbKey);
+    }
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    final List<Long> visitedValues = new ArrayList<>();
+    columnFamily.getAll(
+        keys,
+        (k, v) -> {
+          visitedKeys.add(k.getValue());
+          visitedValues.add(v.getValue());
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(3L, 1L, 2L);
+    assertThat(visitedValues).containsExactly(30L, 10L, 20L);
+  }
+
+  @Test
+  public void shouldNotVisitAnythingOnGetAllWithoutKeys() {
+    // given
+    upsertKeyValuePair(1, 10);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    columnFamily.getAll(List.of(), (k, v) -> visitedKeys.add(k.getValue()));
+
+    // then
+    assertThat(visitedKeys).isEmpty();
+  }
+
+  @Test
+  public void shouldOnlyVisitEqualPrefixWithTrailingMaxBytes() {
+    // given
+    upsertKeyValuePair(-1, 10);
+    upsertKeyValuePair(-2, 20);
+    upsertKeyValuePair(-256, 30);
+    upsertKeyValuePair(-255, 40);
+
+    // when
+    final List<Long> allOnes = new ArrayList<>();
+    key.wrapLong(-1);
+    columnFamily.whileEqualPrefix(
+        key,
+        (k, v) -> {
+          allOnes.add(v.getValue());
+        });
+    final List<Long> trailingZero = new ArrayList<>();
+    key.wrapLong(-256);
+    columnFamily.whileEqualPrefix(
+        key,
+        (k, v) -> {
+          trailingZero.add(v.getValue());
+        });
+
+    // then
+    assertThat(allOnes).containsExactly(10L);
+    assertThat(trailingZero).containsExactly(30L);
+    key.wrapLong(-2);
+    assertThat(columnFamily.countEqualPrefix(key)).isOne();
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
@@ -229,6 +229,44 @@ public final class DbStringColumnFamilyTest {
     // then no exception is thrown
   }
 
+  @Test
+  public void shouldBoundNestedWhileEqualPrefixByEachPrefix() {
+    // given
+    final String longKey = "a".repeat(100);
+    upsertKeyValuePair("and", "be good");
+    upsertKeyValuePair(longKey, "long");
+    upsertKeyValuePair("another", "string");
+    final DbString outerPrefix = new DbString();
+    outerPrefix.wrapString("and");
+    final DbString innerPrefix = new DbString();
+    innerPrefix.wrapString(longKey);
+
+    // when
+    final List<String> outerValues = new ArrayList<>();
+    final List<String> innerValues = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        outerPrefix,
+        (key, value) -> {
+          outerValues.add(value.toString());
+          columnFamily.whileEqualPrefix(
+              innerPrefix,
+              (k, v) -> {
+                innerValues.add(v.toString());
+              });
+        });
+    final List<String> valuesAfterNesting = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        outerPrefix,
+        (key, value) -> {
+          valuesAfterNesting.add(value.toString());
+        });
+
+    // then
+    assertThat(outerValues).containsExactly("be good");
+    assertThat(innerValues).containsExactly("long");
+    assertThat(valuesAfterNesting).containsExactly("be good");
+  }
+
   @Test
   public void shouldThrowExceptionOnMultipleNestedWhileEqualPrefix() {
     // given
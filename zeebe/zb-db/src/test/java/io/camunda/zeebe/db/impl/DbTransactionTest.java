@@ -18,7 +18,9 @@ import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
 import org.junit.Rule;
@@ -235,6 +237,108 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavepoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavepoint();
+    transaction.run(
+        () -> {
+          oneColumnFamily.deleteExisting(oneKey);
+          twoColumnFamily.insert(twoKey, twoValue);
+        });
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldOnlyRollbackToLatestSavepoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavepoint();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavepoint();
+    transaction.run(() -> twoColumnFamily.insert(twoKey, twoValue));
+
+    // when
+    transaction.rollbackToSavepoint();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldRollbackTransactionWithoutSavepoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.rollbackToSavepoint();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+  }
+
+  @Test
+  public void shouldNotifyRollbackListenersWhenDiscardingChanges() throws Exception {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavepoint();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(2);
+  }
+
+  @Test
+  public void shouldNotNotifyRollbackListenersOnCommit() {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    transactionContext.runInTransaction(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // then
+    assertThat(rollbacks).hasValue(0);
+  }
+
   @Test
   public void shouldGetValueInTransaction() {
     // given
@@ -288,6 +392,45 @@ public final class DbTransactionTest {
     assertThat(actualValues).isEqualTo(expectedValues);
   }
 
+  @Test
+  public void shouldGetAllValuesInTransaction() {
+    // given
+    final Map<Long, Long> actualValues = new HashMap<>();
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    oneColumnFamily.insert(oneKey, oneValue);
+    oneKey.wrapLong(3);
+    oneValue.wrapLong(-4);
+    oneColumnFamily.insert(oneKey, oneValue);
+    final var keys = List.of(new DbLong(), new DbLong(), new DbLong());
+    keys.get(0).wrapLong(1);
+    keys.get(1).wrapLong(2);
+    keys.get(2).wrapLong(3);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          // update value
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-2);
+          oneColumnFamily.update(oneKey, oneValue);
+
+          // create new key-value pair
+          oneKey.wrapLong(2);
+          oneValue.wrapLong(-3);
+          oneColumnFamily.insert(oneKey, oneValue);
+
+          // delete committed key-value pair
+          oneKey.wrapLong(3);
+          oneColumnFamily.deleteExisting(oneKey);
+
+          oneColumnFamily.getAll(keys, (k, v) -> actualValues.put(k.getValue(), v.getValue()));
+        });
+
+    // then
+    assertThat(actualValues).containsExactlyInAnyOrderEntriesOf(Map.of(1L, -2L, 2L, -3L));
+  }
+
   @Test
   public void shouldIterateAndFindValuesInTransaction() {
     // given
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 
@@ -110,6 +111,25 @@ final class ZeebeRocksDbFactoryTest {
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize, 7);
   }
 
+  @Test
+  void shouldConfigurePrefixBloomFilters() {
+    // given
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration()
+                .setMemtablePrefixBloomSizeRatio(0.5)
+                .setBloomFilterBitsPerKey(0),
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+
+    // when
+    final var options = factory.createColumnFamilyOptions(new ArrayList<>());
+
+    // then
+    assertThat(options.memtablePrefixBloomSizeRatio()).isEqualTo(0.25);
+    assertThat(((BlockBasedTableConfig) options.tableFormatConfig()).filterPolicy()).isNull();
+  }
+
   @Test
   void shouldFailIfPropertiesDoesNotExist(final @TempDir File pathName) {
     // given
@@ -228,5 +248,8 @@ final class ZeebeRocksDbFactoryTest {
     public ZeebeDbTransaction getCurrentTransaction() {
       return null;
     }
+
+    @Override
+    public void addRollbackListener(final Runnable listener) {}
   }
 }